@@ -30,6 +30,8 @@ public class DerSchemaTO extends SchemaTO {
 
     private String expression;
 
+    private boolean materialized;
+
     @JsonProperty("_class")
     @Schema(name = "_class", requiredMode = Schema.RequiredMode.REQUIRED,
             example = "org.apache.syncope.common.lib.to.DerSchemaTO")
@@ -46,11 +48,20 @@ public class DerSchemaTO extends SchemaTO {
         this.expression = expression;
     }
 
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    public void setMaterialized(final boolean materialized) {
+        this.materialized = materialized;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(expression).
+                append(materialized).
                 build();
     }
 
@@ -69,6 +80,7 @@ public class DerSchemaTO extends SchemaTO {
         return new EqualsBuilder().
                 appendSuper(super.equals(obj)).
                 append(expression, other.expression).
+                append(materialized, other.materialized).
                 build();
     }
 }
@@ -41,6 +41,10 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
 
     private long totalCount;
 
+    private boolean hasNext;
+
+    private String after;
+
     public URI getPrev() {
         return prev;
     }
@@ -85,6 +89,32 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         this.totalCount = totalCount;
     }
 
+    /**
+     * Reliable even when total count was estimated or not computed.
+     *
+     * @return whether there are more results after this page
+     */
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(final boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * With keyset pagination, the cursor to provide for fetching the next page.
+     *
+     * @return cursor for the next page, if any
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(final String after) {
+        this.after = after;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -94,6 +124,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
                 append(page).
                 append(size).
                 append(totalCount).
+                append(hasNext).
+                append(after).
                 build();
     }
 
@@ -117,6 +149,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
                 append(page, other.page).
                 append(size, other.size).
                 append(totalCount, other.totalCount).
+                append(hasNext, other.hasNext).
+                append(after, other.after).
                 build();
     }
 }
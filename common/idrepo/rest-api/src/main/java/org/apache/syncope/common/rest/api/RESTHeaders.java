@@ -73,6 +73,11 @@ public final class RESTHeaders {
      */
     public static final MediaType TEXT_CSV_TYPE = new MediaType("text", "csv");
 
+    /**
+     * Mediatype for application/zip, not defined in {@link jakarta.ws.rs.core.MediaType}.
+     */
+    public static final String APPLICATION_ZIP = "application/zip";
+
     /**
      * Mediatype for multipart/mixed, not defined in {@link jakarta.ws.rs.core.MediaType}.
      */
@@ -23,10 +23,14 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.CountMode;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 
 public class AnyQuery extends AbstractQuery {
@@ -60,6 +64,34 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder after(final String after) {
+            getInstance().setAfter(after);
+            return this;
+        }
+
+        public Builder count(final CountMode count) {
+            getInstance().setCount(count);
+            return this;
+        }
+
+        public Builder field(final String field) {
+            if (getInstance().getFields() == null) {
+                getInstance().setFields(new ArrayList<>());
+            }
+            getInstance().getFields().add(field);
+
+            return this;
+        }
+
+        public Builder fields(final Collection<String> fields) {
+            fields.forEach(this::field);
+            return this;
+        }
+
+        public Builder fields(final String... fields) {
+            return fields(List.of(fields));
+        }
     }
 
     private String realm;
@@ -70,6 +102,12 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String after;
+
+    private CountMode count;
+
+    private List<String> fields;
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -126,6 +164,47 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_AFTER, description = "enables keyset pagination when provided, even empty: "
+            + "results are returned after the element identified by the given cursor, as reported by the previous "
+            + "page; when set, page is ignored and total count is not computed", schema =
+            @Schema(implementation = String.class))
+    public String getAfter() {
+        return after;
+    }
+
+    @QueryParam(JAXRSService.PARAM_AFTER)
+    public void setAfter(final String after) {
+        this.after = after;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_COUNT, description = "how the total count of results is computed: "
+            + "EXACT, ESTIMATE via the query planner (where supported) or NONE; with ESTIMATE and NONE, "
+            + "only the presence of a next page is reliable", schema =
+            @Schema(implementation = CountMode.class, defaultValue = "EXACT"))
+    public CountMode getCount() {
+        return Optional.ofNullable(count).orElse(CountMode.EXACT);
+    }
+
+    @QueryParam(JAXRSService.PARAM_COUNT)
+    @DefaultValue("EXACT")
+    public void setCount(final CountMode count) {
+        this.count = count;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_FIELDS, description = "when provided, only the given fields and plain "
+            + "schemas are returned for each matching entity, as selected by the search query without loading the "
+            + "full entities; comma-separated values are accepted; ignored when after is set",
+            example = "username,status,email", schema =
+            @Schema(implementation = String.class))
+    public List<String> getFields() {
+        return fields;
+    }
+
+    @QueryParam(JAXRSService.PARAM_FIELDS)
+    public void setFields(final List<String> fields) {
+        this.fields = fields;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -143,6 +222,9 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(after, other.after).
+                append(count, other.count).
+                append(fields, other.fields).
                 build();
     }
 
@@ -153,6 +235,9 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(after).
+                append(count).
+                append(fields).
                 build();
     }
 }
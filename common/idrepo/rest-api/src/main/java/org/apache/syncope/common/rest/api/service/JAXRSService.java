@@ -28,6 +28,10 @@ public interface JAXRSService {
 
     String PARAM_ORDERBY = "orderby";
 
+    String PARAM_AFTER = "after";
+
+    String PARAM_COUNT = "count";
+
     String PARAM_KEYWORD = "keyword";
 
     String PARAM_RESOURCE = "resource";
@@ -46,6 +50,8 @@ public interface JAXRSService {
 
     String PARAM_DETAILS = "details";
 
+    String PARAM_FIELDS = "fields";
+
     String PARAM_CONNID_PAGED_RESULTS_COOKIE = "connIdPagedResultsCookie";
 
     String PARAM_MAX = "max";
@@ -154,7 +154,8 @@ public interface SyncopeService extends JAXRSService {
     /**
      * Exports the internal storage content as downloadable XML file.
      *
-     * @param threshold the maximum number of rows to take for each element of internal storage
+     * @param threshold the maximum number of rows to take for each element of internal storage; zero or negative
+     * for no limit
      * @param elements if provided, the list of elements to export; otherwise all elements will be included
      * @return internal storage content as downloadable XML file
      */
@@ -163,4 +164,24 @@ public interface SyncopeService extends JAXRSService {
     Response exportInternalStorageContent(
             @QueryParam("threshold") @DefaultValue("100") int threshold,
             @QueryParam("elements") List<String> elements);
+
+    /**
+     * Exports the internal storage content as downloadable ZIP archive, with one entry for each element, either as
+     * XML or in compact binary format; entry names, when sorted, give the order in which entries are to be loaded.
+     * The resulting archive can be used as domain content.
+     *
+     * @param threshold the maximum number of rows to take for each element of internal storage; zero or negative
+     * for no limit
+     * @param parallelism the number of elements to export concurrently
+     * @param binary whether entries shall be generated in compact binary format rather than XML
+     * @param elements if provided, the list of elements to export; otherwise all elements will be included
+     * @return internal storage content as downloadable ZIP archive
+     */
+    @GET
+    @Path("internalStorage/archive")
+    Response exportInternalStorageArchive(
+            @QueryParam("threshold") @DefaultValue("0") int threshold,
+            @QueryParam("parallelism") @DefaultValue("1") int parallelism,
+            @QueryParam("binary") @DefaultValue("false") boolean binary,
+            @QueryParam("elements") List<String> elements);
 }
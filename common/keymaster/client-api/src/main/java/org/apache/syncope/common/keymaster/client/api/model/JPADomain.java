@@ -18,6 +18,9 @@
  */
 package org.apache.syncope.common.keymaster.client.api.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -93,6 +96,21 @@ public class JPADomain extends Domain {
             this.domain.databasePlatform = databasePlatform;
             return this;
         }
+
+        public Builder replicaJdbcURL(final String replicaJdbcURL) {
+            this.domain.replicaJdbcURLs.add(replicaJdbcURL);
+            return this;
+        }
+
+        public Builder replicaJdbcURLs(final Collection<String> replicaJdbcURLs) {
+            this.domain.replicaJdbcURLs.addAll(replicaJdbcURLs);
+            return this;
+        }
+
+        public Builder replicaMaxLag(final int replicaMaxLag) {
+            this.domain.replicaMaxLag = replicaMaxLag;
+            return this;
+        }
     }
 
     private String jdbcDriver;
@@ -115,6 +133,10 @@ public class JPADomain extends Domain {
 
     private String databasePlatform;
 
+    private final List<String> replicaJdbcURLs = new ArrayList<>();
+
+    private int replicaMaxLag;
+
     @Override
     protected String defaultContentFile() {
         return "defaultContent.jpa.xml";
@@ -168,6 +190,14 @@ public class JPADomain extends Domain {
         return databasePlatform;
     }
 
+    public List<String> getReplicaJdbcURLs() {
+        return replicaJdbcURLs;
+    }
+
+    public int getReplicaMaxLag() {
+        return replicaMaxLag;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -182,6 +212,8 @@ public class JPADomain extends Domain {
                 append(poolMinIdle).
                 append(orm).
                 append(databasePlatform).
+                append(replicaJdbcURLs).
+                append(replicaMaxLag).
                 build();
     }
 
@@ -209,6 +241,8 @@ public class JPADomain extends Domain {
                 append(poolMinIdle, other.poolMinIdle).
                 append(orm, other.orm).
                 append(databasePlatform, other.databasePlatform).
+                append(replicaJdbcURLs, other.replicaJdbcURLs).
+                append(replicaMaxLag, other.replicaMaxLag).
                 build();
     }
 
@@ -226,6 +260,8 @@ public class JPADomain extends Domain {
                 append(poolMinIdle).
                 append(orm).
                 append(databasePlatform).
+                append(replicaJdbcURLs).
+                append(replicaMaxLag).
                 build();
     }
 }
@@ -28,6 +28,7 @@ import org.apache.syncope.core.logic.RemediationLogic;
 import org.apache.syncope.core.logic.ResourceLogic;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.rest.cxf.service.ConnectorServiceImpl;
 import org.apache.syncope.core.rest.cxf.service.ReconciliationServiceImpl;
 import org.apache.syncope.core.rest.cxf.service.RemediationServiceImpl;
@@ -49,9 +50,10 @@ public class IdMRESTCXFContext {
     @Bean
     public ReconciliationService reconciliationService(
             final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final ReconciliationLogic reconciliationLogic) {
 
-        return new ReconciliationServiceImpl(searchCondVisitor, reconciliationLogic);
+        return new ReconciliationServiceImpl(searchCondVisitor, searchCondCache, reconciliationLogic);
     }
 
     @ConditionalOnMissingBean
@@ -50,6 +50,7 @@ import org.apache.syncope.core.logic.ReconciliationLogic;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
 import org.apache.syncope.core.persistence.api.search.FilterVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.filter.Filter;
 
@@ -59,8 +60,12 @@ public class ReconciliationServiceImpl
 
     protected final ReconciliationLogic logic;
 
-    public ReconciliationServiceImpl(final AnySearchCondVisitor searchCondVisitor, final ReconciliationLogic logic) {
-        super(searchCondVisitor);
+    public ReconciliationServiceImpl(
+            final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
+            final ReconciliationLogic logic) {
+
+        super(searchCondVisitor, searchCondCache);
         this.logic = logic;
     }
 
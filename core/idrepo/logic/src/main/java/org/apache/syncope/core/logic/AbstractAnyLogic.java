@@ -19,9 +19,12 @@
 package org.apache.syncope.core.logic;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
@@ -31,17 +34,28 @@ import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.CountMode;
 import org.apache.syncope.core.logic.api.LogicActions;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
+import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U extends AnyUR>
         extends AbstractResourceAssociator<TO> {
@@ -216,6 +230,90 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
         return result;
     }
 
+    protected <A extends Any> SyncopePage<A> search(
+            final AnySearchDAO searchDAO,
+            final Realm base,
+            final boolean recursive,
+            final Set<String> authRealms,
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final CountMode countMode) {
+
+        if (countMode == CountMode.EXACT) {
+            long count = searchDAO.count(base, recursive, authRealms, searchCond, kind);
+
+            List<A> matching = searchDAO.search(base, recursive, authRealms, searchCond, pageable, kind);
+
+            return new SyncopePage<>(matching, pageable, count);
+        }
+
+        Slice<A> matching = searchDAO.slice(base, recursive, authRealms, searchCond, pageable, kind);
+
+        long count = -1;
+        if (countMode == CountMode.ESTIMATE) {
+            // estimation can be off: ensure it is consistent at least with what was actually found
+            count = Math.max(
+                    searchDAO.estimateCount(base, recursive, authRealms, searchCond, kind),
+                    (pageable.isPaged() ? pageable.getOffset() : 0) + matching.getNumberOfElements()
+                    + (matching.hasNext() ? 1 : 0));
+        }
+
+        return new SyncopePage<>(matching.getContent(), pageable, count, matching.hasNext());
+    }
+
+    protected SyncopePage<AnyProjection> project(
+            final AnySearchDAO searchDAO,
+            final Realm base,
+            final boolean recursive,
+            final Set<String> authRealms,
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final Collection<String> fields,
+            final CountMode countMode) {
+
+        Slice<AnyProjection> matching = searchDAO.project(
+                base, recursive, authRealms, searchCond, pageable, kind, fields);
+
+        long count = -1;
+        if (countMode == CountMode.EXACT) {
+            count = searchDAO.count(base, recursive, authRealms, searchCond, kind);
+        } else if (countMode == CountMode.ESTIMATE) {
+            // estimation can be off: ensure it is consistent at least with what was actually found
+            count = Math.max(
+                    searchDAO.estimateCount(base, recursive, authRealms, searchCond, kind),
+                    (pageable.isPaged() ? pageable.getOffset() : 0) + matching.getNumberOfElements()
+                    + (matching.hasNext() ? 1 : 0));
+        }
+
+        return new SyncopePage<>(matching.getContent(), pageable, count, matching.hasNext());
+    }
+
+    /**
+     * Builds a lightweight TO out of the given projection: only key, projected fields and plain attributes are set.
+     *
+     * @param <T> any TO
+     * @param projection search projection
+     * @param anyTO TO to fill
+     * @return the given TO, filled
+     */
+    protected static <T extends AnyTO> T getAnyTO(final AnyProjection projection, final T anyTO) {
+        anyTO.setKey(projection.key());
+
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(anyTO);
+        projection.fields().forEach((field, value) -> {
+            if (value != null && wrapper.isWritableProperty(field)) {
+                wrapper.setPropertyValue(field, value);
+            }
+        });
+
+        projection.plainAttrs().forEach(plainAttr -> anyTO.getPlainAttrs().
+                add(new Attr.Builder(plainAttr.getSchema()).values(plainAttr.getValuesAsStrings()).build()));
+
+        return anyTO;
+    }
+
     public abstract TO read(String key);
 
     public abstract Page<TO> search(
@@ -225,6 +323,31 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             boolean recursive,
             boolean details);
 
+    public abstract Page<TO> search(
+            SearchCond searchCond,
+            Pageable pageable,
+            String realm,
+            boolean recursive,
+            boolean details,
+            CountMode countMode);
+
+    public abstract Page<TO> project(
+            SearchCond searchCond,
+            Pageable pageable,
+            String realm,
+            boolean recursive,
+            Collection<String> fields,
+            CountMode countMode);
+
+    public abstract KeysetSlice<TO> search(
+            SearchCond searchCond,
+            List<Sort.Order> orderBy,
+            String after,
+            int size,
+            String realm,
+            boolean recursive,
+            boolean details);
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
@@ -38,6 +38,7 @@ import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.AnyEntitlement;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.CountMode;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -48,6 +49,8 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
@@ -57,6 +60,7 @@ import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -112,6 +116,49 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
             final boolean recursive,
             final boolean details) {
 
+        return search(searchCond, pageable, realm, recursive, details, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyObjectTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final CountMode countMode) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
+
+        SyncopePage<AnyObject> matching = search(
+                searchDAO, base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT, countMode);
+        List<AnyObjectTO> result = matching.stream().
+                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
+                toList();
+
+        return new SyncopePage<>(result, pageable, matching.getTotalElements(), matching.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyObjectTO> project(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final Collection<String> fields,
+            final CountMode countMode) {
+
         if (searchCond.hasAnyTypeCond() == null) {
             throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
         }
@@ -123,15 +170,49 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
                 AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
                 realm);
 
-        long count = searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT);
+        SyncopePage<AnyProjection> matching = project(
+                searchDAO, base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT, fields,
+                countMode);
+        List<AnyObjectTO> result = matching.stream().
+                map(projection -> {
+                    AnyObjectTO anyObjectTO = getAnyTO(projection, new AnyObjectTO());
+                    anyObjectTO.setType(searchCond.hasAnyTypeCond());
+                    return anyObjectTO;
+                }).
+                toList();
+
+        return new SyncopePage<>(result, pageable, matching.getTotalElements(), matching.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public KeysetSlice<AnyObjectTO> search(
+            final SearchCond searchCond,
+            final List<Sort.Order> orderBy,
+            final String after,
+            final int size,
+            final String realm,
+            final boolean recursive,
+            final boolean details) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
 
-        List<AnyObject> matching = searchDAO.search(
-                base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
+        KeysetSlice<AnyObject> matching = searchDAO.search(
+                base, recursive, authRealms, searchCond, orderBy, after, size, AnyTypeKind.ANY_OBJECT);
         List<AnyObjectTO> result = matching.stream().
                 map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
                 toList();
 
-        return new SyncopePage<>(result, pageable, count);
+        return new KeysetSlice<>(result, matching.getPageable(), matching.getAfter().orElse(null));
     }
 
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
@@ -26,11 +26,13 @@ import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.AnyTypeClassTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.DuplicateException;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.provisioning.api.data.AnyTypeClassDataBinder;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,9 +42,16 @@ public class AnyTypeClassLogic extends AbstractTransactionalLogic<AnyTypeClassTO
 
     protected final AnyTypeClassDAO anyTypeClassDAO;
 
-    public AnyTypeClassLogic(final AnyTypeClassDataBinder binder, final AnyTypeClassDAO anyTypeClassDAO) {
+    protected final AllowedSchemasCache allowedSchemasCache;
+
+    public AnyTypeClassLogic(
+            final AnyTypeClassDataBinder binder,
+            final AnyTypeClassDAO anyTypeClassDAO,
+            final AllowedSchemasCache allowedSchemasCache) {
+
         this.binder = binder;
         this.anyTypeClassDAO = anyTypeClassDAO;
+        this.allowedSchemasCache = allowedSchemasCache;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANYTYPECLASS_READ + "')")
@@ -70,7 +79,11 @@ public class AnyTypeClassLogic extends AbstractTransactionalLogic<AnyTypeClassTO
         if (anyTypeClassDAO.existsById(anyTypeClassTO.getKey())) {
             throw new DuplicateException(anyTypeClassTO.getKey());
         }
-        return binder.getAnyTypeClassTO(anyTypeClassDAO.save(binder.create(anyTypeClassTO)));
+        AnyTypeClass anyTypeClass = anyTypeClassDAO.save(binder.create(anyTypeClassTO));
+
+        allowedSchemasCache.invalidate(AuthContextUtils.getDomain());
+
+        return binder.getAnyTypeClassTO(anyTypeClass);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANYTYPECLASS_UPDATE + "')")
@@ -78,7 +91,11 @@ public class AnyTypeClassLogic extends AbstractTransactionalLogic<AnyTypeClassTO
         AnyTypeClass anyTypeClass = anyTypeClassDAO.findById(anyTypeClassTO.getKey()).
                 orElseThrow(() -> new NotFoundException("AnyTypeClass " + anyTypeClassTO.getKey()));
 
-        return binder.getAnyTypeClassTO(anyTypeClassDAO.save(binder.update(anyTypeClass, anyTypeClassTO)));
+        anyTypeClass = anyTypeClassDAO.save(binder.update(anyTypeClass, anyTypeClassTO));
+
+        allowedSchemasCache.invalidate(AuthContextUtils.getDomain());
+
+        return binder.getAnyTypeClassTO(anyTypeClass);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANYTYPECLASS_DELETE + "')")
@@ -88,6 +105,9 @@ public class AnyTypeClassLogic extends AbstractTransactionalLogic<AnyTypeClassTO
 
         AnyTypeClassTO deleted = binder.getAnyTypeClassTO(anyTypeClass);
         anyTypeClassDAO.deleteById(key);
+
+        allowedSchemasCache.invalidate(AuthContextUtils.getDomain());
+
         return deleted;
     }
 
@@ -36,6 +36,7 @@ import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.CountMode;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.JobType;
 import org.apache.syncope.common.lib.types.PatchOperation;
@@ -56,6 +57,8 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
@@ -70,6 +73,7 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -166,6 +170,20 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final boolean recursive,
             final boolean details) {
 
+        return search(searchCond, pageable, realm, recursive, details, CountMode.EXACT);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<GroupTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final CountMode countMode) {
+
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
 
@@ -174,15 +192,70 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP);
+        SyncopePage<Group> matching = search(
+                searchDAO, base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP, countMode);
+        List<GroupTO> result = matching.stream().
+                map(group -> binder.getGroupTO(group, details)).
+                toList();
+
+        return new SyncopePage<>(result, pageable, matching.getTotalElements(), matching.hasNext());
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<GroupTO> project(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final Collection<String> fields,
+            final CountMode countMode) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
+
+        SyncopePage<AnyProjection> matching = project(
+                searchDAO, base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP, fields, countMode);
+        List<GroupTO> result = matching.stream().
+                map(projection -> getAnyTO(projection, new GroupTO())).
+                toList();
+
+        return new SyncopePage<>(result, pageable, matching.getTotalElements(), matching.hasNext());
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public KeysetSlice<GroupTO> search(
+            final SearchCond searchCond,
+            final List<Sort.Order> orderBy,
+            final String after,
+            final int size,
+            final String realm,
+            final boolean recursive,
+            final boolean details) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
 
-        List<Group> matching = searchDAO.search(
-                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
+        KeysetSlice<Group> matching = searchDAO.search(
+                base, recursive, authRealms, effectiveCond, orderBy, after, size, AnyTypeKind.GROUP);
         List<GroupTO> result = matching.stream().
                 map(group -> binder.getGroupTO(group, details)).
                 toList();
 
-        return new SyncopePage<>(result, pageable, count);
+        return new KeysetSlice<>(result, matching.getPageable(), matching.getAfter().orElse(null));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
@@ -27,6 +27,7 @@ import org.apache.syncope.core.logic.init.IdRepoImplementationTypeLoader;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
@@ -35,6 +36,7 @@ import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
 import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
 import org.apache.syncope.core.persistence.api.dao.CASSPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.FIQLQueryDAO;
@@ -60,6 +62,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.policy.PolicyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
@@ -91,6 +94,7 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.rules.RuleProvider;
+import org.apache.syncope.core.provisioning.java.DerAttrMaterializer;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
@@ -176,9 +180,10 @@ public class IdRepoLogicContext {
     @Bean
     public AnyTypeClassLogic anyTypeClassLogic(
             final AnyTypeClassDataBinder binder,
-            final AnyTypeClassDAO anyTypeClassDAO) {
+            final AnyTypeClassDAO anyTypeClassDAO,
+            final AllowedSchemasCache allowedSchemasCache) {
 
-        return new AnyTypeClassLogic(binder, anyTypeClassDAO);
+        return new AnyTypeClassLogic(binder, anyTypeClassDAO, allowedSchemasCache);
     }
 
     @ConditionalOnMissingBean
@@ -408,9 +413,28 @@ public class IdRepoLogicContext {
             final DerSchemaDAO derSchemaDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final ImplementationDAO implementationDAO,
-            final SchemaDataBinder binder) {
+            final SchemaDataBinder binder,
+            final SearchCondCache searchCondCache,
+            final AllowedSchemasCache allowedSchemasCache,
+            final DerAttrValueDAO derAttrValueDAO,
+            final TaskDAO taskDAO,
+            final EntityFactory entityFactory,
+            final JobManager jobManager,
+            final DerAttrMaterializer derAttrMaterializer) {
 
-        return new SchemaLogic(plainSchemaDAO, derSchemaDAO, anyTypeClassDAO, implementationDAO, binder);
+        return new SchemaLogic(
+                plainSchemaDAO,
+                derSchemaDAO,
+                anyTypeClassDAO,
+                implementationDAO,
+                binder,
+                searchCondCache,
+                allowedSchemasCache,
+                derAttrValueDAO,
+                taskDAO,
+                entityFactory,
+                jobManager,
+                derAttrMaterializer);
     }
 
     @ConditionalOnMissingBean
@@ -19,9 +19,11 @@
 package org.apache.syncope.core.logic;
 
 import java.lang.reflect.Method;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.ArrayUtils;
@@ -38,20 +40,33 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.DropdownValueProvider;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DuplicateException;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.provisioning.api.data.SchemaDataBinder;
+import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.java.DerAttrMaterializer;
+import org.apache.syncope.core.provisioning.java.job.DerAttrMaterialize;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
 
@@ -65,6 +80,20 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
 
     protected final SchemaDataBinder binder;
 
+    protected final SearchCondCache searchCondCache;
+
+    protected final AllowedSchemasCache allowedSchemasCache;
+
+    protected final DerAttrValueDAO derAttrValueDAO;
+
+    protected final TaskDAO taskDAO;
+
+    protected final EntityFactory entityFactory;
+
+    protected final JobManager jobManager;
+
+    protected final DerAttrMaterializer derAttrMaterializer;
+
     protected final Map<String, DropdownValueProvider> perContextDropdownValueProviders = new ConcurrentHashMap<>();
 
     public SchemaLogic(
@@ -72,13 +101,27 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
             final DerSchemaDAO derSchemaDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final ImplementationDAO implementationDAO,
-            final SchemaDataBinder binder) {
+            final SchemaDataBinder binder,
+            final SearchCondCache searchCondCache,
+            final AllowedSchemasCache allowedSchemasCache,
+            final DerAttrValueDAO derAttrValueDAO,
+            final TaskDAO taskDAO,
+            final EntityFactory entityFactory,
+            final JobManager jobManager,
+            final DerAttrMaterializer derAttrMaterializer) {
 
         this.plainSchemaDAO = plainSchemaDAO;
         this.derSchemaDAO = derSchemaDAO;
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.implementationDAO = implementationDAO;
         this.binder = binder;
+        this.searchCondCache = searchCondCache;
+        this.allowedSchemasCache = allowedSchemasCache;
+        this.derAttrValueDAO = derAttrValueDAO;
+        this.taskDAO = taskDAO;
+        this.entityFactory = entityFactory;
+        this.jobManager = jobManager;
+        this.derAttrMaterializer = derAttrMaterializer;
     }
 
     @SuppressWarnings("unchecked")
@@ -100,6 +143,78 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
         return result;
     }
 
+    /**
+     * Forgets the materialized derived schemas cached for the current domain, now and after transaction completion.
+     */
+    protected void invalidateMaterialized() {
+        String domain = AuthContextUtils.getDomain();
+        derAttrMaterializer.invalidate(domain);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    derAttrMaterializer.invalidate(domain);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes any value currently materialized for the given derived schema, marks it as pending so that searches
+     * do not rely on materialized values meanwhile, and fires the job rebuilding values for all realms, users, groups
+     * and any objects once the current transaction is committed.
+     *
+     * @param schema derived schema
+     */
+    protected void rematerialize(final DerSchema schema) {
+        schema.setMaterializationPending(true);
+        derSchemaDAO.save(schema);
+        derAttrValueDAO.deleteBySchema(schema.getKey());
+
+        Implementation jobDelegate = implementationDAO.findById(DerAttrMaterialize.class.getSimpleName()).
+                orElseThrow(() -> new NotFoundException(
+                "Implementation " + DerAttrMaterialize.class.getSimpleName()));
+
+        SchedTask task = taskDAO.findByDelegate(jobDelegate).stream().findFirst().
+                orElseGet(() -> {
+                    SchedTask t = entityFactory.newEntity(SchedTask.class);
+                    t.setName("Materialize Derived Attributes Task");
+                    t.setActive(true);
+                    t.setJobDelegate(jobDelegate);
+                    return taskDAO.save(t);
+                });
+
+        String executor = AuthContextUtils.getUsername();
+        Runnable execute = () -> {
+            try {
+                // allow other nodes to see the schema as materialized before rebuilding starts; in case the job is
+                // already running, it will take care of the schema as well, since pending
+                jobManager.execute(
+                        task,
+                        OffsetDateTime.now().plus(DerAttrMaterializer.MATERIALIZED_TTL),
+                        executor,
+                        false,
+                        Map.of());
+            } catch (Exception e) {
+                LOG.error("While executing task {}, {} is still pending", task, schema.getKey(), e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    execute.run();
+                }
+            });
+        } else {
+            execute.run();
+        }
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.SCHEMA_CREATE + "')")
     @SuppressWarnings("unchecked")
     public <T extends SchemaTO> T create(final SchemaType schemaType, final T schemaTO) {
@@ -116,13 +231,22 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
         T created;
         switch (schemaType) {
             case DERIVED:
-                created = (T) binder.getDerSchemaTO(binder.create((DerSchemaTO) schemaTO).getKey());
+                DerSchema derSchema = binder.create((DerSchemaTO) schemaTO);
+                if (derSchema.isMaterialized()) {
+                    rematerialize(derSchema);
+                    invalidateMaterialized();
+                }
+                created = (T) binder.getDerSchemaTO(derSchema.getKey());
                 break;
 
             case PLAIN:
             default:
                 created = (T) binder.getPlainSchemaTO(binder.create((PlainSchemaTO) schemaTO).getKey());
         }
+
+        searchCondCache.invalidate(AuthContextUtils.getDomain());
+        allowedSchemasCache.invalidate(AuthContextUtils.getDomain());
+
         return created;
     }
 
@@ -133,13 +257,18 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
 
         switch (schemaType) {
             case DERIVED:
+                derAttrValueDAO.deleteBySchema(schemaKey);
                 derSchemaDAO.deleteById(schemaKey);
+                invalidateMaterialized();
                 break;
 
             case PLAIN:
             default:
                 plainSchemaDAO.deleteById(schemaKey);
         }
+
+        searchCondCache.invalidate(AuthContextUtils.getDomain());
+        allowedSchemasCache.invalidate(AuthContextUtils.getDomain());
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -206,8 +335,25 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
                 orElseThrow(() -> new NotFoundException(schemaType + ": " + schemaTO.getKey()));
 
         switch (schemaType) {
-            case DERIVED ->
-                binder.update((DerSchemaTO) schemaTO, (DerSchema) schema);
+            case DERIVED -> {
+                DerSchema derSchema = (DerSchema) schema;
+                boolean wasMaterialized = derSchema.isMaterialized();
+                String oldExpression = derSchema.getExpression();
+
+                DerSchemaTO derSchemaTO = (DerSchemaTO) schemaTO;
+                binder.update(derSchemaTO, derSchema);
+
+                if (derSchemaTO.isMaterialized()) {
+                    if (!wasMaterialized || !Objects.equals(oldExpression, derSchemaTO.getExpression())) {
+                        rematerialize(derSchema);
+                    }
+                } else if (wasMaterialized) {
+                    derAttrValueDAO.deleteBySchema(derSchemaTO.getKey());
+                }
+                if (wasMaterialized != derSchemaTO.isMaterialized()) {
+                    invalidateMaterialized();
+                }
+            }
 
             case PLAIN ->
                 binder.update((PlainSchemaTO) schemaTO, (PlainSchema) schema);
@@ -215,6 +361,9 @@ public class SchemaLogic extends AbstractTransactionalLogic<SchemaTO> {
             default -> {
             }
         }
+
+        searchCondCache.invalidate(AuthContextUtils.getDomain());
+        allowedSchemasCache.invalidate(AuthContextUtils.getDomain());
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -183,6 +183,30 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
         }
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.KEYMASTER + "')")
+    public void exportInternalStorageArchive(
+            final int threshold,
+            final int parallelism,
+            final boolean binary,
+            final OutputStream os,
+            final List<String> elements) {
+
+        try {
+            exporter.exportArchive(
+                    AuthContextUtils.getDomain(),
+                    threshold,
+                    parallelism,
+                    binary,
+                    os,
+                    elements.toArray(String[]::new));
+            LOG.debug("Internal storage content successfully exported as archive");
+        } catch (Exception e) {
+            LOG.error("While exporting internal storage content as archive", e);
+            // make the response fail, rather than leaving the client with a truncated archive
+            throw new IllegalStateException("Could not export internal storage content as archive", e);
+        }
+    }
+
     @Override
     protected EntityTO resolveReference(final Method method, final Object... args)
             throws UnresolvedReferenceException {
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.form.SyncopeForm;
@@ -85,6 +86,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
+    protected static final int PURGE_CHUNK_SIZE = 1000;
+
+    /**
+     * Purged propagation tasks are not archived, but returned to the caller.
+     */
+    protected static final Consumer<List<PropagationTaskTO>> NO_ARCHIVE = tasks -> {
+        // nothing to do
+    };
+
     protected final TaskDAO taskDAO;
 
     protected final TaskExecDAO taskExecDAO;
@@ -563,7 +573,15 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             final List<ExecStatus> statuses,
             final List<String> resources) {
 
-        return taskDAO.purgePropagations(since, statuses, resources);
+        List<PropagationTaskTO> purged = new ArrayList<>();
+
+        List<PropagationTaskTO> chunk;
+        do {
+            chunk = taskDAO.purgePropagations(since, statuses, resources, PURGE_CHUNK_SIZE, NO_ARCHIVE);
+            purged.addAll(chunk);
+        } while (chunk.size() == PURGE_CHUNK_SIZE);
+
+        return purged;
     }
 
     @Override
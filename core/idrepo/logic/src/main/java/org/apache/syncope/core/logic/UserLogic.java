@@ -44,6 +44,7 @@ import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.CountMode;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.PatchOperation;
@@ -65,6 +66,8 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.ProvisioningManager;
@@ -78,6 +81,7 @@ import org.apache.syncope.core.spring.policy.PasswordPolicyException;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -173,6 +177,20 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
             final boolean recursive,
             final boolean details) {
 
+        return search(searchCond, pageable, realm, recursive, details, CountMode.EXACT);
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<UserTO> search(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final boolean details,
+            final CountMode countMode) {
+
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
 
@@ -181,15 +199,70 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
 
         SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER);
+        SyncopePage<User> matching = search(
+                searchDAO, base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER, countMode);
+        List<UserTO> result = matching.stream().
+                map(user -> binder.getUserTO(user, details)).
+                toList();
+
+        return new SyncopePage<>(result, pageable, matching.getTotalElements(), matching.hasNext());
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<UserTO> project(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final Collection<String> fields,
+            final CountMode countMode) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
+
+        SyncopePage<AnyProjection> matching = project(
+                searchDAO, base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER, fields, countMode);
+        List<UserTO> result = matching.stream().
+                map(projection -> getAnyTO(projection, new UserTO())).
+                toList();
+
+        return new SyncopePage<>(result, pageable, matching.getTotalElements(), matching.hasNext());
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public KeysetSlice<UserTO> search(
+            final SearchCond searchCond,
+            final List<Sort.Order> orderBy,
+            final String after,
+            final int size,
+            final String realm,
+            final boolean recursive,
+            final boolean details) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
 
-        List<User> matching = searchDAO.search(
-                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER);
+        KeysetSlice<User> matching = searchDAO.search(
+                base, recursive, authRealms, effectiveCond, orderBy, after, size, AnyTypeKind.USER);
         List<UserTO> result = matching.stream().
                 map(user -> binder.getUserTO(user, details)).
                 toList();
 
-        return new SyncopePage<>(result, pageable, count);
+        return new KeysetSlice<>(result, matching.getPageable(), matching.getAfter().orElse(null));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
@@ -97,6 +97,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
 import org.apache.syncope.core.persistence.api.search.RealmSearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.rest.cxf.service.AccessTokenServiceImpl;
 import org.apache.syncope.core.rest.cxf.service.AnyObjectServiceImpl;
 import org.apache.syncope.core.rest.cxf.service.AnyTypeClassServiceImpl;
@@ -325,8 +326,8 @@ public class IdRepoRESTCXFContext {
     @ConditionalOnMissingBean
     @Bean
     public AnyObjectService anyObjectService(final AnyObjectDAO anyObjectDAO, final AnyObjectLogic anyObjectLogic,
-            final AnySearchCondVisitor searchCondVisitor) {
-        return new AnyObjectServiceImpl(searchCondVisitor, anyObjectDAO, anyObjectLogic);
+            final AnySearchCondVisitor searchCondVisitor, final SearchCondCache searchCondCache) {
+        return new AnyObjectServiceImpl(searchCondVisitor, searchCondCache, anyObjectDAO, anyObjectLogic);
     }
 
     @ConditionalOnMissingBean
@@ -368,8 +369,8 @@ public class IdRepoRESTCXFContext {
     @ConditionalOnMissingBean
     @Bean
     public GroupService groupService(final GroupDAO groupDAO, final GroupLogic groupLogic,
-            final AnySearchCondVisitor searchCondVisitor) {
-        return new GroupServiceImpl(searchCondVisitor, groupDAO, groupLogic);
+            final AnySearchCondVisitor searchCondVisitor, final SearchCondCache searchCondCache) {
+        return new GroupServiceImpl(searchCondVisitor, searchCondCache, groupDAO, groupLogic);
     }
 
     @ConditionalOnMissingBean
@@ -398,8 +399,12 @@ public class IdRepoRESTCXFContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public RealmService realmService(final RealmLogic realmLogic, final RealmSearchCondVisitor searchCondVisitor) {
-        return new RealmServiceImpl(realmLogic, searchCondVisitor);
+    public RealmService realmService(
+            final RealmLogic realmLogic,
+            final RealmSearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache) {
+
+        return new RealmServiceImpl(realmLogic, searchCondVisitor, searchCondCache);
     }
 
     @ConditionalOnMissingBean
@@ -464,8 +469,9 @@ public class IdRepoRESTCXFContext {
             final UserDAO userDAO,
             final UserLogic userLogic,
             final SyncopeLogic syncopeLogic,
-            final AnySearchCondVisitor searchCondVisitor) {
+            final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache) {
 
-        return new UserServiceImpl(searchCondVisitor, userDAO, userLogic, syncopeLogic);
+        return new UserServiceImpl(searchCondVisitor, searchCondCache, userDAO, userLogic, syncopeLogic);
     }
 }
@@ -23,6 +23,7 @@ import org.apache.cxf.message.Message;
 import org.apache.cxf.phase.AbstractPhaseInterceptor;
 import org.apache.cxf.phase.Phase;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
+import org.apache.syncope.core.persistence.api.utils.ReadYourWrites;
 import org.identityconnectors.common.l10n.CurrentLocale;
 import org.identityconnectors.framework.impl.api.local.ThreadClassLoaderManager;
 import org.slf4j.MDC;
@@ -39,6 +40,7 @@ public class ThreadLocalCleanupOutInterceptor extends AbstractPhaseInterceptor<M
     @Override
     public void handleMessage(final Message message) throws Fault {
         FormatUtils.clear();
+        ReadYourWrites.clear();
 
         ThreadClassLoaderManager.clearInstance();
         CurrentLocale.clear();
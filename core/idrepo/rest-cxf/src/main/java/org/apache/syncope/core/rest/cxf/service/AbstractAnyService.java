@@ -24,6 +24,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -55,16 +56,19 @@ import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 
 public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR extends AnyUR>
         extends AbstractSearchService<AnySearchCondVisitor>
         implements AnyService<TO> {
 
-    public AbstractAnyService(final AnySearchCondVisitor searchCondVisitor) {
-        super(searchCondVisitor);
+    public AbstractAnyService(final AnySearchCondVisitor searchCondVisitor, final SearchCondCache searchCondCache) {
+        super(searchCondVisitor, searchCondCache);
     }
 
     protected abstract AnyDAO<?> getAnyDAO();
@@ -120,12 +124,41 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 ? null
                 : getSearchCond(anyQuery.getFiql());
         try {
+            if (anyQuery.getAfter() != null) {
+                KeysetSlice<TO> result = getAnyLogic().search(
+                        searchCond,
+                        sort(anyQuery.getOrderBy(), Sort.unsorted()).toList(),
+                        StringUtils.isBlank(anyQuery.getAfter()) ? null : anyQuery.getAfter(),
+                        anyQuery.getSize(),
+                        realm,
+                        anyQuery.getRecursive(),
+                        anyQuery.getDetails());
+                return buildPagedResult(result);
+            }
+
+            List<String> fields = Optional.ofNullable(anyQuery.getFields()).stream().
+                    flatMap(List::stream).
+                    flatMap(field -> Stream.of(StringUtils.split(field, ','))).
+                    map(String::trim).
+                    filter(StringUtils::isNotBlank).
+                    toList();
+            if (!fields.isEmpty()) {
+                return buildPagedResult(getAnyLogic().project(
+                        searchCond,
+                        pageable(anyQuery),
+                        realm,
+                        anyQuery.getRecursive(),
+                        fields,
+                        anyQuery.getCount()));
+            }
+
             Page<TO> result = getAnyLogic().search(
                     searchCond,
                     pageable(anyQuery),
                     realm,
                     anyQuery.getRecursive(),
-                    anyQuery.getDetails());
+                    anyQuery.getDetails(),
+                    anyQuery.getCount());
             return buildPagedResult(result);
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
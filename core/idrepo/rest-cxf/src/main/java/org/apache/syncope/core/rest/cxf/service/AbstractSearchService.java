@@ -24,17 +24,26 @@ import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.persistence.api.search.SyncopeAbstractSearchCondVisitor;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 public abstract class AbstractSearchService<V extends SyncopeAbstractSearchCondVisitor> extends AbstractService {
 
     protected final V searchCondVisitor;
 
-    public AbstractSearchService(final V searchCondVisitor) {
+    protected final SearchCondCache searchCondCache;
+
+    public AbstractSearchService(final V searchCondVisitor, final SearchCondCache searchCondCache) {
         this.searchCondVisitor = searchCondVisitor;
+        this.searchCondCache = searchCondCache;
     }
 
     protected SearchCond getSearchCond(final String fiql) {
+        return searchCondCache.parse(AuthContextUtils.getDomain(), searchCondVisitor, fiql, this::parse);
+    }
+
+    protected SearchCond parse(final String fiql) {
         try {
             SearchCondition<SearchBean> sc = searchContext.getCondition(fiql, SearchBean.class);
             sc.accept(searchCondVisitor);
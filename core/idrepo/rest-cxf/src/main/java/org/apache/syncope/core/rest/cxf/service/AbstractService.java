@@ -43,6 +43,7 @@ import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -229,6 +230,7 @@ public abstract class AbstractService implements JAXRSService {
         result.setPage(page.getNumber() + 1);
         result.setSize(result.getResult().size());
         result.setTotalCount(page.getTotalElements());
+        result.setHasNext(page.hasNext());
 
         UriBuilder builder = uriInfo.getAbsolutePathBuilder();
         MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
@@ -240,7 +242,7 @@ public abstract class AbstractService implements JAXRSService {
                     replaceQueryParam(PARAM_SIZE, page.getSize()).
                     build());
         }
-        if ((result.getPage() - 1) * page.getSize() + result.getSize() < page.getTotalElements()) {
+        if (result.isHasNext()) {
             result.setNext(builder.
                     replaceQueryParam(PARAM_PAGE, result.getPage() + 1).
                     replaceQueryParam(PARAM_SIZE, page.getSize()).
@@ -249,4 +251,36 @@ public abstract class AbstractService implements JAXRSService {
 
         return result;
     }
+
+    /**
+     * Builds a paged result out of keyset slice; total count is reported as {@code -1} since not computed.
+     *
+     * @param <T> result type
+     * @param slice keyset slice
+     * @return paged result
+     */
+    protected <T extends BaseBean> PagedResult<T> buildPagedResult(final KeysetSlice<T> slice) {
+        PagedResult<T> result = new PagedResult<>();
+        result.getResult().addAll(slice.getContent());
+
+        result.setPage(1);
+        result.setSize(result.getResult().size());
+        result.setTotalCount(-1);
+        result.setHasNext(slice.hasNext());
+
+        slice.getAfter().ifPresent(after -> {
+            result.setAfter(after);
+
+            UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+            MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+            queryParams.forEach((key, value) -> builder.queryParam(key, value.toArray()));
+
+            result.setNext(builder.
+                    replaceQueryParam(PARAM_AFTER, after).
+                    replaceQueryParam(PARAM_SIZE, slice.getSize()).
+                    build());
+        });
+
+        return result;
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.syncope.core.logic.AnyObjectLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 
 public class AnyObjectServiceImpl extends AbstractAnyService<AnyObjectTO, AnyObjectCR, AnyObjectUR>
         implements AnyObjectService {
@@ -45,10 +46,11 @@ public class AnyObjectServiceImpl extends AbstractAnyService<AnyObjectTO, AnyObj
 
     public AnyObjectServiceImpl(
             final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final AnyObjectDAO anyObjectDAO,
             final AnyObjectLogic logic) {
 
-        super(searchCondVisitor);
+        super(searchCondVisitor, searchCondCache);
         this.anyObjectDAO = anyObjectDAO;
         this.logic = logic;
     }
@@ -32,6 +32,7 @@ import org.apache.syncope.core.logic.GroupLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 
 public class GroupServiceImpl extends AbstractAnyService<GroupTO, GroupCR, GroupUR> implements GroupService {
 
@@ -41,10 +42,11 @@ public class GroupServiceImpl extends AbstractAnyService<GroupTO, GroupCR, Group
 
     public GroupServiceImpl(
             final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final GroupDAO groupDAO,
             final GroupLogic logic) {
 
-        super(searchCondVisitor);
+        super(searchCondVisitor, searchCondCache);
         this.groupDAO = groupDAO;
         this.logic = logic;
     }
@@ -35,14 +35,19 @@ import org.apache.syncope.common.rest.api.service.RealmService;
 import org.apache.syncope.core.logic.RealmLogic;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.RealmSearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.springframework.data.domain.Page;
 
 public class RealmServiceImpl extends AbstractSearchService<RealmSearchCondVisitor> implements RealmService {
 
     protected final RealmLogic logic;
 
-    public RealmServiceImpl(final RealmLogic logic, final RealmSearchCondVisitor searchCondVisitor) {
-        super(searchCondVisitor);
+    public RealmServiceImpl(
+            final RealmLogic logic,
+            final RealmSearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache) {
+
+        super(searchCondVisitor, searchCondCache);
         this.logic = logic;
     }
 
@@ -215,4 +215,20 @@ public class SyncopeServiceImpl extends AbstractService implements SyncopeServic
                         "attachment; filename=" + AuthContextUtils.getDomain() + "Content.xml").
                 build();
     }
+
+    @Override
+    public Response exportInternalStorageArchive(
+            final int threshold,
+            final int parallelism,
+            final boolean binary,
+            final List<String> elements) {
+
+        StreamingOutput sout = os -> logic.exportInternalStorageArchive(threshold, parallelism, binary, os, elements);
+
+        return Response.ok(sout).
+                type(RESTHeaders.APPLICATION_ZIP).
+                header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + AuthContextUtils.getDomain() + "Content.zip").
+                build();
+    }
 }
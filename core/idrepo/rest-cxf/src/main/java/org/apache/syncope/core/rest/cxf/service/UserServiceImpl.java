@@ -34,6 +34,7 @@ import org.apache.syncope.core.logic.UserLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 
 public class UserServiceImpl extends AbstractAnyService<UserTO, UserCR, UserUR> implements UserService {
 
@@ -45,11 +46,12 @@ public class UserServiceImpl extends AbstractAnyService<UserTO, UserCR, UserUR>
 
     public UserServiceImpl(
             final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final UserDAO userDAO,
             final UserLogic logic,
             final SyncopeLogic syncopeLogic) {
 
-        super(searchCondVisitor);
+        super(searchCondVisitor, searchCondCache);
         this.userDAO = userDAO;
         this.logic = logic;
         this.syncopeLogic = syncopeLogic;
@@ -67,6 +67,7 @@ import org.apache.syncope.core.logic.AnyObjectLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.rest.cxf.AddETagFilter;
 import org.apache.syncope.core.rest.cxf.RestServiceExceptionMapper;
@@ -168,7 +169,8 @@ public class AnyObjectServiceTest {
             when(request.evaluatePreconditions(any(Date.class))).thenReturn(Response.notModified());
             when(messageContext.getRequest()).thenReturn(request);
 
-            AnyObjectServiceImpl service = new AnyObjectServiceImpl(searchCondVisitor, anyObjectDAO, logic);
+            AnyObjectServiceImpl service = new AnyObjectServiceImpl(
+                    searchCondVisitor, new SearchCondCache(0), anyObjectDAO, logic);
             ReflectionTestUtils.setField(service, "searchContext", searchContext);
             ReflectionTestUtils.setField(service, "uriInfo", uriInfo);
             ReflectionTestUtils.setField(service, "messageContext", messageContext);
@@ -18,17 +18,52 @@
  */
 package org.apache.syncope.core.persistence.api.content;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import javax.xml.transform.TransformerConfigurationException;
 import org.xml.sax.SAXException;
 
-@FunctionalInterface
 public interface ContentExporter extends ContentDealer {
 
+    /**
+     * Exports the given elements as XML.
+     *
+     * @param domain domain
+     * @param threshold the maximum number of rows to export for each element; zero or negative for no limit
+     * @param output where to write
+     * @param elements the elements to export; if empty, all elements are exported
+     * @throws SAXException if anything goes wrong while generating XML
+     * @throws TransformerConfigurationException if anything goes wrong while generating XML
+     */
     void export(
             String domain,
             int threshold,
             OutputStream output,
             String... elements)
             throws SAXException, TransformerConfigurationException;
+
+    /**
+     * Exports the given elements as ZIP archive, with one entry for each element, either as XML or in compact binary
+     * format, named so that sorting by name gives the order in which entries are to be loaded.
+     * Implementations might export elements in parallel.
+     *
+     * @param domain domain
+     * @param threshold the maximum number of rows to export for each element; zero or negative for no limit
+     * @param parallelism the number of elements to export concurrently, where supported; implementations might lower
+     * it, according to available resources
+     * @param binary whether entries shall be generated in compact binary format rather than XML
+     * @param output where to write
+     * @param elements the elements to export; if empty, all elements are exported
+     * @throws SAXException if anything goes wrong while generating content
+     * @throws TransformerConfigurationException if anything goes wrong while generating XML
+     * @throws IOException if anything goes wrong while writing, or if any element could not be exported
+     */
+    void exportArchive(
+            String domain,
+            int threshold,
+            int parallelism,
+            boolean binary,
+            OutputStream output,
+            String... elements)
+            throws SAXException, TransformerConfigurationException, IOException;
 }
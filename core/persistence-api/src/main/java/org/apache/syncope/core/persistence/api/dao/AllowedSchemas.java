@@ -23,17 +23,48 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.entity.RelationshipType;
 import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 
 public class AllowedSchemas<S extends Schema> {
 
-    private final Set<S> self = new HashSet<>();
+    /**
+     * Returns an unmodifiable copy of the given allowed schemas, suitable for being shared.
+     *
+     * @param <S> schema class
+     * @param allowed allowed schemas
+     * @return unmodifiable copy
+     */
+    public static <S extends Schema> AllowedSchemas<S> unmodifiable(final AllowedSchemas<S> allowed) {
+        return new AllowedSchemas<>(
+                Set.copyOf(allowed.self()),
+                allowed.memberships().entrySet().stream().collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey, entry -> Set.copyOf(entry.getValue()))),
+                allowed.relationshipTypes().entrySet().stream().collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey, entry -> Set.copyOf(entry.getValue()))));
+    }
+
+    private final Set<S> self;
 
-    private final Map<Group, Set<S>> memberships = new HashMap<>();
+    private final Map<Group, Set<S>> memberships;
 
-    private final Map<RelationshipType, Set<S>> relationshipTypes = new HashMap<>();
+    private final Map<RelationshipType, Set<S>> relationshipTypes;
+
+    public AllowedSchemas() {
+        this(new HashSet<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    protected AllowedSchemas(
+            final Set<S> self,
+            final Map<Group, Set<S>> memberships,
+            final Map<RelationshipType, Set<S>> relationshipTypes) {
+
+        this.self = self;
+        this.memberships = memberships;
+        this.relationshipTypes = relationshipTypes;
+    }
 
     public Set<S> self() {
         return self;
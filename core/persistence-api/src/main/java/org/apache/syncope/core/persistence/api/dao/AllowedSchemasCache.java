@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, per-domain cache of the outcome of {@link AnyChecker#findAllowedSchemas}, by the inputs affecting it.
+ * Cached values are unmodifiable; as entries are local to each node, they also expire after the configured time to
+ * live, thus bounding staleness when changes are made via other nodes.
+ */
+public class AllowedSchemasCache {
+
+    /**
+     * Inputs affecting allowed schemas.
+     *
+     * @param reference schema class
+     * @param anyType any type key
+     * @param auxClasses aux class keys
+     * @param groups keys of groups the any is member of
+     * @param relationshipTypes keys of the types of relationships the any is part of
+     */
+    public record Key(
+            Class<?> reference,
+            String anyType,
+            Set<String> auxClasses,
+            Set<String> groups,
+            Set<String> relationshipTypes) {
+
+    }
+
+    protected record Value(AllowedSchemas<?> allowed, long expiration) {
+
+    }
+
+    protected final int maxSize;
+
+    protected final Duration ttl;
+
+    protected final Map<String, Map<Key, Value>> values = new ConcurrentHashMap<>();
+
+    public AllowedSchemasCache(final int maxSize, final Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    protected Map<Key, Value> values(final String domain) {
+        return values.computeIfAbsent(domain, k -> Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -2806296212874402517L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Value> eldest) {
+                return size() > maxSize;
+            }
+        }));
+    }
+
+    /**
+     * Returns the cached allowed schemas for the given key, invoking the given loader if not found or expired.
+     *
+     * @param <S> schema class, matching {@link Key#reference()}
+     * @param domain domain
+     * @param key inputs affecting allowed schemas
+     * @param loader computes allowed schemas, invoked upon cache miss
+     * @return unmodifiable allowed schemas
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends Schema> AllowedSchemas<S> get(
+            final String domain,
+            final Key key,
+            final Supplier<AllowedSchemas<S>> loader) {
+
+        if (maxSize <= 0) {
+            return loader.get();
+        }
+
+        Map<Key, Value> cache = values(domain);
+
+        long now = System.currentTimeMillis();
+        Value value = cache.get(key);
+        if (value == null || value.expiration() < now) {
+            value = new Value(AllowedSchemas.unmodifiable(loader.get()), now + ttl.toMillis());
+            cache.put(key, value);
+        }
+        return (AllowedSchemas<S>) value.allowed();
+    }
+
+    /**
+     * Removes the entries matching the given filter, both immediately and after current transaction completes - in
+     * order to cope with concurrent lookups reading the state before commit.
+     *
+     * @param domain domain
+     * @param filter entries to remove
+     */
+    public void invalidate(final String domain, final Predicate<Key> filter) {
+        Runnable invalidate = () -> {
+            Map<Key, Value> cache = values.get(domain);
+            if (cache != null) {
+                synchronized (cache) {
+                    cache.keySet().removeIf(filter);
+                }
+            }
+        };
+        invalidate.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate.run();
+                }
+            });
+        }
+    }
+
+    public void invalidate(final String domain) {
+        invalidate(domain, key -> true);
+    }
+}
@@ -58,8 +58,12 @@ public class AnyChecker {
     }
 
     @Transactional(readOnly = true)
-    @SuppressWarnings("unchecked")
     public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final Any any, final Class<S> reference) {
+        return doFindAllowedSchemas(any, reference);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <S extends Schema> AllowedSchemas<S> doFindAllowedSchemas(final Any any, final Class<S> reference) {
         AllowedSchemas<S> result = new AllowedSchemas<>();
 
         // schemas given by type and aux classes
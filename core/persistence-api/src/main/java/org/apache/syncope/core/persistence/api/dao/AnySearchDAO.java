@@ -18,15 +18,20 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 public interface AnySearchDAO {
@@ -65,6 +70,24 @@ public interface AnySearchDAO {
             SearchCond searchCondition,
             AnyTypeKind kind);
 
+    /**
+     * Like {@link #count(Realm, boolean, Set, SearchCond, AnyTypeKind)}, but relying on the estimation provided by
+     * the query planner of the underlying storage, where supported.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param kind any type kind
+     * @return estimated size of search result
+     */
+    long estimateCount(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            AnyTypeKind kind);
+
     /**
      * @param searchCondition the search condition
      * @param kind any object
@@ -100,6 +123,102 @@ public interface AnySearchDAO {
             Pageable pageable,
             AnyTypeKind kind);
 
+    /**
+     * Like {@link #search(Realm, boolean, Set, SearchCond, Pageable, AnyTypeKind)}, but also telling whether more
+     * results are available after the requested page, without counting them.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageable paging information
+     * @param kind any type kind
+     * @param <T> any
+     * @return the slice of any objects matching the given search condition (in the given page)
+     */
+    <T extends Any> Slice<T> slice(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            Pageable pageable,
+            AnyTypeKind kind);
+
+    /**
+     * Like {@link #slice(Realm, boolean, Set, SearchCond, Pageable, AnyTypeKind)}, but only fetching the given fields
+     * and plain schemas for each matching any object, rather than loading the full entities.
+     * Relationship fields are not supported, except for {@code realm}; unknown fields or schemas are rejected.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageable paging information
+     * @param kind any type kind
+     * @param fields fields and plain schemas to fetch; the key is always included
+     * @return the slice of projections matching the given search condition (in the given page)
+     */
+    Slice<AnyProjection> project(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            Pageable pageable,
+            AnyTypeKind kind,
+            Collection<String> fields);
+
+    /**
+     * Keyset (seek) search: rather than skipping the rows of all previous pages, the slice is selected by comparing
+     * the sort keys against the values they had for the last element of the previous slice, as carried by the given
+     * cursor; the entity key is always appended as last sort key, to break ties.
+     * Only string fields (and the entity key) can be used for ordering; such fields may have null values.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param orderBy list of ordering clauses
+     * @param after cursor as returned by the previous invocation, null to get the first slice
+     * @param size maximum number of elements in the returned slice
+     * @param kind any type kind
+     * @param <T> any
+     * @return the any objects matching the given search condition (in the given slice) and the cursor to get the
+     * next slice, if any
+     */
+    <T extends Any> KeysetSlice<T> search(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            List<Sort.Order> orderBy,
+            String after,
+            int size,
+            AnyTypeKind kind);
+
+    /**
+     * Streams all the any objects matching the given search condition, as fetched by a single query where supported
+     * by the underlying storage; elements are loaded in chunks of {@link AnyDAO#DEFAULT_PAGE_SIZE} and the ones
+     * already consumed might be detached from the persistence context when moving to the next chunk, so callers
+     * shall not hold them for later use.
+     * The returned stream must be consumed within the same transaction and closed afterwards.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param orderBy list of ordering clauses
+     * @param kind any type kind
+     * @param <T> any
+     * @return the stream of any objects matching the given search condition
+     */
+    <T extends Any> Stream<T> stream(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            List<Sort.Order> orderBy,
+            AnyTypeKind kind);
+
     /**
      * @return the search condition to match all entities
      */
@@ -62,4 +62,12 @@ public interface AuditEventDAO {
             OffsetDateTime before,
             OffsetDateTime after,
             Pageable pageable);
+
+    /**
+     * Performs maintenance on audit events storage, as preparing for upcoming audit events where applicable, and
+     * removes audit events occurred before the given instant, if provided.
+     *
+     * @param before instant before which audit events are removed, or {@code null} to retain all audit events
+     */
+    void maintain(OffsetDateTime before);
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores the values of materialized derived schemas, for users, groups, any objects and realms.
+ *
+ * @see org.apache.syncope.core.persistence.api.entity.DerSchema#isMaterialized()
+ */
+public interface DerAttrValueDAO {
+
+    /**
+     * Maximum length of materialized values: longer values are not stored, hence cannot be found.
+     */
+    int MAX_VALUE_LENGTH = 255;
+
+    /**
+     * Replaces the materialized values stored for the given owner and derived schemas: values are inserted or
+     * updated in place, so that concurrent replacements for the same owner do not conflict; values for the given
+     * schemas missing from the given map are removed.
+     *
+     * @param owner user, group, any object or realm key
+     * @param schemas derived schema keys whose values are replaced
+     * @param values materialized values, by derived schema key
+     */
+    void replace(String owner, Set<String> schemas, Map<String, String> values);
+
+    void deleteByOwner(String owner);
+
+    void deleteBySchema(String schema);
+
+    /**
+     * Finds the owners of the given value for the given derived schema.
+     *
+     * @param schema derived schema key
+     * @param value derived attribute value
+     * @param ignoreCaseMatch whether comparison should take case into account or not
+     * @return user, group, any object or realm keys
+     */
+    List<String> findOwners(String schema, String value, boolean ignoreCaseMatch);
+}
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ExecStatus;
@@ -77,8 +78,22 @@ public interface TaskDAO extends DAO<Task<?>> {
 
     void deleteAll(ExternalResource resource, TaskType type);
 
+    /**
+     * Deletes, along with their executions, up to {@code max} propagation tasks whose latest execution matches the
+     * given conditions; tasks are taken in ascending key order and removed in a single transaction, so that callers
+     * can purge large volumes by invoking this method repeatedly until less than {@code max} tasks are returned.
+     *
+     * @param since only consider tasks whose latest execution ended on or before this date, if not null
+     * @param statuses only consider tasks whose latest execution has one of these statuses, if not empty
+     * @param resources only consider tasks for these external resources, if not empty
+     * @param max maximum number of tasks to delete
+     * @param beforeDelete invoked with the matching tasks before they are deleted, e.g. for archiving
+     * @return the deleted tasks
+     */
     List<PropagationTaskTO> purgePropagations(
             OffsetDateTime since,
             List<ExecStatus> statuses,
-            List<String> resources);
+            List<String> resources,
+            int max,
+            Consumer<List<PropagationTaskTO>> beforeDelete);
 }
@@ -79,6 +79,30 @@ public interface UserDAO extends AnyDAO<User> {
 
     Collection<ExternalResource> findAllResources(User user);
 
+    /**
+     * Finds the entitlements granted to the given user via roles, with no need to load the role entities.
+     *
+     * @param key user key
+     * @return entitlements, each with the full paths of the realms where it applies
+     */
+    Map<String, Set<String>> findRoleEntitlements(String key);
+
+    /**
+     * Batched lookup of the groups the given users are members of.
+     *
+     * @param keys user keys
+     * @return group keys, by user key
+     */
+    Map<String, Set<String>> findGroupKeysByUserKeys(Collection<String> keys);
+
+    /**
+     * Batched lookup of the resources assigned to the given users, either directly or via group membership.
+     *
+     * @param keys user keys
+     * @return resource keys, by user key
+     */
+    Map<String, Set<String>> findResourceKeysByUserKeys(Collection<String> keys);
+
     boolean linkedAccountExists(String userKey, String connObjectKeyValue);
 
     Optional<? extends LinkedAccount> findLinkedAccount(ExternalResource resource, String connObjectKeyValue);
@@ -20,9 +20,23 @@ package org.apache.syncope.core.persistence.api.dao.search;
 
 import java.io.Serializable;
 
-public abstract class AbstractSearchCond implements Serializable {
+public abstract class AbstractSearchCond implements Serializable, Cloneable {
 
     private static final long serialVersionUID = 5376869884544910804L;
 
     public abstract boolean isValid();
+
+    /**
+     * Leaf conditions only hold immutable values (strings and enums), hence a shallow copy is enough.
+     *
+     * @return copy of this condition
+     */
+    @Override
+    public AbstractSearchCond clone() {
+        try {
+            return (AbstractSearchCond) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -116,6 +116,20 @@ public class SearchCond extends AbstractSearchCond {
         return or(Arrays.asList(conditions));
     }
 
+    /**
+     * Deep copy of this condition tree, way cheaper than serialization round trip.
+     *
+     * @return copy of this condition
+     */
+    @Override
+    public SearchCond clone() {
+        SearchCond clone = (SearchCond) super.clone();
+        clone.leaf = Optional.ofNullable(leaf).map(AbstractSearchCond::clone).orElse(null);
+        clone.left = Optional.ofNullable(left).map(SearchCond::clone).orElse(null);
+        clone.right = Optional.ofNullable(right).map(SearchCond::clone).orElse(null);
+        return clone;
+    }
+
     public Optional<AnyTypeCond> getAnyTypeCond() {
         return Optional.ofNullable(leaf instanceof final AnyTypeCond anyTypeCond ? anyTypeCond : null);
     }
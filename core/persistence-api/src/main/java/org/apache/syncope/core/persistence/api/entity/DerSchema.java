@@ -23,4 +23,23 @@ public interface DerSchema extends Schema {
     String getExpression();
 
     void setExpression(String expression);
+
+    /**
+     * Whether values for this schema are computed upon save of the owning entities and stored, so that they can be
+     * efficiently searched.
+     *
+     * @return whether values for this schema are materialized
+     */
+    boolean isMaterialized();
+
+    void setMaterialized(boolean materialized);
+
+    /**
+     * Whether materialized values for this schema are being rebuilt, hence cannot be relied upon for search yet.
+     *
+     * @return whether materialized values for this schema are being rebuilt
+     */
+    boolean isMaterializationPending();
+
+    void setMaterializationPending(boolean materializationPending);
 }
@@ -28,6 +28,8 @@ import java.util.Optional;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
@@ -344,6 +346,40 @@ public class PlainAttrValue implements Serializable {
         return getValueAsString(schema.getType(), schema);
     }
 
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                append(stringValue).
+                append(dateValue).
+                append(booleanValue).
+                append(longValue).
+                append(doubleValue).
+                append(binaryValue).
+                build();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final PlainAttrValue other = (PlainAttrValue) obj;
+        return new EqualsBuilder().
+                append(stringValue, other.stringValue).
+                append(dateValue, other.dateValue).
+                append(booleanValue, other.booleanValue).
+                append(longValue, other.longValue).
+                append(doubleValue, other.doubleValue).
+                append(binaryValue, other.binaryValue).
+                build();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).
@@ -59,4 +59,8 @@ public interface PlainSchema extends Schema {
     void setReadonly(boolean readonly);
 
     void setUniqueConstraint(boolean uniquevalue);
+
+    boolean isIndexed();
+
+    void setIndexed(boolean indexed);
 }
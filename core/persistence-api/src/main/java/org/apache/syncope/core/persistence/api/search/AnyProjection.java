@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+
+/**
+ * Projection of an any object over the requested fields and plain schemas, as selected by search without loading the
+ * matching entities.
+ *
+ * @param key any object key
+ * @param fields values of the requested fields, by field name; the realm is reported via its full path
+ * @param plainAttrs plain attributes for the requested schemas, if available
+ */
+public record AnyProjection(String key, Map<String, Object> fields, List<PlainAttr> plainAttrs) {
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Slice of results obtained via keyset (seek) pagination: instead of a page number, the next slice is identified by
+ * the opaque cursor returned by {@link #getAfter()}.
+ *
+ * @param <T> result type
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private static final long serialVersionUID = -4725128327950424571L;
+
+    private final String after;
+
+    public KeysetSlice(final List<T> content, final Pageable pageable, final String after) {
+        super(content, pageable, after != null);
+        this.after = after;
+    }
+
+    /**
+     * @return cursor to be provided for fetching the next slice, if any
+     */
+    public Optional<String> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return new EqualsBuilder().
+                appendSuper(super.equals(obj)).
+                append(after, obj instanceof KeysetSlice<?> other ? other.after : null).
+                build();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                appendSuper(super.hashCode()).
+                append(after).
+                build();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, per-domain cache of {@link SearchCond} instances parsed from FIQL expressions.
+ * Search conditions are mutable, hence cached instances are never handed out: callers always get their own (deep)
+ * copy, via {@link SearchCond#clone()}.
+ */
+public class SearchCondCache {
+
+    /**
+     * Parsing inputs.
+     *
+     * @param visitor visitor class
+     * @param encoded whether the FIQL expression is URL-encoded
+     * @param fiql FIQL expression
+     */
+    protected record Key(Class<?> visitor, boolean encoded, String fiql) {
+
+    }
+
+    protected final int maxSize;
+
+    protected final Map<String, Map<Key, SearchCond>> conds = new ConcurrentHashMap<>();
+
+    public SearchCondCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    protected Map<Key, SearchCond> conds(final String domain) {
+        return conds.computeIfAbsent(domain, k -> Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 7295263512437961742L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, SearchCond> eldest) {
+                return size() > maxSize;
+            }
+        }));
+    }
+
+    protected SearchCond get(final String domain, final Key key, final Supplier<SearchCond> parser) {
+        if (maxSize <= 0) {
+            return parser.get();
+        }
+
+        Map<Key, SearchCond> cache = conds(domain);
+
+        SearchCond cond = cache.get(key);
+        if (cond == null) {
+            cond = parser.get();
+            if (cond != null) {
+                cache.put(key, cond.clone());
+            }
+            return cond;
+        }
+
+        return cond.clone();
+    }
+
+    /**
+     * Cached version of {@link SearchCondConverter#convert(SyncopeAbstractSearchCondVisitor, String)}.
+     *
+     * @param <V> concrete {@link SyncopeAbstractSearchCondVisitor} implementation
+     * @param domain domain
+     * @param visitor visitor instance
+     * @param fiql FIQL string
+     * @return {@link SearchCond} instance for given FIQL expression
+     */
+    public <V extends SyncopeAbstractSearchCondVisitor> SearchCond convert(
+            final String domain, final V visitor, final String fiql) {
+
+        return get(domain, new Key(visitor.getClass(), true, fiql), () -> SearchCondConverter.convert(visitor, fiql));
+    }
+
+    /**
+     * Parses the given FIQL expression, not URL-encoded (as when read from REST query parameters), via the provided
+     * function, unless already found in cache.
+     *
+     * @param <V> concrete {@link SyncopeAbstractSearchCondVisitor} implementation
+     * @param domain domain
+     * @param visitor visitor instance
+     * @param fiql FIQL string
+     * @param parser actual parsing function, invoked upon cache miss
+     * @return {@link SearchCond} instance for given FIQL expression
+     */
+    public <V extends SyncopeAbstractSearchCondVisitor> SearchCond parse(
+            final String domain, final V visitor, final String fiql, final Function<String, SearchCond> parser) {
+
+        return get(domain, new Key(visitor.getClass(), false, fiql), () -> parser.apply(fiql));
+    }
+
+    /**
+     * Removes all entries for the given domain; if invoked within a transaction, removal is repeated upon completion,
+     * to discard conditions parsed meanwhile by concurrent requests against the previous schema definitions.
+     *
+     * @param domain domain
+     */
+    public void invalidate(final String domain) {
+        conds.remove(domain);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    conds.remove(domain);
+                }
+            });
+        }
+    }
+}
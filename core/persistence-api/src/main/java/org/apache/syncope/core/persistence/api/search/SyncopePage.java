@@ -30,9 +30,25 @@ public class SyncopePage<T> extends PageImpl<T> {
 
     private final long total;
 
+    private final Boolean hasNext;
+
     public SyncopePage(final List<T> content, final Pageable pageable, final long total) {
-        super(content, pageable, total);
+        this(content, pageable, total, null);
+    }
+
+    /**
+     * Builds a page whose total might be estimated or not computed at all (negative), hence not suitable to tell
+     * whether a next page exists.
+     *
+     * @param content page content
+     * @param pageable paging information
+     * @param total total number of elements, possibly estimated; negative if unknown
+     * @param hasNext whether a next page exists, null to infer from total
+     */
+    public SyncopePage(final List<T> content, final Pageable pageable, final long total, final Boolean hasNext) {
+        super(content, pageable, Math.max(total, 0));
         this.total = total;
+        this.hasNext = hasNext;
     }
 
     @Override
@@ -42,14 +58,30 @@ public class SyncopePage<T> extends PageImpl<T> {
 
     @Override
     public int getTotalPages() {
-        return getSize() == 0 ? 1 : (int) Math.ceil(total / (double) getSize());
+        return getSize() == 0 ? 1 : (int) Math.ceil(Math.max(total, 0) / (double) getSize());
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext == null ? super.hasNext() : hasNext;
     }
 
     @Override
     public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final SyncopePage<?> other = (SyncopePage<?>) obj;
         return new EqualsBuilder().
                 appendSuper(super.equals(obj)).
-                append(total, total).
+                append(total, other.total).
+                append(hasNext, other.hasNext).
                 build();
     }
 
@@ -58,6 +90,7 @@ public class SyncopePage<T> extends PageImpl<T> {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(total).
+                append(hasNext).
                 build();
     }
 }
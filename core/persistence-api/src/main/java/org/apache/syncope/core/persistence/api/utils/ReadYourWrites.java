@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the domains for which the current thread has write transactions in progress, so that read-only
+ * transactions started meanwhile (e.g. {@code REQUIRES_NEW}) are not served by replicas possibly lagging behind.
+ * Entries are released as the write transactions complete; {@link #clear()} is anyway to be invoked at request or
+ * task boundaries, for pooled threads not to carry stale entries in case of unbalanced calls.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Map<String, Integer>> WRITING = new ThreadLocal<>();
+
+    public static void written(final String domain) {
+        Map<String, Integer> writing = WRITING.get();
+        if (writing == null) {
+            writing = new HashMap<>();
+            WRITING.set(writing);
+        }
+        writing.merge(domain, 1, Integer::sum);
+    }
+
+    public static void completed(final String domain) {
+        Map<String, Integer> writing = WRITING.get();
+        if (writing != null) {
+            writing.computeIfPresent(domain, (k, count) -> count > 1 ? count - 1 : null);
+            if (writing.isEmpty()) {
+                WRITING.remove();
+            }
+        }
+    }
+
+    public static boolean hasWritten(final String domain) {
+        Map<String, Integer> writing = WRITING.get();
+        return writing != null && writing.containsKey(domain);
+    }
+
+    public static void clear() {
+        WRITING.remove();
+    }
+
+    private ReadYourWrites() {
+        // private empty constructor
+    }
+}
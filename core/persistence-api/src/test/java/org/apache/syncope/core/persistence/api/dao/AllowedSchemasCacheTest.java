@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.junit.jupiter.api.Test;
+
+public class AllowedSchemasCacheTest {
+
+    private static AllowedSchemasCache.Key key(final String anyType, final String group, final String type) {
+        return new AllowedSchemasCache.Key(
+                PlainSchema.class, anyType, Set.of("minimal user"), Set.of(group), Set.of(type));
+    }
+
+    private static Supplier<AllowedSchemas<PlainSchema>> loader(final AtomicInteger loaded) {
+        return () -> {
+            loaded.incrementAndGet();
+            return new AllowedSchemas<>();
+        };
+    }
+
+    @Test
+    public void get() {
+        AllowedSchemasCache cache = new AllowedSchemasCache(10, Duration.ofMinutes(1));
+
+        AtomicInteger loaded = new AtomicInteger();
+        Supplier<AllowedSchemas<PlainSchema>> loader = loader(loaded);
+
+        AllowedSchemas<PlainSchema> allowed = cache.get("Master", key("USER", "root", "neighborhood"), loader);
+        assertSame(allowed, cache.get("Master", key("USER", "root", "neighborhood"), loader));
+        assertEquals(1, loaded.get());
+        assertThrows(UnsupportedOperationException.class, () -> allowed.self().add(mock(PlainSchema.class)));
+        assertThrows(UnsupportedOperationException.class, () -> allowed.memberships().clear());
+
+        cache.get("Two", key("USER", "root", "neighborhood"), loader);
+        assertEquals(2, loaded.get());
+
+        cache.get("Master", key("USER", "child", "neighborhood"), loader);
+        assertEquals(3, loaded.get());
+    }
+
+    @Test
+    public void invalidate() {
+        AllowedSchemasCache cache = new AllowedSchemasCache(10, Duration.ofMinutes(1));
+
+        AtomicInteger loaded = new AtomicInteger();
+        Supplier<AllowedSchemas<PlainSchema>> loader = loader(loaded);
+
+        cache.get("Master", key("USER", "root", "neighborhood"), loader);
+        cache.get("Master", key("PRINTER", "child", "inclusion"), loader);
+        assertEquals(2, loaded.get());
+
+        cache.invalidate("Master", key -> key.groups().contains("root"));
+        cache.get("Master", key("USER", "root", "neighborhood"), loader);
+        cache.get("Master", key("PRINTER", "child", "inclusion"), loader);
+        assertEquals(3, loaded.get());
+
+        cache.invalidate("Master");
+        cache.get("Master", key("PRINTER", "child", "inclusion"), loader);
+        assertEquals(4, loaded.get());
+    }
+
+    @Test
+    public void expire() throws InterruptedException {
+        AllowedSchemasCache cache = new AllowedSchemasCache(10, Duration.ofMillis(100));
+
+        AtomicInteger loaded = new AtomicInteger();
+        Supplier<AllowedSchemas<PlainSchema>> loader = loader(loaded);
+
+        cache.get("Master", key("USER", "root", "neighborhood"), loader);
+        cache.get("Master", key("USER", "root", "neighborhood"), loader);
+        assertEquals(1, loaded.get());
+
+        Thread.sleep(200);
+
+        cache.get("Master", key("USER", "root", "neighborhood"), loader);
+        assertEquals(2, loaded.get());
+    }
+}
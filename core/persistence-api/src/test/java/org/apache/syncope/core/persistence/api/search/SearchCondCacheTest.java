@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.syncope.common.lib.search.UserFiqlSearchConditionBuilder;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class SearchCondCacheTest {
+
+    private static final AnySearchCondVisitor VISITOR = new AnySearchCondVisitor();
+
+    private static final String FIQL = new UserFiqlSearchConditionBuilder().is("username").equalTo("rossini").query();
+
+    private static Function<String, SearchCond> counting(final AtomicInteger parsed) {
+        return fiql -> {
+            parsed.incrementAndGet();
+            return SearchCondConverter.convert(VISITOR, fiql);
+        };
+    }
+
+    @Test
+    public void convert() {
+        SearchCondCache cache = new SearchCondCache(10);
+
+        SearchCond cond1 = cache.convert("Master", VISITOR, FIQL);
+        assertEquals(SearchCondConverter.convert(VISITOR, FIQL), cond1);
+
+        // callers get their own copy, which can be altered without affecting further invocations
+        cond1.asLeaf(AnyCond.class).orElseThrow().setExpression("verdi");
+
+        SearchCond cond2 = cache.convert("Master", VISITOR, FIQL);
+        assertNotSame(cond1, cond2);
+        assertEquals(SearchCondConverter.convert(VISITOR, FIQL), cond2);
+    }
+
+    @Test
+    public void deepCopy() {
+        String fiql = new UserFiqlSearchConditionBuilder().is("username").equalTo("rossini").
+                and().is("fullname").equalTo("Gioacchino*").
+                or().is("userId").equalTo("rossini@apache.org").query();
+        SearchCond expected = SearchCondConverter.convert(VISITOR, fiql);
+
+        SearchCondCache cache = new SearchCondCache(10);
+
+        SearchCond cond1 = cache.convert("Master", VISITOR, fiql);
+        assertEquals(expected, cond1);
+
+        // alter every leaf of the returned tree
+        alter(cond1);
+
+        SearchCond cond2 = cache.convert("Master", VISITOR, fiql);
+        assertEquals(expected, cond2);
+    }
+
+    private static void alter(final SearchCond cond) {
+        cond.asLeaf(AttrCond.class).ifPresent(leaf -> leaf.setExpression("altered"));
+        if (cond.getLeft() != null) {
+            alter(cond.getLeft());
+        }
+        if (cond.getRight() != null) {
+            alter(cond.getRight());
+        }
+    }
+
+    @Test
+    public void parse() {
+        SearchCondCache cache = new SearchCondCache(10);
+
+        AtomicInteger parsed = new AtomicInteger();
+        Function<String, SearchCond> parser = counting(parsed);
+
+        cache.parse("Master", VISITOR, FIQL, parser);
+        cache.parse("Master", VISITOR, FIQL, parser);
+        assertEquals(1, parsed.get());
+
+        cache.parse("Two", VISITOR, FIQL, parser);
+        assertEquals(2, parsed.get());
+
+        cache.invalidate("Master");
+        cache.parse("Master", VISITOR, FIQL, parser);
+        assertEquals(3, parsed.get());
+    }
+
+    @Test
+    public void invalidateAfterCompletion() {
+        SearchCondCache cache = new SearchCondCache(10);
+
+        AtomicInteger parsed = new AtomicInteger();
+        Function<String, SearchCond> parser = counting(parsed);
+
+        cache.parse("Master", VISITOR, FIQL, parser);
+        assertEquals(1, parsed.get());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate("Master");
+
+            // concurrent request re-populating the cache before the schema changes are committed
+            cache.parse("Master", VISITOR, FIQL, parser);
+            assertEquals(2, parsed.get());
+            cache.parse("Master", VISITOR, FIQL, parser);
+            assertEquals(2, parsed.get());
+
+            TransactionSynchronizationManager.getSynchronizations().
+                    forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.parse("Master", VISITOR, FIQL, parser);
+        assertEquals(3, parsed.get());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+public class SyncopePageTest {
+
+    @Test
+    public void equalsAndHashCode() {
+        SyncopePage<String> page = new SyncopePage<>(List.of("a"), PageRequest.of(0, 1), -1, true);
+
+        assertEquals(page, new SyncopePage<>(List.of("a"), PageRequest.of(0, 1), -1, true));
+        assertEquals(page.hashCode(), new SyncopePage<>(List.of("a"), PageRequest.of(0, 1), -1, true).hashCode());
+
+        assertNotEquals(page, new SyncopePage<>(List.of("a"), PageRequest.of(0, 1), -1, false));
+        assertNotEquals(page, new SyncopePage<>(List.of("a"), PageRequest.of(0, 1), -1, null));
+        assertNotEquals(page, new SyncopePage<>(List.of("a"), PageRequest.of(0, 1), 2, true));
+        assertNotEquals(page, new SyncopePage<>(List.of("b"), PageRequest.of(0, 1), -1, true));
+        assertNotEquals(page, new PageImpl<>(List.of("a"), PageRequest.of(0, 1), 0));
+    }
+}
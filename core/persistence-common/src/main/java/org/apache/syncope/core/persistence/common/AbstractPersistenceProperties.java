@@ -26,6 +26,12 @@ public abstract class AbstractPersistenceProperties<D extends AbstractDomainProp
 
     private String indexesXML = "classpath:META-INF/indexes.xml";
 
+    private int searchCondCacheSize = 1000;
+
+    private int allowedSchemasCacheSize = 10000;
+
+    private int allowedSchemasCacheTtlSeconds = 60;
+
     @NestedConfigurationProperty
     private final List<D> domain = new ArrayList<>();
 
@@ -37,6 +43,30 @@ public abstract class AbstractPersistenceProperties<D extends AbstractDomainProp
         this.indexesXML = indexesXML;
     }
 
+    public int getSearchCondCacheSize() {
+        return searchCondCacheSize;
+    }
+
+    public void setSearchCondCacheSize(final int searchCondCacheSize) {
+        this.searchCondCacheSize = searchCondCacheSize;
+    }
+
+    public int getAllowedSchemasCacheSize() {
+        return allowedSchemasCacheSize;
+    }
+
+    public void setAllowedSchemasCacheSize(final int allowedSchemasCacheSize) {
+        this.allowedSchemasCacheSize = allowedSchemasCacheSize;
+    }
+
+    public int getAllowedSchemasCacheTtlSeconds() {
+        return allowedSchemasCacheTtlSeconds;
+    }
+
+    public void setAllowedSchemasCacheTtlSeconds(final int allowedSchemasCacheTtlSeconds) {
+        this.allowedSchemasCacheTtlSeconds = allowedSchemasCacheTtlSeconds;
+    }
+
     public List<D> getDomain() {
         return domain;
     }
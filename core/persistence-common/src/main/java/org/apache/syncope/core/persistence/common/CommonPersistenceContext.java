@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.common;
 
 import jakarta.validation.Validator;
+import java.time.Duration;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -34,6 +36,7 @@ import org.apache.syncope.core.persistence.api.entity.am.ClientAppUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.policy.PolicyUtilsFactory;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
 import org.apache.syncope.core.persistence.api.search.RealmSearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.attrvalue.DefaultPlainAttrValidationManager;
 import org.apache.syncope.core.persistence.common.content.KeymasterConfParamLoader;
@@ -61,6 +64,20 @@ public class CommonPersistenceContext {
         return new RealmSearchCondVisitor();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public SearchCondCache searchCondCache(final AbstractPersistenceProperties<?> props) {
+        return new SearchCondCache(props.getSearchCondCacheSize());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AllowedSchemasCache allowedSchemasCache(final AbstractPersistenceProperties<?> props) {
+        return new AllowedSchemasCache(
+                props.getAllowedSchemasCacheSize(),
+                Duration.ofSeconds(props.getAllowedSchemasCacheTtlSeconds()));
+    }
+
     @Bean
     public Validator localValidatorFactoryBean() {
         return new LocalValidatorFactoryBean();
@@ -18,8 +18,12 @@
  */
 package org.apache.syncope.core.persistence.common.content;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import javax.xml.XMLConstants;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
@@ -30,6 +34,7 @@ import javax.xml.transform.stream.StreamResult;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
 
@@ -37,6 +42,21 @@ public abstract class AbstractXMLContentExporter implements ContentExporter {
 
     protected static final Logger LOG = LoggerFactory.getLogger(ContentExporter.class);
 
+    /**
+     * Name of the archive entry listing, one per line, the names of the following entries in loading order.
+     */
+    public static final String MANIFEST = "MANIFEST";
+
+    public static final String XML_ENTRY_SUFFIX = ".xml";
+
+    public static final String BINARY_ENTRY_SUFFIX = ".bin";
+
+    protected static void writeManifest(final ZipOutputStream zip, final List<String> entries) throws IOException {
+        zip.putNextEntry(new ZipEntry(MANIFEST));
+        zip.write(String.join("\n", entries).getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
     protected TransformerHandler start(final OutputStream os) throws TransformerConfigurationException, SAXException {
         StreamResult streamResult = new StreamResult(os);
 
@@ -54,7 +74,21 @@ public abstract class AbstractXMLContentExporter implements ContentExporter {
         return handler;
     }
 
-    protected void end(final TransformerHandler handler) throws SAXException {
+    protected BinaryContentWriter startBinary(final OutputStream os) throws SAXException {
+        BinaryContentWriter handler = new BinaryContentWriter(os);
+        handler.startDocument();
+        handler.startElement("", "", ROOT_ELEMENT, new AttributesImpl());
+
+        return handler;
+    }
+
+    protected ContentHandler start(final OutputStream os, final boolean binary)
+            throws TransformerConfigurationException, SAXException {
+
+        return binary ? startBinary(os) : start(os);
+    }
+
+    protected void end(final ContentHandler handler) throws SAXException {
         handler.endElement("", "", ROOT_ELEMENT);
         handler.endDocument();
     }
@@ -18,25 +18,48 @@
  */
 package org.apache.syncope.core.persistence.common.content;
 
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 public abstract class AbstractXMLContentLoader implements ContentLoader {
 
     protected static final Logger LOG = LoggerFactory.getLogger(ContentLoader.class);
 
+    protected static final byte[] ZIP_MAGIC = { 'P', 'K', 3, 4 };
+
     protected final ConfigurableApplicationContext ctx;
 
+    /**
+     * Whether indexes shall be created after default content is loaded, rather than before: this speeds up loading
+     * large content, as indexes are built once rather than maintained at each insert.
+     */
+    protected final boolean deferIndexes;
+
     protected AbstractXMLContentLoader(final ConfigurableApplicationContext ctx) {
+        this(ctx, false);
+    }
+
+    protected AbstractXMLContentLoader(final ConfigurableApplicationContext ctx, final boolean deferIndexes) {
         this.ctx = ctx;
+        this.deferIndexes = deferIndexes;
     }
 
     @Override
@@ -50,6 +73,14 @@ public abstract class AbstractXMLContentLoader implements ContentLoader {
 
     protected abstract void createIndexes(String domain) throws IOException;
 
+    private void doCreateIndexes(final String domain) {
+        try {
+            createIndexes(domain);
+        } catch (IOException e) {
+            LOG.error("[{}] While creating indexes", domain, e);
+        }
+    }
+
     protected SAXParser saxParser()
             throws ParserConfigurationException, SAXException {
 
@@ -59,6 +90,73 @@ public abstract class AbstractXMLContentLoader implements ContentLoader {
         return factory.newSAXParser();
     }
 
+    /**
+     * Reports the given content to the given handler; content can be either XML, in compact binary format or ZIP
+     * archive as generated by {@link org.apache.syncope.core.persistence.api.content.ContentExporter#exportArchive}.
+     *
+     * @param in content
+     * @param handler SAX handler
+     * @throws Exception if anything goes wrong
+     */
+    protected void parse(final InputStream in, final DefaultHandler handler) throws Exception {
+        BufferedInputStream content = new BufferedInputStream(in);
+        content.mark(ZIP_MAGIC.length);
+        byte[] magic = content.readNBytes(ZIP_MAGIC.length);
+        content.reset();
+
+        if (Arrays.equals(ZIP_MAGIC, magic)) {
+            parseArchive(content, handler);
+        } else if (Arrays.equals(BinaryContentWriter.MAGIC, magic)) {
+            BinaryContentReader.parse(content, handler);
+        } else {
+            saxParser().parse(content, handler);
+        }
+    }
+
+    protected void parseArchive(final InputStream in, final DefaultHandler handler) throws Exception {
+        ZipInputStream zip = new ZipInputStream(in);
+
+        ZipEntry entry = zip.getNextEntry();
+        if (entry == null || !AbstractXMLContentExporter.MANIFEST.equals(entry.getName())) {
+            throw new IOException("Archive does not start with " + AbstractXMLContentExporter.MANIFEST);
+        }
+        List<String> manifest = new String(zip.readAllBytes(), StandardCharsets.UTF_8).lines().
+                filter(StringUtils::isNotBlank).toList();
+
+        // SAX parsers close their input when done: prevent this to happen with entries
+        InputStream entryIn = new FilterInputStream(zip) {
+
+            @Override
+            public void close() {
+                // nothing to do
+            }
+        };
+
+        handler.startDocument();
+
+        int index = 0;
+        for (entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            int position = manifest.indexOf(entry.getName());
+            if (position < index) {
+                LOG.warn("Skipping archive entry {}, not listed in manifest or out of order", entry.getName());
+                continue;
+            }
+            if (position > index) {
+                LOG.warn("Missing archive entries: {}", manifest.subList(index, position));
+            }
+            index = position + 1;
+
+            LOG.debug("Loading archive entry {}", entry.getName());
+            if (entry.getName().endsWith(AbstractXMLContentExporter.BINARY_ENTRY_SUFFIX)) {
+                BinaryContentReader.read(entryIn, handler);
+            } else {
+                saxParser().parse(entryIn, handler);
+            }
+        }
+
+        handler.endDocument();
+    }
+
     protected abstract void loadDefaultContent(String domain, String contentXML) throws Exception;
 
     @Override
@@ -76,10 +174,8 @@ public abstract class AbstractXMLContentLoader implements ContentLoader {
                 LOG.error("[{}] While creating views", domain, e);
             }
 
-            try {
-                createIndexes(domain);
-            } catch (IOException e) {
-                LOG.error("[{}] While creating indexes", domain, e);
+            if (!deferIndexes) {
+                doCreateIndexes(domain);
             }
 
             try {
@@ -87,6 +183,10 @@ public abstract class AbstractXMLContentLoader implements ContentLoader {
             } catch (Exception e) {
                 LOG.error("[{}] While loading default content", domain, e);
             }
+
+            if (deferIndexes) {
+                doCreateIndexes(domain);
+            }
         }
     }
 }
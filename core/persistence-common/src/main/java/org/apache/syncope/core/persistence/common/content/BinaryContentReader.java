@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.content;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads content written by {@link BinaryContentWriter}, by reporting each element to the given SAX handler as if it
+ * was parsed from XML.
+ */
+public final class BinaryContentReader {
+
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Reads the header and all records from the given input stream, wrapping them between
+     * {@link DefaultHandler#startDocument()} and {@link DefaultHandler#endDocument()}.
+     *
+     * @param in input stream
+     * @param handler SAX handler
+     * @throws IOException if content cannot be read or is not in the expected format
+     * @throws SAXException if thrown by handler
+     */
+    public static void parse(final InputStream in, final DefaultHandler handler) throws IOException, SAXException {
+        handler.startDocument();
+        read(in, handler);
+        handler.endDocument();
+    }
+
+    /**
+     * Reads the header and all records from the given input stream, without reporting document start and end: this
+     * allows to report the content of several input streams as a single document.
+     *
+     * @param in input stream
+     * @param handler SAX handler
+     * @throws IOException if content cannot be read or is not in the expected format
+     * @throws SAXException if thrown by handler
+     */
+    public static void read(final InputStream in, final DefaultHandler handler) throws IOException, SAXException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+        byte[] magic = data.readNBytes(BinaryContentWriter.MAGIC.length);
+        if (!Arrays.equals(BinaryContentWriter.MAGIC, magic)) {
+            throw new IOException("Not a binary content stream");
+        }
+        byte version = data.readByte();
+        if (version != BinaryContentWriter.VERSION) {
+            throw new IOException("Unsupported binary content version: " + version);
+        }
+
+        List<String> names = new ArrayList<>();
+        while (true) {
+            byte tag;
+            try {
+                tag = data.readByte();
+            } catch (EOFException e) {
+                throw new IOException("Unexpected end of binary content", e);
+            }
+
+            switch (tag) {
+                case BinaryContentWriter.END -> {
+                    return;
+                }
+
+                case BinaryContentWriter.NAME ->
+                    names.add(data.readUTF());
+
+                case BinaryContentWriter.ELEMENT -> {
+                    String qName = names.get(readVarInt(data));
+
+                    AttributesImpl atts = new AttributesImpl();
+                    int count = readVarInt(data);
+                    for (int i = 0; i < count; i++) {
+                        String name = names.get(readVarInt(data));
+                        String value = new String(data.readNBytes(readVarInt(data)), StandardCharsets.UTF_8);
+                        atts.addAttribute("", "", name, "CDATA", value);
+                    }
+
+                    handler.startElement("", "", qName, atts);
+                    handler.endElement("", "", qName);
+                }
+
+                default ->
+                    throw new IOException("Unexpected tag in binary content: " + tag);
+            }
+        }
+    }
+
+    private BinaryContentReader() {
+        // private constructor for static utility class
+    }
+}
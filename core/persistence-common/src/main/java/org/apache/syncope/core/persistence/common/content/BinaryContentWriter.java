@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.content;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.apache.syncope.core.persistence.api.content.ContentDealer;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * SAX handler writing the elements it receives in the compact binary format read by {@link BinaryContentReader}.
+ *
+ * The format is a header made by {@link #MAGIC} and {@link #VERSION}, followed by a sequence of records, each starting
+ * with a byte tag:
+ * <ul>
+ * <li>{@link #NAME}: defines the next element or attribute name, as modified UTF-8; names are then referred to by
+ * their definition order</li>
+ * <li>{@link #ELEMENT}: an element, as name reference, attribute count and, for each attribute, name reference and
+ * length-prefixed UTF-8 value</li>
+ * <li>{@link #END}: end of content</li>
+ * </ul>
+ * All integers are written as unsigned variable-length quantities.
+ */
+public class BinaryContentWriter extends DefaultHandler {
+
+    public static final byte[] MAGIC = { 'S', 'Y', 'N', 'B' };
+
+    public static final byte VERSION = 1;
+
+    public static final byte END = 0;
+
+    public static final byte NAME = 1;
+
+    public static final byte ELEMENT = 2;
+
+    protected static void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    protected final DataOutputStream out;
+
+    protected final Map<String, Integer> names = new HashMap<>();
+
+    public BinaryContentWriter(final OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+    }
+
+    protected int name(final String name) throws IOException {
+        Integer id = names.get(name);
+        if (id == null) {
+            id = names.size();
+            names.put(name, id);
+
+            out.writeByte(NAME);
+            out.writeUTF(name);
+        }
+        return id;
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+        try {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes atts)
+            throws SAXException {
+
+        // skip root element
+        if (ContentDealer.ROOT_ELEMENT.equals(qName)) {
+            return;
+        }
+
+        try {
+            int element = name(qName);
+
+            // null values are not written, as XML has no way to represent them other than by omitting the attribute
+            List<Integer> indexes = IntStream.range(0, atts.getLength()).
+                    filter(i -> atts.getValue(i) != null).boxed().toList();
+            int[] attNames = new int[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                attNames[i] = name(atts.getQName(indexes.get(i)));
+            }
+
+            out.writeByte(ELEMENT);
+            writeVarInt(out, element);
+            writeVarInt(out, indexes.size());
+            for (int i = 0; i < indexes.size(); i++) {
+                writeVarInt(out, attNames[i]);
+
+                byte[] value = atts.getValue(indexes.get(i)).getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, value.length);
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+        try {
+            out.writeByte(END);
+            out.flush();
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+    }
+}
@@ -18,17 +18,36 @@
  */
 package org.apache.syncope.core.persistence.common.dao;
 
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -40,27 +59,160 @@ import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements AnySearchDAO {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AnySearchDAO.class);
 
+    /**
+     * Page request fetching one element more than the wrapped page, to find out whether a next page exists.
+     */
+    protected static class LookaheadPageRequest extends PageRequest {
+
+        private static final long serialVersionUID = 2398409417493498154L;
+
+        protected LookaheadPageRequest(final Pageable pageable) {
+            super(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+
+        @Override
+        public int getPageSize() {
+            return super.getPageSize() + 1;
+        }
+
+        @Override
+        public long getOffset() {
+            return (long) getPageNumber() * super.getPageSize();
+        }
+    }
+
     private static final Set<String> ORDER_BY_NOT_ALLOWED = Set.of(
             "serialVersionUID", "password", "securityQuestion", "securityAnswer", "token", "tokenExpireTime");
 
     protected static final Set<String> RELATIONSHIP_FIELDS = Set.of("realm", "uManager", "gManager");
 
+    /**
+     * Fields and plain schemas requested for projection, once validated.
+     *
+     * @param fields entity fields, besides the key
+     * @param plainSchemas plain schema keys
+     */
+    protected record ProjectionFields(List<String> fields, Set<String> plainSchemas) {
+
+    }
+
+    protected static final String KEYSET_SEPARATOR = "\0";
+
+    protected static final String KEYSET_VALUE = "=";
+
+    protected static String keysetSignature(final List<Sort.Order> orderBy) {
+        return orderBy.stream().
+                map(clause -> clause.getProperty() + ':' + clause.getDirection().name()).
+                collect(Collectors.joining(","));
+    }
+
+    protected static String encodeKeyset(final List<Sort.Order> orderBy, final List<String> values) {
+        List<String> parts = new ArrayList<>();
+        parts.add(keysetSignature(orderBy));
+        // distinguish null values from empty strings
+        values.forEach(value -> parts.add(value == null ? StringUtils.EMPTY : KEYSET_VALUE + value));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                String.join(KEYSET_SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static List<String> decodeKeyset(final List<Sort.Order> orderBy, final String after) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).
+                    split(KEYSET_SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + after, e);
+        }
+
+        if (parts.length != orderBy.size() + 1 || !keysetSignature(orderBy).equals(parts[0])) {
+            throw new IllegalArgumentException("Cursor " + after + " does not match ordering " + orderBy);
+        }
+
+        return Stream.of(parts).skip(1).
+                map(part -> part.isEmpty() ? null : part.substring(KEYSET_VALUE.length())).
+                toList();
+    }
+
+    protected static SearchCond keysetCond(final String property, final AttrCond.Type type, final String value) {
+        AnyCond cond = new AnyCond(type);
+        cond.setSchema(property);
+        cond.setExpression(value);
+        return SearchCond.of(cond);
+    }
+
+    /**
+     * Builds the condition selecting the elements following the ones with the given sort key values, e.g. for
+     * {@code username ASC, id ASC}: {@code username > v1 OR (username == v1 AND id > v2)}.
+     * Null values are matched via {@code IS NULL} / {@code IS NOT NULL}, according to where the backend sorts them.
+     *
+     * @param orderBy ordering clauses
+     * @param values sort key values of the last element of the previous slice
+     * @param nullsLargest whether null values are sorted as larger than any other value
+     * @return seek condition
+     */
+    protected static SearchCond buildKeysetCond(
+            final List<Sort.Order> orderBy,
+            final List<String> values,
+            final boolean nullsLargest) {
+
+        List<SearchCond> alternatives = new ArrayList<>();
+        for (int i = 0; i < orderBy.size(); i++) {
+            List<SearchCond> conditions = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                conditions.add(values.get(j) == null
+                        ? keysetCond(orderBy.get(j).getProperty(), AttrCond.Type.ISNULL, null)
+                        : keysetCond(orderBy.get(j).getProperty(), AttrCond.Type.EQ, values.get(j)));
+            }
+
+            String property = orderBy.get(i).getProperty();
+            boolean nullsFollow = orderBy.get(i).isAscending() == nullsLargest;
+            if (values.get(i) == null) {
+                if (nullsFollow) {
+                    // nothing follows null values for this clause
+                    continue;
+                }
+                conditions.add(keysetCond(property, AttrCond.Type.ISNOTNULL, null));
+            } else {
+                SearchCond seek = keysetCond(
+                        property,
+                        orderBy.get(i).isAscending() ? AttrCond.Type.GT : AttrCond.Type.LT,
+                        values.get(i));
+                conditions.add(nullsFollow
+                        ? SearchCond.or(seek, keysetCond(property, AttrCond.Type.ISNULL, null))
+                        : seek);
+            }
+
+            alternatives.add(SearchCond.and(conditions));
+        }
+
+        return SearchCond.or(alternatives);
+    }
+
     protected static SearchCond buildEffectiveCond(
             final SearchCond cond,
             final Set<Pair<AnyTypeKind, String>> managed,
@@ -93,6 +245,10 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
 
     protected final AnyObjectDAO anyObjectDAO;
 
+    protected final DerSchemaDAO derSchemaDAO;
+
+    protected final DerAttrValueDAO derAttrValueDAO;
+
     protected final AnyUtilsFactory anyUtilsFactory;
 
     public AbstractAnySearchDAO(
@@ -101,6 +257,8 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator) {
@@ -108,9 +266,23 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
         super(plainSchemaDAO, userDAO, groupDAO, entityFactory, validator);
         this.realmSearchDAO = realmSearchDAO;
         this.anyObjectDAO = anyObjectDAO;
+        this.derSchemaDAO = derSchemaDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
         this.anyUtilsFactory = anyUtilsFactory;
     }
 
+    /**
+     * Returns the materialized derived schema with given key, if no plain schema with the same key exists.
+     *
+     * @param schema schema key
+     * @return materialized derived schema, if found
+     */
+    protected Optional<? extends DerSchema> findMaterialized(final String schema) {
+        return plainSchemaDAO.existsById(schema)
+                ? Optional.empty()
+                : derSchemaDAO.findById(schema).filter(DerSchema::isMaterialized);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public <A extends Any> List<A> findByDerAttrValue(
@@ -119,6 +291,19 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
             final boolean ignoreCaseMatch,
             final AnyTypeKind anyTypeKind) {
 
+        // materialized values cannot be relied upon while being rebuilt
+        Optional<? extends DerSchema> materialized = derSchemaDAO.findByExpressionAndMaterializedTrue(expression).
+                stream().filter(schema -> !schema.isMaterializationPending()).findFirst();
+        if (materialized.isPresent()) {
+            List<String> owners = derAttrValueDAO.findOwners(materialized.get().getKey(), value, ignoreCaseMatch);
+
+            LOG.debug("Found {} owners via materialized {}: {}", anyTypeKind, materialized.get().getKey(), owners);
+
+            return owners.isEmpty()
+                    ? List.of()
+                    : anyUtilsFactory.getInstance(anyTypeKind).<A>dao().findByKeys(owners);
+        }
+
         List<SearchCond> conditions = buildDerAttrValueConditions(expression, value, ignoreCaseMatch);
 
         LOG.debug("Generated search {} conditions: {}", anyTypeKind, conditions);
@@ -129,6 +314,21 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
     protected abstract long doCount(
             Realm base, boolean recursive, Set<String> adminRealms, SearchCond cond, AnyTypeKind kind);
 
+    protected boolean isSearchable(final Set<String> adminRealms, final SearchCond cond) {
+        if (CollectionUtils.isEmpty(adminRealms)) {
+            LOG.error("No realms provided");
+            return false;
+        }
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return false;
+        }
+
+        return true;
+    }
+
     @Override
     public long count(
             final Realm base,
@@ -137,20 +337,41 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
             final SearchCond cond,
             final AnyTypeKind kind) {
 
-        if (CollectionUtils.isEmpty(adminRealms)) {
-            LOG.error("No realms provided");
-            return 0;
-        }
+        return isSearchable(adminRealms, cond) ? doCount(base, recursive, adminRealms, cond, kind) : 0;
+    }
 
-        LOG.debug("Search condition:\n{}", cond);
-        if (cond == null || !cond.isValid()) {
-            LOG.error("Invalid search condition:\n{}", cond);
-            return 0;
-        }
+    /**
+     * Meant to be overridden where the underlying storage provides count estimations: by default, exact count is
+     * returned.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any type kind
+     * @return estimated size of search result
+     */
+    protected long doEstimateCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
 
         return doCount(base, recursive, adminRealms, cond, kind);
     }
 
+    @Override
+    public long estimateCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        return isSearchable(adminRealms, cond) ? doEstimateCount(base, recursive, adminRealms, cond, kind) : 0;
+    }
+
     @Override
     public <T extends Any> List<T> search(final SearchCond cond, final AnyTypeKind kind) {
         return search(cond, List.of(), kind);
@@ -226,11 +447,15 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
         return members;
     }
 
-    @SuppressWarnings("unchecked")
-    protected <T extends Any> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
-        List<String> keys = raw.stream().
+    protected static List<String> keys(final List<?> raw) {
+        return raw.stream().
                 map(key -> key instanceof Object[] array ? (String) (array)[0] : ((String) key)).
                 toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T extends Any> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
+        List<String> keys = keys(raw);
 
         // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual query results
         List<Any> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
@@ -242,44 +467,341 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
         return (List<T>) anys;
     }
 
+    protected List<Sort.Order> defaultOrderBy(final AnyTypeKind kind) {
+        return List.of(new Sort.Order(Sort.Direction.ASC, kind == AnyTypeKind.USER ? "username" : "name"));
+    }
+
+    protected List<Sort.Order> keysetOrderBy(final List<Sort.Order> orderBy, final AnyTypeKind kind) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(kind);
+
+        List<Sort.Order> effectiveOrderBy = new ArrayList<>();
+        for (Sort.Order clause : orderBy.isEmpty() ? defaultOrderBy(kind) : orderBy) {
+            String property = "key".equals(clause.getProperty()) ? "id" : clause.getProperty();
+
+            if ("id".equals(property)) {
+                // keys are unique: any further clause would be irrelevant
+                effectiveOrderBy.add(new Sort.Order(clause.getDirection(), property));
+                return effectiveOrderBy;
+            }
+
+            if (ORDER_BY_NOT_ALLOWED.contains(property)
+                    || anyUtils.getField(property).filter(field -> String.class.equals(field.getType())).isEmpty()) {
+
+                throw new IllegalArgumentException("Keyset pagination only supports ordering by string fields, "
+                        + "cannot order by " + property);
+            }
+            effectiveOrderBy.add(new Sort.Order(clause.getDirection(), property));
+        }
+        effectiveOrderBy.add(new Sort.Order(Sort.Direction.ASC, "id"));
+
+        return effectiveOrderBy;
+    }
+
+    /**
+     * Tells where the backend sorts null values; this is needed to seek the elements following the ones with null
+     * sort key values.
+     *
+     * @return whether null values are sorted as larger than any other value, e.g. last in ascending order
+     */
+    protected boolean nullsLargest() {
+        return true;
+    }
+
+    protected List<String> keysetValues(final Any any, final List<Sort.Order> orderBy) {
+        return orderBy.stream().map(clause -> {
+            if ("id".equals(clause.getProperty())) {
+                return any.getKey();
+            }
+
+            Object value = PropertyAccessorFactory.forBeanPropertyAccess(any).getPropertyValue(clause.getProperty());
+            return value == null ? null : value.toString();
+        }).toList();
+    }
+
     @Override
-    public <T extends Any> List<T> search(
+    public <T extends Any> KeysetSlice<T> search(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
             final SearchCond cond,
-            final Pageable pageable,
+            final List<Sort.Order> orderBy,
+            final String after,
+            final int size,
             final AnyTypeKind kind) {
 
-        if (CollectionUtils.isEmpty(adminRealms)) {
-            LOG.error("No realms provided");
-            return List.of();
-        }
+        List<Sort.Order> effectiveOrderBy = keysetOrderBy(orderBy, kind);
 
-        LOG.debug("Search condition:\n{}", cond);
-        if (cond == null || !cond.isValid()) {
-            LOG.error("Invalid search condition:\n{}", cond);
-            return List.of();
-        }
+        SearchCond effectiveCond = after == null
+                ? cond
+                : SearchCond.and(cond, buildKeysetCond(
+                        effectiveOrderBy, decodeKeyset(effectiveOrderBy, after), nullsLargest()));
+
+        Slice<T> slice = slice(
+                base,
+                recursive,
+                adminRealms,
+                effectiveCond,
+                PageRequest.of(0, size, Sort.by(effectiveOrderBy)),
+                kind);
+        return new KeysetSlice<>(
+                slice.getContent(),
+                slice.getPageable(),
+                slice.hasNext()
+                ? encodeKeyset(effectiveOrderBy, keysetValues(slice.getContent().getLast(), effectiveOrderBy))
+                : null);
+    }
 
+    protected Pageable effectivePageable(final Pageable pageable, final AnyTypeKind kind) {
         List<Sort.Order> effectiveOrderBy;
         if (pageable.getSort().isEmpty()) {
-            effectiveOrderBy = List.of(
-                    new Sort.Order(Sort.Direction.ASC, kind == AnyTypeKind.USER ? "username" : "name"));
+            effectiveOrderBy = defaultOrderBy(kind);
         } else {
             effectiveOrderBy = pageable.getSort().stream().
                     filter(clause -> !ORDER_BY_NOT_ALLOWED.contains(clause.getProperty())).
                     toList();
         }
 
-        return doSearch(
+        return pageable.isUnpaged()
+                ? Pageable.unpaged(Sort.by(effectiveOrderBy))
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy));
+    }
+
+    @Override
+    public <T extends Any> List<T> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        if (!isSearchable(adminRealms, cond)) {
+            return List.of();
+        }
+
+        return doSearch(base, recursive, adminRealms, cond, effectivePageable(pageable, kind), kind);
+    }
+
+    protected <T> Slice<T> lookahead(final Pageable pageable, final Function<Pageable, List<T>> fetch) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(fetch.apply(pageable), pageable, false);
+        }
+
+        List<T> result = fetch.apply(new LookaheadPageRequest(pageable));
+        return result.size() > pageable.getPageSize()
+                ? new SliceImpl<>(result.subList(0, pageable.getPageSize()), pageable, true)
+                : new SliceImpl<>(result, pageable, false);
+    }
+
+    @Override
+    public <T extends Any> Slice<T> slice(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        if (!isSearchable(adminRealms, cond)) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        return lookahead(
+                effectivePageable(pageable, kind),
+                effectivePageable -> doSearch(base, recursive, adminRealms, cond, effectivePageable, kind));
+    }
+
+    protected static boolean isProjectable(final Class<?> type) {
+        return type.isPrimitive()
+                || type.isEnum()
+                || String.class.equals(type)
+                || Boolean.class.equals(type)
+                || Number.class.isAssignableFrom(type)
+                || TemporalAccessor.class.isAssignableFrom(type);
+    }
+
+    protected ProjectionFields projectionFields(final Collection<String> fields, final AnyTypeKind kind) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(kind);
+
+        List<String> entityFields = new ArrayList<>();
+        Set<String> plainSchemas = new HashSet<>();
+        fields.stream().filter(field -> !"key".equals(field) && !"id".equals(field)).distinct().forEach(field -> {
+            if ("realm".equals(field)
+                    || (!ORDER_BY_NOT_ALLOWED.contains(field) && !RELATIONSHIP_FIELDS.contains(field)
+                    && anyUtils.getField(field).filter(f -> isProjectable(f.getType())).isPresent())) {
+
+                entityFields.add(field);
+            } else if (plainSchemaDAO.existsById(field)) {
+                plainSchemas.add(field);
+            } else {
+                throw new IllegalArgumentException("Cannot project " + kind + " over " + field);
+            }
+        });
+
+        return new ProjectionFields(entityFields, plainSchemas);
+    }
+
+    protected AnyProjection project(final Any any, final ProjectionFields fields) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(any.getType().getKind());
+
+        Map<String, Object> values = new HashMap<>();
+        fields.fields().forEach(field -> {
+            if ("realm".equals(field)) {
+                values.put(field, any.getRealm().getFullPath());
+            } else {
+                anyUtils.getField(field).ifPresent(f -> {
+                    ReflectionUtils.makeAccessible(f);
+                    values.put(field, ReflectionUtils.getField(f, any));
+                });
+            }
+        });
+
+        return new AnyProjection(
+                any.getKey(),
+                values,
+                any.getPlainAttrs().stream().filter(attr -> fields.plainSchemas().contains(attr.getSchema())).toList());
+    }
+
+    /**
+     * Meant to be overridden where the underlying storage allows to select the requested fields and plain schemas
+     * directly: by default, matching entities are loaded and then projected.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param pageable paging information
+     * @param kind any type kind
+     * @param fields fields and plain schemas to fetch
+     * @return projections of the any objects matching the given search condition (in the given page)
+     */
+    protected List<AnyProjection> doProject(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final ProjectionFields fields) {
+
+        return doSearch(base, recursive, adminRealms, cond, pageable, kind).stream().
+                map(any -> project(any, fields)).
+                toList();
+    }
+
+    @Override
+    public Slice<AnyProjection> project(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final Collection<String> fields) {
+
+        ProjectionFields projectionFields = projectionFields(fields, kind);
+
+        if (!isSearchable(adminRealms, cond)) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        return lookahead(
+                effectivePageable(pageable, kind),
+                effectivePageable -> doProject(
+                        base, recursive, adminRealms, cond, effectivePageable, kind, projectionFields));
+    }
+
+    /**
+     * Invoked when moving to the next chunk of a stream, meant to be overridden where the underlying storage allows
+     * to release the entities of the given chunk, already consumed.
+     *
+     * @param chunk entities already consumed
+     */
+    protected void release(final List<? extends Any> chunk) {
+        // nothing to do by default
+    }
+
+    protected <T extends Any> Stream<T> buildResult(final Stream<?> raw, final AnyTypeKind kind) {
+        Iterator<?> keys = raw.iterator();
+
+        Iterator<List<T>> chunks = new Iterator<>() {
+
+            private List<T> previous = List.of();
+
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!keys.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                release(previous);
+
+                List<Object> chunk = new ArrayList<>(AnyDAO.DEFAULT_PAGE_SIZE);
+                while (keys.hasNext() && chunk.size() < AnyDAO.DEFAULT_PAGE_SIZE) {
+                    chunk.add(keys.next());
+                }
+                previous = buildResult(chunk, kind);
+                return previous;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false).
+                flatMap(List::stream).
+                onClose(raw::close);
+    }
+
+    /**
+     * Meant to be overridden where the underlying storage supports cursors: by default, matching entities are
+     * fetched page by page.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param orderBy list of ordering clauses
+     * @param kind any type kind
+     * @param <T> any
+     * @return the stream of any objects matching the given search condition
+     */
+    protected <T extends Any> Stream<T> doStream(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<Sort.Order> orderBy,
+            final AnyTypeKind kind) {
+
+        return Stream.<Pageable>iterate(
+                PageRequest.of(0, AnyDAO.DEFAULT_PAGE_SIZE, Sort.by(orderBy)), Pageable::next).
+                map(pageable -> this.<T>doSearch(base, recursive, adminRealms, cond, pageable, kind)).
+                takeWhile(page -> !page.isEmpty()).
+                flatMap(List::stream);
+    }
+
+    @Override
+    public <T extends Any> Stream<T> stream(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<Sort.Order> orderBy,
+            final AnyTypeKind kind) {
+
+        if (!isSearchable(adminRealms, cond)) {
+            return Stream.empty();
+        }
+
+        return doStream(
                 base,
                 recursive,
                 adminRealms,
                 cond,
-                pageable.isUnpaged()
-                ? Pageable.unpaged(Sort.by(effectiveOrderBy))
-                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
+                effectivePageable(Pageable.unpaged(Sort.by(orderBy)), kind).getSort().toList(),
                 kind);
     }
 }
@@ -19,14 +19,20 @@
 package org.apache.syncope.core.persistence.common.dao;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.springframework.data.domain.PageRequest;
@@ -43,14 +49,22 @@ public abstract class AbstractRealmSearchDAO extends AbstractSearchDAO implement
             "parent", "passwordPolicy", "accountPolicy", "authPolicy", "accessPolicy", "attrReleasePolicy",
             "ticketExpirationPolicy");
 
+    protected final DerSchemaDAO derSchemaDAO;
+
+    protected final DerAttrValueDAO derAttrValueDAO;
+
     public AbstractRealmSearchDAO(
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
             final PlainAttrValidationManager validator) {
 
         super(plainSchemaDAO, userDAO, groupDAO, entityFactory, validator);
+        this.derSchemaDAO = derSchemaDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +74,25 @@ public abstract class AbstractRealmSearchDAO extends AbstractSearchDAO implement
             final String value,
             final boolean ignoreCaseMatch) {
 
+        // materialized values cannot be relied upon while being rebuilt
+        Optional<? extends DerSchema> materialized = derSchemaDAO.findByExpressionAndMaterializedTrue(expression).
+                stream().filter(schema -> !schema.isMaterializationPending()).findFirst();
+        if (materialized.isPresent()) {
+            List<String> owners = derAttrValueDAO.findOwners(materialized.get().getKey(), value, ignoreCaseMatch);
+
+            LOG.debug("Found Realm owners via materialized {}: {}", materialized.get().getKey(), owners);
+
+            return owners.isEmpty() ? List.of() : search(
+                    Set.of(SyncopeConstants.ROOT_REALM),
+                    SearchCond.or(owners.stream().map(owner -> {
+                        AnyCond keyCond = new AnyCond(AttrCond.Type.EQ);
+                        keyCond.setSchema("key");
+                        keyCond.setExpression(owner);
+                        return SearchCond.of(keyCond);
+                    }).toList()),
+                    Pageable.unpaged());
+        }
+
         List<SearchCond> conditions = buildDerAttrValueConditions(expression, value, ignoreCaseMatch);
 
         LOG.debug("Generated search Realm conditions: {}", conditions);
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
+import org.apache.syncope.core.persistence.api.dao.AnyChecker;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.RelationshipType;
+import org.apache.syncope.core.persistence.api.entity.Schema;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link AnyChecker} caching allowed schemas via {@link AllowedSchemasCache}; cached entries are invalidated upon
+ * any type and relationship type changes, while any type class and schema changes are expected to invalidate the whole
+ * domain and group type extension changes the entries involving the given group.
+ */
+public class CachingAnyChecker extends AnyChecker {
+
+    protected final AllowedSchemasCache allowedSchemasCache;
+
+    public CachingAnyChecker(final PlainSchemaDAO plainSchemaDAO, final AllowedSchemasCache allowedSchemasCache) {
+        super(plainSchemaDAO);
+        this.allowedSchemasCache = allowedSchemasCache;
+    }
+
+    protected AllowedSchemasCache.Key cacheKey(final Any any, final Class<?> reference) {
+        Set<String> groups = new HashSet<>();
+        Set<String> relationshipTypes = new HashSet<>();
+        switch (any) {
+            case User user -> {
+                user.getMemberships().forEach(memb -> groups.add(memb.getRightEnd().getKey()));
+                user.getRelationships().forEach(rel -> relationshipTypes.add(rel.getType().getKey()));
+            }
+
+            case AnyObject anyObject -> {
+                anyObject.getMemberships().forEach(memb -> groups.add(memb.getRightEnd().getKey()));
+                anyObject.getRelationships().forEach(rel -> relationshipTypes.add(rel.getType().getKey()));
+            }
+
+            default -> {
+            }
+        }
+
+        return new AllowedSchemasCache.Key(
+                reference,
+                any.getType().getKey(),
+                any.getAuxClasses().stream().map(AnyTypeClass::getKey).collect(Collectors.toSet()),
+                groups,
+                relationshipTypes);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final Any any, final Class<S> reference) {
+        return allowedSchemasCache.get(
+                AuthContextUtils.getDomain(),
+                cacheKey(any, reference),
+                () -> doFindAllowedSchemas(any, reference));
+    }
+
+    @EventListener
+    public void entityChanged(final EntityLifecycleEvent<Entity> event) {
+        switch (event.getEntity()) {
+            case AnyType anyType ->
+                allowedSchemasCache.invalidate(
+                        event.getDomain(), key -> key.anyType().equals(anyType.getKey()));
+
+            case RelationshipType relationshipType ->
+                allowedSchemasCache.invalidate(
+                        event.getDomain(), key -> key.relationshipTypes().contains(relationshipType.getKey()));
+
+            default -> {
+            }
+        }
+    }
+}
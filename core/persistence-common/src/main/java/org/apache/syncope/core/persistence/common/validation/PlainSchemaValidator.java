@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.common.validation;
 
 import jakarta.validation.ConstraintValidatorContext;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
@@ -70,6 +71,17 @@ public class PlainSchemaValidator extends AbstractValidator<PlainSchemaCheck, Pl
             return false;
         }
 
+        if (schema.isIndexed() && (schema.isMultivalue()
+                || schema.getType() == AttrSchemaType.Binary || schema.getType() == AttrSchemaType.Encrypted)) {
+
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(
+                    getTemplate(EntityViolationType.InvalidSchema,
+                            "Only single-valued, non-binary and non-encrypted schemas can be indexed")).
+                    addPropertyNode("indexed").addConstraintViolation();
+            return false;
+        }
+
         return true;
     }
 }
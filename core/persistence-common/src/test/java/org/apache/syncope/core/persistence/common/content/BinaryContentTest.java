@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.content;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.syncope.core.persistence.api.content.ContentDealer;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class BinaryContentTest {
+
+    private record Element(String name, Map<String, String> attrs) {
+
+    }
+
+    private static class RecordingHandler extends DefaultHandler {
+
+        private final List<Element> elements = new ArrayList<>();
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes atts) {
+            Map<String, String> attrs = new LinkedHashMap<>();
+            for (int i = 0; i < atts.getLength(); i++) {
+                attrs.put(atts.getQName(i), atts.getValue(i));
+            }
+            elements.add(new Element(qName, attrs));
+        }
+    }
+
+    private static AttributesImpl atts(final Map<String, String> attrs) {
+        AttributesImpl atts = new AttributesImpl();
+        attrs.forEach((name, value) -> atts.addAttribute("", "", name, "CDATA", value));
+        return atts;
+    }
+
+    private static byte[] write(final List<Element> elements) throws SAXException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        BinaryContentWriter writer = new BinaryContentWriter(baos);
+        writer.startDocument();
+        writer.startElement("", "", ContentDealer.ROOT_ELEMENT, new AttributesImpl());
+        for (Element element : elements) {
+            writer.startElement("", "", element.name(), atts(element.attrs()));
+            writer.endElement("", "", element.name());
+        }
+        writer.endElement("", "", ContentDealer.ROOT_ELEMENT);
+        writer.endDocument();
+
+        return baos.toByteArray();
+    }
+
+    private static List<Element> read(final byte[] content) throws IOException, SAXException {
+        RecordingHandler handler = new RecordingHandler();
+        BinaryContentReader.parse(new ByteArrayInputStream(content), handler);
+        return handler.elements;
+    }
+
+    @Test
+    public void roundTrip() throws Exception {
+        byte[] binary = new byte[4096];
+        new Random(42).nextBytes(binary);
+
+        Map<String, String> withNull = new LinkedHashMap<>();
+        withNull.put("id", "2");
+        withNull.put("description", null);
+        withNull.put("empty", "");
+
+        // more names than fit in a single varint byte
+        Map<String, String> manyNames = new LinkedHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            manyNames.put("attr" + i, String.valueOf(i));
+        }
+
+        List<Element> elements = List.of(
+                new Element("SyncopeUser", Map.of("id", "1", "username", "rossini", "status", "active")),
+                new Element("SyncopeUser", withNull),
+                new Element("Realm", Map.of("id", "3", "name", "/ünïcode ✓ 😀")),
+                new Element("ConnInstance", Map.of("id", "4", "jsonConf", "x".repeat(1_000_000))),
+                new Element("Implementation", Map.of("id", "5", "body", HexFormat.of().formatHex(binary))),
+                new Element("Manyattrs", manyNames),
+                new Element("Empty", Map.of()));
+
+        List<Element> read = read(write(elements));
+
+        // null values are dropped, just as absent XML attributes
+        Map<String, String> withoutNull = new LinkedHashMap<>(withNull);
+        withoutNull.remove("description");
+        List<Element> expected = new ArrayList<>(elements);
+        expected.set(1, new Element("SyncopeUser", withoutNull));
+
+        assertEquals(expected, read);
+        assertArrayEquals(binary, HexFormat.of().parseHex(read.get(4).attrs().get("body")));
+    }
+
+    @Test
+    public void empty() throws Exception {
+        assertEquals(List.of(), read(write(List.of())));
+    }
+
+    @Test
+    public void invalid() throws Exception {
+        assertThrows(IOException.class, () -> read("<syncope/>".getBytes(StandardCharsets.UTF_8)));
+
+        byte[] content = write(List.of(new Element("Realm", Map.of("id", "1"))));
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(content, content.length - 1)));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Search DAO over an in-memory list of users, supporting only the conditions on {@code id}, {@code username} and
+ * {@code status} generated by {@link AbstractAnySearchDAO} itself.
+ */
+class InMemoryAnySearchDAO extends AbstractAnySearchDAO {
+
+    /**
+     * Fields declared by users, as seen by {@link AnyUtils#getField(String)}.
+     */
+    @SuppressWarnings("unused")
+    private static class UserFields {
+
+        private String username;
+
+        private String status;
+
+        private String password;
+
+        private OffsetDateTime lastChangeDate;
+    }
+
+    private final List<User> users;
+
+    private final boolean nullsLargest;
+
+    /**
+     * Pages requested to {@link #doSearch(Realm, boolean, Set, SearchCond, Pageable, AnyTypeKind)}.
+     */
+    protected final List<Pageable> searched = new ArrayList<>();
+
+    /**
+     * Sizes of the chunks passed to {@link #release(List)}.
+     */
+    protected final List<Integer> released = new ArrayList<>();
+
+    static User user(final String key, final String username, final String status) {
+        User user = mock(User.class);
+        when(user.getKey()).thenReturn(key);
+        when(user.getUsername()).thenReturn(username);
+        when(user.getStatus()).thenReturn(status);
+        return user;
+    }
+
+    private static AnyUtils anyUtils(final List<User> users) {
+        @SuppressWarnings("unchecked")
+        AnyDAO<User> anyDAO = mock(AnyDAO.class);
+        when(anyDAO.findByKeys(anyList())).thenAnswer(ic -> {
+            List<String> keys = ic.getArgument(0);
+            return users.stream().filter(user -> keys.contains(user.getKey())).toList();
+        });
+
+        AnyUtils anyUtils = mock(AnyUtils.class);
+        when(anyUtils.getField(anyString())).thenAnswer(ic -> Optional.ofNullable(
+                FieldUtils.getField(UserFields.class, ic.getArgument(0), true)));
+        when(anyUtils.dao()).thenAnswer(ic -> anyDAO);
+        return anyUtils;
+    }
+
+    private static String value(final User user, final String property) {
+        return switch (property) {
+            case "id" ->
+                user.getKey();
+            case "username" ->
+                user.getUsername();
+            case "status" ->
+                user.getStatus();
+            default ->
+                throw new IllegalArgumentException(property);
+        };
+    }
+
+    private static boolean matches(final User user, final SearchCond cond) {
+        return switch (cond.getType()) {
+            case LEAF ->
+                matches(user, cond.asLeaf(AnyCond.class).orElseThrow());
+            case NOT_LEAF ->
+                !matches(user, cond.asLeaf(AnyCond.class).orElseThrow());
+            case AND ->
+                matches(user, cond.getLeft()) && matches(user, cond.getRight());
+            case OR ->
+                matches(user, cond.getLeft()) || matches(user, cond.getRight());
+        };
+    }
+
+    private static boolean matches(final User user, final AnyCond cond) {
+        String value = value(user, cond.getSchema());
+        return switch (cond.getType()) {
+            case ISNULL ->
+                value == null;
+            case ISNOTNULL ->
+                value != null;
+            case EQ ->
+                cond.getExpression().equals(value);
+            // as with SQL and Cypher, comparisons never match null values
+            case GT ->
+                value != null && value.compareTo(cond.getExpression()) > 0;
+            case LT ->
+                value != null && value.compareTo(cond.getExpression()) < 0;
+            default ->
+                throw new IllegalArgumentException(cond.getType().name());
+        };
+    }
+
+    InMemoryAnySearchDAO(final List<User> users, final boolean nullsLargest) {
+        super(null, null, null, null, null, null, null, null,
+                new AnyUtilsFactory(anyUtils(users), anyUtils(users), anyUtils(users)), null);
+        this.users = users;
+        this.nullsLargest = nullsLargest;
+    }
+
+    InMemoryAnySearchDAO(final List<User> users) {
+        this(users, true);
+    }
+
+    @Override
+    protected boolean nullsLargest() {
+        return nullsLargest;
+    }
+
+    @Override
+    protected long doCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        return users.stream().filter(user -> matches(user, cond)).count();
+    }
+
+    /**
+     * Keys of the users matching the given condition, sorted as requested.
+     *
+     * @param cond search condition
+     * @param sort sort
+     * @return matching user keys
+     */
+    List<String> keys(final SearchCond cond, final Sort sort) {
+        return sorted(cond, sort).map(User::getKey).toList();
+    }
+
+    private Stream<User> sorted(final SearchCond cond, final Sort sort) {
+        Comparator<String> values = nullsLargest
+                ? Comparator.nullsLast(Comparator.naturalOrder())
+                : Comparator.nullsFirst(Comparator.naturalOrder());
+
+        Comparator<User> comparator = (user1, user2) -> 0;
+        for (Sort.Order clause : sort) {
+            Comparator<User> byClause = Comparator.comparing(user -> value(user, clause.getProperty()), values);
+            comparator = comparator.thenComparing(clause.isAscending() ? byClause : byClause.reversed());
+        }
+
+        return users.stream().filter(user -> matches(user, cond)).sorted(comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected <T extends Any> List<T> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond searchCondition,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        searched.add(pageable);
+
+        return (List<T>) sorted(searchCondition, pageable.getSort()).
+                skip(pageable.getOffset()).
+                limit(pageable.getPageSize()).
+                toList();
+    }
+
+    @Override
+    protected void release(final List<? extends Any> chunk) {
+        if (!chunk.isEmpty()) {
+            released.add(chunk.size());
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Backend-independent checks for keyset pagination: cursors, seek conditions and slicing are verified against
+ * {@link InMemoryAnySearchDAO}, while JPA and Neo4j tests only cover the translation to their own query languages.
+ */
+public class KeysetSearchTest {
+
+    private static final InMemoryAnySearchDAO SEARCH_DAO = new InMemoryAnySearchDAO(List.of(
+            InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000001", "rossini", "active"),
+            InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000002", "verdi", "suspended"),
+            InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000003", "bellini", "active"),
+            InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000004", "puccini", "active"),
+            InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000005", "vivaldi", "suspended")));
+
+    private static KeysetSlice<User> slice(
+            final InMemoryAnySearchDAO searchDAO,
+            final List<Sort.Order> orderBy,
+            final String after,
+            final int size) {
+
+        return searchDAO.search(
+                null,
+                true,
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                searchDAO.getAllMatchingCond(),
+                orderBy,
+                after,
+                size,
+                AnyTypeKind.USER);
+    }
+
+    private static KeysetSlice<User> slice(final List<Sort.Order> orderBy, final String after, final int size) {
+        return slice(SEARCH_DAO, orderBy, after, size);
+    }
+
+    /**
+     * Walks all slices for the given ordering.
+     *
+     * @param searchDAO search DAO
+     * @param orderBy ordering clauses
+     * @param size slice size
+     * @return usernames, by slice
+     */
+    private static List<List<String>> slices(
+            final InMemoryAnySearchDAO searchDAO,
+            final List<Sort.Order> orderBy,
+            final int size) {
+
+        List<List<String>> slices = new ArrayList<>();
+
+        String after = null;
+        do {
+            KeysetSlice<User> slice = slice(searchDAO, orderBy, after, size);
+            slices.add(slice.stream().map(User::getUsername).toList());
+
+            after = slice.getAfter().orElse(null);
+            assertEquals(after != null, slice.hasNext());
+        } while (after != null);
+
+        return slices;
+    }
+
+    private static List<List<String>> slices(final List<Sort.Order> orderBy, final int size) {
+        return slices(SEARCH_DAO, orderBy, size);
+    }
+
+    private static SearchCond cond(final String schema, final AttrCond.Type type, final String expression) {
+        AnyCond cond = new AnyCond(type);
+        cond.setSchema(schema);
+        cond.setExpression(expression);
+        return SearchCond.of(cond);
+    }
+
+    @Test
+    public void byUsername() {
+        assertEquals(
+                List.of(List.of("bellini", "puccini"), List.of("rossini", "verdi"), List.of("vivaldi")),
+                slices(List.of(Sort.Order.asc("username")), 2));
+
+        // default ordering for users is by username
+        assertEquals(
+                List.of(List.of("bellini", "puccini", "rossini"), List.of("verdi", "vivaldi")),
+                slices(List.of(), 3));
+    }
+
+    @Test
+    public void tieBreaker() {
+        // second slice boundary falls among users with the same status: the key breaks the tie
+        assertEquals(
+                List.of(List.of("verdi", "vivaldi"), List.of("rossini", "bellini"), List.of("puccini")),
+                slices(List.of(Sort.Order.desc("status")), 2));
+    }
+
+    @Test
+    public void nullValues() {
+        List<User> users = List.of(
+                InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000001", "rossini", "active"),
+                InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000002", "verdi", null),
+                InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000003", "bellini", "active"),
+                InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000004", "puccini", null),
+                InMemoryAnySearchDAO.user("00000000-0000-0000-0000-000000000005", "vivaldi", "suspended"));
+        InMemoryAnySearchDAO nullsLargest = new InMemoryAnySearchDAO(users, true);
+        InMemoryAnySearchDAO nullsSmallest = new InMemoryAnySearchDAO(users, false);
+
+        // whatever the slice size, hence wherever slice boundaries fall among null values, no user is lost
+        for (int size = 1; size <= users.size(); size++) {
+            assertEquals(
+                    List.of("rossini", "bellini", "vivaldi", "verdi", "puccini"),
+                    slices(nullsLargest, List.of(Sort.Order.asc("status")), size).stream().
+                            flatMap(List::stream).toList());
+            assertEquals(
+                    List.of("verdi", "puccini", "vivaldi", "rossini", "bellini"),
+                    slices(nullsLargest, List.of(Sort.Order.desc("status")), size).stream().
+                            flatMap(List::stream).toList());
+            assertEquals(
+                    List.of("verdi", "puccini", "rossini", "bellini", "vivaldi"),
+                    slices(nullsSmallest, List.of(Sort.Order.asc("status")), size).stream().
+                            flatMap(List::stream).toList());
+            assertEquals(
+                    List.of("vivaldi", "rossini", "bellini", "verdi", "puccini"),
+                    slices(nullsSmallest, List.of(Sort.Order.desc("status")), size).stream().
+                            flatMap(List::stream).toList());
+        }
+    }
+
+    @Test
+    public void byKey() {
+        assertEquals(
+                List.of(List.of("vivaldi", "puccini", "bellini"), List.of("verdi", "rossini")),
+                slices(List.of(Sort.Order.desc("key")), 3));
+    }
+
+    @Test
+    public void seekCond() {
+        List<Sort.Order> orderBy = List.of(Sort.Order.desc("status"), Sort.Order.asc("id"));
+
+        assertEquals(
+                SearchCond.or(
+                        cond("status", AttrCond.Type.LT, "active"),
+                        SearchCond.and(
+                                cond("status", AttrCond.Type.EQ, "active"),
+                                cond("id", AttrCond.Type.GT, "00000000-0000-0000-0000-000000000003"))),
+                AbstractAnySearchDAO.buildKeysetCond(
+                        orderBy, List.of("active", "00000000-0000-0000-0000-000000000003"), true));
+
+        // null values follow when descending and sorted as smallest
+        assertEquals(
+                SearchCond.or(
+                        SearchCond.or(
+                                cond("status", AttrCond.Type.LT, "active"),
+                                cond("status", AttrCond.Type.ISNULL, null)),
+                        SearchCond.and(
+                                cond("status", AttrCond.Type.EQ, "active"),
+                                cond("id", AttrCond.Type.GT, "00000000-0000-0000-0000-000000000003"))),
+                AbstractAnySearchDAO.buildKeysetCond(
+                        orderBy, List.of("active", "00000000-0000-0000-0000-000000000003"), false));
+
+        // null values come first when descending and sorted as largest: any other value follows
+        assertEquals(
+                SearchCond.or(
+                        cond("status", AttrCond.Type.ISNOTNULL, null),
+                        SearchCond.and(
+                                cond("status", AttrCond.Type.ISNULL, null),
+                                cond("id", AttrCond.Type.GT, "00000000-0000-0000-0000-000000000003"))),
+                AbstractAnySearchDAO.buildKeysetCond(
+                        orderBy, Arrays.asList(null, "00000000-0000-0000-0000-000000000003"), true));
+
+        assertEquals(
+                List.of("active", "00000000-0000-0000-0000-000000000003"),
+                AbstractAnySearchDAO.decodeKeyset(orderBy, AbstractAnySearchDAO.encodeKeyset(
+                        orderBy, List.of("active", "00000000-0000-0000-0000-000000000003"))));
+
+        // null values and empty strings are told apart
+        assertEquals(
+                Arrays.asList(null, "00000000-0000-0000-0000-000000000003"),
+                AbstractAnySearchDAO.decodeKeyset(orderBy, AbstractAnySearchDAO.encodeKeyset(
+                        orderBy, Arrays.asList(null, "00000000-0000-0000-0000-000000000003"))));
+        assertEquals(
+                List.of("", "00000000-0000-0000-0000-000000000003"),
+                AbstractAnySearchDAO.decodeKeyset(orderBy, AbstractAnySearchDAO.encodeKeyset(
+                        orderBy, List.of("", "00000000-0000-0000-0000-000000000003"))));
+    }
+
+    @Test
+    public void invalid() {
+        // not a string field
+        assertThrows(IllegalArgumentException.class, () -> slice(List.of(Sort.Order.asc("lastChangeDate")), null, 2));
+        // not allowed for ordering
+        assertThrows(IllegalArgumentException.class, () -> slice(List.of(Sort.Order.asc("password")), null, 2));
+        // unknown field
+        assertThrows(IllegalArgumentException.class, () -> slice(List.of(Sort.Order.asc("notfound")), null, 2));
+
+        // cursor not matching the requested ordering
+        String after = slice(List.of(Sort.Order.asc("username")), null, 2).getAfter().orElseThrow();
+        assertTrue(slice(List.of(Sort.Order.asc("username")), after, 2).hasContent());
+        assertThrows(IllegalArgumentException.class, () -> slice(List.of(Sort.Order.desc("username")), after, 2));
+
+        // garbage
+        assertThrows(IllegalArgumentException.class, () -> slice(List.of(Sort.Order.asc("username")), "***", 2));
+    }
+}
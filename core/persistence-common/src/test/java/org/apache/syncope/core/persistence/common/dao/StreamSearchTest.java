@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.common.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Backend-independent checks for stream search: paging of the default implementation and chunking of raw results
+ * are verified against {@link InMemoryAnySearchDAO}, while the JPA test only covers its own scrolling.
+ */
+public class StreamSearchTest {
+
+    private static final int COUNT = 2 * AnyDAO.DEFAULT_PAGE_SIZE + 1;
+
+    private static final List<User> USERS = IntStream.range(0, COUNT).
+            mapToObj(i -> InMemoryAnySearchDAO.user(
+                    String.format("00000000-0000-0000-0000-%012d", i),
+                    String.format("user%04d", COUNT - i),
+                    "active")).
+            toList();
+
+    private static Stream<User> stream(final InMemoryAnySearchDAO searchDAO, final Set<String> adminRealms) {
+        return searchDAO.<User>stream(
+                null,
+                true,
+                adminRealms,
+                searchDAO.getAllMatchingCond(),
+                List.of(),
+                AnyTypeKind.USER);
+    }
+
+    @Test
+    public void pages() {
+        InMemoryAnySearchDAO searchDAO = new InMemoryAnySearchDAO(USERS);
+
+        try (Stream<User> users = stream(searchDAO, SyncopeConstants.FULL_ADMIN_REALMS)) {
+            // default ordering for users is by username
+            assertEquals(
+                    USERS.stream().map(User::getUsername).sorted().toList(),
+                    users.map(User::getUsername).toList());
+        }
+
+        // three non-empty pages, then the empty one stopping the stream
+        assertEquals(4, searchDAO.searched.size());
+        searchDAO.searched.forEach(pageable -> {
+            assertEquals(AnyDAO.DEFAULT_PAGE_SIZE, pageable.getPageSize());
+            assertEquals(Sort.by(Sort.Order.asc("username")), pageable.getSort());
+        });
+    }
+
+    @Test
+    public void lazy() {
+        InMemoryAnySearchDAO searchDAO = new InMemoryAnySearchDAO(USERS);
+
+        try (Stream<User> users = stream(searchDAO, SyncopeConstants.FULL_ADMIN_REALMS)) {
+            assertEquals(AnyDAO.DEFAULT_PAGE_SIZE, users.limit(AnyDAO.DEFAULT_PAGE_SIZE).count());
+        }
+
+        // no further page is requested than needed
+        assertEquals(1, searchDAO.searched.size());
+    }
+
+    @Test
+    public void chunks() {
+        InMemoryAnySearchDAO searchDAO = new InMemoryAnySearchDAO(USERS);
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Object> raw = USERS.stream().<Object>map(User::getKey).onClose(() -> closed.set(true));
+
+        try (Stream<User> users = searchDAO.buildResult(raw, AnyTypeKind.USER)) {
+            assertEquals(USERS, users.toList());
+        }
+
+        // each chunk is released when moving to the next one, the last is left to the caller
+        assertEquals(List.of(AnyDAO.DEFAULT_PAGE_SIZE, AnyDAO.DEFAULT_PAGE_SIZE), searchDAO.released);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void notSearchable() {
+        InMemoryAnySearchDAO searchDAO = new InMemoryAnySearchDAO(USERS);
+
+        try (Stream<User> users = stream(searchDAO, Set.of())) {
+            assertEquals(0, users.count());
+        }
+        assertTrue(searchDAO.searched.isEmpty());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManagerFactory;
 import java.io.Serializable;
+import java.util.List;
 import javax.cache.event.CacheEntryCreatedListener;
 import javax.cache.event.CacheEntryEvent;
 import javax.cache.event.CacheEntryListenerException;
@@ -28,6 +29,7 @@ import javax.cache.event.CacheEntryUpdatedListener;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.jpa.entity.JPAConnInstance;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.hibernate.cache.spi.CacheImplementor;
@@ -103,6 +105,22 @@ public class ConnectorManagerRemoteCommitListener
                 () -> LOG.debug("No resource found for '{}', ignoring", resourceKey)));
     }
 
+    /**
+     * Reacts to invalidations received from other nodes via
+     * {@link org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationChannel}: external resources are
+     * already taken care of by {@link #onRemoved(java.lang.Iterable)} upon eviction, while connectors need to be
+     * explicitly registered again for all their resources.
+     *
+     * @param invalidations invalidations received
+     */
+    public void onInvalidated(final List<CacheInvalidation> invalidations) {
+        invalidations.stream().
+                filter(invalidation -> invalidation.type() == CacheInvalidation.Type.ENTITY
+                && JPAConnInstance.class.getName().equals(invalidation.region())
+                && invalidation.key() != null).
+                forEach(invalidation -> registerForConnInstance(invalidation.key()));
+    }
+
     @Override
     public void onCreated(final Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events)
             throws CacheEntryListenerException {
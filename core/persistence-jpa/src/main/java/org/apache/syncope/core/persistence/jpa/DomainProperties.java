@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.jpa;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.syncope.common.keymaster.client.api.model.JPADomain;
 import org.apache.syncope.core.persistence.common.AbstractDomainProperties;
 
@@ -44,6 +46,10 @@ public class DomainProperties extends AbstractDomainProperties {
 
     private String databasePlatform;
 
+    private final List<String> replicaJdbcURLs = new ArrayList<>();
+
+    private int replicaMaxLag;
+
     public String getJdbcDriver() {
         return jdbcDriver;
     }
@@ -123,4 +129,16 @@ public class DomainProperties extends AbstractDomainProperties {
     public void setDatabasePlatform(final String databasePlatform) {
         this.databasePlatform = databasePlatform;
     }
+
+    public List<String> getReplicaJdbcURLs() {
+        return replicaJdbcURLs;
+    }
+
+    public int getReplicaMaxLag() {
+        return replicaMaxLag;
+    }
+
+    public void setReplicaMaxLag(final int replicaMaxLag) {
+        this.replicaMaxLag = replicaMaxLag;
+    }
 }
@@ -20,9 +20,13 @@ package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManager;
 import java.util.TimeZone;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -31,8 +35,14 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.AuditEventPartitioner;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLAuditEventPartitioner;
 import org.apache.syncope.core.persistence.jpa.dao.MySQLJPAAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLJPADerAttrValueDAO;
 import org.apache.syncope.core.persistence.jpa.dao.MySQLJPARealmSearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLPlainSchemaIndexer;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.MySQLPlainSchemaRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PlainSchemaRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.MySQLEntityFactory;
@@ -81,9 +91,13 @@ public class MySQLPersistenceContext {
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final @Lazy PlainSchemaDAO schemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final @Lazy DerAttrValueDAO derAttrValueDAO,
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final MySQLPlainSchemaIndexer plainSchemaIndexer,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
         return new MySQLJPAAnySearchDAO(
@@ -92,9 +106,13 @@ public class MySQLPersistenceContext {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
+                plainSchemaIndexer,
+                anySearchQueryCache,
                 entityManager);
     }
 
@@ -103,20 +121,35 @@ public class MySQLPersistenceContext {
     public RealmSearchDAO realmSearchDAO(
             final EntityManager entityManager,
             final @Lazy PlainSchemaDAO plainSchemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final @Lazy DerAttrValueDAO derAttrValueDAO,
             final @Lazy UserDAO userDAO,
             final @Lazy GroupDAO groupDAO,
             final @Lazy EntityFactory entityFactory,
             final PlainAttrValidationManager validator,
-            final RealmUtils realmUtils) {
+            final RealmUtils realmUtils,
+            final RealmTreeCache realmTreeCache) {
 
         return new MySQLJPARealmSearchDAO(
                 entityManager,
                 plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 userDAO,
                 groupDAO,
                 entityFactory,
                 validator,
-                realmUtils);
+                realmUtils,
+                realmTreeCache);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public MySQLPlainSchemaIndexer plainSchemaIndexer(
+            final DomainHolder<DataSource> domainHolder,
+            final @Lazy PlainSchemaDAO plainSchemaDAO) {
+
+        return new MySQLPlainSchemaIndexer(domainHolder, plainSchemaDAO);
     }
 
     @ConditionalOnMissingBean
@@ -124,8 +157,27 @@ public class MySQLPersistenceContext {
     public PlainSchemaRepoExt plainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
+            final MySQLPlainSchemaIndexer plainSchemaIndexer,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        return new MySQLPlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, entityManager);
+        return new MySQLPlainSchemaRepoExtImpl(
+                anyUtilsFactory, resourceDAO, plainSchemaIndexer, anySearchQueryCache, entityManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditEventPartitioner auditEventPartitioner(
+            final DomainHolder<DataSource> domainHolder,
+            final PersistenceProperties props) {
+
+        return new MySQLAuditEventPartitioner(
+                domainHolder, props.getAuditEventPartitioning(), props.getAuditEventPartitionsAhead());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrValueDAO derAttrValueDAO(final EntityManager entityManager) {
+        return new MySQLJPADerAttrValueDAO(entityManager);
     }
 }
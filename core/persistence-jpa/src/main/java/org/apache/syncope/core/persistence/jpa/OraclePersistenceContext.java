@@ -19,9 +19,13 @@
 package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -30,8 +34,12 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.AuditEventPartitioner;
 import org.apache.syncope.core.persistence.jpa.dao.OracleJPAAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.OracleJPADerAttrValueDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OracleJPARealmSearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.OraclePlainSchemaRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PlainSchemaRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.OracleEntityFactory;
@@ -60,9 +68,12 @@ public class OraclePersistenceContext {
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final @Lazy PlainSchemaDAO schemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final @Lazy DerAttrValueDAO derAttrValueDAO,
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
         return new OracleJPAAnySearchDAO(
@@ -71,9 +82,12 @@ public class OraclePersistenceContext {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
+                anySearchQueryCache,
                 entityManager);
     }
 
@@ -82,20 +96,26 @@ public class OraclePersistenceContext {
     public RealmSearchDAO realmSearchDAO(
             final EntityManager entityManager,
             final @Lazy PlainSchemaDAO plainSchemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final @Lazy DerAttrValueDAO derAttrValueDAO,
             final @Lazy UserDAO userDAO,
             final @Lazy GroupDAO groupDAO,
             final @Lazy EntityFactory entityFactory,
             final PlainAttrValidationManager validator,
-            final RealmUtils realmUtils) {
+            final RealmUtils realmUtils,
+            final RealmTreeCache realmTreeCache) {
 
         return new OracleJPARealmSearchDAO(
                 entityManager,
                 plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 userDAO,
                 groupDAO,
                 entityFactory,
                 validator,
-                realmUtils);
+                realmUtils,
+                realmTreeCache);
     }
 
     @ConditionalOnMissingBean
@@ -104,8 +124,26 @@ public class OraclePersistenceContext {
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
             final @Lazy PlainSchemaDAO plainSchemaDAO,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        return new OraclePlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, plainSchemaDAO, entityManager);
+        return new OraclePlainSchemaRepoExtImpl(
+                anyUtilsFactory, resourceDAO, plainSchemaDAO, anySearchQueryCache, entityManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditEventPartitioner auditEventPartitioner(
+            final DomainHolder<DataSource> domainHolder,
+            final PersistenceProperties props) {
+
+        return new AuditEventPartitioner(
+                domainHolder, props.getAuditEventPartitioning(), props.getAuditEventPartitionsAhead());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrValueDAO derAttrValueDAO(final EntityManager entityManager) {
+        return new OracleJPADerAttrValueDAO(entityManager);
     }
 }
@@ -19,9 +19,14 @@
 package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -30,13 +35,21 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.content.PGXMLContentExporter;
+import org.apache.syncope.core.persistence.jpa.content.XMLContentExporter;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.AuditEventPartitioner;
+import org.apache.syncope.core.persistence.jpa.dao.PGAuditEventPartitioner;
 import org.apache.syncope.core.persistence.jpa.dao.PGJPAAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.PGJPADerAttrValueDAO;
 import org.apache.syncope.core.persistence.jpa.dao.PGJPARealmSearchDAO;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PGPlainSchemaRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PlainSchemaRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.PGEntityFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -61,9 +74,12 @@ public class PGPersistenceContext {
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final @Lazy PlainSchemaDAO schemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final @Lazy DerAttrValueDAO derAttrValueDAO,
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
         return new PGJPAAnySearchDAO(
@@ -72,9 +88,12 @@ public class PGPersistenceContext {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
+                anySearchQueryCache,
                 entityManager);
     }
 
@@ -83,20 +102,26 @@ public class PGPersistenceContext {
     public RealmSearchDAO realmSearchDAO(
             final EntityManager entityManager,
             final @Lazy PlainSchemaDAO plainSchemaDAO,
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final @Lazy DerAttrValueDAO derAttrValueDAO,
             final @Lazy UserDAO userDAO,
             final @Lazy GroupDAO groupDAO,
             final @Lazy EntityFactory entityFactory,
             final PlainAttrValidationManager validator,
-            final RealmUtils realmUtils) {
+            final RealmUtils realmUtils,
+            final RealmTreeCache realmTreeCache) {
 
         return new PGJPARealmSearchDAO(
                 entityManager,
                 plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 userDAO,
                 groupDAO,
                 entityFactory,
                 validator,
-                realmUtils);
+                realmUtils,
+                realmTreeCache);
     }
 
     @ConditionalOnMissingBean
@@ -104,8 +129,38 @@ public class PGPersistenceContext {
     public PlainSchemaRepoExt plainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        return new PGPlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, entityManager);
+        return new PGPlainSchemaRepoExtImpl(
+                anyUtilsFactory, resourceDAO, domainHolder, anySearchQueryCache, entityManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditEventPartitioner auditEventPartitioner(
+            final DomainHolder<DataSource> domainHolder,
+            final PersistenceProperties props) {
+
+        return new PGAuditEventPartitioner(
+                domainHolder, props.getAuditEventPartitioning(), props.getAuditEventPartitionsAhead());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrValueDAO derAttrValueDAO(final EntityManager entityManager) {
+        return new PGJPADerAttrValueDAO(entityManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public XMLContentExporter xmlContentExporter(
+            final DomainHolder<DataSource> domainHolder,
+            final RealmSearchDAO realmSearchDAO,
+            final EntityManagerFactory entityManagerFactory,
+            final ConfigurableApplicationContext ctx) {
+
+        return new PGXMLContentExporter(domainHolder, realmSearchDAO, entityManagerFactory, ctx);
     }
 }
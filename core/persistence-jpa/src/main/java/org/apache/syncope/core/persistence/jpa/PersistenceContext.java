@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.ValidationMode;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.DomainRegistry;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -85,8 +87,11 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.persistence.common.CommonPersistenceContext;
 import org.apache.syncope.core.persistence.common.RuntimeDomainLoader;
+import org.apache.syncope.core.persistence.common.dao.CachingAnyChecker;
 import org.apache.syncope.core.persistence.jpa.content.XMLContentExporter;
 import org.apache.syncope.core.persistence.jpa.content.XMLContentLoader;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.AuditEventPartitioner;
 import org.apache.syncope.core.persistence.jpa.dao.JPAAnyMatchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAAuditEventDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPABatchDAO;
@@ -98,6 +103,7 @@ import org.apache.syncope.core.persistence.jpa.dao.JPAPolicyDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPARealmDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPATaskDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPATaskExecDAO;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepo;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepoExt;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepoExtImpl;
@@ -181,16 +187,21 @@ import org.apache.syncope.core.persistence.jpa.dao.repo.UserRepoExt;
 import org.apache.syncope.core.persistence.jpa.dao.repo.UserRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.WAConfigRepo;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationChannel;
+import org.apache.syncope.core.persistence.jpa.hibernate.DBCacheInvalidationChannel;
 import org.apache.syncope.core.persistence.jpa.hibernate.DomainJCacheRegionFactory;
 import org.apache.syncope.core.persistence.jpa.hibernate.Jackson3JsonFormatMapper;
+import org.apache.syncope.core.persistence.jpa.hibernate.PGCacheInvalidationChannel;
 import org.apache.syncope.core.persistence.jpa.spring.CommonEntityManagerFactoryConf;
 import org.apache.syncope.core.persistence.jpa.spring.DomainRoutingEntityManagerFactory;
 import org.apache.syncope.core.persistence.jpa.spring.MultiJarAwarePersistenceUnitPostProcessor;
 import org.apache.syncope.core.persistence.jpa.spring.SyncopeJPARepository;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -246,6 +257,20 @@ public class PersistenceContext {
         return commonEMFConf;
     }
 
+    @ConditionalOnProperty(prefix = PersistenceProperties.PREFIX, name = "cache-invalidation")
+    @ConditionalOnMissingBean
+    @Bean
+    public CacheInvalidationChannel cacheInvalidationChannel(final PersistenceProperties props) {
+        Duration pollInterval = Duration.ofSeconds(props.getCacheInvalidationPollInterval());
+        Duration retention = Duration.ofSeconds(props.getCacheInvalidationRetention());
+        return switch (props.getCacheInvalidation()) {
+            case POSTGRESQL ->
+                new PGCacheInvalidationChannel(pollInterval, retention);
+            default ->
+                new DBCacheInvalidationChannel(pollInterval, retention);
+        };
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public DomainRoutingEntityManagerFactory entityManagerFactory(
@@ -254,10 +279,11 @@ public class PersistenceContext {
             final JndiObjectFactoryBean masterDataSource,
             final CommonEntityManagerFactoryConf commonEMFConf,
             final @Lazy ConnectorManager connectorManager,
-            final @Lazy ExternalResourceDAO resourceDAO) {
+            final @Lazy ExternalResourceDAO resourceDAO,
+            final ObjectProvider<CacheInvalidationChannel> cacheInvalidationChannel) {
 
         DomainRoutingEntityManagerFactory emf = new DomainRoutingEntityManagerFactory(
-                commonEMFConf, connectorManager, resourceDAO);
+                commonEMFConf, connectorManager, resourceDAO, cacheInvalidationChannel.getIfAvailable());
         emf.master(props, masterDataSource);
         return emf;
     }
@@ -287,6 +313,9 @@ public class PersistenceContext {
                 domainHolder,
                 resourceLoader.getResource(props.getViewsXML()),
                 resourceLoader.getResource(props.getIndexesXML()),
+                props.getContentBatchSize(),
+                props.getContentParallelism(),
+                props.isContentDeferIndexes(),
                 ctx);
     }
 
@@ -372,8 +401,11 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public AnyChecker anyChecker(final @Lazy PlainSchemaDAO plainSchemaDAO) {
-        return new AnyChecker(plainSchemaDAO);
+    public AnyChecker anyChecker(
+            final @Lazy PlainSchemaDAO plainSchemaDAO,
+            final AllowedSchemasCache allowedSchemasCache) {
+
+        return new CachingAnyChecker(plainSchemaDAO, allowedSchemasCache);
     }
 
     @ConditionalOnMissingBean
@@ -482,8 +514,11 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public AuditEventDAO auditEventDAO(final EntityManager entityManager) {
-        return new JPAAuditEventDAO(entityManager);
+    public AuditEventDAO auditEventDAO(
+            final EntityManager entityManager,
+            final AuditEventPartitioner auditEventPartitioner) {
+
+        return new JPAAuditEventDAO(entityManager, auditEventPartitioner);
     }
 
     @ConditionalOnMissingBean
@@ -577,9 +612,10 @@ public class PersistenceContext {
     @Bean
     public DerSchemaRepoExt derSchemaRepoExt(
             final @Lazy ExternalResourceDAO resourceDAO,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        return new DerSchemaRepoExtImpl(resourceDAO, entityManager);
+        return new DerSchemaRepoExtImpl(resourceDAO, anySearchQueryCache, entityManager);
     }
 
     @ConditionalOnMissingBean
@@ -748,6 +784,23 @@ public class PersistenceContext {
                 entityManager);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public AnySearchQueryCache anySearchQueryCache(final PersistenceProperties props) {
+        return new AnySearchQueryCache(props.getSearchQueryCacheSize());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public RealmTreeCache realmTreeCache(
+            final EntityManager entityManager,
+            final DomainRoutingEntityManagerFactory entityManagerFactory) {
+
+        RealmTreeCache realmTreeCache = new RealmTreeCache(entityManager);
+        entityManagerFactory.addInvalidationListener(realmTreeCache::onInvalidated);
+        return realmTreeCache;
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public RealmDAO realmDAO(
@@ -28,12 +28,45 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
 
     public static final String DB_TYPE = "db-type";
 
+    public enum AuditEventPartitioning {
+
+        NONE,
+        DAILY,
+        MONTHLY
+
+    }
+
+    public enum CacheInvalidation {
+
+        DATABASE,
+        POSTGRESQL
+
+    }
+
     private String cacheProvider = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
 
     private String cacheURI;
 
+    private CacheInvalidation cacheInvalidation;
+
+    private int cacheInvalidationPollInterval = 5;
+
+    private int cacheInvalidationRetention = 3600;
+
     private String viewsXML = "classpath:META-INF/views.xml";
 
+    private int searchQueryCacheSize = 1000;
+
+    private AuditEventPartitioning auditEventPartitioning = AuditEventPartitioning.NONE;
+
+    private int auditEventPartitionsAhead = 3;
+
+    private int contentBatchSize = 1000;
+
+    private int contentParallelism = 1;
+
+    private boolean contentDeferIndexes;
+
     public String getCacheProvider() {
         return cacheProvider;
     }
@@ -50,6 +83,30 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
         this.cacheURI = cacheURI;
     }
 
+    public CacheInvalidation getCacheInvalidation() {
+        return cacheInvalidation;
+    }
+
+    public void setCacheInvalidation(final CacheInvalidation cacheInvalidation) {
+        this.cacheInvalidation = cacheInvalidation;
+    }
+
+    public int getCacheInvalidationPollInterval() {
+        return cacheInvalidationPollInterval;
+    }
+
+    public void setCacheInvalidationPollInterval(final int cacheInvalidationPollInterval) {
+        this.cacheInvalidationPollInterval = cacheInvalidationPollInterval;
+    }
+
+    public int getCacheInvalidationRetention() {
+        return cacheInvalidationRetention;
+    }
+
+    public void setCacheInvalidationRetention(final int cacheInvalidationRetention) {
+        this.cacheInvalidationRetention = cacheInvalidationRetention;
+    }
+
     public String getViewsXML() {
         return viewsXML;
     }
@@ -57,4 +114,52 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
     public void setViewsXML(final String viewsXML) {
         this.viewsXML = viewsXML;
     }
+
+    public int getSearchQueryCacheSize() {
+        return searchQueryCacheSize;
+    }
+
+    public void setSearchQueryCacheSize(final int searchQueryCacheSize) {
+        this.searchQueryCacheSize = searchQueryCacheSize;
+    }
+
+    public AuditEventPartitioning getAuditEventPartitioning() {
+        return auditEventPartitioning;
+    }
+
+    public void setAuditEventPartitioning(final AuditEventPartitioning auditEventPartitioning) {
+        this.auditEventPartitioning = auditEventPartitioning;
+    }
+
+    public int getAuditEventPartitionsAhead() {
+        return auditEventPartitionsAhead;
+    }
+
+    public void setAuditEventPartitionsAhead(final int auditEventPartitionsAhead) {
+        this.auditEventPartitionsAhead = auditEventPartitionsAhead;
+    }
+
+    public int getContentBatchSize() {
+        return contentBatchSize;
+    }
+
+    public void setContentBatchSize(final int contentBatchSize) {
+        this.contentBatchSize = contentBatchSize;
+    }
+
+    public int getContentParallelism() {
+        return contentParallelism;
+    }
+
+    public void setContentParallelism(final int contentParallelism) {
+        this.contentParallelism = contentParallelism;
+    }
+
+    public boolean isContentDeferIndexes() {
+        return contentDeferIndexes;
+    }
+
+    public void setContentDeferIndexes(final boolean contentDeferIndexes) {
+        this.contentDeferIndexes = contentDeferIndexes;
+    }
 }
@@ -94,7 +94,9 @@ public class StartupDomainLoader implements SyncopeCoreLoader {
                         databasePlatform(domainProps.getDatabasePlatform()).
                         orm(domainProps.getOrm()).
                         poolMaxActive(domainProps.getPoolMaxActive()).
-                        poolMinIdle(domainProps.getPoolMinIdle());
+                        poolMinIdle(domainProps.getPoolMinIdle()).
+                        replicaJdbcURLs(domainProps.getReplicaJdbcURLs()).
+                        replicaMaxLag(domainProps.getReplicaMaxLag());
 
                 try {
                     builder.content(IOUtils.toString(
@@ -19,11 +19,21 @@
 package org.apache.syncope.core.persistence.jpa.content;
 
 import jakarta.xml.bind.DatatypeConverter;
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.Types;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
@@ -35,41 +45,91 @@ import org.xml.sax.Attributes;
 
 /**
  * SAX handler for generating SQL INSERT statements out of given XML file.
+ *
+ * Consecutive rows for the same table and columns are grouped into JDBC batches; when an executor is provided,
+ * batches for different tables are inserted in parallel, with each batch waiting for the ones previously submitted
+ * for the same table and for the tables it references via foreign keys.
+ * Unless errors are tolerated, the first failing batch stops loading, with an exception naming its table.
  */
 public class ContentLoaderHandler extends AbstractContentLoaderHandler {
 
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    protected record Batch(String tableName, String query, List<Object[]> rows) {
+
+    }
+
     private final JdbcTemplate jdbcTemplate;
 
+    private final String schema;
+
+    private final int batchSize;
+
+    private final Executor executor;
+
+    private final Map<String, Map<String, Integer>> colTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<String, Set<String>> referencedTables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<String, CompletableFuture<Void>> pending = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private Map<String, String> tableNames;
+
+    private Batch batch;
+
     public ContentLoaderHandler(
             final DataSource dataSource,
             final String rootElement,
             final boolean continueOnError,
             final Environment env) {
 
+        this(dataSource, null, rootElement, continueOnError, env, DEFAULT_BATCH_SIZE, null);
+    }
+
+    public ContentLoaderHandler(
+            final DataSource dataSource,
+            final String schema,
+            final String rootElement,
+            final boolean continueOnError,
+            final Environment env,
+            final int batchSize,
+            final Executor executor) {
+
         super(rootElement, continueOnError, env);
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.schema = schema;
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = executor;
     }
 
     @Override
     protected void fetch(final Attributes atts) {
+        // the query might read any data loaded so far
+        flush();
+        await();
+
         String value = jdbcTemplate.queryForObject(atts.getValue("query"), String.class);
         String key = atts.getValue("key");
         fetches.put(key, value);
     }
 
-    private Object[] getParameters(final String tableName, final Attributes attrs) {
-        Map<String, Integer> colTypes = jdbcTemplate.query(
+    private Map<String, Integer> getColTypes(final String tableName) {
+        return colTypes.computeIfAbsent(tableName, k -> jdbcTemplate.query(
                 "SELECT * FROM " + tableName + " WHERE 0=1", rs -> {
                     Map<String, Integer> types = new HashMap<>();
                     for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
                         types.put(rs.getMetaData().getColumnName(i).toUpperCase(), rs.getMetaData().getColumnType(i));
                     }
                     return types;
-                });
+                }));
+    }
+
+    private Object[] getParameters(final String tableName, final Attributes attrs) {
+        Map<String, Integer> types = getColTypes(tableName);
 
         Object[] parameters = new Object[attrs.getLength()];
         for (int i = 0; i < attrs.getLength(); i++) {
-            Integer colType = Objects.requireNonNull(colTypes).get(attrs.getQName(i).toUpperCase());
+            Integer colType = Objects.requireNonNull(types).get(attrs.getQName(i).toUpperCase());
             if (colType == null) {
                 LOG.warn("No column type found for {}", attrs.getQName(i).toUpperCase());
                 colType = Types.VARCHAR;
@@ -171,6 +231,84 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
         return parameters;
     }
 
+    private Set<String> getReferencedTables(final String tableName) {
+        return referencedTables.computeIfAbsent(tableName, k -> jdbcTemplate.execute((Connection conn) -> {
+            if (tableNames == null) {
+                // actual table names might differ in case from XML element names, depending on the DBMS
+                tableNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                try (ResultSet rs = conn.getMetaData().getTables(null, schema, null, new String[] { "TABLE" })) {
+                    while (rs.next()) {
+                        tableNames.put(rs.getString("TABLE_NAME"), rs.getString("TABLE_NAME"));
+                    }
+                }
+            }
+
+            return XMLContentExporter.referencedTables(conn, schema, tableNames.getOrDefault(tableName, tableName));
+        }));
+    }
+
+    private void insert(final Batch toInsert) {
+        try {
+            jdbcTemplate.batchUpdate(toInsert.query(), toInsert.rows());
+        } catch (DataAccessException e) {
+            if (!continueOnError) {
+                LOG.error("While trying to perform {}", toInsert.query(), e);
+                throw new IllegalStateException("Could not load " + toInsert.tableName(), e);
+            }
+
+            // fall back to one row at a time, so that only failing rows are skipped
+            toInsert.rows().forEach(parameters -> {
+                try {
+                    jdbcTemplate.update(toInsert.query(), parameters);
+                } catch (DataAccessException re) {
+                    LOG.error("While trying to perform {} with params {}", toInsert.query(), parameters, re);
+                }
+            });
+        }
+    }
+
+    private void flush() {
+        if (batch == null) {
+            return;
+        }
+
+        Batch toInsert = batch;
+        batch = null;
+        if (toInsert.rows().isEmpty()) {
+            return;
+        }
+
+        if (executor == null) {
+            insert(toInsert);
+        } else {
+            // stop as soon as any batch failed, instead of reading on until the end of the document
+            if (pending.values().stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                await();
+            }
+
+            CompletableFuture<?>[] dependencies = Stream.concat(
+                    Stream.of(toInsert.tableName()), getReferencedTables(toInsert.tableName()).stream()).
+                    map(pending::get).filter(Objects::nonNull).toArray(CompletableFuture<?>[]::new);
+
+            pending.put(
+                    toInsert.tableName(),
+                    CompletableFuture.allOf(dependencies).thenRunAsync(() -> insert(toInsert), executor));
+        }
+    }
+
+    private void await() {
+        try {
+            CompletableFuture.allOf(pending.values().toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        } finally {
+            pending.clear();
+        }
+    }
+
     @Override
     protected void create(final String qName, final Attributes atts) {
         StringBuilder query = new StringBuilder("INSERT INTO ").append(qName).append('(');
@@ -187,13 +325,29 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
         }
         query.append(") VALUES (").append(values).append(')');
 
+        if (batch != null && !batch.query().equals(query.toString())) {
+            flush();
+        }
+        if (batch == null) {
+            batch = new Batch(qName, query.toString(), new ArrayList<>(batchSize));
+        }
+
         try {
-            jdbcTemplate.update(query.toString(), getParameters(qName, atts));
+            batch.rows().add(getParameters(qName, atts));
         } catch (DataAccessException e) {
-            LOG.error("While trying to perform {} with params {}", query, getParameters(qName, atts), e);
+            LOG.error("While trying to perform {}", query, e);
             if (!continueOnError) {
                 throw e;
             }
         }
+        if (batch.rows().size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void endDocument() {
+        flush();
+        await();
     }
 }
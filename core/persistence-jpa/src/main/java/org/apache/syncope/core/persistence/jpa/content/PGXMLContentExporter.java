@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.content;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+
+/**
+ * PostgreSQL-specific {@link XMLContentExporter}: tables are exported in parallel, with all connections sharing the
+ * same snapshot, as exported by {@code pg_export_snapshot()}.
+ */
+public class PGXMLContentExporter extends XMLContentExporter {
+
+    public PGXMLContentExporter(
+            final DomainHolder<DataSource> domainHolder,
+            final RealmSearchDAO realmSearchDAO,
+            final EntityManagerFactory entityManagerFactory,
+            final ConfigurableApplicationContext ctx) {
+
+        super(domainHolder, realmSearchDAO, entityManagerFactory, ctx);
+    }
+
+    /**
+     * Tables are not exported concurrently on more than half of the connection pool, so that regular traffic is not
+     * starved; one more connection is held for the whole export, to keep the shared snapshot valid.
+     *
+     * @param dataSource data source
+     * @return maximum number of tables to export concurrently
+     * @throws SQLException if the data source cannot be inspected
+     */
+    protected int maxParallelism(final DataSource dataSource) throws SQLException {
+        return dataSource.isWrapperFor(HikariDataSource.class)
+                ? Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2)
+                : 1;
+    }
+
+    protected void exportTable(
+            final DataSource dataSource,
+            final String snapshot,
+            final String tableName,
+            final int threshold,
+            final Map<String, EntityType<?>> entities,
+            final boolean binary,
+            final Path file) throws IOException, SQLException {
+
+        try (Connection conn = dataSource.getConnection()) {
+            beginSnapshot(conn);
+            try {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("SET TRANSACTION SNAPSHOT '" + snapshot + "'");
+                }
+
+                exportTable(conn, tableName, threshold, entities, binary, file);
+            } finally {
+                conn.rollback();
+            }
+        }
+    }
+
+    @Override
+    protected void exportTables(
+            final DataSource dataSource,
+            final List<String> tableNames,
+            final List<Path> files,
+            final int threshold,
+            final Map<String, EntityType<?>> entities,
+            final boolean binary,
+            final int parallelism) throws IOException {
+
+        int threads;
+        try {
+            threads = Math.clamp(parallelism, 1, maxParallelism(dataSource));
+        } catch (SQLException e) {
+            throw new IOException("While inspecting data source", e);
+        }
+        if (threads == 1) {
+            super.exportTables(dataSource, tableNames, files, threshold, entities, binary, parallelism);
+            return;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            beginSnapshot(conn);
+            try {
+                String snapshot;
+                try (Statement stmt = conn.createStatement();
+                        ResultSet rs = stmt.executeQuery("SELECT pg_export_snapshot()")) {
+
+                    rs.next();
+                    snapshot = rs.getString(1);
+                }
+                LOG.debug("Exporting {} tables from snapshot {} on {} threads", tableNames.size(), snapshot, threads);
+
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<Void>> exports = new ArrayList<>(tableNames.size());
+                    for (int i = 0; i < tableNames.size(); i++) {
+                        String tableName = tableNames.get(i);
+                        Path file = files.get(i);
+                        exports.add(executor.submit(new DelegatingSecurityContextCallable<>(() -> {
+                            exportTable(dataSource, snapshot, tableName, threshold, entities, binary, file);
+                            return null;
+                        })));
+                    }
+
+                    for (int i = 0; i < exports.size(); i++) {
+                        try {
+                            exports.get(i).get();
+                        } catch (ExecutionException e) {
+                            throw new IOException("Failure exporting table " + tableNames.get(i), e.getCause());
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException("Interrupted while exporting table " + tableNames.get(i), e);
+                        }
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            } finally {
+                conn.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IOException("While exporting database content", e);
+        }
+    }
+}
@@ -32,9 +32,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Blob;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -58,6 +59,8 @@ import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import javax.sql.DataSource;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.sax.TransformerHandler;
@@ -74,13 +77,17 @@ import org.apache.syncope.core.persistence.common.content.AbstractXMLContentExpo
 import org.apache.syncope.core.persistence.common.content.MultiParentNode;
 import org.apache.syncope.core.persistence.common.content.MultiParentNodeOp;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.apache.syncope.core.persistence.jpa.entity.JPACacheInvalidation;
 import org.apache.syncope.core.persistence.jpa.entity.JPAJobStatus;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.FileSystemUtils;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
 
@@ -89,7 +96,10 @@ import org.xml.sax.helpers.AttributesImpl;
  */
 public class XMLContentExporter extends AbstractXMLContentExporter {
 
-    protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = Set.of(JPAJobStatus.TABLE, JPAAuditEvent.TABLE);
+    protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED =
+            Set.of(JPAJobStatus.TABLE, JPAAuditEvent.TABLE, JPACacheInvalidation.TABLE);
+
+    protected static final int FETCH_SIZE = 1000;
 
     protected static BiFunction<Map<String, EntityType<?>>, Type<?>, String> GET_KEY =
             (entities, type) -> entities.entrySet().stream().
@@ -210,12 +220,34 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
         return relationTables;
     }
 
+    /**
+     * Returns the names of tables referenced via foreign keys by the given table, including itself in case of
+     * self-references.
+     *
+     * @param conn database connection
+     * @param schema database schema, if any
+     * @param tableName table name
+     * @return the names of referenced tables
+     * @throws SQLException if anything goes wrong while reading database metadata
+     */
+    protected static Set<String> referencedTables(
+            final Connection conn, final String schema, final String tableName)
+            throws SQLException {
+
+        Set<String> pkTableNames = new HashSet<>();
+        try (ResultSet rs = conn.getMetaData().getImportedKeys(conn.getCatalog(), schema, tableName)) {
+            // this is to avoid repetition
+            while (rs.next()) {
+                pkTableNames.add(rs.getString("PKTABLE_NAME"));
+            }
+        }
+        return pkTableNames;
+    }
+
     protected static List<String> sortByForeignKeys(
             final Connection conn, final String schema, final Set<String> tableNames)
             throws SQLException {
 
-        DatabaseMetaData meta = conn.getMetaData();
-
         Set<MultiParentNode> roots = new HashSet<>();
         Map<String, MultiParentNode> exploited = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
@@ -227,15 +259,7 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
                 return n;
             });
 
-            Set<String> pkTableNames = new HashSet<>();
-            try (ResultSet rs = meta.getImportedKeys(conn.getCatalog(), schema, tableName)) {
-                // this is to avoid repetition
-                while (rs.next()) {
-                    pkTableNames.add(rs.getString("PKTABLE_NAME"));
-                }
-            }
-
-            pkTableNames.stream().
+            referencedTables(conn, schema, tableName).stream().
                     filter(pkTableName -> !tableName.equalsIgnoreCase(pkTableName)).
                     forEach(pkTableName -> {
 
@@ -294,7 +318,7 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
             final int threshold,
             final Map<String, EntityType<?>> entities,
             final Map<String, Pair<String, String>> relationTables,
-            final TransformerHandler handler) throws MetaDataAccessException, SAXException {
+            final ContentHandler handler) throws MetaDataAccessException, SAXException {
 
         LOG.debug("Export table {}", tableName);
 
@@ -319,7 +343,12 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
         }
 
         JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
-        jdbcTemplate.setMaxRows(threshold);
+        if (threshold > 0) {
+            jdbcTemplate.setMaxRows(threshold);
+        }
+        // let the JDBC driver stream rows, rather than reading the whole table in memory;
+        // MySQL Connector/J ignores the fetch size unless useCursorFetch=true is set on the JDBC URL
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
 
         Optional<EntityType<?>> entity = entities.entrySet().stream().
                 filter(entry -> entry.getKey().equalsIgnoreCase(tableName)).
@@ -331,75 +360,97 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
                 filter(tableName::equalsIgnoreCase).findFirst().
                 orElse(tableName));
 
+        // realms are buffered, as they need to be sorted by hierarchy; all other rows are streamed
+        boolean realms = tableName.equalsIgnoreCase(JPARealm.TABLE);
         List<Map<String, String>> rows = new ArrayList<>();
 
-        jdbcTemplate.query(query.toString(), rs -> {
-            Map<String, String> row = new HashMap<>();
-            rows.add(row);
-
-            ResultSetMetaData rsMeta = rs.getMetaData();
-            for (int i = 0; i < rsMeta.getColumnCount(); i++) {
-                String columnName = rsMeta.getColumnName(i + 1);
-                Integer columnType = rsMeta.getColumnType(i + 1);
-
-                // Retrieve value taking care of binary values.
-                Optional.ofNullable(getValues(rs, columnName, columnType)).ifPresent(value -> {
-                    String name = entity.map(e -> columnName(
-                            () -> (Stream<Attribute<?, ?>>) e.getAttributes().stream(), columnName)).
-                            orElse(columnName);
-
-                    if (relationTables.containsKey(outputTableName)) {
-                        Pair<String, String> relationColumns = relationTables.get(outputTableName);
-                        if (name.equalsIgnoreCase(relationColumns.getLeft())) {
-                            name = relationColumns.getLeft();
-                        } else if (name.equalsIgnoreCase(relationColumns.getRight())) {
-                            name = relationColumns.getRight();
+        try {
+            jdbcTemplate.query(query.toString(), rs -> {
+                Map<String, String> row = new HashMap<>();
+
+                ResultSetMetaData rsMeta = rs.getMetaData();
+                for (int i = 0; i < rsMeta.getColumnCount(); i++) {
+                    String columnName = rsMeta.getColumnName(i + 1);
+                    Integer columnType = rsMeta.getColumnType(i + 1);
+
+                    // Retrieve value taking care of binary values.
+                    Optional.ofNullable(getValues(rs, columnName, columnType)).ifPresent(value -> {
+                        String name = entity.map(e -> columnName(
+                                () -> (Stream<Attribute<?, ?>>) e.getAttributes().stream(), columnName)).
+                                orElse(columnName);
+
+                        if (relationTables.containsKey(outputTableName)) {
+                            Pair<String, String> relationColumns = relationTables.get(outputTableName);
+                            if (name.equalsIgnoreCase(relationColumns.getLeft())) {
+                                name = relationColumns.getLeft();
+                            } else if (name.equalsIgnoreCase(relationColumns.getRight())) {
+                                name = relationColumns.getRight();
+                            }
                         }
-                    }
 
-                    row.put(name, value);
-                    LOG.debug("Add for table {}: {}=\"{}\"", outputTableName, name, value);
-                });
+                        row.put(name, value);
+                        LOG.debug("Add for table {}: {}=\"{}\"", outputTableName, name, value);
+                    });
+                }
+
+                if (realms) {
+                    rows.add(row);
+                } else {
+                    try {
+                        writeRow(handler, outputTableName, row);
+                    } catch (SAXException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof final SAXException saxe) {
+                throw saxe;
             }
-        });
+            throw e;
+        }
 
-        if (tableName.equalsIgnoreCase(JPARealm.TABLE)) {
-            List<Map<String, String>> realmRows = new ArrayList<>(rows);
-            rows.clear();
+        if (realms) {
+            List<Map<String, String>> sorted = new ArrayList<>();
             realmSearchDAO.findDescendants(SyncopeConstants.ROOT_REALM, null).
-                    forEach(realm -> realmRows.stream().filter(row -> {
+                    forEach(realm -> rows.stream().filter(row -> {
 
                 String id = Optional.ofNullable(row.get("ID")).orElseGet(() -> row.get("id"));
                 return realm.getKey().equals(id);
-            }).findFirst().ifPresent(rows::add));
-        }
-
-        for (Map<String, String> row : rows) {
-            AttributesImpl attrs = new AttributesImpl();
-            row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
+            }).findFirst().ifPresent(sorted::add));
 
-            handler.startElement("", "", outputTableName, attrs);
-            handler.endElement("", "", outputTableName);
+            for (Map<String, String> row : sorted) {
+                writeRow(handler, outputTableName, row);
+            }
         }
     }
 
-    @Override
-    public void export(
-            final String domain,
-            final int threshold,
-            final OutputStream os,
-            final String... elements) throws SAXException, TransformerConfigurationException {
+    protected static void writeRow(
+            final ContentHandler handler,
+            final String outputTableName,
+            final Map<String, String> row) throws SAXException {
+
+        AttributesImpl attrs = new AttributesImpl();
+        row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
 
+        handler.startElement("", "", outputTableName, attrs);
+        handler.endElement("", "", outputTableName);
+    }
+
+    protected Map<String, EntityType<?>> entities() {
         Map<String, EntityType<?>> entities = new HashMap<>();
         entityManagerFactory.getMetamodel().getEntities().forEach(entity -> Optional.ofNullable(
                 entity.getBindableJavaType().getAnnotation(Table.class)).
                 ifPresent(table -> entities.put(table.name(), entity)));
+        return entities;
+    }
 
-        TransformerHandler handler = start(os);
-
-        DataSource dataSource = Optional.ofNullable(domainHolder.getDomains().get(domain)).
+    protected DataSource dataSource(final String domain) {
+        return Optional.ofNullable(domainHolder.getDomains().get(domain)).
                 orElseThrow(() -> new IllegalArgumentException("Could not find DataSource for domain " + domain));
+    }
 
+    protected String schema(final String domain) {
         String schema = null;
         if (ctx.getBeanFactory().containsBean(domain + "DatabaseSchema")) {
             Object schemaBean = ctx.getBeanFactory().getBean(domain + "DatabaseSchema");
@@ -407,29 +458,59 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
                 schema = string;
             }
         }
+        return schema;
+    }
 
-        Connection conn = DataSourceUtils.getConnection(dataSource);
-        try {
-            Set<String> tableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-            if (ArrayUtils.isEmpty(elements)) {
-                try (ResultSet rs = conn.getMetaData().getTables(null, schema, null, new String[] { "TABLE" })) {
-                    while (rs.next()) {
-                        String tableName = rs.getString("TABLE_NAME");
-                        LOG.debug("Found table {}", tableName);
-                        if (isTableAllowed(tableName)) {
-                            tableNames.add(tableName);
-                        }
+    /**
+     * Returns the names of tables to export, sorted by foreign keys.
+     *
+     * @param conn database connection
+     * @param schema database schema, if any
+     * @param elements the tables to export; if empty, all allowed tables are exported
+     * @return the names of tables to export, sorted by foreign keys
+     * @throws SQLException if anything goes wrong while reading database metadata
+     */
+    protected List<String> tableNames(final Connection conn, final String schema, final String... elements)
+            throws SQLException {
+
+        Set<String> tableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (ArrayUtils.isEmpty(elements)) {
+            try (ResultSet rs = conn.getMetaData().getTables(null, schema, null, new String[] { "TABLE" })) {
+                while (rs.next()) {
+                    String tableName = rs.getString("TABLE_NAME");
+                    LOG.debug("Found table {}", tableName);
+                    if (isTableAllowed(tableName)) {
+                        tableNames.add(tableName);
                     }
-                } catch (SQLException e) {
-                    LOG.error("While getting the list of tables", e);
                 }
-            } else {
-                tableNames.addAll(Stream.of(elements).toList());
+            } catch (SQLException e) {
+                LOG.error("While getting the list of tables", e);
             }
-            LOG.debug("Tables to be exported {}", tableNames);
+        } else {
+            tableNames.addAll(Stream.of(elements).toList());
+        }
+        LOG.debug("Tables to be exported {}", tableNames);
+
+        return sortByForeignKeys(conn, schema, tableNames);
+    }
 
-            // then sort tables based on foreign keys and export
-            for (String tableName : sortByForeignKeys(conn, schema, tableNames)) {
+    @Override
+    public void export(
+            final String domain,
+            final int threshold,
+            final OutputStream os,
+            final String... elements) throws SAXException, TransformerConfigurationException {
+
+        Map<String, EntityType<?>> entities = entities();
+
+        TransformerHandler handler = start(os);
+
+        DataSource dataSource = dataSource(domain);
+        String schema = schema(domain);
+
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try {
+            for (String tableName : tableNames(conn, schema, elements)) {
                 try {
                     exportTable(dataSource, tableName, threshold, entities, relationTables(entities), handler);
                 } catch (Exception e) {
@@ -444,4 +525,153 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
 
         end(handler);
     }
+
+    /**
+     * Exports the given table as a standalone document into the given file, by means of the given connection, which
+     * is expected to be in a read-only transaction, so that rows can be streamed by the JDBC driver.
+     *
+     * @param conn database connection
+     * @param tableName table name
+     * @param threshold maximum number of rows to export, if positive
+     * @param entities JPA entities, by table name
+     * @param binary whether to export in compact binary format rather than XML
+     * @param file file to write
+     * @throws IOException if anything goes wrong
+     */
+    protected void exportTable(
+            final Connection conn,
+            final String tableName,
+            final int threshold,
+            final Map<String, EntityType<?>> entities,
+            final boolean binary,
+            final Path file) throws IOException {
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            ContentHandler handler = start(out, binary);
+            exportTable(
+                    new SingleConnectionDataSource(conn, true),
+                    tableName,
+                    threshold,
+                    entities,
+                    relationTables(entities),
+                    handler);
+            end(handler);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failure exporting table " + tableName, e);
+        }
+    }
+
+    /**
+     * Starts a read-only transaction on the given connection, with an isolation level granting that all statements
+     * read from the same snapshot.
+     *
+     * @param conn database connection
+     * @throws SQLException if anything goes wrong
+     */
+    protected void beginSnapshot(final Connection conn) throws SQLException {
+        conn.setTransactionIsolation(
+                conn.getMetaData().supportsTransactionIsolationLevel(Connection.TRANSACTION_REPEATABLE_READ)
+                ? Connection.TRANSACTION_REPEATABLE_READ
+                : Connection.TRANSACTION_SERIALIZABLE);
+        conn.setReadOnly(true);
+        conn.setAutoCommit(false);
+    }
+
+    /**
+     * Exports each of the given tables into the matching file.
+     * All tables are read within the same transaction, so that the archive reflects a consistent snapshot: as a
+     * consequence, tables are exported sequentially, whatever the requested parallelism.
+     *
+     * @param dataSource data source
+     * @param tableNames table names
+     * @param files files to write, one for each table
+     * @param threshold maximum number of rows to export for each table, if positive
+     * @param entities JPA entities, by table name
+     * @param binary whether to export in compact binary format rather than XML
+     * @param parallelism number of tables to export concurrently, where supported
+     * @throws IOException if any table could not be exported
+     */
+    protected void exportTables(
+            final DataSource dataSource,
+            final List<String> tableNames,
+            final List<Path> files,
+            final int threshold,
+            final Map<String, EntityType<?>> entities,
+            final boolean binary,
+            final int parallelism) throws IOException {
+
+        try (Connection conn = dataSource.getConnection()) {
+            beginSnapshot(conn);
+            try {
+                for (int i = 0; i < tableNames.size(); i++) {
+                    exportTable(conn, tableNames.get(i), threshold, entities, binary, files.get(i));
+                }
+            } finally {
+                conn.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IOException("While exporting database content", e);
+        }
+    }
+
+    @Override
+    public void exportArchive(
+            final String domain,
+            final int threshold,
+            final int parallelism,
+            final boolean binary,
+            final OutputStream os,
+            final String... elements)
+            throws SAXException, TransformerConfigurationException, IOException {
+
+        Map<String, EntityType<?>> entities = entities();
+
+        DataSource dataSource = dataSource(domain);
+
+        List<String> tableNames;
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try {
+            tableNames = tableNames(conn, schema(domain), elements);
+        } catch (SQLException e) {
+            throw new IOException("While reading database metadata", e);
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+
+        // entries are named after the foreign key order, to allow for sequential loading
+        List<String> entries = new ArrayList<>(tableNames.size());
+        for (int i = 0; i < tableNames.size(); i++) {
+            entries.add(String.format("%04d-%s", i, tableNames.get(i))
+                    + (binary ? BINARY_ENTRY_SUFFIX : XML_ENTRY_SUFFIX));
+        }
+
+        Path dir = Files.createTempDirectory(domain + "Content");
+        try {
+            exportTables(
+                    dataSource,
+                    tableNames,
+                    entries.stream().map(dir::resolve).toList(),
+                    threshold,
+                    entities,
+                    binary,
+                    parallelism);
+
+            ZipOutputStream zip = new ZipOutputStream(os);
+            writeManifest(zip, entries);
+            for (String entry : entries) {
+                Path file = dir.resolve(entry);
+
+                zip.putNextEntry(new ZipEntry(entry));
+                Files.copy(file, zip);
+                zip.closeEntry();
+
+                Files.delete(file);
+            }
+            zip.finish();
+        } finally {
+            FileSystemUtils.deleteRecursively(dir);
+        }
+    }
 }
@@ -21,6 +21,8 @@ package org.apache.syncope.core.persistence.jpa.content;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.sql.DataSource;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.common.content.AbstractXMLContentLoader;
@@ -42,16 +44,34 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
 
     protected final Resource indexesXML;
 
+    protected final int batchSize;
+
+    protected final int parallelism;
+
     public XMLContentLoader(
             final DomainHolder<DataSource> domainHolder,
             final Resource viewsXML,
             final Resource indexesXML,
             final ConfigurableApplicationContext ctx) {
 
-        super(ctx);
+        this(domainHolder, viewsXML, indexesXML, ContentLoaderHandler.DEFAULT_BATCH_SIZE, 1, false, ctx);
+    }
+
+    public XMLContentLoader(
+            final DomainHolder<DataSource> domainHolder,
+            final Resource viewsXML,
+            final Resource indexesXML,
+            final int batchSize,
+            final int parallelism,
+            final boolean deferIndexes,
+            final ConfigurableApplicationContext ctx) {
+
+        super(ctx, deferIndexes);
         this.domainHolder = domainHolder;
         this.viewsXML = viewsXML;
         this.indexesXML = indexesXML;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
     }
 
     @Override
@@ -107,11 +127,31 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
 
     @Override
     protected void loadDefaultContent(final String domain, final String contentXML) throws Exception {
+        String schema = null;
+        if (ctx.getBeanFactory().containsBean(domain + "DatabaseSchema")) {
+            Object schemaBean = ctx.getBeanFactory().getBean(domain + "DatabaseSchema");
+            if (schemaBean instanceof String string) {
+                schema = string;
+            }
+        }
+
+        ExecutorService executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+
         InputStream in = ctx.getBeanFactory().getBean(contentXML, InputStream.class);
         try (in) {
-            saxParser().parse(in, new ContentLoaderHandler(
-                    domainHolder.getDomains().get(domain), ROOT_ELEMENT, true, ctx.getEnvironment()));
+            parse(in, new ContentLoaderHandler(
+                    domainHolder.getDomains().get(domain),
+                    schema,
+                    ROOT_ELEMENT,
+                    true,
+                    ctx.getEnvironment(),
+                    batchSize,
+                    executor));
             LOG.debug("[{}] Default content successfully loaded", domain);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
         }
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.converters;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+
+/**
+ * List of plain attributes keeping the raw JSON as read from the database and deserializing it only upon first
+ * access, so that entities loaded just for their key, name or realm do not pay for attribute parsing.
+ */
+public class LazyPlainAttrList extends AbstractList<PlainAttr> implements Serializable {
+
+    private static final long serialVersionUID = 3471598735071394212L;
+
+    private String raw;
+
+    private List<PlainAttr> attrs;
+
+    public LazyPlainAttrList(final String raw) {
+        this.raw = raw;
+    }
+
+    /**
+     * Returns the raw JSON this list was created from, if the list was never accessed since then.
+     *
+     * @return raw JSON, if still untouched
+     */
+    public Optional<String> getRaw() {
+        return Optional.ofNullable(raw);
+    }
+
+    protected List<PlainAttr> attrs() {
+        if (attrs == null) {
+            attrs = new ArrayList<>();
+
+            Optional.ofNullable(raw).map(data -> POJOHelper.deserialize(data, PlainAttrListConverter.TYPEREF)).
+                    ifPresent(read -> read.stream().filter(PlainAttr::isValid).peek(attr -> {
+                attr.getValues().forEach(value -> value.setAttr(attr));
+                Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
+            }).forEach(attrs::add));
+
+            raw = null;
+        }
+        return attrs;
+    }
+
+    @Override
+    public PlainAttr get(final int index) {
+        return attrs().get(index);
+    }
+
+    @Override
+    public int size() {
+        return attrs().size();
+    }
+
+    @Override
+    public PlainAttr set(final int index, final PlainAttr element) {
+        return attrs().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final PlainAttr element) {
+        attrs().add(index, element);
+    }
+
+    @Override
+    public PlainAttr remove(final int index) {
+        return attrs().remove(index);
+    }
+
+    @Override
+    public int hashCode() {
+        return attrs().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (raw != null && obj instanceof final LazyPlainAttrList other && other.raw != null) {
+            return raw.equals(other.raw);
+        }
+        return super.equals(obj);
+    }
+}
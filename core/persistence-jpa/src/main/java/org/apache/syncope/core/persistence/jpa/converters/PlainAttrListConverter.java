@@ -20,7 +20,6 @@ package org.apache.syncope.core.persistence.jpa.converters;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
@@ -35,19 +34,14 @@ public class PlainAttrListConverter implements AttributeConverter<List<PlainAttr
 
     @Override
     public String convertToDatabaseColumn(final List<PlainAttr> attribute) {
+        if (attribute instanceof final LazyPlainAttrList lazy && lazy.getRaw().isPresent()) {
+            return lazy.getRaw().get();
+        }
         return Optional.ofNullable(attribute).map(POJOHelper::serialize).orElse(null);
     }
 
     @Override
     public List<PlainAttr> convertToEntityAttribute(final String dbData) {
-        List<PlainAttr> plainAttrs = new ArrayList<>();
-
-        Optional.ofNullable(dbData).map(data -> POJOHelper.deserialize(data, TYPEREF)).
-                ifPresent(attrs -> attrs.stream().filter(PlainAttr::isValid).peek(attr -> {
-            attr.getValues().forEach(value -> value.setAttr(attr));
-            Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
-        }).forEach(plainAttrs::add));
-
-        return plainAttrs;
+        return new LazyPlainAttrList(dbData);
     }
 }
@@ -20,14 +20,17 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
@@ -37,7 +40,10 @@ import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -56,12 +62,18 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AbstractAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -102,6 +114,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
+    protected final AnySearchQueryCache queryCache;
+
     protected final EntityManager entityManager;
 
     protected AbstractJPAAnySearchDAO(
@@ -110,9 +124,12 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final AnySearchQueryCache queryCache,
             final EntityManager entityManager) {
 
         super(
@@ -121,9 +138,12 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
+        this.queryCache = queryCache;
         this.entityManager = entityManager;
     }
 
@@ -206,14 +226,16 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                     node = cond.asLeaf(AnyCond.class).
                             map(anyCond -> getQuery(anyCond, not, parameters, svs)).
                             or(() -> cond.asLeaf(AttrCond.class).
-                            map(attrCond -> {
+                            map(attrCond -> findMaterialized(attrCond.getSchema()).
+                            map(derSchema -> getQuery(attrCond, derSchema, not, parameters, svs)).
+                            orElseGet(() -> {
                                 CheckResult<AttrCond> checked = check(attrCond);
                                 AttrCondQuery query = getQuery(attrCond, not, checked, parameters, svs);
                                 if (query.addPlainSchemas()) {
                                     plainSchemas.add(checked.schema().getKey());
                                 }
                                 return query.node();
-                            }));
+                            })));
                 }
 
                 // allow for additional search conditions
@@ -577,6 +599,44 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             List<Object> parameters,
             SearchSupport svs);
 
+    protected AnySearchNode getQuery(
+            final AttrCond cond,
+            final DerSchema schema,
+            final boolean not,
+            final List<Object> parameters,
+            final SearchSupport svs) {
+
+        SearchSupport.SearchView dav = new SearchSupport.SearchView("dav", JPADerAttrValue.TABLE);
+
+        boolean in = true;
+        String clause;
+        switch (cond.getType()) {
+            case ISNULL, ISNOTNULL -> {
+                in = (cond.getType() == AttrCond.Type.ISNOTNULL) != not;
+                clause = dav.alias() + ".schema_id='" + schema.getKey() + "'";
+            }
+
+            default -> {
+                // materialized values are always stored as strings
+                PlainSchema stringSchema = entityFactory.newEntity(PlainSchema.class);
+                stringSchema.setKey(schema.getKey());
+                stringSchema.setType(AttrSchemaType.String);
+
+                PlainAttrValue attrValue = new PlainAttrValue();
+                attrValue.setStringValue(cond.getExpression());
+
+                clause = fillAttrQuery(
+                        dav.alias() + ".stringValue", dav, attrValue, stringSchema, cond, not, parameters).getClause();
+            }
+        }
+
+        return new AnySearchNode.Leaf(
+                defaultSV(svs),
+                anyId(svs) + (in ? " IN " : " NOT IN ")
+                + "(SELECT " + dav.alias() + ".owner_id FROM " + dav.name() + ' ' + dav.alias()
+                + " WHERE " + clause + ')');
+    }
+
     protected AnySearchNode getQuery(
             final AnyCond cond,
             final boolean not,
@@ -620,6 +680,29 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         };
     }
 
+    protected static String realmSubtreeLike(final String realmPath) {
+        return SyncopeConstants.ROOT_REALM.equals(realmPath) ? "/%" : realmPath + "/%";
+    }
+
+    protected static boolean isSameOrDescendant(final String realmPath, final String ancestorPath) {
+        return realmPath.equals(ancestorPath)
+                || SyncopeConstants.ROOT_REALM.equals(ancestorPath)
+                || realmPath.startsWith(ancestorPath + "/");
+    }
+
+    /**
+     * Reduces the given realm paths to the topmost ones, i.e. those not being descendants of any other.
+     *
+     * @param realmPaths realm paths
+     * @return topmost realm paths
+     */
+    protected static Set<String> topmost(final Set<String> realmPaths) {
+        return realmPaths.stream().
+                filter(path -> realmPaths.stream().
+                noneMatch(other -> !other.equals(path) && isSameOrDescendant(path, other))).
+                collect(Collectors.toSet());
+    }
+
     protected AnySearchNode.Leaf buildAdminRealmsFilter(
             final Set<String> realmKeys,
             final SearchSupport svs,
@@ -635,6 +718,33 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return new AnySearchNode.Leaf(defaultSV(svs), "realm_id IN (" + realmKeysArg + ")");
     }
 
+    /**
+     * Matches all entities in the subtrees rooted in the given realm paths, by comparing realm paths rather than
+     * listing the keys of all the realms involved, to keep the generated statement compact.
+     *
+     * @param realmPaths realm paths, none being descendant of any other
+     * @param svs search support
+     * @param parameters query parameters
+     * @return admin realms filter
+     */
+    protected AnySearchNode.Leaf buildAdminRealmsSubtreesFilter(
+            final Set<String> realmPaths,
+            final SearchSupport svs,
+            final List<Object> parameters) {
+
+        if (realmPaths.isEmpty()) {
+            return buildAdminRealmsFilter(Set.of(), svs, parameters);
+        }
+
+        String fullPaths = realmPaths.stream().
+                map(realmPath -> "fullPath=?" + setParameter(parameters, realmPath)
+                + " OR fullPath LIKE ?" + setParameter(parameters, realmSubtreeLike(realmPath))).
+                collect(Collectors.joining(" OR "));
+        return new AnySearchNode.Leaf(
+                defaultSV(svs),
+                "realm_id IN (SELECT id FROM " + JPARealm.TABLE + " WHERE " + fullPaths + ")");
+    }
+
     protected AdminRealmsFilter getAdminRealmsFilter(
             final Realm base,
             final boolean recursive,
@@ -642,10 +752,10 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final List<Object> parameters,
             final SearchSupport svs) {
 
-        Set<String> realmKeys = new HashSet<>();
         Set<Pair<AnyTypeKind, String>> managed = new HashSet<>();
 
         if (recursive) {
+            Set<String> realmPaths = new HashSet<>();
             adminRealms.forEach(realmPath -> RealmUtils.ManagerRealm.of(realmPath).ifPresentOrElse(
                     realm -> managed.add(Pair.of(realm.kind(), realm.anyKey())),
                     () -> {
@@ -656,13 +766,21 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                             return noRealm;
                         });
 
-                        realmKeys.addAll(realmSearchDAO.findDescendants(realm.getFullPath(), base.getFullPath()).
-                                stream().map(Realm::getKey).toList());
+                        // the intersection of two subtrees is either empty or the deepest of them
+                        if (isSameOrDescendant(realm.getFullPath(), base.getFullPath())) {
+                            realmPaths.add(realm.getFullPath());
+                        } else if (isSameOrDescendant(base.getFullPath(), realm.getFullPath())) {
+                            realmPaths.add(base.getFullPath());
+                        }
                     }));
-        } else {
-            if (adminRealms.stream().anyMatch(r -> r.startsWith(base.getFullPath()))) {
-                realmKeys.add(base.getKey());
-            }
+
+            return new AdminRealmsFilter(
+                    buildAdminRealmsSubtreesFilter(topmost(realmPaths), svs, parameters), managed);
+        }
+
+        Set<String> realmKeys = new HashSet<>();
+        if (adminRealms.stream().anyMatch(r -> r.startsWith(base.getFullPath()))) {
+            realmKeys.add(base.getKey());
         }
 
         return new AdminRealmsFilter(buildAdminRealmsFilter(realmKeys, svs, parameters), managed);
@@ -758,14 +876,34 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return queryString;
     }
 
-    @Override
-    protected long doCount(
+    /**
+     * Generates the native statement for the given search, or takes it from cache, when available.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param orderBy list of ordering clauses, null to generate the count statement
+     * @param kind any type kind
+     * @return generated statement and its parameters, empty if the search condition is invalid
+     */
+    protected Optional<AnySearchQueryCache.CachedQuery> generate(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
             final SearchCond cond,
+            final List<Sort.Order> orderBy,
             final AnyTypeKind kind) {
 
+        AnySearchQueryCache.Key key = new AnySearchQueryCache.Key(
+                kind, base.getFullPath(), recursive, adminRealms, cond, orderBy);
+        Optional<AnySearchQueryCache.CachedQuery> cached = queryCache.get(key);
+        if (cached.isPresent()) {
+            LOG.debug("Cached query: {}, parameters: {}", cached.get().queryString(), cached.get().parameters());
+            return cached;
+        }
+        AnySearchQueryCache.Key toCache = queryCache.accepts(key) ? key.copy() : null;
+
         List<Object> parameters = new ArrayList<>();
 
         SearchSupport svs = new SearchViewSupport(kind);
@@ -779,18 +917,64 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                 orElse(null);
         if (queryInfo == null) {
             LOG.error("Invalid search condition: {}", cond);
-            return 0;
+            return Optional.empty();
         }
 
         // 3. generate the query string
-        String queryString = buildCountQuery(queryInfo, filter.filter(), parameters, svs);
+        String queryString = orderBy == null
+                ? buildCountQuery(queryInfo, filter.filter(), parameters, svs)
+                : buildSearchQuery(queryInfo, filter.filter(), parameters, svs, orderBy);
+
+        if (toCache != null) {
+            queryCache.put(toCache, queryString, parameters);
+        }
+
+        return Optional.of(new AnySearchQueryCache.CachedQuery(queryString, parameters));
+    }
+
+    @Override
+    protected long doCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
 
-        // 4. populate the search query with parameter values
-        Query countQuery = entityManager.createNativeQuery(queryString);
-        fillWithParameters(countQuery, parameters);
+        return generate(base, recursive, adminRealms, cond, null, kind).map(generated -> {
+            // populate the count query with parameter values
+            Query countQuery = entityManager.createNativeQuery(generated.queryString());
+            fillWithParameters(countQuery, generated.parameters());
 
-        // 5. execute the query and return the result
-        return ((Number) countQuery.getSingleResult()).intValue();
+            // execute the query and return the result
+            return ((Number) countQuery.getSingleResult()).longValue();
+        }).orElse(0L);
+    }
+
+    /**
+     * Asks the database query planner for the estimated number of rows returned by the given query.
+     *
+     * @param queryString query
+     * @param parameters query parameters
+     * @return estimated number of rows, or empty if no estimation is available
+     */
+    protected Optional<Long> estimate(final String queryString, final List<Object> parameters) {
+        // no estimation available by default, leave it open for subclasses
+        return Optional.empty();
+    }
+
+    @Override
+    protected long doEstimateCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        // generate the query string, without ordering, then ask for estimation; revert to exact count if not available
+        return generate(base, recursive, adminRealms, cond, List.of(), kind).
+                map(generated -> estimate(generated.queryString(), generated.parameters()).
+                orElseGet(() -> doCount(base, recursive, adminRealms, cond, kind))).
+                orElse(0L);
     }
 
     protected abstract void parseOrderByForPlainSchema(
@@ -812,6 +996,22 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         item.orderBy = defaultSV(svs).alias() + '.' + fieldName + ' ' + clause.getDirection().name();
     }
 
+    protected void parseOrderByForMaterialized(
+            final SearchSupport svs,
+            final OrderBySupport obs,
+            final OrderBySupport.Item item,
+            final Sort.Order clause,
+            final DerSchema schema) {
+
+        obs.views.add(defaultSV(svs));
+
+        item.select = "(SELECT dav.stringValue FROM " + JPADerAttrValue.TABLE + " dav"
+                + " WHERE dav.owner_id=" + anyId(svs) + " AND dav.schema_id='" + schema.getKey() + "') AS "
+                + schema.getKey();
+        item.where = StringUtils.EMPTY;
+        item.orderBy = schema.getKey() + ' ' + clause.getDirection().name();
+    }
+
     protected void parseOrderByForCustom(
             final SearchSupport svs,
             final Sort.Order clause,
@@ -851,21 +1051,23 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
                             parseOrderByForField(svs, item, fieldName, clause);
                         },
-                        () -> {
-                            plainSchemaDAO.findById(clause.getProperty()).ifPresent(schema -> {
-                                if (schema.isUniqueConstraint()) {
-                                    orderByUniquePlainSchemas.add(schema.getKey());
-                                } else {
-                                    orderByNonUniquePlainSchemas.add(schema.getKey());
-                                }
-                                if (orderByUniquePlainSchemas.size() > 1 || orderByNonUniquePlainSchemas.size() > 1) {
-                                    throw syncopeClientException("Order by more than one attribute is not allowed; "
-                                            + "remove one from " + (orderByUniquePlainSchemas.size() > 1
-                                            ? orderByUniquePlainSchemas : orderByNonUniquePlainSchemas)).get();
-                                }
-                                parseOrderByForPlainSchema(svs, obs, item, clause, schema, clause.getProperty());
-                            });
-                        });
+                        () -> findMaterialized(clause.getProperty()).ifPresentOrElse(
+                                derSchema -> parseOrderByForMaterialized(svs, obs, item, clause, derSchema),
+                                () -> plainSchemaDAO.findById(clause.getProperty()).ifPresent(schema -> {
+                                    if (schema.isUniqueConstraint()) {
+                                        orderByUniquePlainSchemas.add(schema.getKey());
+                                    } else {
+                                        orderByNonUniquePlainSchemas.add(schema.getKey());
+                                    }
+                                    if (orderByUniquePlainSchemas.size() > 1
+                                            || orderByNonUniquePlainSchemas.size() > 1) {
+
+                                        throw syncopeClientException("Order by more than one attribute is not allowed; "
+                                                + "remove one from " + (orderByUniquePlainSchemas.size() > 1
+                                                ? orderByUniquePlainSchemas : orderByNonUniquePlainSchemas)).get();
+                                    }
+                                    parseOrderByForPlainSchema(svs, obs, item, clause, schema, clause.getProperty());
+                                })));
             }
 
             if (item.isEmpty()) {
@@ -921,9 +1123,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return queryString.toString();
     }
 
-    @Override
     @SuppressWarnings("unchecked")
-    protected <T extends Any> List<T> doSearch(
+    protected List<Object> doSearchRaw(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -931,37 +1132,125 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final Pageable pageable,
             final AnyTypeKind kind) {
 
-        List<Object> parameters = new ArrayList<>();
+        return generate(base, recursive, adminRealms, cond, pageable.getSort().toList(), kind).map(generated -> {
+            // prepare the search query
+            Query query = entityManager.createNativeQuery(generated.queryString());
 
-        SearchSupport svs = new SearchViewSupport(kind);
+            if (pageable.isPaged()) {
+                query.setFirstResult((int) pageable.getOffset());
+                query.setMaxResults(pageable.getPageSize());
+            }
 
-        // 1. get admin realms filter
-        AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters, svs);
+            // populate the search query with parameter values
+            fillWithParameters(query, generated.parameters());
 
-        // 2. transform search condition
-        QueryInfo queryInfo = getQuery(
-                buildEffectiveCond(cond, filter.managed(), kind), parameters, svs).
-                orElse(null);
-        if (queryInfo == null) {
-            LOG.error("Invalid search condition: {}", cond);
+            return (List<Object>) query.getResultList();
+        }).orElseGet(List::of);
+    }
+
+    @Override
+    protected <T extends Any> List<T> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        return buildResult(doSearchRaw(base, recursive, adminRealms, cond, pageable, kind), kind);
+    }
+
+    @Override
+    protected List<AnyProjection> doProject(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final ProjectionFields fields) {
+
+        List<String> keys = keys(doSearchRaw(base, recursive, adminRealms, cond, pageable, kind));
+        if (keys.isEmpty()) {
             return List.of();
         }
 
-        // 3. generate the query string
-        String queryString = buildSearchQuery(queryInfo, filter.filter(), parameters, svs, pageable.getSort().toList());
+        // select the requested columns only, without loading entities
+        StringBuilder queryString = new StringBuilder("SELECT e.id");
+        fields.fields().forEach(field -> queryString.append(",e.").
+                append("realm".equals(field) ? "realm.fullPath" : field));
+        if (!fields.plainSchemas().isEmpty()) {
+            queryString.append(",e.plainAttrs");
+        }
+        queryString.append(" FROM ").append(anyUtilsFactory.getInstance(kind).anyClass().getSimpleName()).
+                append(" e WHERE e.id IN :keys");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(queryString.toString(), Object[].class);
+        query.setParameter("keys", keys);
+
+        Map<String, AnyProjection> projections = new HashMap<>();
+        query.getResultList().forEach(row -> {
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < fields.fields().size(); i++) {
+                values.put(fields.fields().get(i), row[i + 1]);
+            }
 
-        // 4. prepare the search query
-        Query query = entityManager.createNativeQuery(queryString);
+            List<PlainAttr> plainAttrs = fields.plainSchemas().isEmpty()
+                    ? List.of()
+                    : ((List<?>) row[row.length - 1]).stream().
+                            map(PlainAttr.class::cast).
+                            filter(attr -> attr.getMembership() == null && attr.getRelationship() == null
+                            && fields.plainSchemas().contains(attr.getSchema())).
+                            toList();
 
-        if (pageable.isPaged()) {
-            query.setFirstResult(pageable.getPageSize() * pageable.getPageNumber());
-            query.setMaxResults(pageable.getPageSize());
+            projections.put((String) row[0], new AnyProjection((String) row[0], values, plainAttrs));
+        });
+
+        // keep the ordering of the search query
+        return keys.stream().map(projections::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    protected void release(final List<? extends Any> chunk) {
+        // pending changes would be lost otherwise
+        entityManager.flush();
+        chunk.forEach(entityManager::detach);
+    }
+
+    /**
+     * Tells whether the JDBC driver, for the current domain, fetches the results of forward-only queries in chunks
+     * of the given fetch size, rather than reading the whole result set in memory at once.
+     *
+     * @return whether search results can be streamed by means of a database cursor
+     */
+    protected boolean isCursorFetch() {
+        return true;
+    }
+
+    @Override
+    protected <T extends Any> Stream<T> doStream(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<Sort.Order> orderBy,
+            final AnyTypeKind kind) {
+
+        if (!isCursorFetch()) {
+            // scrolling would hold the whole result set in memory, worse than paging
+            return super.doStream(base, recursive, adminRealms, cond, orderBy, kind);
         }
 
-        // 5. populate the search query with parameter values
-        fillWithParameters(query, parameters);
+        return generate(base, recursive, adminRealms, cond, orderBy, kind).map(generated -> {
+            // prepare the search query, fetching results by means of a forward-only cursor
+            Query query = entityManager.createNativeQuery(generated.queryString());
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, AnyDAO.DEFAULT_PAGE_SIZE);
+
+            // populate the search query with parameter values
+            fillWithParameters(query, generated.parameters());
 
-        // 6. prepare the result (avoiding duplicates)
-        return buildResult(query.getResultList(), kind);
+            // prepare the result, loading entities in chunks
+            return this.<T>buildResult(query.getResultStream(), kind);
+        }).orElseGet(Stream::empty);
     }
 }
@@ -25,14 +25,19 @@ import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -48,6 +53,7 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AbstractRealmSearchDAO;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
@@ -81,19 +87,25 @@ public abstract class AbstractJPARealmSearchDAO extends AbstractRealmSearchDAO {
 
     protected final RealmUtils realmUtils;
 
+    protected final RealmTreeCache realmTreeCache;
+
     protected AbstractJPARealmSearchDAO(
             final EntityManager entityManager,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
             final PlainAttrValidationManager validator,
-            final RealmUtils realmUtils) {
+            final RealmUtils realmUtils,
+            final RealmTreeCache realmTreeCache) {
 
-        super(plainSchemaDAO, userDAO, groupDAO, entityFactory, validator);
+        super(plainSchemaDAO, derSchemaDAO, derAttrValueDAO, userDAO, groupDAO, entityFactory, validator);
 
         this.entityManager = entityManager;
         this.realmUtils = realmUtils;
+        this.realmTreeCache = realmTreeCache;
     }
 
     @Transactional(readOnly = true)
@@ -106,6 +118,14 @@ public abstract class AbstractJPARealmSearchDAO extends AbstractRealmSearchDAO {
             throw new MalformedPathException(fullPath);
         }
 
+        // first look into the realm tree cache, which might be stale if changes were made by other cluster nodes
+        Optional<Realm> cached = realmTreeCache.getKey(fullPath).
+                map(key -> (Realm) entityManager.find(JPARealm.class, key)).
+                filter(realm -> fullPath.equals(realm.getFullPath()));
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         TypedQuery<Realm> query = entityManager.createQuery(
                 "SELECT e FROM " + JPARealm.class.getSimpleName() + " e WHERE e.fullPath=:fullPath", Realm.class);
         query.setParameter("fullPath", fullPath);
@@ -117,6 +137,10 @@ public abstract class AbstractJPARealmSearchDAO extends AbstractRealmSearchDAO {
             LOG.debug("Realm with fullPath {} not found", fullPath, e);
         }
 
+        if (result != null || realmTreeCache.getKey(fullPath).isPresent()) {
+            realmTreeCache.invalidate(AuthContextUtils.getDomain());
+        }
+
         return Optional.ofNullable(result);
     }
 
@@ -138,8 +162,53 @@ public abstract class AbstractJPARealmSearchDAO extends AbstractRealmSearchDAO {
         return query.getResultList();
     }
 
+    /**
+     * Loads the realms listed by the realm tree cache, checking that their full paths still match; the realm tree
+     * cache is invalidated otherwise.
+     *
+     * @param tree full paths and keys, as found in the realm tree cache
+     * @return realms, if all found with matching full paths
+     */
+    protected Optional<List<Realm>> findCached(final Map<String, String> tree) {
+        List<Realm> realms = new ArrayList<>(tree.size());
+        for (Map.Entry<String, String> entry : tree.entrySet()) {
+            JPARealm realm = entityManager.find(JPARealm.class, entry.getValue());
+            if (realm == null || !entry.getKey().equals(realm.getFullPath())) {
+                realmTreeCache.invalidate(AuthContextUtils.getDomain());
+                return Optional.empty();
+            }
+            realms.add(realm);
+        }
+        return Optional.of(realms);
+    }
+
+    @Override
+    public List<Realm> findAncestors(final Realm realm) {
+        List<Realm> result = new ArrayList<>();
+        result.add(realm);
+
+        realmTreeCache.getAncestors(realm.getFullPath()).
+                flatMap(ancestors -> findCached(ancestors.headMap(realm.getFullPath(), false).descendingMap())).
+                ifPresentOrElse(result::addAll, () -> findAncestors(result, realm));
+
+        return result;
+    }
+
     @Override
     public List<Realm> findDescendants(final String base, final String prefix) {
+        // first look into the realm tree cache, if base is known there
+        if (realmTreeCache.getKey(base).isPresent()) {
+            NavigableMap<String, String> descendants = new TreeMap<>(realmTreeCache.getDescendants(base));
+            if (prefix != null && !SyncopeConstants.ROOT_REALM.equals(prefix)) {
+                descendants.keySet().removeIf(path -> !path.equals(prefix) && !path.startsWith(prefix + '/'));
+            }
+
+            Optional<List<Realm>> cached = findCached(descendants);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
         List<Object> parameters = new ArrayList<>();
 
         StringBuilder queryString = new StringBuilder("SELECT e FROM ").
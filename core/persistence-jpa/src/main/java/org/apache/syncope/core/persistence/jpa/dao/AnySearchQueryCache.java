@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.AuxClassCond;
+import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
+import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory, per-domain cache of the native statements generated for any searches, together with their parameters.
+ * Entries are keyed by all the inputs affecting generation, so that repeating a search (as when browsing pages or
+ * polling for changes) skips condition checks, lookups and statement building altogether.
+ * Since generation resolves plain schemas and realms, the cache of a domain is discarded whenever any of those
+ * changes; conditions whose generation resolves names of groups, users or any objects (memberships by group name,
+ * members, relationships, managers) or provided by extensions are never cached.
+ */
+public class AnySearchQueryCache {
+
+    /**
+     * Inputs of statement generation.
+     *
+     * @param kind any type kind
+     * @param base full path of the realm to start searching from
+     * @param recursive whether search includes child realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond search condition
+     * @param orderBy ordering clauses, null when counting
+     */
+    public record Key(
+            AnyTypeKind kind,
+            String base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond cond,
+            List<Sort.Order> orderBy) {
+
+        /**
+         * Search conditions are mutable and might be altered during generation: cached keys are copies.
+         *
+         * @return deep copy of this key
+         */
+        public Key copy() {
+            return new Key(
+                    kind,
+                    base,
+                    recursive,
+                    Set.copyOf(adminRealms),
+                    SerializationUtils.clone(cond),
+                    Optional.ofNullable(orderBy).map(List::copyOf).orElse(null));
+        }
+    }
+
+    /**
+     * Generated statement.
+     *
+     * @param queryString native statement
+     * @param parameters values for the statement's positional parameters
+     */
+    public record CachedQuery(String queryString, List<Object> parameters) {
+
+    }
+
+    protected static final Set<String> RESOLVED_FIELDS = Set.of("uManager", "gManager");
+
+    protected static boolean isCacheable(final SearchCond cond) {
+        return switch (cond.getType()) {
+            case LEAF, NOT_LEAF ->
+                cond.asLeaf(AnyCond.class).map(leaf -> !RESOLVED_FIELDS.contains(leaf.getSchema())).
+                        or(() -> cond.asLeaf(AttrCond.class).map(leaf -> true)).
+                        or(() -> cond.asLeaf(AnyTypeCond.class).map(leaf -> true)).
+                        or(() -> cond.asLeaf(AuxClassCond.class).map(leaf -> true)).
+                        or(() -> cond.asLeaf(RelationshipTypeCond.class).map(leaf -> true)).
+                        or(() -> cond.asLeaf(MembershipCond.class).
+                        map(leaf -> SyncopeConstants.UUID_PATTERN.matcher(leaf.getGroup()).matches())).
+                        or(() -> cond.asLeaf(RoleCond.class).map(leaf -> true)).
+                        or(() -> cond.asLeaf(ResourceCond.class).map(leaf -> true)).
+                        orElse(false);
+
+            case AND, OR ->
+                isCacheable(cond.getLeft()) && isCacheable(cond.getRight());
+
+            default ->
+                false;
+        };
+    }
+
+    protected final int maxSize;
+
+    protected final Map<String, Map<Key, CachedQuery>> queries = new ConcurrentHashMap<>();
+
+    public AnySearchQueryCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    protected Map<Key, CachedQuery> queries(final String domain) {
+        return queries.computeIfAbsent(domain, k -> Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -4206925424474426347L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CachedQuery> eldest) {
+                return size() > maxSize;
+            }
+        }));
+    }
+
+    public Optional<CachedQuery> get(final Key key) {
+        return maxSize <= 0
+                ? Optional.empty()
+                : Optional.ofNullable(queries(AuthContextUtils.getDomain()).get(key));
+    }
+
+    public boolean accepts(final Key key) {
+        return maxSize > 0 && isCacheable(key.cond());
+    }
+
+    public void put(final Key key, final String queryString, final List<Object> parameters) {
+        if (accepts(key)) {
+            queries(AuthContextUtils.getDomain()).put(
+                    key, new CachedQuery(queryString, Collections.unmodifiableList(new ArrayList<>(parameters))));
+        }
+    }
+
+    public void invalidate(final String domain) {
+        queries.remove(domain);
+    }
+
+    /**
+     * Discards the cached statements of the given domain, now and again once the enclosing transaction (if any)
+     * completes, so that statements generated meanwhile by concurrent transactions are not kept around.
+     *
+     * @param domain domain
+     */
+    public void invalidateOnCompletion(final String domain) {
+        invalidate(domain);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate(domain);
+                }
+            });
+        }
+    }
+
+    @EventListener
+    public void realmChanged(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Realm) {
+            invalidate(event.getDomain());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void realmChangeCompleted(final EntityLifecycleEvent<Entity> event) {
+        realmChanged(event);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Manages storage of audit events: when time-range partitioning is configured and supported by the underlying DBMS,
+ * the {@link JPAAuditEvent} table is partitioned on event date, partitions are created ahead of time and expired
+ * partitions are dropped as a whole; this class provides no partitioning support, hence expired audit events are
+ * always deleted row by row.
+ * Each partition is named after its exclusive upper bound; on first partitioning, the existing content is kept in a
+ * partition holding all audit events until the beginning of the current period.
+ */
+public class AuditEventPartitioner implements SyncopeCoreLoader {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AuditEventPartitioner.class);
+
+    protected static final String PARTITION_PREFIX = "to_";
+
+    protected static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    protected static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    protected final DomainHolder<DataSource> domainHolder;
+
+    protected final PersistenceProperties.AuditEventPartitioning partitioning;
+
+    protected final int partitionsAhead;
+
+    protected final Set<String> partitioned = ConcurrentHashMap.newKeySet();
+
+    public AuditEventPartitioner(
+            final DomainHolder<DataSource> domainHolder,
+            final PersistenceProperties.AuditEventPartitioning partitioning,
+            final int partitionsAhead) {
+
+        this.domainHolder = domainHolder;
+        this.partitioning = partitioning;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    @Override
+    public int getOrder() {
+        return 420;
+    }
+
+    protected boolean isSupported() {
+        return false;
+    }
+
+    protected JdbcTemplate jdbcTemplate(final String domain) {
+        return new JdbcTemplate(domainHolder.getDomains().get(domain));
+    }
+
+    /**
+     * Returns the beginning of the partitioning period including the given instant, in UTC.
+     *
+     * @param instant instant
+     * @return beginning of the partitioning period
+     */
+    protected OffsetDateTime periodStart(final OffsetDateTime instant) {
+        LocalDate date = instant.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+        return (partitioning == PersistenceProperties.AuditEventPartitioning.MONTHLY
+                ? date.withDayOfMonth(1)
+                : date).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    protected OffsetDateTime nextPeriodStart(final OffsetDateTime periodStart) {
+        return partitioning == PersistenceProperties.AuditEventPartitioning.MONTHLY
+                ? periodStart.plusMonths(1)
+                : periodStart.plusDays(1);
+    }
+
+    protected static String partitionName(final OffsetDateTime upperBound) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(upperBound);
+    }
+
+    protected String bound(final OffsetDateTime bound) {
+        return '\'' + BOUND.format(bound) + '\'';
+    }
+
+    /**
+     * Parses the exclusive upper bound out of the given partition name.
+     *
+     * @param name partition name, possibly prefixed by table name
+     * @return exclusive upper bound, or empty if the given name does not follow the naming convention
+     */
+    protected static Optional<OffsetDateTime> upperBound(final String name) {
+        int idx = name.toLowerCase().lastIndexOf(PARTITION_PREFIX);
+        if (idx == -1) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(LocalDate.parse(name.substring(idx + PARTITION_PREFIX.length()), PARTITION_SUFFIX).
+                    atStartOfDay().atOffset(ZoneOffset.UTC));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tells whether the audit event table is already partitioned.
+     *
+     * @param jdbcTemplate JDBC template
+     * @return whether the audit event table is already partitioned
+     */
+    protected boolean isPartitioned(final JdbcTemplate jdbcTemplate) {
+        return false;
+    }
+
+    /**
+     * Lists the current bounded partitions of the audit event table.
+     *
+     * @param jdbcTemplate JDBC template
+     * @return partition names, sorted by exclusive upper bound
+     */
+    protected NavigableMap<OffsetDateTime, String> partitions(final JdbcTemplate jdbcTemplate) {
+        return new TreeMap<>();
+    }
+
+    /**
+     * Partitions the audit event table, by keeping any existing content in a partition bounded by the given instant.
+     *
+     * @param jdbcTemplate JDBC template
+     * @param upperBound exclusive upper bound of the partition holding existing content
+     */
+    protected void partition(final JdbcTemplate jdbcTemplate, final OffsetDateTime upperBound) {
+        // no partitioning support
+    }
+
+    protected void addPartition(
+            final JdbcTemplate jdbcTemplate,
+            final OffsetDateTime lowerBound,
+            final OffsetDateTime upperBound) {
+
+        // no partitioning support
+    }
+
+    protected void dropPartition(final JdbcTemplate jdbcTemplate, final String name) {
+        // no partitioning support
+    }
+
+    @Override
+    public void load(final String domain) {
+        if (partitioning == PersistenceProperties.AuditEventPartitioning.NONE) {
+            return;
+        }
+        if (!isSupported()) {
+            LOG.warn("[{}] Partitioning of {} is not supported", domain, JPAAuditEvent.TABLE);
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        try {
+            if (!isPartitioned(jdbcTemplate)) {
+                LOG.info("[{}] Partitioning {} {}", domain, JPAAuditEvent.TABLE, partitioning);
+
+                partition(jdbcTemplate, periodStart(OffsetDateTime.now()));
+            }
+
+            partitioned.add(domain);
+        } catch (DataAccessException e) {
+            LOG.error("[{}] Could not partition {}", domain, JPAAuditEvent.TABLE, e);
+        }
+
+        rollover(domain);
+    }
+
+    @Override
+    public void unload(final String domain) {
+        partitioned.remove(domain);
+    }
+
+    /**
+     * Creates partitions for the current period and the configured number of following periods, if missing.
+     *
+     * @param domain domain
+     */
+    public void rollover(final String domain) {
+        if (!partitioned.contains(domain)) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        try {
+            Set<OffsetDateTime> upperBounds = partitions(jdbcTemplate).keySet();
+
+            OffsetDateTime lowerBound = periodStart(OffsetDateTime.now());
+            for (int i = 0; i <= partitionsAhead; i++) {
+                OffsetDateTime upperBound = nextPeriodStart(lowerBound);
+                if (!upperBounds.contains(upperBound)) {
+                    LOG.debug("[{}] Adding partition {} to {}", domain, partitionName(upperBound), JPAAuditEvent.TABLE);
+                    addPartition(jdbcTemplate, lowerBound, upperBound);
+                }
+                lowerBound = upperBound;
+            }
+        } catch (DataAccessException e) {
+            LOG.error("[{}] Could not add partitions to {}", domain, JPAAuditEvent.TABLE, e);
+        }
+    }
+
+    /**
+     * Removes audit events occurred before the given instant: partitions entirely preceding such instant are dropped,
+     * then any remaining audit event is deleted.
+     *
+     * @param domain domain
+     * @param before instant before which audit events are removed
+     */
+    public void purge(final String domain, final OffsetDateTime before) {
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+
+        if (partitioned.contains(domain)) {
+            try {
+                partitions(jdbcTemplate).headMap(before, true).values().forEach(name -> {
+                    LOG.debug("[{}] Dropping partition {} from {}", domain, name, JPAAuditEvent.TABLE);
+                    dropPartition(jdbcTemplate, name);
+                });
+            } catch (DataAccessException e) {
+                LOG.error("[{}] Could not drop partitions from {}", domain, JPAAuditEvent.TABLE, e);
+            }
+        }
+
+        int deleted = jdbcTemplate.update("DELETE FROM " + JPAAuditEvent.TABLE + " WHERE event_date < ?", before);
+        LOG.debug("[{}] Deleted {} audit events before {}", domain, deleted, before);
+    }
+}
@@ -23,13 +23,13 @@ import jakarta.persistence.Query;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.to.AuditEventTO;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -97,14 +97,25 @@ public class JPAAuditEventDAO implements AuditEventDAO {
 
     protected final EntityManager entityManager;
 
-    public JPAAuditEventDAO(final EntityManager entityManager) {
+    protected final AuditEventPartitioner partitioner;
+
+    public JPAAuditEventDAO(final EntityManager entityManager, final AuditEventPartitioner partitioner) {
         this.entityManager = entityManager;
+        this.partitioner = partitioner;
     }
 
+    /**
+     * Audit events are never updated, hence they are persisted right away: merging would instead look them up by
+     * key first, with no chance for partition pruning.
+     *
+     * @param auditEvent audit event to save
+     * @return saved audit event
+     */
     @Transactional
     @Override
     public AuditEvent save(final AuditEvent auditEvent) {
-        return entityManager.merge(auditEvent);
+        entityManager.persist(auditEvent);
+        return auditEvent;
     }
 
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
@@ -161,7 +172,7 @@ public class JPAAuditEventDAO implements AuditEventDAO {
             final Pageable pageable) {
 
         List<Object> parameters = new ArrayList<>();
-        String queryString = "SELECT id"
+        String queryString = "SELECT *"
                 + " FROM " + JPAAuditEvent.TABLE
                 + " WHERE" + criteriaBuilder(entityKey).
                         opEvent(type, category, subcategory, op, outcome).
@@ -175,7 +186,8 @@ public class JPAAuditEventDAO implements AuditEventDAO {
                     collect(Collectors.joining(","));
         }
 
-        Query query = entityManager.createNativeQuery(queryString);
+        // full rows are fetched at once, as lookups by key alone could not be pruned on partitioned storage
+        Query query = entityManager.createNativeQuery(queryString, JPAAuditEvent.class);
         fillWithParameters(query, parameters);
 
         if (pageable.isPaged()) {
@@ -184,9 +196,18 @@ public class JPAAuditEventDAO implements AuditEventDAO {
         }
 
         @SuppressWarnings("unchecked")
-        List<Object> entries = query.getResultList();
-        return entries.stream().
-                map(row -> entityManager.find(JPAAuditEvent.class, row.toString())).
-                filter(Objects::nonNull).map(this::toAuditEventTO).toList();
+        List<AuditEvent> entries = query.getResultList();
+        return entries.stream().map(this::toAuditEventTO).toList();
+    }
+
+    @Override
+    public void maintain(final OffsetDateTime before) {
+        String domain = AuthContextUtils.getDomain();
+
+        partitioner.rollover(domain);
+
+        if (before != null) {
+            partitioner.purge(domain, before);
+        }
     }
 }
@@ -27,6 +27,7 @@ import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.BatchDAO;
 import org.apache.syncope.core.persistence.api.entity.Batch;
 import org.apache.syncope.core.persistence.jpa.entity.JPABatch;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(rollbackFor = Throwable.class)
@@ -86,6 +87,8 @@ public class JPABatchDAO implements BatchDAO {
         Query query = entityManager.createQuery(
                 "DELETE FROM " + JPABatch.class.getSimpleName() + " e WHERE e.expiryTime < :now");
         query.setParameter("now", OffsetDateTime.now());
-        return query.executeUpdate();
+        int deleted = query.executeUpdate();
+        CacheInvalidationListener.bulk(entityManager, JPABatch.class);
+        return deleted;
     }
 }
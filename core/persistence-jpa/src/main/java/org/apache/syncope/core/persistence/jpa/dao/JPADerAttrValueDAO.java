@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Relies on DBMS-specific upsert statements, so that the rebuild job and regular saves can replace values for the
+ * same owner concurrently, without violating the unique constraint on owner and schema.
+ */
+@Transactional(rollbackFor = Throwable.class)
+public abstract class JPADerAttrValueDAO implements DerAttrValueDAO {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DerAttrValueDAO.class);
+
+    protected final EntityManager entityManager;
+
+    protected JPADerAttrValueDAO(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Returns the native statement inserting a value or updating the existing one for the same owner and schema;
+     * parameters are, in order: id, owner, schema and value.
+     *
+     * @return native upsert statement
+     */
+    protected abstract String upsert();
+
+    @Override
+    public void replace(final String owner, final Set<String> schemas, final Map<String, String> values) {
+        schemas.forEach(schema -> {
+            String value = values.get(schema);
+            if (value != null && value.length() > MAX_VALUE_LENGTH) {
+                LOG.warn("Value for {} on {} exceeds {} characters, not materialized", schema, owner, MAX_VALUE_LENGTH);
+                value = null;
+            }
+
+            Query query;
+            if (value == null) {
+                query = entityManager.createNativeQuery(
+                        "DELETE FROM " + JPADerAttrValue.TABLE + " WHERE owner_id=? AND schema_id=?");
+                query.setParameter(1, owner);
+                query.setParameter(2, schema);
+            } else {
+                query = entityManager.createNativeQuery(upsert());
+                query.setParameter(1, SecureRandomUtils.generateRandomUUID().toString());
+                query.setParameter(2, owner);
+                query.setParameter(3, schema);
+                query.setParameter(4, value);
+            }
+            query.executeUpdate();
+        });
+    }
+
+    @Override
+    public void deleteByOwner(final String owner) {
+        Query query = entityManager.createNativeQuery("DELETE FROM " + JPADerAttrValue.TABLE + " WHERE owner_id=?");
+        query.setParameter(1, owner);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteBySchema(final String schema) {
+        Query query = entityManager.createNativeQuery("DELETE FROM " + JPADerAttrValue.TABLE + " WHERE schema_id=?");
+        query.setParameter(1, schema);
+        query.executeUpdate();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findOwners(final String schema, final String value, final boolean ignoreCaseMatch) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT owner_id FROM " + JPADerAttrValue.TABLE + " WHERE schema_id=? AND "
+                + (ignoreCaseMatch ? "LOWER(stringValue)=LOWER(?)" : "stringValue=?"));
+        query.setParameter(1, schema);
+        query.setParameter(2, value);
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().map(Object::toString).toList();
+    }
+}
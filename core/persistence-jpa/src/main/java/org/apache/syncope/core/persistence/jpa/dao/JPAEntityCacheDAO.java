@@ -25,7 +25,9 @@ import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.hibernate.Cache;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
 import org.hibernate.stat.Statistics;
 
 public class JPAEntityCacheDAO implements EntityCacheDAO {
@@ -43,6 +45,7 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
     @Override
     public Map<String, Object> getStatistics() {
         Statistics statistics = statistics();
+        MappingMetamodel metamodel = entityManagerFactory.unwrap(SessionFactoryImpl.class).getMappingMetamodel();
 
         Map<String, Object> general = new HashMap<>();
         general.put("start time", statistics.getStart());
@@ -86,6 +89,7 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
         general.put("query plan cache misses", statistics.getQueryPlanCacheMissCount());
 
         Map<String, Object> entities = new HashMap<>();
+        Map<String, Object> naturalIds = new HashMap<>();
         for (String entityName : statistics.getEntityNames()) {
             EntityStatistics es = statistics.getEntityStatistics(entityName);
 
@@ -101,9 +105,21 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
             entity.put("updates", es.getUpdateCount());
             entity.put("optimistic lock failures", es.getOptimisticFailureCount());
             entities.put(entityName, entity);
+
+            if (metamodel.getEntityDescriptor(entityName).hasNaturalIdentifier()) {
+                NaturalIdStatistics nis = statistics.getNaturalIdStatistics(entityName);
+
+                Map<String, Object> naturalId = new HashMap<>();
+                naturalId.put("cache hits", nis.getCacheHitCount());
+                naturalId.put("cache misses", nis.getCacheMissCount());
+                naturalId.put("cache puts", nis.getCachePutCount());
+                naturalId.put("queries executed to database", nis.getExecutionCount());
+                naturalId.put("max query time", nis.getExecutionMaxTime());
+                naturalIds.put(entityName, naturalId);
+            }
         }
 
-        return Map.of("general", general, "entities", entities);
+        return Map.of("general", general, "entities", entities, "naturalIds", naturalIds);
     }
 
     @Override
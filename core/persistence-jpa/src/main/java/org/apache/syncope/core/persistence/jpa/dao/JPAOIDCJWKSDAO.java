@@ -25,6 +25,7 @@ import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.OIDCJWKSDAO;
 import org.apache.syncope.core.persistence.api.entity.am.OIDCJWKS;
 import org.apache.syncope.core.persistence.jpa.entity.am.JPAOIDCJWKS;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
@@ -60,5 +61,6 @@ public class JPAOIDCJWKSDAO implements OIDCJWKSDAO {
     @Override
     public void delete() {
         entityManager.createQuery("DELETE FROM " + JPAOIDCJWKS.class.getSimpleName()).executeUpdate();
+        CacheInvalidationListener.bulk(entityManager, JPAOIDCJWKS.class);
     }
 }
@@ -30,6 +30,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.Strings;
@@ -37,6 +38,7 @@ import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
@@ -46,7 +48,6 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.task.MacroTask;
-import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -60,12 +61,14 @@ import org.apache.syncope.core.persistence.jpa.entity.task.JPAPropagationTaskExe
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPASchedTask;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
@@ -534,18 +537,20 @@ public class JPATaskDAO implements TaskDAO {
                 stream().map(Task<?>::getKey).forEach(key -> delete(type, key));
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public List<PropagationTaskTO> purgePropagations(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
-            final List<String> resources) {
+            final List<String> resources,
+            final int max,
+            final Consumer<List<PropagationTaskTO>> beforeDelete) {
 
-        StringBuilder queryString = new StringBuilder("SELECT t.task_id "
-                + "FROM " + JPAPropagationTaskExec.TABLE + " t "
-                + "INNER JOIN " + JPAPropagationTask.TABLE + " z "
-                + "ON t.task_id=z.id "
-                + "WHERE t.enddate=(SELECT MAX(e.enddate) FROM " + JPAPropagationTaskExec.TABLE + " e "
-                + "WHERE e.task_id=t.task_id) ");
+        // select the tasks whose latest execution matches the given conditions, by key order
+        StringBuilder queryString = new StringBuilder("SELECT z.id "
+                + "FROM " + JPAPropagationTask.TABLE + " z "
+                + "WHERE EXISTS (SELECT 1 FROM " + JPAPropagationTaskExec.TABLE + " t "
+                + "WHERE t.task_id=z.id ");
 
         List<Object> queryParameters = new ArrayList<>();
         if (since != null) {
@@ -553,50 +558,72 @@ public class JPATaskDAO implements TaskDAO {
             queryString.append("AND t.enddate <= ?").append(queryParameters.size()).append(' ');
         }
         if (!CollectionUtils.isEmpty(statuses)) {
-            queryString.append("AND (").
+            queryString.append("AND t.status IN (").
                     append(statuses.stream().map(status -> {
                         queryParameters.add(status.name());
-                        return "t.status = ?" + queryParameters.size();
-                    }).collect(Collectors.joining(" OR "))).
-                    append(")");
+                        return "?" + queryParameters.size();
+                    }).collect(Collectors.joining(","))).
+                    append(") ");
         }
+        queryString.append("AND NOT EXISTS (SELECT 1 FROM ").append(JPAPropagationTaskExec.TABLE).append(" e ").
+                append("WHERE e.task_id=t.task_id AND e.enddate > t.enddate)) ");
         if (!CollectionUtils.isEmpty(resources)) {
-            queryString.append("AND (").
+            queryString.append("AND z.resource_id IN (").
                     append(resources.stream().map(r -> {
                         queryParameters.add(r);
-                        return "z.resource_id = ?" + queryParameters.size();
-                    }).collect(Collectors.joining(" OR "))).
-                    append(")");
+                        return "?" + queryParameters.size();
+                    }).collect(Collectors.joining(","))).
+                    append(") ");
         }
+        queryString.append("ORDER BY z.id");
 
         Query query = entityManager.createNativeQuery(queryString.toString());
         for (int i = 1; i <= queryParameters.size(); i++) {
             query.setParameter(i, queryParameters.get(i - 1));
         }
+        query.setMaxResults(max);
 
         @SuppressWarnings("unchecked")
-        List<Object> raw = query.getResultList();
+        List<String> keys = ((List<Object>) query.getResultList()).stream().map(Object::toString).toList();
+        if (keys.isEmpty()) {
+            return List.of();
+        }
 
-        List<PropagationTaskTO> purged = new ArrayList<>();
-        raw.stream().map(Object::toString).distinct().forEach(key -> findById(TaskType.PROPAGATION, key).
-                map(PropagationTask.class::cast).ifPresent(task -> {
+        // fetch only the columns needed to report the purged tasks, without loading entities and executions
+        TypedQuery<Object[]> details = entityManager.createQuery(
+                "SELECT e.id, e.operation, e.connObjectKey, e.oldConnObjectKey, e.propagationData, e.resource.id, "
+                + "e.objectClassName, e.anyTypeKind, e.anyType, e.entityKey "
+                + "FROM " + JPAPropagationTask.class.getSimpleName() + " e "
+                + "WHERE e.id IN :keys ORDER BY e.id", Object[].class);
+        details.setParameter("keys", keys);
 
+        List<PropagationTaskTO> purged = details.getResultList().stream().map(row -> {
             PropagationTaskTO taskTO = new PropagationTaskTO();
 
-            taskTO.setOperation(task.getOperation());
-            taskTO.setConnObjectKey(task.getConnObjectKey());
-            taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
-            taskTO.setPropagationData(task.getSerializedPropagationData());
-            taskTO.setResource(task.getResource().getKey());
-            taskTO.setObjectClassName(task.getObjectClassName());
-            taskTO.setAnyTypeKind(task.getAnyTypeKind());
-            taskTO.setAnyType(task.getAnyType());
-            taskTO.setEntityKey(task.getEntityKey());
-
-            purged.add(taskTO);
-
-            delete(task);
-        }));
+            taskTO.setKey((String) row[0]);
+            taskTO.setOperation((ResourceOperation) row[1]);
+            taskTO.setConnObjectKey((String) row[2]);
+            taskTO.setOldConnObjectKey((String) row[3]);
+            taskTO.setPropagationData((String) row[4]);
+            taskTO.setResource((String) row[5]);
+            taskTO.setObjectClassName((String) row[6]);
+            taskTO.setAnyTypeKind((AnyTypeKind) row[7]);
+            taskTO.setAnyType((String) row[8]);
+            taskTO.setEntityKey((String) row[9]);
+
+            return taskTO;
+        }).toList();
+
+        beforeDelete.accept(purged);
+
+        // bulk delete executions first, then tasks
+        entityManager.createQuery(
+                "DELETE FROM " + JPAPropagationTaskExec.class.getSimpleName() + " e WHERE e.task.id IN :keys").
+                setParameter("keys", keys).executeUpdate();
+        entityManager.createQuery(
+                "DELETE FROM " + JPAPropagationTask.class.getSimpleName() + " e WHERE e.id IN :keys").
+                setParameter("keys", keys).executeUpdate();
+        CacheInvalidationListener.bulk(entityManager, JPAPropagationTaskExec.class, JPAPropagationTask.class);
 
         return purged;
     }
@@ -21,6 +21,8 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import jakarta.persistence.EntityManager;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -36,9 +38,13 @@ public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final MySQLPlainSchemaIndexer plainSchemaIndexer,
+            final AnySearchQueryCache queryCache,
             final EntityManager entityManager) {
 
         super(
@@ -47,9 +53,13 @@ public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
+                plainSchemaIndexer,
+                queryCache,
                 entityManager);
     }
 }
@@ -20,6 +20,8 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -31,12 +33,25 @@ public class MariaDBJPARealmSearchDAO extends MySQLJPARealmSearchDAO {
     public MariaDBJPARealmSearchDAO(
             final EntityManager entityManager,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
             final PlainAttrValidationManager validator,
-            final RealmUtils realmUtils) {
+            final RealmUtils realmUtils,
+            final RealmTreeCache realmTreeCache) {
 
-        super(entityManager, plainSchemaDAO, userDAO, groupDAO, entityFactory, validator, realmUtils);
+        super(
+                entityManager,
+                plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
+                userDAO,
+                groupDAO,
+                entityFactory,
+                validator,
+                realmUtils,
+                realmTreeCache);
     }
 }
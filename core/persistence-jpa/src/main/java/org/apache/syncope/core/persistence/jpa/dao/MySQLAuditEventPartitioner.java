@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.time.OffsetDateTime;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Relies on MySQL and MariaDB range partitioning; a catch-all partition receives any audit event not falling into
+ * the bounded partitions, and is split whenever a new partition is added.
+ * As unique keys of partitioned tables must include all partitioning columns, the primary key is extended with
+ * event date. Initial partitioning rebuilds the table, hence it might take long on large existing tables.
+ */
+public class MySQLAuditEventPartitioner extends AuditEventPartitioner {
+
+    protected static final String MAX_PARTITION = PARTITION_PREFIX + "max";
+
+    public MySQLAuditEventPartitioner(
+            final DomainHolder<DataSource> domainHolder,
+            final PersistenceProperties.AuditEventPartitioning partitioning,
+            final int partitionsAhead) {
+
+        super(domainHolder, partitioning, partitionsAhead);
+    }
+
+    @Override
+    protected boolean isSupported() {
+        return true;
+    }
+
+    @Override
+    protected boolean isPartitioned(final JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(0) FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME=? AND PARTITION_NAME IS NOT NULL",
+                Integer.class,
+                JPAAuditEvent.TABLE) > 0;
+    }
+
+    @Override
+    protected NavigableMap<OffsetDateTime, String> partitions(final JdbcTemplate jdbcTemplate) {
+        NavigableMap<OffsetDateTime, String> partitions = new TreeMap<>();
+        jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME=? AND PARTITION_NAME IS NOT NULL",
+                String.class,
+                JPAAuditEvent.TABLE).
+                forEach(name -> upperBound(name).ifPresent(upperBound -> partitions.put(upperBound, name)));
+        return partitions;
+    }
+
+    @Override
+    protected void partition(final JdbcTemplate jdbcTemplate, final OffsetDateTime upperBound) {
+        jdbcTemplate.execute("ALTER TABLE " + JPAAuditEvent.TABLE
+                + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, event_date)"
+                + " PARTITION BY RANGE COLUMNS(event_date) ("
+                + "PARTITION " + partitionName(upperBound) + " VALUES LESS THAN (" + bound(upperBound) + "), "
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Override
+    protected void addPartition(
+            final JdbcTemplate jdbcTemplate,
+            final OffsetDateTime lowerBound,
+            final OffsetDateTime upperBound) {
+
+        jdbcTemplate.execute("ALTER TABLE " + JPAAuditEvent.TABLE
+                + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + "PARTITION " + partitionName(upperBound) + " VALUES LESS THAN (" + bound(upperBound) + "), "
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Override
+    protected void dropPartition(final JdbcTemplate jdbcTemplate, final String name) {
+        jdbcTemplate.execute("ALTER TABLE " + JPAAuditEvent.TABLE + " DROP PARTITION " + name);
+    }
+}
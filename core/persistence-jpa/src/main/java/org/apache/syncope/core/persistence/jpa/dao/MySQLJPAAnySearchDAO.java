@@ -19,12 +19,20 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -36,19 +44,31 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.hibernate.Session;
 import org.springframework.data.domain.Sort;
 
 public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
+    protected static final Pattern ROWS_PRODUCED_PER_JOIN = Pattern.compile("\"rows_produced_per_join\": ?(\\d+)");
+
+    protected final MySQLPlainSchemaIndexer plainSchemaIndexer;
+
+    protected final Map<String, Boolean> cursorFetch = new ConcurrentHashMap<>();
+
     public MySQLJPAAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final MySQLPlainSchemaIndexer plainSchemaIndexer,
+            final AnySearchQueryCache queryCache,
             final EntityManager entityManager) {
 
         super(
@@ -57,10 +77,44 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
+                queryCache,
                 entityManager);
+        this.plainSchemaIndexer = plainSchemaIndexer;
+    }
+
+    @Override
+    protected Optional<Long> estimate(final String queryString, final List<Object> parameters) {
+        Query query = entityManager.createNativeQuery("EXPLAIN FORMAT=JSON " + queryString);
+        fillWithParameters(query, parameters);
+
+        // the last table in the join plan reports the estimated number of rows produced by the whole query;
+        // MariaDB does not provide such information, hence reverting to exact count
+        Matcher matcher = ROWS_PRODUCED_PER_JOIN.matcher(String.valueOf(query.getSingleResult()));
+        Long estimate = null;
+        while (matcher.find()) {
+            estimate = Long.valueOf(matcher.group(1));
+        }
+        return Optional.ofNullable(estimate);
+    }
+
+    @Override
+    protected boolean nullsLargest() {
+        return false;
+    }
+
+    @Override
+    protected boolean isCursorFetch() {
+        // MySQL Connector/J reads whole result sets in memory unless useCursorFetch=true is set on the JDBC URL;
+        // MariaDB Connector/J streams instead, but buffers all remaining rows as soon as another statement is issued
+        // on the same connection, as happens when loading entities from the streamed keys
+        return cursorFetch.computeIfAbsent(AuthContextUtils.getDomain(), domain -> entityManager.unwrap(Session.class).
+                doReturningWork(conn -> StringUtils.containsIgnoreCase(
+                        conn.getMetaData().getURL(), "useCursorFetch=true")));
     }
 
     @Override
@@ -77,6 +131,14 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
         obs.views.add(svs.field());
 
+        if (plainSchemaIndexer.isIndexed(AuthContextUtils.getDomain(), schema)) {
+            item.select = "( SELECT `" + MySQLPlainSchemaIndexer.column(schema.getKey()) + "` FROM "
+                    + svs.table().name() + " WHERE id = " + anyId(svs.field()) + ") AS " + fieldName;
+            item.where = StringUtils.EMPTY;
+            item.orderBy = fieldName + ' ' + clause.getDirection().name();
+            return;
+        }
+
         item.select = new StringBuilder().append(schema.isUniqueConstraint()
                 ? "( SELECT JSON_UNQUOTE(JSON_EXTRACT(usa.attrUniqueValue, '$." + key(schema.getType()) + "')) "
                 : "( SELECT usa." + key(schema.getType())).
@@ -174,6 +236,71 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         return new AnySearchNode.Leaf(from, clause.toString());
     }
 
+    protected Optional<AnySearchNode.Leaf> indexedAttrQuery(
+            final SearchSupport svs,
+            final PlainAttrValue attrValue,
+            final PlainSchema schema,
+            final AttrCond cond,
+            final boolean not,
+            final List<Object> parameters) {
+
+        // negated conditions shall also match when no value is available, hence they can't leverage indexes
+        if (not || !plainSchemaIndexer.isIndexed(AuthContextUtils.getDomain(), schema)) {
+            return Optional.empty();
+        }
+
+        String operator = switch (cond.getType()) {
+            case EQ ->
+                "=";
+
+            case GE ->
+                ">=";
+
+            case GT ->
+                ">";
+
+            case LE ->
+                "<=";
+
+            case LT ->
+                "<";
+
+            case LIKE ->
+                schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum
+                ? "LIKE"
+                : null;
+
+            default ->
+                null;
+        };
+        if (operator == null) {
+            return Optional.empty();
+        }
+
+        Object value = switch (schema.getType()) {
+            case Long ->
+                attrValue.getLongValue();
+
+            case Double ->
+                attrValue.getDoubleValue();
+
+            case Boolean ->
+                attrValue.getBooleanValue();
+
+            case Date ->
+                DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(attrValue.getDateValue());
+
+            default ->
+                cond.getExpression();
+        };
+
+        return Optional.of(new AnySearchNode.Leaf(
+                svs.field(),
+                anyId(svs.field()) + " IN (SELECT id FROM " + svs.table().name()
+                + " WHERE `" + MySQLPlainSchemaIndexer.column(schema.getKey()) + "` " + operator
+                + " ?" + setParameter(parameters, value) + ")"));
+    }
+
     @Override
     protected AttrCondQuery getQuery(
             final AttrCond cond,
@@ -209,6 +336,12 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             }
 
             default -> {
+                Optional<AnySearchNode.Leaf> indexed = indexedAttrQuery(
+                        svs, checked.value(), checked.schema(), cond, not, parameters);
+                if (indexed.isPresent()) {
+                    return new AttrCondQuery(true, indexed.get());
+                }
+
                 if (!not && cond.getType() == AttrCond.Type.EQ) {
                     PlainAttr container = new PlainAttr();
                     container.setPlainSchema(checked.schema());
@@ -26,6 +26,8 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -73,13 +75,26 @@ public class MySQLJPARealmSearchDAO extends AbstractJPARealmSearchDAO {
     public MySQLJPARealmSearchDAO(
             final EntityManager entityManager,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
             final PlainAttrValidationManager validator,
-            final RealmUtils realmUtils) {
-
-        super(entityManager, plainSchemaDAO, userDAO, groupDAO, entityFactory, validator, realmUtils);
+            final RealmUtils realmUtils,
+            final RealmTreeCache realmTreeCache) {
+
+        super(
+                entityManager,
+                plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
+                userDAO,
+                groupDAO,
+                entityFactory,
+                validator,
+                realmUtils,
+                realmTreeCache);
     }
 
     @Override
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.common.dao.AbstractSearchDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Maintains, for each indexed plain schema, a generated virtual column holding the value extracted from the
+ * {@code plainAttrs} JSON column, together with an index on such column.
+ * DDL statements are run via dedicated connections, as MySQL and MariaDB implicitly commit any ongoing transaction
+ * when executing them; on domain load, generated columns are aligned with the current set of indexed plain schemas,
+ * so that existing domains are migrated as well.
+ * Generated columns are only targeted by searches once available on all tables: as other cluster nodes may add
+ * or drop them, availability is read from {@code information_schema} and only cached for {@link #AVAILABLE_TTL}.
+ */
+public class MySQLPlainSchemaIndexer implements SyncopeCoreLoader {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(MySQLPlainSchemaIndexer.class);
+
+    protected static final List<String> TABLES = List.of(
+            JPAUser.TABLE, JPAGroup.TABLE, JPAAnyObject.TABLE, JPALinkedAccount.TABLE, JPARealm.TABLE);
+
+    protected static final String COLUMN_PREFIX = "ps_";
+
+    protected static final int MAX_IDENTIFIER_LENGTH = 64;
+
+    public static final Duration AVAILABLE_TTL = Duration.ofSeconds(10);
+
+    /**
+     * Generated columns found on at least one table ({@code present}) and on all tables ({@code available}).
+     *
+     * @param present generated columns found on at least one table
+     * @param available generated columns found on all tables
+     * @param expiration when this information shall be read again
+     */
+    protected record Columns(Set<String> present, Set<String> available, long expiration) {
+    }
+
+    public static String column(final String schema) {
+        String column = COLUMN_PREFIX + schema;
+        if (column.length() > MAX_IDENTIFIER_LENGTH) {
+            column = COLUMN_PREFIX + UUID.nameUUIDFromBytes(schema.getBytes(StandardCharsets.UTF_8)).toString().
+                    replace("-", "");
+        }
+        return column;
+    }
+
+    /**
+     * Builds the expression extracting the value of the given indexed plain schema out of the {@code plainAttrs}
+     * column, typed after the schema type.
+     *
+     * @param schema indexed plain schema
+     * @return typed value expression
+     */
+    public static String indexedValue(final PlainSchema schema) {
+        // JSON_SEARCH matches LIKE patterns, hence '_' needs escaping
+        String path = "CONCAT(SUBSTRING_INDEX(JSON_UNQUOTE(JSON_SEARCH(plainAttrs, 'one', '"
+                + schema.getKey().replace("_", "\\\\_") + "', NULL, '$[*].schema')), '.', 1), '."
+                + (schema.isUniqueConstraint() ? "uniqueValue" : "values[0]")
+                + '.' + AbstractSearchDAO.key(schema.getType()) + "')";
+        String value = "JSON_UNQUOTE(JSON_EXTRACT(plainAttrs, " + path + "))";
+
+        return switch (schema.getType()) {
+            case Long ->
+                "CAST(" + value + " AS SIGNED)";
+
+            case Double ->
+                "CAST(" + value + " AS DOUBLE)";
+
+            case Boolean ->
+                "(" + value + " = 'true')";
+
+            default ->
+                "LEFT(" + value + ", 255)";
+        };
+    }
+
+    protected static String columnDefinition(final PlainSchema schema) {
+        return switch (schema.getType()) {
+            case Long ->
+                "BIGINT";
+
+            case Double ->
+                "DOUBLE";
+
+            case Boolean ->
+                "TINYINT";
+
+            default ->
+                "VARCHAR(255)";
+        };
+    }
+
+    protected final DomainHolder<DataSource> domainHolder;
+
+    protected final PlainSchemaDAO plainSchemaDAO;
+
+    protected final Map<String, Columns> generated = new ConcurrentHashMap<>();
+
+    public MySQLPlainSchemaIndexer(
+            final DomainHolder<DataSource> domainHolder,
+            final PlainSchemaDAO plainSchemaDAO) {
+
+        this.domainHolder = domainHolder;
+        this.plainSchemaDAO = plainSchemaDAO;
+    }
+
+    @Override
+    public int getOrder() {
+        return 410;
+    }
+
+    @Override
+    public void load(final String domain) {
+        migrate(domain);
+    }
+
+    @Override
+    public void unload(final String domain) {
+        generated.remove(domain);
+    }
+
+    protected Columns columns(final String domain) {
+        return generated.compute(domain, (k, v) -> {
+            if (v != null && v.expiration() > System.currentTimeMillis()) {
+                return v;
+            }
+
+            Set<String> present = new HashSet<>();
+            Set<String> available = new HashSet<>();
+            try {
+                new JdbcTemplate(domainHolder.getDomains().get(domain)).query(
+                        "SELECT COLUMN_NAME, COUNT(DISTINCT TABLE_NAME) FROM information_schema.COLUMNS "
+                        + "WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME IN ("
+                        + TABLES.stream().map(table -> "?").collect(Collectors.joining(",")) + ") "
+                        + "AND COLUMN_NAME LIKE ? GROUP BY COLUMN_NAME",
+                        rs -> {
+                            present.add(rs.getString(1));
+                            if (rs.getInt(2) == TABLES.size()) {
+                                available.add(rs.getString(1));
+                            }
+                        },
+                        Stream.concat(TABLES.stream(), Stream.of(COLUMN_PREFIX.replace("_", "\\_") + '%')).toArray());
+            } catch (DataAccessException e) {
+                LOG.error("[{}] Could not read generated columns", domain, e);
+            }
+
+            return new Columns(
+                    Set.copyOf(present),
+                    Set.copyOf(available),
+                    System.currentTimeMillis() + AVAILABLE_TTL.toMillis());
+        });
+    }
+
+    /**
+     * Tells whether the given plain schema is indexed and its generated column available.
+     *
+     * @param domain domain
+     * @param schema plain schema
+     * @return whether the generated column for the given plain schema can be used in queries
+     */
+    public boolean isIndexed(final String domain, final PlainSchema schema) {
+        return schema.isIndexed() && columns(domain).available().contains(column(schema.getKey()));
+    }
+
+    protected List<String> columns(final JdbcTemplate jdbcTemplate, final String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM information_schema.COLUMNS "
+                + "WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME=? AND COLUMN_NAME LIKE ?",
+                String.class,
+                table,
+                COLUMN_PREFIX.replace("_", "\\_") + '%');
+    }
+
+    protected void addColumn(final JdbcTemplate jdbcTemplate, final String table, final PlainSchema schema) {
+        String column = column(schema.getKey());
+        LOG.debug("Adding generated column {} to {} for {}", column, table, schema.getKey());
+
+        jdbcTemplate.execute("ALTER TABLE " + table
+                + " ADD COLUMN `" + column + "` " + columnDefinition(schema)
+                + " AS (" + indexedValue(schema) + ") VIRTUAL,"
+                + " ADD INDEX `" + column + "` (`" + column + "`)");
+    }
+
+    protected void dropColumn(final JdbcTemplate jdbcTemplate, final String table, final String column) {
+        LOG.debug("Dropping generated column {} from {}", column, table);
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN `" + column + '`');
+    }
+
+    /**
+     * Adds generated column and index for the given plain schema, if not already present.
+     *
+     * @param domain domain
+     * @param schema indexed plain schema
+     */
+    public void index(final String domain, final PlainSchema schema) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(domainHolder.getDomains().get(domain));
+
+        try {
+            TABLES.forEach(table -> {
+                if (!columns(jdbcTemplate, table).contains(column(schema.getKey()))) {
+                    addColumn(jdbcTemplate, table, schema);
+                }
+            });
+
+        } catch (DataAccessException e) {
+            LOG.error("[{}] Could not add generated columns for {}", domain, schema.getKey(), e);
+        } finally {
+            generated.remove(domain);
+        }
+    }
+
+    /**
+     * Drops generated column and index for the given plain schema, if present; tables are only inspected when the
+     * generated column was found, as this is invoked whenever a non-indexed plain schema is saved.
+     *
+     * @param domain domain
+     * @param schema plain schema key
+     */
+    public void unindex(final String domain, final String schema) {
+        if (!columns(domain).present().contains(column(schema))) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(domainHolder.getDomains().get(domain));
+
+        try {
+            TABLES.forEach(table -> {
+                if (columns(jdbcTemplate, table).contains(column(schema))) {
+                    dropColumn(jdbcTemplate, table, column(schema));
+                }
+            });
+        } catch (DataAccessException e) {
+            LOG.error("[{}] Could not drop generated columns for {}", domain, schema, e);
+        } finally {
+            generated.remove(domain);
+        }
+    }
+
+    /**
+     * Aligns generated columns and indexes with the indexed plain schemas currently defined for the given domain.
+     *
+     * @param domain domain
+     */
+    public void migrate(final String domain) {
+        Map<String, PlainSchema> indexed = AuthContextUtils.callAsAdmin(domain, plainSchemaDAO::findAll).stream().
+                filter(PlainSchema::isIndexed).
+                collect(Collectors.toMap(schema -> column(schema.getKey()), Function.identity()));
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(domainHolder.getDomains().get(domain));
+
+        TABLES.forEach(table -> {
+            try {
+                List<String> columns = columns(jdbcTemplate, table);
+
+                columns.stream().filter(column -> !indexed.containsKey(column)).
+                        forEach(column -> dropColumn(jdbcTemplate, table, column));
+
+                indexed.entrySet().stream().filter(entry -> !columns.contains(entry.getKey())).
+                        forEach(entry -> addColumn(jdbcTemplate, table, entry.getValue()));
+            } catch (DataAccessException e) {
+                LOG.error("[{}] Could not migrate generated columns on {}", domain, table, e);
+            }
+        });
+
+        generated.remove(domain);
+    }
+}
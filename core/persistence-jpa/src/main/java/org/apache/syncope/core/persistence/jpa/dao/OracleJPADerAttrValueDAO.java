@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManager;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
+
+public class OracleJPADerAttrValueDAO extends JPADerAttrValueDAO {
+
+    public OracleJPADerAttrValueDAO(final EntityManager entityManager) {
+        super(entityManager);
+    }
+
+    @Override
+    protected String upsert() {
+        return "MERGE INTO " + JPADerAttrValue.TABLE + " t "
+                + "USING (SELECT ? AS id, ? AS owner_id, ? AS schema_id, ? AS stringValue FROM DUAL) s "
+                + "ON (t.owner_id=s.owner_id AND t.schema_id=s.schema_id) "
+                + "WHEN MATCHED THEN UPDATE SET t.stringValue=s.stringValue "
+                + "WHEN NOT MATCHED THEN INSERT (id, owner_id, schema_id, stringValue) "
+                + "VALUES (s.id, s.owner_id, s.schema_id, s.stringValue)";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.time.OffsetDateTime;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relies on PostgreSQL declarative partitioning; a default partition receives any audit event not falling into
+ * the bounded partitions, as when partitions could not be created ahead of time.
+ */
+public class PGAuditEventPartitioner extends AuditEventPartitioner {
+
+    protected static final String DEFAULT_PARTITION = JPAAuditEvent.TABLE + "_default";
+
+    public PGAuditEventPartitioner(
+            final DomainHolder<DataSource> domainHolder,
+            final PersistenceProperties.AuditEventPartitioning partitioning,
+            final int partitionsAhead) {
+
+        super(domainHolder, partitioning, partitionsAhead);
+    }
+
+    @Override
+    protected boolean isSupported() {
+        return true;
+    }
+
+    @Override
+    protected String bound(final OffsetDateTime bound) {
+        return "'" + BOUND.format(bound) + "+00'";
+    }
+
+    @Override
+    protected boolean isPartitioned(final JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(0) FROM pg_partitioned_table pt JOIN pg_class c ON pt.partrelid=c.oid "
+                + "WHERE c.relname=? AND pg_table_is_visible(c.oid)",
+                Integer.class,
+                JPAAuditEvent.TABLE.toLowerCase()) > 0;
+    }
+
+    @Override
+    protected NavigableMap<OffsetDateTime, String> partitions(final JdbcTemplate jdbcTemplate) {
+        NavigableMap<OffsetDateTime, String> partitions = new TreeMap<>();
+        jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON i.inhrelid=c.oid JOIN pg_class p ON i.inhparent=p.oid "
+                + "WHERE p.relname=? AND pg_table_is_visible(p.oid)",
+                String.class,
+                JPAAuditEvent.TABLE.toLowerCase()).
+                forEach(name -> upperBound(name).ifPresent(upperBound -> partitions.put(upperBound, name)));
+        return partitions;
+    }
+
+    @Override
+    protected void partition(final JdbcTemplate jdbcTemplate, final OffsetDateTime upperBound) {
+        String legacy = JPAAuditEvent.TABLE + '_' + partitionName(upperBound);
+
+        // DDL is transactional on PostgreSQL: either the table is fully partitioned or left untouched
+        new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource())).
+                executeWithoutResult(status -> {
+                    jdbcTemplate.execute("ALTER TABLE " + JPAAuditEvent.TABLE + " RENAME TO " + legacy);
+                    jdbcTemplate.execute("CREATE TABLE " + JPAAuditEvent.TABLE
+                            + " (LIKE " + legacy + " INCLUDING DEFAULTS) PARTITION BY RANGE (event_date)");
+                    jdbcTemplate.execute("ALTER TABLE " + JPAAuditEvent.TABLE
+                            + " ADD CONSTRAINT " + JPAAuditEvent.TABLE + "_pk PRIMARY KEY (id, event_date)");
+
+                    // audit events not preceding the given bound would violate the legacy partition constraint:
+                    // move them to the partitioned table, before attaching
+                    addPartition(jdbcTemplate, upperBound, nextPeriodStart(upperBound));
+                    jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION
+                            + " PARTITION OF " + JPAAuditEvent.TABLE + " DEFAULT");
+                    jdbcTemplate.execute("INSERT INTO " + JPAAuditEvent.TABLE
+                            + " SELECT * FROM " + legacy + " WHERE event_date >= " + bound(upperBound));
+                    jdbcTemplate.execute("DELETE FROM " + legacy + " WHERE event_date >= " + bound(upperBound));
+
+                    jdbcTemplate.execute("ALTER TABLE " + JPAAuditEvent.TABLE
+                            + " ATTACH PARTITION " + legacy
+                            + " FOR VALUES FROM (MINVALUE) TO (" + bound(upperBound) + ')');
+                });
+    }
+
+    @Override
+    protected void addPartition(
+            final JdbcTemplate jdbcTemplate,
+            final OffsetDateTime lowerBound,
+            final OffsetDateTime upperBound) {
+
+        jdbcTemplate.execute("CREATE TABLE " + JPAAuditEvent.TABLE + '_' + partitionName(upperBound)
+                + " PARTITION OF " + JPAAuditEvent.TABLE
+                + " FOR VALUES FROM (" + bound(lowerBound) + ") TO (" + bound(upperBound) + ')');
+    }
+
+    @Override
+    protected void dropPartition(final JdbcTemplate jdbcTemplate, final String name) {
+        jdbcTemplate.execute("DROP TABLE " + name);
+    }
+}
@@ -19,16 +19,21 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -44,6 +49,8 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
     protected static final String REGEX_CHARS = "!$()*+.:<=>?[\\]^{|}-";
 
+    protected static final Pattern PLAN_ROWS = Pattern.compile(" rows=(\\d+) ");
+
     protected static String escapeForLikeRegex(final String input) {
         String output = input;
         for (char toEscape : REGEX_CHARS.toCharArray()) {
@@ -58,15 +65,48 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 : value;
     }
 
+    /**
+     * Builds the expression extracting the value of the given indexed plain schema out of the provided
+     * {@code plainAttrs} column, typed after the schema type; the same expression is used both for creating the
+     * matching btree indexes and for querying, as PostgreSQL only uses expression indexes on identical expressions.
+     *
+     * @param plainAttrs plainAttrs column, possibly qualified
+     * @param schema indexed plain schema
+     * @return typed value expression
+     */
+    public static String indexedValue(final String plainAttrs, final PlainSchema schema) {
+        String value = "(jsonb_path_query_first(" + plainAttrs + ", '$[*] ? (@.schema==\"" + schema.getKey() + "\")."
+                + (schema.isUniqueConstraint() ? "\"uniqueValue\"" : "\"values\"[0]")
+                + '.' + key(schema.getType()) + "') #>> '{}')";
+
+        return switch (schema.getType()) {
+            case Long ->
+                '(' + value + "::bigint)";
+
+            case Double ->
+                '(' + value + "::double precision)";
+
+            case Boolean ->
+                '(' + value + "::boolean)";
+
+            // code point ordering, as for string comparison in JSON path expressions
+            default ->
+                '(' + value + " COLLATE \"C\")";
+        };
+    }
+
     public PGJPAAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
+            final AnySearchQueryCache queryCache,
             final EntityManager entityManager) {
 
         super(
@@ -75,9 +115,12 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
+                queryCache,
                 entityManager);
     }
 
@@ -91,6 +134,21 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         return sv.alias() + ".id";
     }
 
+    @Override
+    protected Optional<Long> estimate(final String queryString, final List<Object> parameters) {
+        Query query = entityManager.createNativeQuery("EXPLAIN " + queryString);
+        fillWithParameters(query, parameters);
+
+        // the first line of the plan refers to the top node, e.g. "Unique  (cost=0.15..8.17 rows=42 width=16)"
+        List<?> plan = query.getResultList();
+        if (plan.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = PLAN_ROWS.matcher(plan.getFirst().toString());
+        return matcher.find() ? Optional.of(Long.valueOf(matcher.group(1))) : Optional.empty();
+    }
+
     @Override
     protected void parseOrderByForPlainSchema(
             final SearchSupport svs,
@@ -105,7 +163,9 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
         obs.views.add(svs.table());
 
-        item.select = fieldName + " -> 0 AS " + fieldName;
+        item.select = schema.isIndexed()
+                ? indexedValue(svs.table().alias() + ".plainAttrs", schema) + " AS " + fieldName
+                : fieldName + " -> 0 AS " + fieldName;
         item.where = StringUtils.EMPTY;
         item.orderBy = fieldName + ' ' + clause.getDirection().name();
     }
@@ -231,6 +291,70 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         return new AnySearchNode.Leaf(from, clause.toString());
     }
 
+    protected Optional<AnySearchNode.Leaf> indexedAttrQuery(
+            final SearchSupport.SearchView from,
+            final PlainAttrValue attrValue,
+            final PlainSchema schema,
+            final AttrCond cond,
+            final boolean not,
+            final List<Object> parameters) {
+
+        // negated conditions shall also match when no value is available, hence they can't leverage indexes
+        if (!schema.isIndexed() || not) {
+            return Optional.empty();
+        }
+
+        String operator = switch (cond.getType()) {
+            case EQ ->
+                "=";
+
+            case GE ->
+                ">=";
+
+            case GT ->
+                ">";
+
+            case LE ->
+                "<=";
+
+            case LT ->
+                "<";
+
+            case LIKE ->
+                schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum
+                ? "LIKE"
+                : null;
+
+            default ->
+                null;
+        };
+        if (operator == null) {
+            return Optional.empty();
+        }
+
+        String value = switch (schema.getType()) {
+            case Long ->
+                "?" + setParameter(parameters, attrValue.getLongValue());
+
+            case Double ->
+                "?" + setParameter(parameters, attrValue.getDoubleValue());
+
+            // boolean parameters are bound as integers
+            case Boolean ->
+                String.valueOf(attrValue.getBooleanValue());
+
+            case Date ->
+                "?" + setParameter(parameters, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(attrValue.getDateValue()));
+
+            default ->
+                "?" + setParameter(parameters, cond.getExpression());
+        };
+
+        return Optional.of(new AnySearchNode.Leaf(
+                from,
+                indexedValue(from.alias() + ".plainAttrs", schema) + ' ' + operator + ' ' + value));
+    }
+
     @Override
     protected AttrCondQuery getQuery(
             final AttrCond cond,
@@ -260,12 +384,18 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 "NOT jsonb_path_exists(" + checked.schema().getKey() + ",'$[*]')"));
 
             default ->
-                new AttrCondQuery(true, filJSONAttrQuery(
+                new AttrCondQuery(true, indexedAttrQuery(
+                svs.table(),
+                checked.value(),
+                checked.schema(),
+                cond,
+                not,
+                parameters).orElseGet(() -> filJSONAttrQuery(
                 svs.table(),
                 checked.value(),
                 checked.schema(),
                 cond,
-                not));
+                not)));
         };
     }
 
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory, per-domain index of the realm tree, mapping each realm's full path to its key; as full paths are kept
+ * sorted, descendants and ancestors of any realm can be found without querying the database.
+ * The index of a domain is built on first access and discarded as soon as any realm in the same domain is changed,
+ * either locally or by other cluster nodes, and again once the enclosing transaction completes, so that uncommitted
+ * changes are not kept around.
+ */
+public class RealmTreeCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(RealmTreeCache.class);
+
+    protected final Map<String, NavigableMap<String, String>> trees = new ConcurrentHashMap<>();
+
+    protected final EntityManager entityManager;
+
+    public RealmTreeCache(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    protected NavigableMap<String, String> tree() {
+        return trees.computeIfAbsent(AuthContextUtils.getDomain(), domain -> {
+            NavigableMap<String, String> tree = new TreeMap<>();
+            entityManager.createQuery(
+                    "SELECT e.fullPath, e.id FROM " + JPARealm.class.getSimpleName() + " e", Object[].class).
+                    getResultList().forEach(row -> tree.put((String) row[0], (String) row[1]));
+
+            LOG.debug("Realm tree for domain {} loaded: {} realms", domain, tree.size());
+
+            return Collections.unmodifiableNavigableMap(tree);
+        });
+    }
+
+    /**
+     * @param fullPath realm full path
+     * @return key of the realm with the given full path, if known
+     */
+    public Optional<String> getKey(final String fullPath) {
+        return fullPath == null ? Optional.empty() : Optional.ofNullable(tree().get(fullPath));
+    }
+
+    /**
+     * @param base base realm full path
+     * @return full paths and keys of the given realm (if known) and of all its descendants, sorted by full path
+     */
+    public NavigableMap<String, String> getDescendants(final String base) {
+        NavigableMap<String, String> tree = tree();
+        if (SyncopeConstants.ROOT_REALM.equals(base)) {
+            return tree;
+        }
+
+        // '0' immediately follows '/', hence [base + '/', base + '0') spans all full paths below base
+        NavigableMap<String, String> descendants = new TreeMap<>(tree.subMap(base + '/', true, base + '0', false));
+        Optional.ofNullable(tree.get(base)).ifPresent(key -> descendants.put(base, key));
+        return descendants;
+    }
+
+    /**
+     * @param fullPath realm full path
+     * @return full paths and keys of the given realm and of all its ancestors up to root, sorted by full path, if
+     * all known
+     */
+    public Optional<NavigableMap<String, String>> getAncestors(final String fullPath) {
+        if (fullPath == null) {
+            return Optional.empty();
+        }
+
+        NavigableMap<String, String> tree = tree();
+
+        NavigableMap<String, String> ancestors = new TreeMap<>();
+        String path = fullPath;
+        while (path != null) {
+            String key = tree.get(path);
+            if (key == null) {
+                return Optional.empty();
+            }
+            ancestors.put(path, key);
+
+            if (SyncopeConstants.ROOT_REALM.equals(path)) {
+                path = null;
+            } else {
+                int slash = path.lastIndexOf('/');
+                path = slash > 0 ? path.substring(0, slash) : SyncopeConstants.ROOT_REALM;
+            }
+        }
+        return Optional.of(ancestors);
+    }
+
+    public void invalidate(final String domain) {
+        trees.remove(domain);
+    }
+
+    @EventListener
+    public void realmChanged(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof Realm) {
+            invalidate(event.getDomain());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void realmChangeCompleted(final EntityLifecycleEvent<Entity> event) {
+        realmChanged(event);
+    }
+
+    /**
+     * Reacts to invalidations received from other nodes, as realms changed there are not notified locally.
+     *
+     * @param domain domain
+     * @param invalidations invalidations received
+     */
+    public void onInvalidated(final String domain, final List<CacheInvalidation> invalidations) {
+        if (invalidations.stream().anyMatch(invalidation -> invalidation.type() == CacheInvalidation.Type.ENTITY
+                && JPARealm.class.getName().equals(invalidation.region()))) {
+
+            invalidate(domain);
+        }
+    }
+}
@@ -23,6 +23,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -106,6 +109,33 @@ public abstract class AbstractAnyRepoExt<A extends Any> implements AnyRepoExt<A>
                 key);
     }
 
+    /**
+     * Finds by natural id, thus leveraging Hibernate's natural id cache. As cached natural id resolutions might have
+     * become stale - e.g. upon rename by another node - the entity found is checked against the given predicate: in
+     * case of mismatch, the natural id cache is evicted and the given query performed instead.
+     *
+     * @param loader loads by natural id
+     * @param matches checks whether the entity found still matches the natural id
+     * @param query queries by natural id, bypassing the natural id cache
+     * @return entity, if found
+     */
+    protected Optional<A> findByNaturalId(
+            final Function<Session, A> loader,
+            final Predicate<A> matches,
+            final Supplier<Optional<A>> query) {
+
+        Session session = entityManager.unwrap(Session.class);
+
+        A any = loader.apply(session);
+        if (any == null || matches.test(any)) {
+            return Optional.ofNullable(any);
+        }
+
+        LOG.debug("Stale natural id resolution for {} {}, evicting", anyUtils.anyTypeKind(), any.getKey());
+        session.getSessionFactory().getCache().evictNaturalIdData(anyUtils.anyClass());
+        return query.get();
+    }
+
     protected abstract void securityChecks(A any);
 
     @SuppressWarnings("unchecked")
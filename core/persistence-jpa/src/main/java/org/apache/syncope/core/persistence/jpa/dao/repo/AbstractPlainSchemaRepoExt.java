@@ -28,12 +28,14 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implements PlainSchemaRepoExt {
 
@@ -44,14 +46,18 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
 
     protected final ExternalResourceDAO resourceDAO;
 
+    protected final AnySearchQueryCache anySearchQueryCache;
+
     protected AbstractPlainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
         super(entityManager);
         this.anyUtilsFactory = anyUtilsFactory;
         this.resourceDAO = resourceDAO;
+        this.anySearchQueryCache = anySearchQueryCache;
     }
 
     @Override
@@ -69,6 +75,14 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
         return ((Number) query.getSingleResult()).longValue() > 0;
     }
 
+    @Override
+    public PlainSchema save(final PlainSchema schema) {
+        // search statements are generated according to schema definitions
+        anySearchQueryCache.invalidateOnCompletion(AuthContextUtils.getDomain());
+
+        return entityManager.merge(schema);
+    }
+
     @Override
     public void deleteById(final String key) {
         PlainSchema schema = entityManager.find(JPAPlainSchema.class, key);
@@ -76,6 +90,8 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
             return;
         }
 
+        anySearchQueryCache.invalidateOnCompletion(AuthContextUtils.getDomain());
+
         resourceDAO.deleteMapping(key);
 
         Optional.ofNullable(schema.getAnyTypeClass()).ifPresent(c -> c.getPlainSchemas().remove(schema));
@@ -18,8 +18,11 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
-@FunctionalInterface
+import java.time.OffsetDateTime;
+
 public interface AccessTokenRepoExt {
 
+    int deleteExpired(OffsetDateTime now);
+
     int deleteByOwner(String username);
 }
@@ -20,7 +20,9 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
 import org.springframework.transaction.annotation.Transactional;
 
 public class AccessTokenRepoExtImpl implements AccessTokenRepoExt {
@@ -31,12 +33,27 @@ public class AccessTokenRepoExtImpl implements AccessTokenRepoExt {
         this.entityManager = entityManager;
     }
 
+    protected int delete(final Query query) {
+        int deleted = query.executeUpdate();
+        CacheInvalidationListener.bulk(entityManager, JPAAccessToken.class);
+        return deleted;
+    }
+
+    @Transactional
+    @Override
+    public int deleteExpired(final OffsetDateTime now) {
+        Query query = entityManager.createQuery(
+                "DELETE FROM " + JPAAccessToken.class.getName() + " e WHERE e.expirationTime < :now");
+        query.setParameter("now", now);
+        return delete(query);
+    }
+
     @Transactional
     @Override
     public int deleteByOwner(final String username) {
         Query query = entityManager.createQuery(
                 "DELETE FROM " + JPAAccessToken.class.getName() + " e WHERE e.owner = :owner");
         query.setParameter("owner", username);
-        return query.executeUpdate();
+        return delete(query);
     }
 }
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
@@ -31,6 +32,10 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 
 public interface AnyObjectRepoExt extends AnyRepoExt<AnyObject> {
 
+    Optional<String> findKey(String type, String name);
+
+    Optional<? extends AnyObject> findByName(String type, String name);
+
     void securityChecks(Set<String> authRealms, String key, String realm, Collection<String> groups);
 
     Map<String, Long> countByType();
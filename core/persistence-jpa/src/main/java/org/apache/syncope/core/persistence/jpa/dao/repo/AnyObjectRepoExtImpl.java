@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyEntitlement;
@@ -44,6 +45,7 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAARelationship;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAURelationship;
@@ -72,6 +74,36 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject> implemen
         this.groupDAO = groupDAO;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<String> findKey(final String type, final String name) {
+        return findByName(type, name).map(AnyObject::getKey);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<? extends AnyObject> findByName(final String type, final String name) {
+        if (type == null || name == null) {
+            return Optional.empty();
+        }
+
+        return findByNaturalId(
+                session -> session.byNaturalId(JPAAnyObject.class).
+                        using("type", entityManager.getReference(JPAAnyType.class, type)).
+                        using("name", name).
+                        load(),
+                anyObject -> name.equals(anyObject.getName()) && type.equals(anyObject.getType().getKey()),
+                () -> {
+                    TypedQuery<AnyObject> query = entityManager.createQuery(
+                            "SELECT e FROM " + JPAAnyObject.class.getSimpleName()
+                            + " e WHERE e.type.id=:type AND e.name=:name",
+                            AnyObject.class);
+                    query.setParameter("type", type);
+                    query.setParameter("name", name);
+                    return query.getResultStream().findFirst();
+                });
+    }
+
     @Override
     public Map<String, Long> countByType() {
         return query(
@@ -27,5 +27,7 @@ public interface DerSchemaRepoExt {
 
     List<? extends DerSchema> findByAnyTypeClasses(Collection<AnyTypeClass> anyTypeClasses);
 
+    DerSchema save(DerSchema schema);
+
     void deleteById(String key);
 }
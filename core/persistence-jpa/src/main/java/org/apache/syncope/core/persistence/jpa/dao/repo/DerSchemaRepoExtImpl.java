@@ -24,15 +24,24 @@ import java.util.List;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.persistence.jpa.entity.JPADerSchema;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSchemaRepoExt {
 
     protected final ExternalResourceDAO resourceDAO;
 
-    public DerSchemaRepoExtImpl(final ExternalResourceDAO resourceDAO, final EntityManager entityManager) {
+    protected final AnySearchQueryCache anySearchQueryCache;
+
+    public DerSchemaRepoExtImpl(
+            final ExternalResourceDAO resourceDAO,
+            final AnySearchQueryCache anySearchQueryCache,
+            final EntityManager entityManager) {
+
         super(entityManager);
         this.resourceDAO = resourceDAO;
+        this.anySearchQueryCache = anySearchQueryCache;
     }
 
     @Override
@@ -40,6 +49,14 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
         return findByAnyTypeClasses(anyTypeClasses, JPADerSchema.class.getSimpleName(), DerSchema.class);
     }
 
+    @Override
+    public DerSchema save(final DerSchema schema) {
+        // search statements are generated according to materialized derived schemas
+        anySearchQueryCache.invalidateOnCompletion(AuthContextUtils.getDomain());
+
+        return entityManager.merge(schema);
+    }
+
     @Override
     public void deleteById(final String key) {
         DerSchema schema = entityManager.find(JPADerSchema.class, key);
@@ -47,6 +64,8 @@ public class DerSchemaRepoExtImpl extends AbstractSchemaRepoExt implements DerSc
             return;
         }
 
+        anySearchQueryCache.invalidateOnCompletion(AuthContextUtils.getDomain());
+
         resourceDAO.deleteMapping(key);
 
         if (schema.getAnyTypeClass() != null) {
@@ -19,7 +19,6 @@
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import java.util.List;
-import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
@@ -30,10 +29,6 @@ import org.springframework.data.repository.query.Param;
 public interface GroupRepo
         extends PagingAndSortingRepository<JPAGroup, String>, GroupRepoExt, GroupDAO {
 
-    @Query("SELECT e.id FROM #{#entityName} e WHERE e.name = :name")
-    @Override
-    Optional<String> findKey(@Param("name") String name);
-
     @Query("SELECT e.id FROM #{#entityName} e WHERE LOWER(e.name) LIKE :pattern")
     @Override
     List<String> findKeysByNamePattern(@Param("pattern") String pattern);
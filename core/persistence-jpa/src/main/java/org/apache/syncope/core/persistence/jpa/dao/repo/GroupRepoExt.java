@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
@@ -32,6 +33,10 @@ import org.springframework.data.domain.Pageable;
 
 public interface GroupRepoExt extends AnyRepoExt<Group> {
 
+    Optional<String> findKey(String name);
+
+    Optional<? extends Group> findByName(String name);
+
     void securityChecks(Set<String> authRealms, String key, String realm);
 
     boolean isManager(String key);
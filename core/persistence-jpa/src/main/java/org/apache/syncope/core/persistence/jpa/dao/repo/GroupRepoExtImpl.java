@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
@@ -86,6 +87,31 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         this.anyObjectDAO = anyObjectDAO;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<String> findKey(final String name) {
+        return findByName(name).map(Group::getKey);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<? extends Group> findByName(final String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+
+        return findByNaturalId(
+                session -> session.bySimpleNaturalId(JPAGroup.class).load(name),
+                group -> name.equals(group.getName()),
+                () -> {
+                    TypedQuery<Group> query = entityManager.createQuery(
+                            "SELECT e FROM " + JPAGroup.class.getSimpleName() + " e WHERE e.name=:name",
+                            Group.class);
+                    query.setParameter("name", name);
+                    return query.getResultStream().findFirst();
+                });
+    }
+
     @Transactional(readOnly = true)
     @Override
     public void securityChecks(
@@ -21,14 +21,18 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLPlainSchemaIndexer;
 
 public class MariaDBPlainSchemaRepoExtImpl extends MySQLPlainSchemaRepoExtImpl {
 
     public MariaDBPlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final MySQLPlainSchemaIndexer plainSchemaIndexer,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, plainSchemaIndexer, anySearchQueryCache, entityManager);
     }
 }
@@ -27,9 +27,14 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLPlainSchemaIndexer;
 import org.apache.syncope.core.persistence.jpa.dao.SearchSupport;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class MySQLPlainSchemaRepoExtImpl extends AbstractPlainSchemaRepoExt {
 
@@ -38,12 +43,57 @@ public class MySQLPlainSchemaRepoExtImpl extends AbstractPlainSchemaRepoExt {
 
     protected static final String HAS_ATTRS_ALIAS = " AS hasAttrs";
 
+    protected final MySQLPlainSchemaIndexer plainSchemaIndexer;
+
     public MySQLPlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final MySQLPlainSchemaIndexer plainSchemaIndexer,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, anySearchQueryCache, entityManager);
+        this.plainSchemaIndexer = plainSchemaIndexer;
+    }
+
+    /**
+     * DDL statements implicitly commit any ongoing transaction on MySQL and MariaDB, hence they are postponed until
+     * the current transaction (if any) is successfully committed.
+     *
+     * @param ddl DDL statements to run
+     */
+    protected void afterCommit(final Runnable ddl) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    ddl.run();
+                }
+            });
+        } else {
+            ddl.run();
+        }
+    }
+
+    @Override
+    public PlainSchema save(final PlainSchema schema) {
+        PlainSchema merged = super.save(schema);
+
+        String domain = AuthContextUtils.getDomain();
+        afterCommit(merged.isIndexed()
+                ? () -> plainSchemaIndexer.index(domain, merged)
+                : () -> plainSchemaIndexer.unindex(domain, merged.getKey()));
+
+        return merged;
+    }
+
+    @Override
+    public void deleteById(final String key) {
+        super.deleteById(key);
+
+        String domain = AuthContextUtils.getDomain();
+        afterCommit(() -> plainSchemaIndexer.unindex(domain, key));
     }
 
     @Override
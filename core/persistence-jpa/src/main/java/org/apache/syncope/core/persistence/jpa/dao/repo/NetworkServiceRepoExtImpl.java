@@ -25,6 +25,7 @@ import java.util.List;
 import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
 import org.apache.syncope.core.persistence.api.entity.keymaster.NetworkServiceEntity;
 import org.apache.syncope.core.persistence.jpa.entity.keymaster.JPANetworkService;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
 import org.springframework.transaction.annotation.Transactional;
 
 public class NetworkServiceRepoExtImpl implements NetworkServiceRepoExt {
@@ -54,5 +55,6 @@ public class NetworkServiceRepoExtImpl implements NetworkServiceRepoExt {
         query.setParameter("address", service.getAddress());
 
         query.executeUpdate();
+        CacheInvalidationListener.bulk(entityManager, JPANetworkService.class);
     }
 }
@@ -20,29 +20,158 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
+import org.apache.syncope.core.persistence.jpa.dao.PGJPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.SearchSupport;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class PGPlainSchemaRepoExtImpl extends AbstractPlainSchemaRepoExt {
 
     protected static final String HAS_ATTRS_QUERY = "SELECT COUNT(id) AS counts FROM %TABLE% "
             + "WHERE plainAttrs::jsonb @> '[{\"schema\":\"%SCHEMA%\"}]'::jsonb ";
 
+    protected static final Logger LOG = LoggerFactory.getLogger(PGPlainSchemaRepoExtImpl.class);
+
+    protected static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    /**
+     * Schema keys end up in DDL statements, both within index names and index expressions: besides quoting, they
+     * are checked against the same pattern enforced on save, for nothing else to ever reach the database.
+     *
+     * @param schema schema key
+     * @return the given schema key
+     */
+    protected static String validate(final String schema) {
+        if (schema == null || !Entity.ID_PATTERN.matcher(schema).matches()) {
+            throw new IllegalArgumentException("Invalid schema key: " + schema);
+        }
+        return schema;
+    }
+
+    protected static String indexName(final String table, final String schema) {
+        String name = table + '_' + validate(schema) + "_idx";
+        // PostgreSQL silently truncates identifiers longer than 63 bytes
+        if (name.getBytes(StandardCharsets.UTF_8).length > MAX_IDENTIFIER_LENGTH) {
+            name = table + '_' + UUID.nameUUIDFromBytes(schema.getBytes(StandardCharsets.UTF_8)).toString().
+                    replace("-", "") + "_idx";
+        }
+        return '"' + name.replace("\"", "\"\"") + '"';
+    }
+
+    protected final DomainHolder<DataSource> domainHolder;
+
     public PGPlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
+            final AnySearchQueryCache anySearchQueryCache,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, anySearchQueryCache, entityManager);
+        this.domainHolder = domainHolder;
+    }
+
+    /**
+     * Indexes are built and dropped {@code CONCURRENTLY}, for writes on the involved tables not to be blocked
+     * meanwhile: as such statements cannot run inside a transaction block, they are postponed until the current
+     * transaction (if any) is successfully committed, and run via a dedicated connection in auto-commit mode.
+     *
+     * @param domain domain
+     * @param ddl DDL statements to run
+     */
+    protected void afterCommit(final String domain, final Consumer<Statement> ddl) {
+        Runnable run = () -> {
+            try (Connection conn = domainHolder.getDomains().get(domain).getConnection();
+                    Statement stmt = conn.createStatement()) {
+
+                conn.setAutoCommit(true);
+                ddl.accept(stmt);
+            } catch (SQLException e) {
+                LOG.error("[{}] Could not get connection for index maintenance", domain, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    run.run();
+                }
+            });
+        } else {
+            run.run();
+        }
+    }
+
+    protected boolean execute(final Statement stmt, final String statement) {
+        LOG.debug("Executing {}", statement);
+        try {
+            stmt.execute(statement);
+            return true;
+        } catch (SQLException e) {
+            LOG.error("While executing {}", statement, e);
+            return false;
+        }
+    }
+
+    protected void createIndexes(final Statement stmt, final PlainSchema schema) {
+        TABLES.forEach(table -> {
+            String index = indexName(table, schema.getKey());
+            if (!execute(stmt, "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index
+                    + " ON " + table + " (" + PGJPAAnySearchDAO.indexedValue("plainAttrs", schema) + ")")) {
+
+                // a failed concurrent build leaves an invalid index behind, which IF NOT EXISTS would then keep
+                execute(stmt, "DROP INDEX CONCURRENTLY IF EXISTS " + index);
+            }
+        });
+    }
+
+    protected void dropIndexes(final Statement stmt, final String schema) {
+        TABLES.forEach(table -> execute(stmt, "DROP INDEX CONCURRENTLY IF EXISTS " + indexName(table, schema)));
+    }
+
+    @Override
+    public PlainSchema save(final PlainSchema schema) {
+        PlainSchema merged = super.save(schema);
+
+        validate(merged.getKey());
+        afterCommit(AuthContextUtils.getDomain(), merged.isIndexed()
+                ? stmt -> createIndexes(stmt, merged)
+                : stmt -> dropIndexes(stmt, merged.getKey()));
+
+        return merged;
+    }
+
+    @Override
+    public void deleteById(final String key) {
+        super.deleteById(key);
+
+        validate(key);
+        afterCommit(AuthContextUtils.getDomain(), stmt -> dropIndexes(stmt, key));
     }
 
     @Override
@@ -35,5 +35,7 @@ public interface PlainSchemaRepoExt {
 
     boolean existsPlainAttrUniqueValue(AnyUtils anyUtils, String anyKey, PlainSchema schema, PlainAttrValue attrValue);
 
+    PlainSchema save(PlainSchema schema);
+
     void deleteById(String key);
 }
@@ -32,10 +32,6 @@ import org.springframework.data.repository.query.Param;
 public interface UserRepo
         extends PagingAndSortingRepository<JPAUser, String>, UserRepoExt, UserDAO {
 
-    @Query("SELECT e.id FROM #{#entityName} e WHERE e.username = :username")
-    @Override
-    Optional<String> findKey(@Param("username") String username);
-
     @Query("SELECT e.username FROM #{#entityName} e WHERE e.id = :key")
     @Override
     Optional<String> findUsername(@Param("key") String key);
@@ -32,6 +32,10 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 
 public interface UserRepoExt extends AnyRepoExt<User> {
 
+    Optional<String> findKey(String username);
+
+    Optional<? extends User> findByUsername(String username);
+
     Optional<String> findByToken(String token);
 
     void securityChecks(Set<String> authRealms, String key, String realm, Collection<String> groups);
@@ -60,6 +64,12 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     Collection<ExternalResource> findAllResources(User user);
 
+    Map<String, Set<String>> findRoleEntitlements(String key);
+
+    Map<String, Set<String>> findGroupKeysByUserKeys(Collection<String> keys);
+
+    Map<String, Set<String>> findResourceKeysByUserKeys(Collection<String> keys);
+
     boolean linkedAccountExists(String userKey, String connObjectKeyValue);
 
     @Override
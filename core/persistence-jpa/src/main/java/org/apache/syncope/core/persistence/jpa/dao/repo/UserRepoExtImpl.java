@@ -41,6 +41,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
@@ -94,6 +95,31 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
         this.securityProperties = securityProperties;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<String> findKey(final String username) {
+        return findByUsername(username).map(User::getKey);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<? extends User> findByUsername(final String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+
+        return findByNaturalId(
+                session -> session.bySimpleNaturalId(JPAUser.class).load(username),
+                user -> username.equals(user.getUsername()),
+                () -> {
+                    TypedQuery<User> query = entityManager.createQuery(
+                            "SELECT e FROM " + JPAUser.class.getSimpleName() + " e WHERE e.username=:username",
+                            User.class);
+                    query.setParameter("username", username);
+                    return query.getResultStream().findFirst();
+                });
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Optional<String> findByToken(final String token) {
@@ -358,6 +384,54 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
         return findAllResources(authFind(key)).stream().map(ExternalResource::getKey).toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Set<String>> findRoleEntitlements(final String key) {
+        Map<String, Set<String>> result = new HashMap<>();
+
+        Optional.ofNullable(entityManager.find(JPAUser.class, key)).ifPresent(user -> findAllRoles(user).
+                forEach(role -> role.getEntitlements().forEach(entitlement -> result.
+                computeIfAbsent(entitlement, e -> new HashSet<>()).
+                addAll(role.getRealms().stream().map(Realm::getFullPath).toList()))));
+
+        return result;
+    }
+
+    protected Map<String, Set<String>> findKeysByUserKeys(final Collection<String> keys, final String... queries) {
+        Map<String, Set<String>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, new HashSet<>()));
+
+        if (!keys.isEmpty()) {
+            for (String jpql : queries) {
+                TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+                query.setParameter("keys", keys);
+                query.getResultList().forEach(row -> result.get(row[0].toString()).add(row[1].toString()));
+            }
+        }
+
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Set<String>> findGroupKeysByUserKeys(final Collection<String> keys) {
+        return findKeysByUserKeys(
+                keys,
+                "SELECT e.leftEnd.id, e.rightEnd.id FROM " + JPAUMembership.class.getSimpleName() + " e "
+                + "WHERE e.leftEnd.id IN :keys");
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Set<String>> findResourceKeysByUserKeys(final Collection<String> keys) {
+        return findKeysByUserKeys(
+                keys,
+                "SELECT e.id, r.id FROM " + JPAUser.class.getSimpleName() + " e JOIN e.resources r "
+                + "WHERE e.id IN :keys",
+                "SELECT e.leftEnd.id, r.id FROM " + JPAUMembership.class.getSimpleName() + " e "
+                + "JOIN e.rightEnd.resources r WHERE e.leftEnd.id IN :keys");
+    }
+
     @Transactional(readOnly = true)
     @Override
     public boolean linkedAccountExists(final String userKey, final String connObjectKeyValue) {
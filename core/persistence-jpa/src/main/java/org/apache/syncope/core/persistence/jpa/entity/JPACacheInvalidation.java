@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+
+/**
+ * Entry of the invalidation log written and polled by
+ * {@link org.apache.syncope.core.persistence.jpa.hibernate.DBCacheInvalidationChannel}; rows are managed via JDBC,
+ * this mapping is only meant for schema generation.
+ */
+@Entity
+@Table(name = JPACacheInvalidation.TABLE)
+public class JPACacheInvalidation extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = -2187359260717463085L;
+
+    public static final String TABLE = "CacheInvalidation";
+
+    @NotNull
+    @Column(length = 36)
+    private String nodeId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private CacheInvalidation.Type kind;
+
+    @NotNull
+    private String region;
+
+    private String entityKey;
+
+    /**
+     * Milliseconds since the epoch, as per the publishing node's clock.
+     */
+    private long created;
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(final String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public CacheInvalidation.Type getKind() {
+        return kind;
+    }
+
+    public void setKind(final CacheInvalidation.Type kind) {
+        this.kind = kind;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(final String region) {
+        this.region = region;
+    }
+
+    public String getEntityKey() {
+        return entityKey;
+    }
+
+    public void setEntityKey(final String entityKey) {
+        this.entityKey = entityKey;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(final long created) {
+        this.created = created;
+    }
+}
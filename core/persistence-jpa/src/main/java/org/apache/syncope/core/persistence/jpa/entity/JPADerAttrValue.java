@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+
+/**
+ * Value of a materialized derived schema for a given user, group, any object or realm; rows are managed via
+ * {@link org.apache.syncope.core.persistence.jpa.dao.JPADerAttrValueDAO}, this mapping is only meant for schema
+ * generation.
+ */
+@Entity
+@Table(name = JPADerAttrValue.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "owner_id", "schema_id" }))
+public class JPADerAttrValue extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = 3418209543764208935L;
+
+    public static final String TABLE = "DerAttrValue";
+
+    @NotNull
+    @Column(name = "owner_id", length = 36)
+    private String owner;
+
+    @NotNull
+    @Column(name = "schema_id")
+    private String schema;
+
+    @Column(length = DerAttrValueDAO.MAX_VALUE_LENGTH)
+    private String stringValue;
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(final String owner) {
+        this.owner = owner;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public void setSchema(final String schema) {
+        this.schema = schema;
+    }
+
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    public void setStringValue(final String stringValue) {
+        this.stringValue = stringValue;
+    }
+}
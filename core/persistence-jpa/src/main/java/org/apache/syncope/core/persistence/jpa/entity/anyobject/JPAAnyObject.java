@@ -49,11 +49,14 @@ import org.apache.syncope.core.persistence.jpa.entity.AbstractGroupableRelatable
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = JPAAnyObject.TABLE, uniqueConstraints =
         @UniqueConstraint(columnNames = { "name", "type_id" }))
 @Cacheable
+@NaturalIdCache
 @AnyObjectCheck
 public class JPAAnyObject
         extends AbstractGroupableRelatable<AnyObject, AMembership, ARelationship>
@@ -64,9 +67,11 @@ public class JPAAnyObject
     public static final String TABLE = "AnyObject";
 
     @Size(min = 1)
+    @NaturalId(mutable = true)
     private String name;
 
     @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @NaturalId(mutable = true)
     private JPAAnyType type;
 
     @Convert(converter = PlainAttrListConverter.class)
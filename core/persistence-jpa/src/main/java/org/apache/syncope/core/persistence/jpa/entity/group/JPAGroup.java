@@ -51,10 +51,13 @@ import org.apache.syncope.core.persistence.jpa.converters.PlainAttrListConverter
 import org.apache.syncope.core.persistence.jpa.entity.AbstractRelatable;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = JPAGroup.TABLE)
 @Cacheable
+@NaturalIdCache
 @GroupCheck
 public class JPAGroup
         extends AbstractRelatable<Group, GRelationship>
@@ -66,6 +69,7 @@ public class JPAGroup
 
     @Column(unique = true)
     @NotNull
+    @NaturalId(mutable = true)
     private String name;
 
     @Convert(converter = PlainAttrListConverter.class)
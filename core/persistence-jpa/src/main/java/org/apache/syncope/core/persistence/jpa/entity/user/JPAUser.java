@@ -63,10 +63,13 @@ import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
 import org.apache.syncope.core.persistence.jpa.entity.JPARole;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = JPAUser.TABLE)
 @Cacheable
+@NaturalIdCache
 public class JPAUser
         extends AbstractGroupableRelatable<User, UMembership, URelationship>
         implements User {
@@ -114,6 +117,7 @@ public class JPAUser
      */
     @Column(unique = true)
     @NotNull(message = "Blank username")
+    @NaturalId(mutable = true)
     protected String username;
 
     /**
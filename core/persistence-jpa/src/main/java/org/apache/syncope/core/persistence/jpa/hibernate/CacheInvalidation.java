@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.hibernate;
+
+/**
+ * Second-level cache eviction to be propagated to other nodes.
+ *
+ * @param type whether an entity, natural id or collection region is affected
+ * @param region entity name or collection role
+ * @param key entity or collection owner identifier, or previous natural id value; {@code null} meaning the whole
+ * region
+ */
+public record CacheInvalidation(Type type, String region, String key) {
+
+    public enum Type {
+        ENTITY,
+        NATURAL_ID,
+        COLLECTION
+
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.hibernate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+/**
+ * Propagates second-level cache evictions across all Core nodes sharing the same database, so that local (per-JVM)
+ * caches can be safely used in clustered deployments.
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publishes the given invalidations; invoked right before commit, within the transaction which caused them.
+     *
+     * @param conn JDBC connection bound to the transaction being committed
+     * @param invalidations invalidations to publish
+     * @throws SQLException if anything goes wrong, thus preventing commit
+     */
+    void publish(Connection conn, Collection<CacheInvalidation> invalidations) throws SQLException;
+
+    /**
+     * Starts receiving invalidations published by other nodes for the given domain.
+     *
+     * @param domain domain
+     * @param dataSource domain's data source
+     * @param consumer callback for invalidations received
+     */
+    void subscribe(String domain, DataSource dataSource, Consumer<List<CacheInvalidation>> consumer);
+
+    /**
+     * Stops receiving invalidations for the given domain.
+     *
+     * @param domain domain
+     */
+    void unsubscribe(String domain);
+}
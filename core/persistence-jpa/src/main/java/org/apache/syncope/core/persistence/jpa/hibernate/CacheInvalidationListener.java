@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.hibernate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Synchronization;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.hibernate.Cache;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Collects the second-level cache changes performed by each transaction, to publish them via
+ * {@link CacheInvalidationChannel} right before commit; also applies the invalidations received from other nodes.
+ */
+public class CacheInvalidationListener implements
+        PostInsertEventListener,
+        PostUpdateEventListener,
+        PostDeleteEventListener,
+        PostCollectionRecreateEventListener,
+        PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private static final long serialVersionUID = 7418392731587018846L;
+
+    /**
+     * JPQL bulk updates and deletes fire no entity events, hence they are not collected otherwise: this method is
+     * meant to be invoked right after any of them, within the same transaction, so that the regions affected are
+     * invalidated on other nodes as well.
+     *
+     * @param entityManager entity manager which executed the bulk statement
+     * @param entityClasses entities affected by the bulk statement
+     */
+    public static void bulk(final EntityManager entityManager, final Class<?>... entityClasses) {
+        EventSource session = entityManager.unwrap(EventSource.class);
+        session.getFactory().getEventListenerRegistry().getEventListenerGroup(EventType.POST_DELETE).
+                fireEventOnEachListener(session, (listener, source) -> {
+                    if (listener instanceof final CacheInvalidationListener cacheInvalidationListener) {
+                        cacheInvalidationListener.addBulk(source, entityClasses);
+                    }
+                });
+    }
+
+    protected final CacheInvalidationChannel channel;
+
+    protected final SessionFactoryImplementor sessionFactory;
+
+    protected final Map<EventSource, Set<CacheInvalidation>> pending = new ConcurrentHashMap<>();
+
+    public CacheInvalidationListener(
+            final CacheInvalidationChannel channel,
+            final SessionFactoryImplementor sessionFactory) {
+
+        this.channel = channel;
+        this.sessionFactory = sessionFactory;
+    }
+
+    public void register() {
+        EventListenerRegistry registry = sessionFactory.getEventListenerRegistry();
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    protected void add(final EventSource session, final CacheInvalidation invalidation) {
+        pending.computeIfAbsent(session, s -> {
+            s.getTransaction().registerSynchronization(new Synchronization() {
+
+                @Override
+                public void beforeCompletion() {
+                    Optional.ofNullable(pending.get(s)).filter(invalidations -> !invalidations.isEmpty()).
+                            ifPresent(invalidations -> s.doWork(conn -> channel.publish(conn, invalidations)));
+                }
+
+                @Override
+                public void afterCompletion(final int status) {
+                    pending.remove(s);
+                }
+            });
+            return new LinkedHashSet<>();
+        }).add(invalidation);
+    }
+
+    protected void addEntity(final EventSource session, final EntityPersister persister, final Object id) {
+        if (persister.canWriteToCache()) {
+            add(session, new CacheInvalidation(
+                    CacheInvalidation.Type.ENTITY,
+                    persister.getEntityName(),
+                    id instanceof final String key ? key : null));
+        }
+    }
+
+    /**
+     * Natural id resolutions cached by other nodes are only affected when the natural id of an entity is changed or
+     * the entity deleted; simple natural id values are published so that only the affected resolution is evicted.
+     *
+     * @param session session
+     * @param persister entity persister
+     * @param before entity state before the change
+     * @param after entity state after the change, {@code null} on delete
+     */
+    protected void addNaturalId(
+            final EventSource session,
+            final EntityPersister persister,
+            final Object[] before,
+            final Object[] after) {
+
+        NaturalIdMapping naturalIdMapping = persister.getNaturalIdMapping();
+        if (!persister.hasNaturalIdCache() || naturalIdMapping == null) {
+            return;
+        }
+
+        Object previous = before == null ? null : naturalIdMapping.extractNaturalIdFromEntityState(before);
+        if (previous != null && after != null
+                && Objects.deepEquals(previous, naturalIdMapping.extractNaturalIdFromEntityState(after))) {
+
+            return;
+        }
+
+        add(session, new CacheInvalidation(
+                CacheInvalidation.Type.NATURAL_ID,
+                persister.getEntityName(),
+                previous instanceof final String value ? value : null));
+    }
+
+    protected void addCollection(final AbstractCollectionEvent event) {
+        String role = event.getCollection().getRole();
+        if (role != null && sessionFactory.getMappingMetamodel().getCollectionDescriptor(role).hasCache()) {
+            add(event.getSession(), new CacheInvalidation(
+                    CacheInvalidation.Type.COLLECTION,
+                    role,
+                    event.getAffectedOwnerIdOrNull() instanceof final String key ? key : null));
+        }
+    }
+
+    /**
+     * Whole regions are published, as the rows affected by bulk statements are not known; this includes the query
+     * cache, which is evicted upon receiving any invalidation, even for entities not cached.
+     *
+     * @param session session
+     * @param entityClasses entities affected by the bulk statement
+     */
+    protected void addBulk(final EventSource session, final Class<?>... entityClasses) {
+        for (Class<?> entityClass : entityClasses) {
+            EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+            add(session, new CacheInvalidation(CacheInvalidation.Type.ENTITY, persister.getEntityName(), null));
+
+            if (persister.hasNaturalIdCache()) {
+                add(session, new CacheInvalidation(CacheInvalidation.Type.NATURAL_ID, persister.getEntityName(), null));
+            }
+
+            List<Object> spaces = List.of((Object[]) persister.getQuerySpaces());
+            sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+                if (collection.hasCache() && Stream.of(collection.getCollectionSpaces()).anyMatch(spaces::contains)) {
+                    add(session, new CacheInvalidation(CacheInvalidation.Type.COLLECTION, collection.getRole(), null));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        addEntity(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        addEntity(event.getSession(), event.getPersister(), event.getId());
+        addNaturalId(event.getSession(), event.getPersister(), event.getOldState(), event.getState());
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        addEntity(event.getSession(), event.getPersister(), event.getId());
+        addNaturalId(event.getSession(), event.getPersister(), event.getDeletedState(), null);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostRecreateCollection(final PostCollectionRecreateEvent event) {
+        addCollection(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(final PostCollectionUpdateEvent event) {
+        addCollection(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(final PostCollectionRemoveEvent event) {
+        addCollection(event);
+    }
+
+    protected void evictNaturalId(final Cache cache, final CacheInvalidation invalidation) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(invalidation.region());
+        if (invalidation.key() == null || persister.getNaturalIdMapping().getNaturalIdAttributes().size() > 1) {
+            cache.evictNaturalIdData(invalidation.region());
+            return;
+        }
+
+        NaturalIdDataAccess access = persister.getNaturalIdMapping().getCacheAccess();
+        try (SessionImplementor session = sessionFactory.openTemporarySession()) {
+            access.evict(access.generateCacheKey(invalidation.key(), persister, session));
+        }
+    }
+
+    /**
+     * Evicts the given invalidations, received from other nodes, from the local second-level cache; query cache
+     * regions are evicted as well, since cached results might be affected.
+     *
+     * @param invalidations invalidations received
+     */
+    public void evict(final List<CacheInvalidation> invalidations) {
+        Cache cache = sessionFactory.getCache();
+        invalidations.forEach(invalidation -> {
+            switch (invalidation.type()) {
+                case ENTITY -> {
+                    if (invalidation.key() == null) {
+                        cache.evictEntityData(invalidation.region());
+                    } else {
+                        cache.evictEntityData(invalidation.region(), invalidation.key());
+                    }
+                }
+
+                case NATURAL_ID ->
+                    evictNaturalId(cache, invalidation);
+
+                case COLLECTION -> {
+                    if (invalidation.key() == null) {
+                        cache.evictCollectionData(invalidation.region());
+                    } else {
+                        cache.evictCollectionData(invalidation.region(), invalidation.key());
+                    }
+                }
+
+                default -> {
+                }
+            }
+        });
+        cache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.hibernate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.jpa.entity.JPACacheInvalidation;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link CacheInvalidationChannel} implementation relying on an invalidation log table, periodically polled by each
+ * node.
+ */
+public class DBCacheInvalidationChannel implements CacheInvalidationChannel, AutoCloseable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DBCacheInvalidationChannel.class);
+
+    protected static final String INSERT = "INSERT INTO " + JPACacheInvalidation.TABLE
+            + "(id, nodeId, kind, region, entityKey, created) VALUES (?, ?, ?, ?, ?, ?)";
+
+    protected static final String SELECT = "SELECT id, nodeId, kind, region, entityKey, created FROM "
+            + JPACacheInvalidation.TABLE + " WHERE created > ? ORDER BY created";
+
+    protected static final String PURGE = "DELETE FROM " + JPACacheInvalidation.TABLE + " WHERE created < ?";
+
+    /**
+     * Log entries are read again for this long after the latest one seen, to cope with clock skew among nodes.
+     */
+    protected static final Duration LOOKBACK = Duration.ofSeconds(30);
+
+    protected static final Duration PURGE_INTERVAL = Duration.ofMinutes(5);
+
+    protected class Subscription {
+
+        protected final String domain;
+
+        protected final JdbcTemplate jdbcTemplate;
+
+        protected final Consumer<List<CacheInvalidation>> consumer;
+
+        /**
+         * Log entries already processed, within the lookback window.
+         */
+        protected final Map<String, Long> seen = new HashMap<>();
+
+        protected long watermark = System.currentTimeMillis();
+
+        protected long nextPurge;
+
+        protected ScheduledFuture<?> future;
+
+        protected volatile boolean cancelled;
+
+        protected Subscription(
+                final String domain,
+                final DataSource dataSource,
+                final Consumer<List<CacheInvalidation>> consumer) {
+
+            this.domain = domain;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.consumer = consumer;
+        }
+
+        protected synchronized void poll() {
+            long since = watermark - LOOKBACK.toMillis();
+
+            List<CacheInvalidation> received = new ArrayList<>();
+            jdbcTemplate.query(SELECT, rs -> {
+                long created = rs.getLong("created");
+                watermark = Math.max(watermark, created);
+
+                if (seen.putIfAbsent(rs.getString("id"), created) == null && !node.equals(rs.getString("nodeId"))) {
+                    received.add(new CacheInvalidation(
+                            CacheInvalidation.Type.valueOf(rs.getString("kind")),
+                            rs.getString("region"),
+                            rs.getString("entityKey")));
+                }
+            }, since);
+            seen.values().removeIf(created -> created < watermark - LOOKBACK.toMillis());
+
+            if (!received.isEmpty()) {
+                LOG.debug("Received {} cache invalidation(s) for domain {}", received.size(), domain);
+                consumer.accept(received);
+            }
+
+            long now = System.currentTimeMillis();
+            if (now >= nextPurge) {
+                int purged = jdbcTemplate.update(PURGE, now - retention.toMillis());
+                LOG.debug("Purged {} cache invalidation(s) for domain {}", purged, domain);
+                nextPurge = now + PURGE_INTERVAL.toMillis();
+            }
+        }
+
+        protected void pollSafely() {
+            try {
+                poll();
+            } catch (Exception e) {
+                LOG.error("While polling cache invalidations for domain {}", domain, e);
+            }
+        }
+
+        protected void cancel() {
+            cancelled = true;
+            Optional.ofNullable(future).ifPresent(f -> f.cancel(false));
+        }
+    }
+
+    /**
+     * Identifies this node, so that own invalidations are not applied twice.
+     */
+    protected final String node = SecureRandomUtils.generateRandomUUID().toString();
+
+    protected final Duration pollInterval;
+
+    protected final Duration retention;
+
+    protected final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cacheInvalidation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    protected final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    public DBCacheInvalidationChannel(final Duration pollInterval, final Duration retention) {
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(final Connection conn, final Collection<CacheInvalidation> invalidations)
+            throws SQLException {
+
+        long now = System.currentTimeMillis();
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT)) {
+            for (CacheInvalidation invalidation : invalidations) {
+                stmt.setString(1, SecureRandomUtils.generateRandomUUID().toString());
+                stmt.setString(2, node);
+                stmt.setString(3, invalidation.type().name());
+                stmt.setString(4, invalidation.region());
+                stmt.setString(5, invalidation.key());
+                stmt.setLong(6, now);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    @Override
+    public void subscribe(
+            final String domain,
+            final DataSource dataSource,
+            final Consumer<List<CacheInvalidation>> consumer) {
+
+        Subscription subscription = new Subscription(domain, dataSource, consumer);
+        subscription.future = scheduler.scheduleWithFixedDelay(
+                subscription::pollSafely, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        Optional.ofNullable(subscriptions.put(domain, subscription)).ifPresent(Subscription::cancel);
+
+        LOG.info("Polling cache invalidations for domain {} every {}", domain, pollInterval);
+    }
+
+    /**
+     * Reads the invalidations published for the given domain right away, rather than waiting for the next poll.
+     *
+     * @param domain domain
+     */
+    public void poll(final String domain) {
+        Optional.ofNullable(subscriptions.get(domain)).ifPresent(Subscription::poll);
+    }
+
+    @Override
+    public void unsubscribe(final String domain) {
+        Optional.ofNullable(subscriptions.remove(domain)).ifPresent(Subscription::cancel);
+    }
+
+    @Override
+    public void close() {
+        subscriptions.keySet().forEach(this::unsubscribe);
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.hibernate;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extends {@link DBCacheInvalidationChannel} by means of PostgreSQL's {@code LISTEN} / {@code NOTIFY}: notifications
+ * are delivered upon commit and make other nodes read the invalidation log right away, rather than waiting for the
+ * next poll, which is still performed as fallback.
+ * The PostgreSQL JDBC driver is accessed reflectively, as it is only available at runtime.
+ * Each domain is listened on by means of a dedicated connection, opened outside the connection pool.
+ */
+public class PGCacheInvalidationChannel extends DBCacheInvalidationChannel {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PGCacheInvalidationChannel.class);
+
+    protected static final String CHANNEL = "syncope_cache_invalidation";
+
+    protected final Class<?> pgConnection;
+
+    protected final Method getNotifications;
+
+    protected final Map<String, Connection> listening = new ConcurrentHashMap<>();
+
+    public PGCacheInvalidationChannel(final Duration pollInterval, final Duration retention) {
+        super(pollInterval, retention);
+
+        try {
+            pgConnection = Class.forName("org.postgresql.PGConnection");
+            getNotifications = pgConnection.getMethod("getNotifications", int.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new IllegalStateException("PostgreSQL JDBC driver not available", e);
+        }
+    }
+
+    @Override
+    public void publish(final Connection conn, final Collection<CacheInvalidation> invalidations)
+            throws SQLException {
+
+        super.publish(conn, invalidations);
+
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT pg_notify(?, ?)")) {
+            stmt.setString(1, CHANNEL);
+            stmt.setString(2, node);
+            stmt.execute();
+        }
+    }
+
+    /**
+     * Opens a physical connection with the same settings as the given data source: {@code LISTEN} requires the
+     * connection to be held as long as the subscription lasts, which would otherwise take one slot of the connection
+     * pool away for good.
+     *
+     * @param dataSource domain's data source
+     * @return new connection, to be closed by the caller
+     * @throws SQLException if the connection cannot be opened
+     */
+    protected Connection connect(final DataSource dataSource) throws SQLException {
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            if (hikari.getDataSource() != null) {
+                return hikari.getDataSource().getConnection();
+            }
+            if (hikari.getJdbcUrl() != null) {
+                Properties info = new Properties();
+                info.putAll(hikari.getDataSourceProperties());
+                Optional.ofNullable(hikari.getUsername()).ifPresent(username -> info.setProperty("user", username));
+                Optional.ofNullable(hikari.getPassword()).ifPresent(password -> info.setProperty("password", password));
+                return DriverManager.getConnection(hikari.getJdbcUrl(), info);
+            }
+        }
+
+        LOG.warn("Could not open a dedicated connection, listening through the connection pool");
+        return dataSource.getConnection();
+    }
+
+    protected void listen(final Subscription subscription, final DataSource dataSource) {
+        while (!subscription.cancelled) {
+            try (Connection conn = connect(dataSource); Statement stmt = conn.createStatement()) {
+                listening.put(subscription.domain, conn);
+                conn.setAutoCommit(true);
+                stmt.execute("LISTEN " + CHANNEL);
+                Object pgConn = conn.unwrap(pgConnection);
+
+                while (!subscription.cancelled) {
+                    Object[] notifications = (Object[]) getNotifications.invoke(pgConn, (int) pollInterval.toMillis());
+                    if (notifications != null && notifications.length > 0) {
+                        subscription.poll();
+                    }
+                }
+            } catch (Exception e) {
+                if (subscription.cancelled) {
+                    return;
+                }
+
+                LOG.error("While listening for cache invalidations on domain {}", subscription.domain, e);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(
+            final String domain,
+            final DataSource dataSource,
+            final Consumer<List<CacheInvalidation>> consumer) {
+
+        super.subscribe(domain, dataSource, consumer);
+
+        Subscription subscription = subscriptions.get(domain);
+        Thread listener = new Thread(() -> listen(subscription, dataSource), "cacheInvalidationListener-" + domain);
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void unsubscribe(final String domain) {
+        super.unsubscribe(domain);
+
+        // also wakes up the listener thread, if waiting for notifications
+        Optional.ofNullable(listening.remove(domain)).ifPresent(conn -> {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                LOG.debug("While closing listening connection for domain {}", domain, e);
+            }
+        });
+    }
+}
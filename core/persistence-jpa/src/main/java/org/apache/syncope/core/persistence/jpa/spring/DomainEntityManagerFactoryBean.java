@@ -20,14 +20,20 @@ package org.apache.syncope.core.persistence.jpa.spring;
 
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.spi.PersistenceUnitInfo;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import javax.cache.Caching;
 import javax.cache.configuration.FactoryBuilder;
 import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
 import org.apache.syncope.core.persistence.jpa.ConnectorManagerRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.entity.JPAConnInstance;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationChannel;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
@@ -40,6 +46,10 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
 
     protected ConnectorManagerRemoteCommitListener connectorManagerRemoteCommitListener;
 
+    protected CacheInvalidationChannel cacheInvalidationChannel;
+
+    protected Consumer<List<CacheInvalidation>> invalidationListener;
+
     public void setCommonEntityManagerFactoryConf(final CommonEntityManagerFactoryConf commonEMFConf) {
         super.setJpaPropertyMap(commonEMFConf.getJpaPropertyMap());
 
@@ -58,6 +68,17 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
         this.connectorManagerRemoteCommitListener = connectorManagerRemoteCommitListener;
     }
 
+    public void setCacheInvalidationChannel(final CacheInvalidationChannel cacheInvalidationChannel) {
+        this.cacheInvalidationChannel = cacheInvalidationChannel;
+    }
+
+    /**
+     * @param invalidationListener notified of the invalidations received from other nodes, once evicted
+     */
+    public void setInvalidationListener(final Consumer<List<CacheInvalidation>> invalidationListener) {
+        this.invalidationListener = invalidationListener;
+    }
+
     @Override
     protected void postProcessEntityManagerFactory(final EntityManagerFactory emf, final PersistenceUnitInfo pui) {
         super.postProcessEntityManagerFactory(emf, pui);
@@ -76,5 +97,17 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
                 new MutableCacheEntryListenerConfiguration<Object, Object>(
                         FactoryBuilder.factoryOf(connectorManagerRemoteCommitListener),
                         null, false, false)));
+
+        Optional.ofNullable(cacheInvalidationChannel).ifPresent(channel -> {
+            CacheInvalidationListener listener =
+                    new CacheInvalidationListener(channel, emf.unwrap(SessionFactoryImplementor.class));
+            listener.register();
+
+            channel.subscribe(pui.getPersistenceUnitName(), getDataSource(), invalidations -> {
+                listener.evict(invalidations);
+                connectorManagerRemoteCommitListener.onInvalidated(invalidations);
+                Optional.ofNullable(invalidationListener).ifPresent(l -> l.accept(invalidations));
+            });
+        });
     }
 }
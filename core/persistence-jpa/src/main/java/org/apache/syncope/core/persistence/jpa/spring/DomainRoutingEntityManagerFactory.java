@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.jpa.spring;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.Cache;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
@@ -31,22 +33,30 @@ import jakarta.persistence.TypedQueryReference;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.metamodel.Metamodel;
 import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.sql.DataSource;
 import org.apache.syncope.common.keymaster.client.api.model.JPADomain;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.jpa.ConnectorManagerRemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationChannel;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.jndi.JndiObjectFactoryBean;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -61,18 +71,97 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
 
     protected final ExternalResourceDAO resourceDAO;
 
+    protected final CacheInvalidationChannel cacheInvalidationChannel;
+
     public DomainRoutingEntityManagerFactory(
             final CommonEntityManagerFactoryConf commonEMFConf,
             final ConnectorManager connectorManager,
             final ExternalResourceDAO resourceDAO) {
 
+        this(commonEMFConf, connectorManager, resourceDAO, null);
+    }
+
+    public DomainRoutingEntityManagerFactory(
+            final CommonEntityManagerFactoryConf commonEMFConf,
+            final ConnectorManager connectorManager,
+            final ExternalResourceDAO resourceDAO,
+            final CacheInvalidationChannel cacheInvalidationChannel) {
+
         this.commonEMFConf = commonEMFConf;
         this.connectorManager = connectorManager;
         this.resourceDAO = resourceDAO;
+        this.cacheInvalidationChannel = cacheInvalidationChannel;
     }
 
     protected final Map<String, EntityManagerFactory> delegates = new ConcurrentHashMap<>();
 
+    protected final Map<String, List<HikariDataSource>> replicas = new ConcurrentHashMap<>();
+
+    protected final List<BiConsumer<String, List<CacheInvalidation>>> invalidationListeners =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a listener to be notified, with the domain they pertain to, of the cache invalidations received from
+     * other nodes.
+     *
+     * @param listener invalidation listener
+     */
+    public void addInvalidationListener(final BiConsumer<String, List<CacheInvalidation>> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    protected void setInvalidationListener(final DomainEntityManagerFactoryBean emf, final String domain) {
+        emf.setInvalidationListener(
+                invalidations -> invalidationListeners.forEach(l -> l.accept(domain, invalidations)));
+    }
+
+    /**
+     * Wraps the given primary data source, if any replica is configured, so that read-only transactions are routed
+     * to replicas.
+     *
+     * @param domain domain
+     * @param primary primary data source
+     * @param replicaJdbcURLs JDBC URLs of replicas
+     * @param replicaConf replica pool configuration, JDBC URL excluded
+     * @param transactionIsolation default transaction isolation
+     * @param replicaMaxLag seconds after any write during which read-only transactions are still routed to primary
+     * @return data source to use
+     * @see ReplicaRoutingDataSource
+     */
+    protected DataSource dataSource(
+            final String domain,
+            final DataSource primary,
+            final List<String> replicaJdbcURLs,
+            final Supplier<HikariConfig> replicaConf,
+            final JPADomain.TransactionIsolation transactionIsolation,
+            final int replicaMaxLag) {
+
+        if (replicaJdbcURLs.isEmpty()) {
+            return primary;
+        }
+
+        List<HikariDataSource> domainReplicas = replicaJdbcURLs.stream().map(jdbcURL -> {
+            HikariConfig hikariConfig = replicaConf.get();
+            hikariConfig.setJdbcUrl(jdbcURL);
+            hikariConfig.setReadOnly(true);
+            return new HikariDataSource(hikariConfig);
+        }).toList();
+        replicas.put(domain, domainReplicas);
+
+        LOG.info("Routing read-only transactions for domain {} to {} replica(s)", domain, domainReplicas.size());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(domain, primary, domainReplicas, Duration.ofSeconds(replicaMaxLag)));
+        // no need to fetch any connection upfront for finding out the defaults
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolationName(transactionIsolation.name());
+        return dataSource;
+    }
+
+    protected void closeReplicas(final String domain) {
+        Optional.ofNullable(replicas.remove(domain)).ifPresent(drs -> drs.forEach(HikariDataSource::close));
+    }
+
     protected void addToJpaPropertyMap(
             final DomainEntityManagerFactoryBean emf,
             final JpaVendorAdapter vendorAdapter,
@@ -99,11 +188,30 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
         DomainEntityManagerFactoryBean emf = new DomainEntityManagerFactoryBean();
         emf.setPersistenceUnitName(SyncopeConstants.MASTER_DOMAIN);
         emf.setMappingResources(props.getDomain().getFirst().getOrm());
-        emf.setDataSource(Objects.requireNonNull((DataSource) dataSource.getObject()));
+        emf.setDataSource(dataSource(
+                SyncopeConstants.MASTER_DOMAIN,
+                Objects.requireNonNull((DataSource) dataSource.getObject()),
+                props.getDomain().getFirst().getReplicaJdbcURLs(),
+                () -> {
+                    HikariConfig hikariConfig = new HikariConfig();
+                    hikariConfig.setDriverClassName(props.getDomain().getFirst().getJdbcDriver());
+                    hikariConfig.setUsername(props.getDomain().getFirst().getDbUsername());
+                    hikariConfig.setPassword(props.getDomain().getFirst().getDbPassword());
+                    hikariConfig.setSchema(props.getDomain().getFirst().getDbSchema());
+                    hikariConfig.setTransactionIsolation(
+                            props.getDomain().getFirst().getTransactionIsolation().name());
+                    hikariConfig.setMaximumPoolSize(props.getDomain().getFirst().getPoolMaxActive());
+                    hikariConfig.setMinimumIdle(props.getDomain().getFirst().getPoolMinIdle());
+                    return hikariConfig;
+                },
+                props.getDomain().getFirst().getTransactionIsolation(),
+                props.getDomain().getFirst().getReplicaMaxLag()));
         emf.setJpaVendorAdapter(vendorAdapter);
         emf.setCommonEntityManagerFactoryConf(commonEMFConf);
         emf.setConnectorManagerRemoteCommitListener(new ConnectorManagerRemoteCommitListener(
                 this, connectorManager, resourceDAO, SyncopeConstants.MASTER_DOMAIN));
+        emf.setCacheInvalidationChannel(cacheInvalidationChannel);
+        setInvalidationListener(emf, SyncopeConstants.MASTER_DOMAIN);
 
         addToJpaPropertyMap(
                 emf,
@@ -128,11 +236,29 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
         DomainEntityManagerFactoryBean emf = new DomainEntityManagerFactoryBean();
         emf.setPersistenceUnitName(domain.getKey());
         emf.setMappingResources(domain.getOrm());
-        emf.setDataSource(dataSource);
+        emf.setDataSource(dataSource(
+                domain.getKey(),
+                dataSource,
+                domain.getReplicaJdbcURLs(),
+                () -> {
+                    HikariConfig hikariConfig = new HikariConfig();
+                    hikariConfig.setDriverClassName(domain.getJdbcDriver());
+                    hikariConfig.setUsername(domain.getDbUsername());
+                    hikariConfig.setPassword(domain.getDbPassword());
+                    hikariConfig.setSchema(domain.getDbSchema());
+                    hikariConfig.setTransactionIsolation(domain.getTransactionIsolation().name());
+                    hikariConfig.setMaximumPoolSize(domain.getPoolMaxActive());
+                    hikariConfig.setMinimumIdle(domain.getPoolMinIdle());
+                    return hikariConfig;
+                },
+                domain.getTransactionIsolation(),
+                domain.getReplicaMaxLag()));
         emf.setJpaVendorAdapter(vendorAdapter);
         emf.setCommonEntityManagerFactoryConf(commonEMFConf);
         emf.setConnectorManagerRemoteCommitListener(new ConnectorManagerRemoteCommitListener(
                 this, connectorManager, resourceDAO, domain.getKey()));
+        emf.setCacheInvalidationChannel(cacheInvalidationChannel);
+        setInvalidationListener(emf, domain.getKey());
 
         addToJpaPropertyMap(emf, vendorAdapter, domain.getDbSchema(), domain.getKey());
 
@@ -142,8 +268,11 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
     }
 
     public void remove(final String domain) {
+        Optional.ofNullable(cacheInvalidationChannel).ifPresent(channel -> channel.unsubscribe(domain));
+
         EntityManagerFactory emf = delegates.remove(domain);
         close(domain, emf);
+        closeReplicas(domain);
     }
 
     protected EntityManagerFactory delegate() {
@@ -201,6 +330,7 @@ public class DomainRoutingEntityManagerFactory implements EntityManagerFactory,
     @Override
     public void close() {
         delegates.forEach(this::close);
+        replicas.keySet().forEach(this::closeReplicas);
     }
 
     @Override
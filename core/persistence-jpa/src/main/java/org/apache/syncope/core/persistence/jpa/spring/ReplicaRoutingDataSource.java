@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.spring;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.utils.ReadYourWrites;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to replicas (round-robin) and anything else to primary.
+ * Read-only transactions are anyway routed to primary when the current thread has a write transaction in progress on
+ * the same domain, or when a write was completed on the domain within the configured maximum replica lag.
+ *
+ * Meant to be wrapped by {@link LazyConnectionDataSourceProxy}, so that actual connections are only fetched once the
+ * transaction characteristics are known.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    protected final String domain;
+
+    protected final DataSource primary;
+
+    protected final List<? extends DataSource> replicas;
+
+    protected final Duration maxLag;
+
+    protected final AtomicInteger next = new AtomicInteger();
+
+    protected volatile long lastWrite;
+
+    public ReplicaRoutingDataSource(
+            final String domain,
+            final DataSource primary,
+            final List<? extends DataSource> replicas,
+            final Duration maxLag) {
+
+        this.domain = domain;
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+    }
+
+    protected void written() {
+        lastWrite = System.currentTimeMillis();
+    }
+
+    protected DataSource route() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!ReadYourWrites.hasWritten(domain) && System.currentTimeMillis() - lastWrite >= maxLag.toMillis()) {
+                return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            }
+        } else if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            written();
+
+            // replica lag is to be measured since commit, when the thread stops tracking its own writes
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                ReadYourWrites.written(domain);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                    @Override
+                    public void afterCompletion(final int status) {
+                        written();
+                        ReadYourWrites.completed(domain);
+                    }
+                });
+            }
+        }
+
+        return primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -129,6 +129,7 @@ public abstract class AbstractTest {
                     withTmpFs(Map.of("/var/lib/mysql", "rw")).
                     withDatabaseName("syncope").withPassword("syncope").withUsername("syncope").
                     withUrlParam("characterEncoding", "UTF-8").
+                    withUrlParam("useCursorFetch", "true").
                     withReuse(true);
             masterDomain.start();
             JDBC_URL_SUPPLIER = masterDomain::getJdbcUrl;
@@ -137,6 +138,7 @@ public abstract class AbstractTest {
                     withTmpFs(Map.of("/var/lib/mysql", "rw")).
                     withDatabaseName("syncope").withPassword("syncope").withUsername("syncope").
                     withUrlParam("characterEncoding", "UTF-8").
+                    withUrlParam("useCursorFetch", "true").
                     withReuse(true);
             twoDomain.start();
             JDBC2_URL_SUPPLIER = twoDomain::getJdbcUrl;
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RealmTreeCacheTest {
+
+    private static final String DOMAIN = SyncopeConstants.MASTER_DOMAIN;
+
+    private TypedQuery<Object[]> query;
+
+    private RealmTreeCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        query = mock(TypedQuery.class);
+        when(query.getResultList()).thenReturn(List.of(
+                new Object[] { "/", "root" },
+                new Object[] { "/even", "even" },
+                new Object[] { "/even/two", "two" },
+                new Object[] { "/even2", "even2" },
+                new Object[] { "/odd", "odd" }));
+
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.createQuery(anyString(), any(Class.class))).thenReturn(query);
+
+        cache = new RealmTreeCache(entityManager);
+    }
+
+    private static EntityLifecycleEvent<Entity> event(final Entity entity) {
+        return new EntityLifecycleEvent<>(RealmTreeCacheTest.class, SyncDeltaType.UPDATE, entity, DOMAIN);
+    }
+
+    @Test
+    public void getKey() {
+        assertEquals("two", cache.getKey("/even/two").orElseThrow());
+        assertTrue(cache.getKey("/even/three").isEmpty());
+        assertTrue(cache.getKey(null).isEmpty());
+
+        verify(query, times(1)).getResultList();
+    }
+
+    @Test
+    public void getDescendants() {
+        assertEquals(
+                List.of("/", "/even", "/even/two", "/even2", "/odd"),
+                List.copyOf(cache.getDescendants(SyncopeConstants.ROOT_REALM).keySet()));
+        // siblings sharing the same name prefix are not descendants
+        assertEquals(Map.of("/even", "even", "/even/two", "two"), cache.getDescendants("/even"));
+        assertEquals(Map.of("/even/two", "two"), cache.getDescendants("/even/two"));
+        assertTrue(cache.getDescendants("/even/three").isEmpty());
+
+        verify(query, times(1)).getResultList();
+    }
+
+    @Test
+    public void getAncestors() {
+        assertEquals(
+                List.of("/", "/even", "/even/two"),
+                List.copyOf(cache.getAncestors("/even/two").orElseThrow().keySet()));
+        assertEquals(Map.of("/", "root"), cache.getAncestors(SyncopeConstants.ROOT_REALM).orElseThrow());
+        assertTrue(cache.getAncestors("/even/three").isEmpty());
+        assertTrue(cache.getAncestors("/odd/three").isEmpty());
+        assertTrue(cache.getAncestors(null).isEmpty());
+
+        verify(query, times(1)).getResultList();
+    }
+
+    @Test
+    public void invalidate() {
+        cache.getKey("/even");
+        verify(query, times(1)).getResultList();
+
+        // changes to entities other than realms, or on other domains
+        cache.realmChanged(event(mock(User.class)));
+        cache.onInvalidated(DOMAIN, List.of(
+                new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPAGroup.class.getName(), "key")));
+        cache.onInvalidated("Two", List.of(
+                new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPARealm.class.getName(), "key")));
+        cache.getKey("/even");
+        verify(query, times(1)).getResultList();
+
+        // local realm change
+        cache.realmChanged(event(mock(Realm.class)));
+        cache.getKey("/even");
+        verify(query, times(2)).getResultList();
+
+        // local realm change, upon transaction completion
+        cache.realmChangeCompleted(event(mock(Realm.class)));
+        cache.getKey("/even");
+        verify(query, times(3)).getResultList();
+
+        // realm change from other nodes
+        cache.onInvalidated(DOMAIN, List.of(
+                new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPARealm.class.getName(), null)));
+        cache.getKey("/even");
+        verify(query, times(4)).getResultList();
+    }
+}
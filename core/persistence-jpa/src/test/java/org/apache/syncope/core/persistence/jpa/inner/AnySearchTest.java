@@ -39,6 +39,7 @@ import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationMana
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -57,12 +58,15 @@ import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
@@ -74,6 +78,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -111,6 +116,9 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private DerSchemaDAO derSchemaDAO;
 
+    @Autowired
+    private DerAttrValueDAO derAttrValueDAO;
+
     @Autowired
     private PlainAttrValidationManager validator;
 
@@ -376,6 +384,111 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchBySlice() {
+        long count = searchDAO.count(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                AnyTypeKind.USER);
+        assertTrue(count > 2);
+        assertEquals(count, searchDAO.estimateCount(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                AnyTypeKind.USER));
+
+        Slice<User> slice = searchDAO.slice(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                PageRequest.of(0, 2), AnyTypeKind.USER);
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+
+        int lastPage = (int) ((count - 1) / 2);
+        slice = searchDAO.slice(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                PageRequest.of(lastPage, 2), AnyTypeKind.USER);
+        assertEquals(count - lastPage * 2L, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    public void searchByStream() {
+        // paging and chunking are covered by StreamSearchTest: only check here the scrolling over SQL results
+        try (Stream<User> users = searchDAO.stream(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                List.of(Sort.Order.asc("username")), AnyTypeKind.USER)) {
+
+            assertEquals(
+                    List.of("bellini", "puccini", "rossini", "verdi", "vivaldi"),
+                    users.map(User::getUsername).toList());
+        }
+    }
+
+    @Test
+    public void searchByKeyset() {
+        // cursor handling is covered by KeysetSearchTest: only check here the seek conditions translated to SQL
+        List<List<String>> slices = new ArrayList<>();
+        String after = null;
+        do {
+            KeysetSlice<User> slice = searchDAO.search(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                    List.of(Sort.Order.asc("username")), after, 2, AnyTypeKind.USER);
+            slices.add(slice.stream().map(User::getUsername).toList());
+
+            after = slice.getAfter().orElse(null);
+        } while (after != null);
+
+        assertEquals(
+                List.of(List.of("bellini", "puccini"), List.of("rossini", "verdi"), List.of("vivaldi")),
+                slices);
+    }
+
+    @Test
+    public void searchByIndexedSchema() {
+        AttrCond surnameCond = new AttrCond(AttrCond.Type.LIKE);
+        surnameCond.setSchema("surname");
+        surnameCond.setExpression("V%");
+        SearchCond cond = SearchCond.of(surnameCond);
+        List<Sort.Order> orderBy = List.of(Sort.Order.desc("surname"));
+
+        assertEquals(
+                List.of("vivaldi", "verdi"),
+                searchDAO.<User>search(cond, orderBy, AnyTypeKind.USER).stream().map(User::getUsername).toList());
+
+        PlainSchema surname = plainSchemaDAO.findById("surname").orElseThrow();
+        surname.setIndexed(true);
+        plainSchemaDAO.save(surname);
+        try {
+            assertEquals(
+                    List.of("vivaldi", "verdi"),
+                    searchDAO.<User>search(cond, orderBy, AnyTypeKind.USER).stream().map(User::getUsername).toList());
+        } finally {
+            surname.setIndexed(false);
+            plainSchemaDAO.save(surname);
+        }
+    }
+
+    @Test
+    public void project() {
+        AttrCond surnameCond = new AttrCond(AttrCond.Type.LIKE);
+        surnameCond.setSchema("surname");
+        surnameCond.setExpression("V%");
+
+        Slice<AnyProjection> projections = searchDAO.project(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(surnameCond),
+                PageRequest.of(0, 1, Sort.by("username")), AnyTypeKind.USER, List.of("username", "realm", "email"));
+        assertTrue(projections.hasNext());
+        assertEquals(1, projections.getNumberOfElements());
+
+        AnyProjection verdi = projections.getContent().getFirst();
+        assertEquals("74cd8ece-715a-44a4-a736-e17b46c4e7e6", verdi.key());
+        assertEquals(Map.of("username", "verdi", "realm", SyncopeConstants.ROOT_REALM), verdi.fields());
+        assertEquals(1, verdi.plainAttrs().size());
+        assertEquals("email", verdi.plainAttrs().getFirst().getSchema());
+        assertEquals(List.of("verdi@syncope.org"), verdi.plainAttrs().getFirst().getValuesAsStrings());
+
+        assertThrows(IllegalArgumentException.class, () -> searchDAO.project(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(surnameCond),
+                PageRequest.of(0, 1), AnyTypeKind.USER, List.of("password")));
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
@@ -782,6 +895,33 @@ public class AnySearchTest extends AbstractTest {
         assertEquals(1, list.size());
     }
 
+    @Test
+    public void findByMaterializedDerAttrValue() {
+        DerSchema cn = derSchemaDAO.findById("cn").orElseThrow();
+        cn.setMaterialized(true);
+        cn = derSchemaDAO.save(cn);
+
+        String vivaldi = userDAO.findKey("vivaldi").orElseThrow();
+        derAttrValueDAO.replace(vivaldi, Set.of("cn"), Map.of("cn", "materialized value"));
+
+        // materialized values are looked up
+        List<User> list = searchDAO.findByDerAttrValue(
+                cn.getExpression(), "materialized value", false, AnyTypeKind.USER);
+        assertEquals(1, list.size());
+        assertEquals(vivaldi, list.getFirst().getKey());
+        assertTrue(searchDAO.findByDerAttrValue(
+                cn.getExpression(), "Vivaldi, Antonio", false, AnyTypeKind.USER).isEmpty());
+
+        // while being rebuilt, the expression is evaluated instead
+        cn.setMaterializationPending(true);
+        cn = derSchemaDAO.save(cn);
+
+        assertTrue(searchDAO.findByDerAttrValue(
+                cn.getExpression(), "materialized value", false, AnyTypeKind.USER).isEmpty());
+        assertEquals(1, searchDAO.findByDerAttrValue(
+                cn.getExpression(), "Vivaldi, Antonio", false, AnyTypeKind.USER).size());
+    }
+
     @Test
     public void findByInvalidDerAttrValue() {
         assertTrue(searchDAO.findByDerAttrValue(
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
+import org.apache.syncope.core.persistence.jpa.dao.AuditEventPartitioner;
+import org.apache.syncope.core.persistence.jpa.dao.PGAuditEventPartitioner;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class AuditEventPartitionerTest extends AbstractTest {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Autowired
+    private DomainHolder<DataSource> domainHolder;
+
+    @Autowired
+    private AuditEventPartitioner auditEventPartitioner;
+
+    private static void insert(final JdbcTemplate jdbcTemplate, final OffsetDateTime when) {
+        jdbcTemplate.update("INSERT INTO " + JPAAuditEvent.TABLE + " (id, opEvent, who, event_date) VALUES (?,?,?,?)",
+                UUID.randomUUID().toString(), "test", "admin", when);
+    }
+
+    private static int count(final JdbcTemplate jdbcTemplate, final String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(0) FROM " + table, Integer.class);
+    }
+
+    @Test
+    public void unsupported() {
+        AuditEventPartitioner partitioner = new AuditEventPartitioner(
+                domainHolder, PersistenceProperties.AuditEventPartitioning.DAILY, 1);
+
+        // no partitioning support: no failure, only row by row deletion
+        partitioner.load(SyncopeConstants.MASTER_DOMAIN);
+        partitioner.rollover(SyncopeConstants.MASTER_DOMAIN);
+
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            int before = count(jdbcTemplate, JPAAuditEvent.TABLE);
+
+            insert(jdbcTemplate, OffsetDateTime.now().minusDays(10));
+            insert(jdbcTemplate, OffsetDateTime.now());
+            assertEquals(before + 2, count(jdbcTemplate, JPAAuditEvent.TABLE));
+
+            partitioner.purge(SyncopeConstants.MASTER_DOMAIN, OffsetDateTime.now().minusDays(5));
+            assertEquals(before + 1, count(jdbcTemplate, JPAAuditEvent.TABLE));
+
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    public void partitionWithCurrentPeriodContent() {
+        assumeTrue(auditEventPartitioner instanceof PGAuditEventPartitioner);
+
+        PGAuditEventPartitioner partitioner = new PGAuditEventPartitioner(
+                domainHolder, PersistenceProperties.AuditEventPartitioning.DAILY, 1);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        OffsetDateTime periodStart = today.atStartOfDay().atOffset(ZoneOffset.UTC);
+        String legacy = JPAAuditEvent.TABLE + "_to_" + PARTITION_SUFFIX.format(today);
+        String current = JPAAuditEvent.TABLE + "_to_" + PARTITION_SUFFIX.format(today.plusDays(1));
+
+        // partitioning DDL joins the outer transaction, which is then rolled back to leave the table untouched
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            int before = count(jdbcTemplate, JPAAuditEvent.TABLE);
+            int beforePeriod = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(0) FROM " + JPAAuditEvent.TABLE + " WHERE event_date < ?",
+                    Integer.class,
+                    periodStart);
+
+            insert(jdbcTemplate, periodStart.minusDays(3));
+            insert(jdbcTemplate, periodStart.plusMinutes(1));
+            insert(jdbcTemplate, OffsetDateTime.now());
+
+            partitioner.load(SyncopeConstants.MASTER_DOMAIN);
+
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(0) FROM pg_partitioned_table pt JOIN pg_class c ON pt.partrelid=c.oid "
+                    + "WHERE c.relname=?", Integer.class, JPAAuditEvent.TABLE.toLowerCase()));
+
+            // nothing was lost, current period content was moved out of the legacy partition
+            assertEquals(before + 3, count(jdbcTemplate, JPAAuditEvent.TABLE));
+            assertEquals(beforePeriod + 1, count(jdbcTemplate, legacy));
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(0) FROM " + legacy + " WHERE event_date >= ?", Integer.class, periodStart));
+            assertEquals(before - beforePeriod + 2, count(jdbcTemplate, current));
+
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerAttrValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class DerAttrValueTest extends AbstractTest {
+
+    private static final String OWNER = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    @Autowired
+    private DerAttrValueDAO derAttrValueDAO;
+
+    private long count() {
+        return ((Number) entityManager.createNativeQuery(
+                "SELECT COUNT(0) FROM " + JPADerAttrValue.TABLE + " WHERE owner_id=?").
+                setParameter(1, OWNER).getSingleResult()).longValue();
+    }
+
+    @Test
+    public void replace() {
+        derAttrValueDAO.replace(OWNER, Set.of("cn", "info"), Map.of("cn", "Vivaldi, Antonio", "info", "vivaldi"));
+        assertEquals(2, count());
+        assertEquals(List.of(OWNER), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+        assertTrue(derAttrValueDAO.findOwners("cn", "VIVALDI, ANTONIO", false).isEmpty());
+        assertEquals(List.of(OWNER), derAttrValueDAO.findOwners("cn", "VIVALDI, ANTONIO", true));
+
+        // existing values are updated in place, no unique constraint violation
+        derAttrValueDAO.replace(OWNER, Set.of("cn"), Map.of("cn", "Vivaldi, A."));
+        assertEquals(2, count());
+        assertTrue(derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false).isEmpty());
+        assertEquals(List.of(OWNER), derAttrValueDAO.findOwners("cn", "Vivaldi, A.", false));
+        assertEquals(List.of(OWNER), derAttrValueDAO.findOwners("info", "vivaldi", false));
+
+        // missing and too long values are removed
+        derAttrValueDAO.replace(
+                OWNER,
+                Set.of("cn", "info"),
+                Map.of("cn", StringUtils.repeat('x', DerAttrValueDAO.MAX_VALUE_LENGTH + 1)));
+        assertEquals(0, count());
+    }
+
+    @Test
+    public void delete() {
+        derAttrValueDAO.replace(OWNER, Set.of("cn", "info"), Map.of("cn", "Vivaldi, Antonio", "info", "vivaldi"));
+        assertEquals(2, count());
+
+        derAttrValueDAO.deleteBySchema("info");
+        assertEquals(1, count());
+
+        derAttrValueDAO.deleteByOwner(OWNER);
+        assertEquals(0, count());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
+import org.apache.syncope.core.persistence.jpa.converters.PlainAttrListConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class LazyPlainAttrListTest extends AbstractTest {
+
+    private static final String RAW = "[{\"values\":[{\"stringValue\":\"Gioacchino\"}],\"schema\":\"firstname\"},"
+            + "{\"uniqueValue\":{\"stringValue\":\"Gioacchino Rossini\"},\"schema\":\"fullname\"}]";
+
+    private static final PlainAttrListConverter CONVERTER = new PlainAttrListConverter();
+
+    private static PlainAttr surname() {
+        PlainAttr attr = new PlainAttr();
+        attr.setSchema("surname");
+
+        PlainAttrValue value = new PlainAttrValue();
+        value.setStringValue("Rossini");
+        value.setAttr(attr);
+        attr.add(value);
+
+        return attr;
+    }
+
+    @Test
+    public void untouched() {
+        LazyPlainAttrList list = new LazyPlainAttrList(RAW);
+        assertEquals(RAW, list.getRaw().orElseThrow());
+
+        // raw JSON is written back as-is, without serializing
+        assertSame(RAW, CONVERTER.convertToDatabaseColumn(list));
+    }
+
+    @Test
+    public void materializeOnRead() {
+        LazyPlainAttrList list = new LazyPlainAttrList(RAW);
+
+        assertEquals(2, list.size());
+        assertTrue(list.getRaw().isEmpty());
+
+        PlainAttr firstname = list.getFirst();
+        assertEquals("firstname", firstname.getSchema());
+        assertEquals(List.of("Gioacchino"), firstname.getValuesAsStrings());
+        assertSame(firstname, firstname.getValues().getFirst().getAttr());
+
+        PlainAttr fullname = list.get(1);
+        assertEquals("fullname", fullname.getSchema());
+        assertSame(fullname, fullname.getUniqueValue().getAttr());
+    }
+
+    @Test
+    public void materializeOnWrite() {
+        LazyPlainAttrList list = new LazyPlainAttrList(RAW);
+        list.add(surname());
+        assertTrue(list.getRaw().isEmpty());
+
+        String json = CONVERTER.convertToDatabaseColumn(list);
+        assertNotEquals(RAW, json);
+
+        List<PlainAttr> read = CONVERTER.convertToEntityAttribute(json);
+        assertEquals(3, read.size());
+        assertEquals(List.of("firstname", "fullname", "surname"), read.stream().map(PlainAttr::getSchema).toList());
+
+        list = new LazyPlainAttrList(RAW);
+        list.removeFirst();
+        assertTrue(list.getRaw().isEmpty());
+
+        read = CONVERTER.convertToEntityAttribute(CONVERTER.convertToDatabaseColumn(list));
+        assertEquals(List.of("fullname"), read.stream().map(PlainAttr::getSchema).toList());
+
+        list = new LazyPlainAttrList(RAW);
+        list.set(0, surname());
+        assertTrue(list.getRaw().isEmpty());
+
+        read = CONVERTER.convertToEntityAttribute(CONVERTER.convertToDatabaseColumn(list));
+        assertEquals(List.of("surname", "fullname"), read.stream().map(PlainAttr::getSchema).toList());
+    }
+
+    @Test
+    public void invalidFiltered() {
+        LazyPlainAttrList list = new LazyPlainAttrList(
+                "[{\"values\":[{\"stringValue\":\"x\"}],\"schema\":\"notExisting\"},"
+                + "{\"values\":[],\"schema\":\"firstname\"},"
+                + "{\"values\":[{\"stringValue\":\"Rossini\"}],\"schema\":\"surname\"}]");
+        assertEquals(1, list.size());
+        assertEquals("surname", list.getFirst().getSchema());
+    }
+
+    @Test
+    public void empty() {
+        LazyPlainAttrList list = new LazyPlainAttrList(null);
+        assertTrue(list.getRaw().isEmpty());
+        assertTrue(list.isEmpty());
+        assertEquals(List.of(), list);
+
+        list.add(surname());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        LazyPlainAttrList list1 = new LazyPlainAttrList(RAW);
+        LazyPlainAttrList list2 = new LazyPlainAttrList(RAW);
+
+        // untouched lists with same raw JSON are compared without deserializing
+        assertEquals(list1, list2);
+        assertTrue(list1.getRaw().isPresent());
+        assertTrue(list2.getRaw().isPresent());
+
+        // materialized vs untouched
+        assertEquals(2, list1.size());
+        assertEquals(list1, list2);
+        assertEquals(list2, list1);
+        assertEquals(list1.hashCode(), list2.hashCode());
+
+        // vs plain list with same content
+        List<PlainAttr> plain = new ArrayList<>(list1);
+        assertEquals(plain, list1);
+        assertEquals(list1, plain);
+        assertEquals(plain.hashCode(), list1.hashCode());
+
+        list1.add(surname());
+        assertNotEquals(list1, list2);
+        assertNotEquals(list2, list1);
+    }
+
+    @Test
+    public void serialization() {
+        LazyPlainAttrList untouched = new LazyPlainAttrList(RAW);
+        LazyPlainAttrList copy = SerializationUtils.roundtrip(untouched);
+        assertEquals(RAW, copy.getRaw().orElseThrow());
+        assertEquals(untouched, copy);
+
+        LazyPlainAttrList materialized = new LazyPlainAttrList(null);
+        materialized.add(surname());
+        copy = SerializationUtils.roundtrip(materialized);
+        assertTrue(copy.getRaw().isEmpty());
+        assertEquals(materialized, copy);
+        assertSame(copy.getFirst(), copy.getFirst().getValues().getFirst().getAttr());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLPlainSchemaIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class MySQLPlainSchemaIndexerTest extends AbstractTest {
+
+    @Autowired
+    private ObjectProvider<MySQLPlainSchemaIndexer> plainSchemaIndexer;
+
+    @Autowired
+    private DomainHolder<DataSource> domainHolder;
+
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
+    @BeforeEach
+    public void mysql() {
+        assumeTrue(plainSchemaIndexer.getIfAvailable() != null);
+    }
+
+    @Test
+    public void availability() {
+        MySQLPlainSchemaIndexer indexer = plainSchemaIndexer.getObject();
+
+        PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+        schema.setKey("indexer_test");
+        schema.setType(AttrSchemaType.String);
+        schema.setIndexed(true);
+        assertFalse(indexer.isIndexed(SyncopeConstants.MASTER_DOMAIN, schema));
+
+        try {
+            indexer.index(SyncopeConstants.MASTER_DOMAIN, schema);
+            assertTrue(indexer.isIndexed(SyncopeConstants.MASTER_DOMAIN, schema));
+
+            // availability is read from information_schema, hence seen by other nodes as well
+            assertTrue(new MySQLPlainSchemaIndexer(domainHolder, plainSchemaDAO).
+                    isIndexed(SyncopeConstants.MASTER_DOMAIN, schema));
+
+            schema.setIndexed(false);
+            assertFalse(indexer.isIndexed(SyncopeConstants.MASTER_DOMAIN, schema));
+            schema.setIndexed(true);
+        } finally {
+            indexer.unindex(SyncopeConstants.MASTER_DOMAIN, schema.getKey());
+        }
+
+        assertFalse(indexer.isIndexed(SyncopeConstants.MASTER_DOMAIN, schema));
+        assertFalse(new MySQLPlainSchemaIndexer(domainHolder, plainSchemaDAO).
+                isIndexed(SyncopeConstants.MASTER_DOMAIN, schema));
+
+        // nothing to drop, no failure
+        indexer.unindex(SyncopeConstants.MASTER_DOMAIN, schema.getKey());
+    }
+}
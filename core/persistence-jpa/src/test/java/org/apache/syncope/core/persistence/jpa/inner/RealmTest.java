@@ -38,6 +38,7 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.RealmTreeCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,6 +57,13 @@ public class RealmTest extends AbstractTest {
     @Autowired
     private PolicyDAO policyDAO;
 
+    @Autowired
+    private RealmTreeCache realmTreeCache;
+
+    private static List<String> fullPaths(final List<Realm> realms) {
+        return realms.stream().map(Realm::getFullPath).toList();
+    }
+
     @Test
     public void getRoot() {
         assertNotNull(realmDAO.getRoot());
@@ -112,6 +120,50 @@ public class RealmTest extends AbstractTest {
         assertNotNull(list.stream().filter(realm -> "odd".equals(realm.getName())).findFirst().orElseThrow());
     }
 
+    @Test
+    public void findDescendants() {
+        assertEquals(
+                List.of("/", "/even", "/even/two", "/odd"),
+                fullPaths(realmSearchDAO.findDescendants(SyncopeConstants.ROOT_REALM, null)));
+        assertEquals(List.of("/even", "/even/two"), fullPaths(realmSearchDAO.findDescendants("/even", null)));
+        assertEquals(List.of("/even/two"), fullPaths(realmSearchDAO.findDescendants("/even", "/even/two")));
+        assertEquals(List.of("/even/two"), fullPaths(realmSearchDAO.findDescendants("/even/two", "/even")));
+        assertTrue(realmSearchDAO.findDescendants("/odd", "/even").isEmpty());
+        assertTrue(realmSearchDAO.findDescendants("/ev", null).isEmpty());
+    }
+
+    @Test
+    public void findAncestors() {
+        assertEquals(
+                List.of("/even/two", "/even", "/"),
+                fullPaths(realmSearchDAO.findAncestors(realmSearchDAO.findByFullPath("/even/two").orElseThrow())));
+        assertEquals(List.of("/"), fullPaths(realmSearchDAO.findAncestors(realmDAO.getRoot())));
+    }
+
+    @Test
+    public void realmTreeCache() {
+        assertTrue(realmTreeCache.getKey("/even/two/last").isEmpty());
+
+        Realm realm = entityFactory.newEntity(Realm.class);
+        realm.setName("last");
+        realm.setParent(realmSearchDAO.findByFullPath("/even/two").orElseThrow());
+        Realm last = realmDAO.save(realm);
+
+        // realm tree cache was invalidated upon save
+        assertEquals(last.getKey(), realmTreeCache.getKey("/even/two/last").orElseThrow());
+        assertEquals(
+                List.of("/even", "/even/two", "/even/two/last"),
+                fullPaths(realmSearchDAO.findDescendants("/even", null)));
+        assertEquals(
+                List.of("/even/two/last", "/even/two", "/even", "/"),
+                fullPaths(realmSearchDAO.findAncestors(last)));
+
+        realmDAO.delete(last);
+
+        assertTrue(realmTreeCache.getKey("/even/two/last").isEmpty());
+        assertEquals(List.of("/even", "/even/two"), fullPaths(realmSearchDAO.findDescendants("/even", null)));
+    }
+
     @Test
     public void save() {
         Realm realm = entityFactory.newEntity(Realm.class);
@@ -28,6 +28,11 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
@@ -105,6 +110,48 @@ public class UserTest extends AbstractTest {
         assertEquals(5, count);
     }
 
+    @Test
+    public void findKeysByUserKeys() {
+        List<String> keys = List.of(
+                "1417acbe-cbf6-4277-9372-e75e04f97000",
+                "74cd8ece-715a-44a4-a736-e17b46c4e7e6",
+                "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee",
+                "notfound");
+
+        assertEquals(Map.of(
+                "1417acbe-cbf6-4277-9372-e75e04f97000",
+                Set.of("37d15e4c-cdc1-460b-a591-8505c8133806", "f779c0d4-633b-4be5-8f57-32eb478a3ca5"),
+                "74cd8ece-715a-44a4-a736-e17b46c4e7e6",
+                Set.of("37d15e4c-cdc1-460b-a591-8505c8133806", "b1f7c12d-ec83-441f-a50e-1691daaedf3b",
+                        "29f96485-729e-4d31-88a1-6fc60e4677f3"),
+                "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee", Set.of(),
+                "notfound", Set.of()),
+                userDAO.findGroupKeysByUserKeys(keys));
+
+        // direct and group-inherited resources
+        assertEquals(Map.of(
+                "1417acbe-cbf6-4277-9372-e75e04f97000", Set.of("resource-testdb2", "ws-target-resource-2"),
+                "74cd8ece-715a-44a4-a736-e17b46c4e7e6",
+                Set.of("ws-target-resource-list-mappings-1", "ws-target-resource-list-mappings-2"),
+                "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee",
+                Set.of("ws-target-resource-1", "ws-target-resource-2", "ws-target-resource-delete"),
+                "notfound", Set.of()),
+                userDAO.findResourceKeysByUserKeys(keys));
+    }
+
+    @Test
+    public void findRoleEntitlements() {
+        Map<String, Set<String>> entitlements = userDAO.findRoleEntitlements("823074dc-d280-436d-a7dd-07399fae48ec");
+        assertEquals(Stream.of(
+                "USER_READ", "USER_SEARCH",
+                "CONNECTOR_READ", "CONNECTOR_UPDATE", "CONNECTOR_DELETE", "CONNECTOR_LIST",
+                "RESOURCE_READ", "RESOURCE_UPDATE", "RESOURCE_DELETE", "RESOURCE_LIST").
+                collect(Collectors.toMap(Function.identity(), entitlement -> Set.of("/even/two"))),
+                entitlements);
+
+        assertTrue(userDAO.findRoleEntitlements("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").isEmpty());
+    }
+
     @Test
     public void findByKey() {
         assertTrue(userDAO.findById("1417acbe-cbf6-4277-9372-e75e04f97000").isPresent());
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.outer;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPACacheInvalidation;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+import org.apache.syncope.core.persistence.jpa.hibernate.DBCacheInvalidationChannel;
+import org.apache.syncope.core.persistence.jpa.hibernate.PGCacheInvalidationChannel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class CacheInvalidationChannelTest extends AbstractTest {
+
+    /**
+     * Long enough for scheduled polls to never happen during tests.
+     */
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private static final String DOMAIN = SyncopeConstants.MASTER_DOMAIN;
+
+    @Autowired
+    private DomainHolder<DataSource> domainHolder;
+
+    private static CacheInvalidation invalidation() {
+        return new CacheInvalidation(
+                CacheInvalidation.Type.ENTITY, JPAGroup.class.getName(), UUID.randomUUID().toString());
+    }
+
+    private static long count(final List<CacheInvalidation> received, final CacheInvalidation invalidation) {
+        return received.stream().filter(invalidation::equals).count();
+    }
+
+    private DataSource dataSource() {
+        return domainHolder.getDomains().get(DOMAIN);
+    }
+
+    private void publish(final DBCacheInvalidationChannel channel, final CacheInvalidation invalidation)
+            throws SQLException {
+
+        try (Connection conn = dataSource().getConnection()) {
+            channel.publish(conn, List.of(invalidation));
+        }
+    }
+
+    /**
+     * Simulates an invalidation published by another node, whose clock is not in sync.
+     *
+     * @param created publication time, as measured by the other node
+     * @param invalidation invalidation
+     */
+    private void insert(final long created, final CacheInvalidation invalidation) {
+        new JdbcTemplate(dataSource()).update("INSERT INTO " + JPACacheInvalidation.TABLE
+                + "(id, nodeId, kind, region, entityKey, created) VALUES (?, ?, ?, ?, ?, ?)",
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                invalidation.type().name(), invalidation.region(), invalidation.key(), created);
+    }
+
+    private int stored(final CacheInvalidation invalidation) {
+        return new JdbcTemplate(dataSource()).queryForObject(
+                "SELECT COUNT(0) FROM " + JPACacheInvalidation.TABLE + " WHERE entityKey = ?",
+                Integer.class, invalidation.key());
+    }
+
+    @Test
+    public void poll() throws SQLException {
+        List<CacheInvalidation> ownReceived = new CopyOnWriteArrayList<>();
+        List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+
+        try (DBCacheInvalidationChannel publisher = new DBCacheInvalidationChannel(NEVER, NEVER);
+                DBCacheInvalidationChannel subscriber = new DBCacheInvalidationChannel(NEVER, NEVER)) {
+
+            publisher.subscribe(DOMAIN, dataSource(), ownReceived::addAll);
+            subscriber.subscribe(DOMAIN, dataSource(), received::addAll);
+
+            CacheInvalidation invalidation = invalidation();
+            publish(publisher, invalidation);
+
+            // own invalidations are not applied again
+            publisher.poll(DOMAIN);
+            assertEquals(0, count(ownReceived, invalidation));
+
+            subscriber.poll(DOMAIN);
+            assertEquals(1, count(received, invalidation));
+
+            // entries already seen are not received again, although still within the lookback window
+            subscriber.poll(DOMAIN);
+            assertEquals(1, count(received, invalidation));
+
+            // nothing is received once unsubscribed
+            subscriber.unsubscribe(DOMAIN);
+            CacheInvalidation after = invalidation();
+            publish(publisher, after);
+            subscriber.poll(DOMAIN);
+            assertEquals(0, count(received, after));
+        }
+    }
+
+    @Test
+    public void lookback() {
+        List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+
+        try (DBCacheInvalidationChannel subscriber = new DBCacheInvalidationChannel(NEVER, NEVER)) {
+            subscriber.subscribe(DOMAIN, dataSource(), received::addAll);
+            long now = System.currentTimeMillis();
+
+            // published by a node whose clock is behind: received if within the lookback window
+            CacheInvalidation behind = invalidation();
+            insert(now - 10_000, behind);
+            CacheInvalidation tooOld = invalidation();
+            insert(now - 60_000, tooOld);
+
+            subscriber.poll(DOMAIN);
+            assertEquals(1, count(received, behind));
+            assertEquals(0, count(received, tooOld));
+
+            // published by a node whose clock is ahead: the watermark moves forward...
+            CacheInvalidation ahead = invalidation();
+            insert(now + 20_000, ahead);
+
+            subscriber.poll(DOMAIN);
+            assertEquals(1, count(received, ahead));
+
+            // ...but entries published afterwards with earlier timestamps are still received, only once
+            CacheInvalidation late = invalidation();
+            insert(now, late);
+
+            subscriber.poll(DOMAIN);
+            assertEquals(1, count(received, late));
+            assertEquals(1, count(received, behind));
+            assertEquals(1, count(received, ahead));
+        }
+    }
+
+    @Test
+    public void purge() {
+        CacheInvalidation expired = invalidation();
+        insert(System.currentTimeMillis() - Duration.ofHours(2).toMillis(), expired);
+        CacheInvalidation recent = invalidation();
+        insert(System.currentTimeMillis(), recent);
+        assertEquals(1, stored(expired));
+
+        List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+        try (DBCacheInvalidationChannel subscriber = new DBCacheInvalidationChannel(NEVER, NEVER)) {
+            subscriber.subscribe(DOMAIN, dataSource(), received::addAll);
+            subscriber.poll(DOMAIN);
+        }
+
+        assertEquals(0, stored(expired));
+        assertEquals(1, stored(recent));
+        assertEquals(0, count(received, expired));
+    }
+
+    @Test
+    public void notification() throws SQLException {
+        try (Connection conn = dataSource().getConnection()) {
+            assumeTrue("PostgreSQL".equals(conn.getMetaData().getDatabaseProductName()));
+        }
+
+        List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+        String listener = "cacheInvalidationListener-" + DOMAIN;
+
+        try (PGCacheInvalidationChannel publisher = new PGCacheInvalidationChannel(NEVER, NEVER);
+                PGCacheInvalidationChannel subscriber = new PGCacheInvalidationChannel(NEVER, NEVER)) {
+
+            subscriber.subscribe(DOMAIN, dataSource(), received::addAll);
+
+            // no explicit poll: invalidations are read as soon as notified, rather than on schedule;
+            // publication is repeated until the listener thread is ready
+            CacheInvalidation invalidation = invalidation();
+            await().atMost(30, TimeUnit.SECONDS).pollInterval(1, TimeUnit.SECONDS).until(() -> {
+                publish(publisher, invalidation);
+                return count(received, invalidation) > 0;
+            });
+            assertTrue(Thread.getAllStackTraces().keySet().stream().
+                    anyMatch(thread -> listener.equals(thread.getName())));
+
+            // the listener thread terminates once unsubscribed, without waiting for notifications any longer
+            subscriber.unsubscribe(DOMAIN);
+            await().atMost(30, TimeUnit.SECONDS).until(() -> Thread.getAllStackTraces().keySet().stream().
+                    noneMatch(thread -> listener.equals(thread.getName())));
+        }
+
+        assertFalse(received.isEmpty());
+    }
+}
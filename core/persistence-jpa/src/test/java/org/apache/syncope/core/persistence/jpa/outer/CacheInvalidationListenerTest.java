@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.outer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidation;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationChannel;
+import org.apache.syncope.core.persistence.jpa.hibernate.CacheInvalidationListener;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DirtiesContext
+public class CacheInvalidationListenerTest extends AbstractTest {
+
+    private static class RecordingChannel implements CacheInvalidationChannel {
+
+        private final List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(final Connection conn, final Collection<CacheInvalidation> invalidations) {
+            published.addAll(invalidations);
+        }
+
+        @Override
+        public void subscribe(
+                final String domain,
+                final DataSource dataSource,
+                final Consumer<List<CacheInvalidation>> consumer) {
+
+            // nothing to do
+        }
+
+        @Override
+        public void unsubscribe(final String domain) {
+            // nothing to do
+        }
+
+        private List<CacheInvalidation> published(final CacheInvalidation.Type type) {
+            return published.stream().filter(invalidation -> invalidation.type() == type).toList();
+        }
+    }
+
+    private static final RecordingChannel CHANNEL = new RecordingChannel();
+
+    private static SessionFactoryImplementor SESSION_FACTORY;
+
+    private static CacheInvalidationListener LISTENER;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    @Autowired
+    private AccessTokenDAO accessTokenDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @BeforeEach
+    public void register() {
+        if (LISTENER == null) {
+            SESSION_FACTORY = domainTransactionTemplate.execute(
+                    status -> entityManager.unwrap(SessionImplementor.class).getFactory());
+            LISTENER = new CacheInvalidationListener(CHANNEL, SESSION_FACTORY);
+            LISTENER.register();
+        }
+        CHANNEL.published.clear();
+    }
+
+    private static CacheInvalidation naturalId(final String name) {
+        return new CacheInvalidation(CacheInvalidation.Type.NATURAL_ID, JPAGroup.class.getName(), name);
+    }
+
+    private void update(final String key, final Consumer<Group> change) {
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            Group group = groupDAO.findById(key).orElseThrow();
+            change.accept(group);
+            groupDAO.save(group);
+        });
+    }
+
+    private void findByName(final String name) {
+        domainTransactionTemplate.executeWithoutResult(status -> groupDAO.findByName(name).orElseThrow());
+    }
+
+    @Test
+    public void entity() {
+        String key = domainTransactionTemplate.execute(status -> {
+            Group group = entityFactory.newEntity(Group.class);
+            group.setName("entity");
+            group.setRealm(realmDAO.getRoot());
+            return groupDAO.save(group).getKey();
+        });
+        assertTrue(CHANNEL.published(CacheInvalidation.Type.ENTITY).contains(
+                new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPAGroup.class.getName(), key)));
+
+        // received invalidations are evicted from the local cache
+        findByName("entity");
+        assertTrue(SESSION_FACTORY.getCache().contains(JPAGroup.class, key));
+        LISTENER.evict(List.of(new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPAGroup.class.getName(), key)));
+        assertFalse(SESSION_FACTORY.getCache().contains(JPAGroup.class, key));
+
+        // nothing is published for rolled back transactions
+        CHANNEL.published.clear();
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            Group group = groupDAO.findById(key).orElseThrow();
+            group.setStatus("rolledBack");
+            groupDAO.save(group);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+        assertTrue(CHANNEL.published.isEmpty());
+
+        CHANNEL.published.clear();
+        domainTransactionTemplate.executeWithoutResult(status -> groupDAO.deleteById(key));
+        assertTrue(CHANNEL.published(CacheInvalidation.Type.ENTITY).contains(
+                new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPAGroup.class.getName(), key)));
+    }
+
+    @Test
+    public void bulk() {
+        domainTransactionTemplate.executeWithoutResult(status -> accessTokenDAO.deleteByOwner("nonExisting"));
+        assertEquals(
+                List.of(new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPAAccessToken.class.getName(), null)),
+                CHANNEL.published(CacheInvalidation.Type.ENTITY));
+
+        CHANNEL.published.clear();
+        domainTransactionTemplate.executeWithoutResult(status -> accessTokenDAO.deleteExpired(OffsetDateTime.now()));
+        assertEquals(
+                List.of(new CacheInvalidation(CacheInvalidation.Type.ENTITY, JPAAccessToken.class.getName(), null)),
+                CHANNEL.published(CacheInvalidation.Type.ENTITY));
+    }
+
+    @Test
+    public void naturalId() {
+        String key = domainTransactionTemplate.execute(status -> {
+            Group group = entityFactory.newEntity(Group.class);
+            group.setName("naturalId");
+            group.setRealm(realmDAO.getRoot());
+            return groupDAO.save(group).getKey();
+        });
+
+        // natural id not changed: only the entity is invalidated
+        CHANNEL.published.clear();
+        update(key, group -> group.setStatus("updated"));
+        assertTrue(CHANNEL.published(CacheInvalidation.Type.ENTITY).stream().
+                anyMatch(invalidation -> key.equals(invalidation.key())));
+        assertTrue(CHANNEL.published(CacheInvalidation.Type.NATURAL_ID).isEmpty());
+
+        // natural id changed: the previous value is published
+        CHANNEL.published.clear();
+        update(key, group -> group.setName("naturalId2"));
+        assertEquals(
+                List.of(naturalId("naturalId")),
+                CHANNEL.published(CacheInvalidation.Type.NATURAL_ID));
+
+        // only the natural id received is evicted
+        Statistics statistics = SESSION_FACTORY.getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            findByName("naturalId2");
+            findByName("root");
+
+            long hits = statistics.getNaturalIdCacheHitCount();
+            findByName("naturalId2");
+            findByName("root");
+            assertEquals(hits + 2, statistics.getNaturalIdCacheHitCount());
+
+            LISTENER.evict(List.of(naturalId("naturalId2")));
+
+            hits = statistics.getNaturalIdCacheHitCount();
+            long misses = statistics.getNaturalIdCacheMissCount();
+            findByName("naturalId2");
+            findByName("root");
+            assertEquals(hits + 1, statistics.getNaturalIdCacheHitCount());
+            assertEquals(misses + 1, statistics.getNaturalIdCacheMissCount());
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+
+        // delete: the current value is published
+        CHANNEL.published.clear();
+        domainTransactionTemplate.executeWithoutResult(status -> groupDAO.deleteById(key));
+        assertEquals(
+                List.of(naturalId("naturalId2")),
+                CHANNEL.published(CacheInvalidation.Type.NATURAL_ID));
+    }
+}
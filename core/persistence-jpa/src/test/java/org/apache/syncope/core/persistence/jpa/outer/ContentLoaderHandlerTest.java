@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.outer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.content.ContentLoaderHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.xml.sax.helpers.AttributesImpl;
+
+public class ContentLoaderHandlerTest extends AbstractTest {
+
+    private static final String PARENT = "LoaderParent";
+
+    private static final String CHILD = "LoaderChild";
+
+    @Autowired
+    private DomainHolder<DataSource> domainHolder;
+
+    @Autowired
+    private Environment env;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private static void row(final ContentLoaderHandler handler, final String table, final String... attrs) {
+        AttributesImpl atts = new AttributesImpl();
+        for (int i = 0; i < attrs.length; i += 2) {
+            atts.addAttribute("", "", attrs[i], "CDATA", attrs[i + 1]);
+        }
+        handler.startElement("", "", table, atts);
+    }
+
+    private DataSource dataSource() {
+        return domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+    }
+
+    private ContentLoaderHandler handler(final boolean continueOnError, final int batchSize, final Executor executor) {
+        return new ContentLoaderHandler(
+                dataSource(), null, "dataset", continueOnError, env, batchSize, executor);
+    }
+
+    private List<String> ids(final String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", String.class);
+    }
+
+    @BeforeEach
+    public void createTables() {
+        jdbcTemplate = new JdbcTemplate(dataSource());
+        jdbcTemplate.execute("CREATE TABLE " + PARENT + " (id VARCHAR(36) NOT NULL, PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE TABLE " + CHILD + " (id VARCHAR(36) NOT NULL, parent_id VARCHAR(36), "
+                + "PRIMARY KEY (id), FOREIGN KEY (parent_id) REFERENCES " + PARENT + " (id))");
+    }
+
+    @AfterEach
+    public void dropTables() {
+        jdbcTemplate.execute("DROP TABLE " + CHILD);
+        jdbcTemplate.execute("DROP TABLE " + PARENT);
+    }
+
+    @Test
+    public void foreignKeyOrder() {
+        // one batch per row, alternating between tables: each child batch must wait for its parent's
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ContentLoaderHandler handler = handler(false, 1, executor);
+            IntStream.range(0, 50).forEach(i -> {
+                row(handler, PARENT, "id", "parent" + i);
+                row(handler, CHILD, "id", "child" + i, "parent_id", "parent" + i);
+            });
+            handler.endDocument();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(50, ids(PARENT).size());
+        assertEquals(50, ids(CHILD).size());
+    }
+
+    @Test
+    public void continueOnError() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ContentLoaderHandler handler = handler(true, 10, executor);
+            row(handler, PARENT, "id", "parent1");
+            row(handler, PARENT, "id", "parent2");
+            row(handler, PARENT, "id", "parent1");
+            row(handler, PARENT, "id", "parent3");
+            row(handler, CHILD, "id", "child1", "parent_id", "parent1");
+            row(handler, CHILD, "id", "child2", "parent_id", "missing");
+            row(handler, CHILD, "id", "child3", "parent_id", "parent3");
+            handler.endDocument();
+        } finally {
+            executor.shutdown();
+        }
+
+        // both batches failed, then their rows were retried one at a time: only the failing rows are skipped
+        assertEquals(List.of("parent1", "parent2", "parent3"), ids(PARENT));
+        assertEquals(List.of("child1", "child3"), ids(CHILD));
+    }
+
+    @Test
+    public void failFast() {
+        // batches run as soon as submitted, so that failures are deterministic
+        ContentLoaderHandler handler = handler(false, 1, Runnable::run);
+        row(handler, CHILD, "id", "child1", "parent_id", "missing");
+
+        // the failure is reported when the next batch is submitted, naming the failing table
+        IllegalStateException e = assertThrows(
+                IllegalStateException.class, () -> row(handler, PARENT, "id", "parent1"));
+        assertTrue(e.getMessage().contains(CHILD));
+        assertTrue(ids(PARENT).isEmpty());
+    }
+
+    @Test
+    public void failSequentially() {
+        ContentLoaderHandler handler = handler(false, 10, null);
+        row(handler, PARENT, "id", "parent1");
+        row(handler, PARENT, "id", "parent1");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, handler::endDocument);
+        assertTrue(e.getMessage().contains(PARENT));
+    }
+}
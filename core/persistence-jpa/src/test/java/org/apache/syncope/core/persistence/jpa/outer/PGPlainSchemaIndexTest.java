@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.outer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class PGPlainSchemaIndexTest extends AbstractTest {
+
+    private static final String SCHEMA = "indexedCounter";
+
+    @Autowired
+    private DomainHolder<DataSource> domainHolder;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
+    @BeforeEach
+    public void postgreSQL() throws SQLException {
+        try (Connection conn = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN).getConnection()) {
+            assumeTrue("PostgreSQL".equals(conn.getMetaData().getDatabaseProductName()));
+        }
+    }
+
+    private int validIndexes(final String table) {
+        return new JdbcTemplate(domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN)).queryForObject(
+                "SELECT COUNT(0) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                + "WHERE c.relname = ? AND i.indisvalid",
+                Integer.class,
+                table + '_' + SCHEMA + "_idx");
+    }
+
+    private void setIndexed(final boolean indexed, final boolean commit) {
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            PlainSchema schema = plainSchemaDAO.findById(SCHEMA).orElseThrow();
+            schema.setIndexed(indexed);
+            plainSchemaDAO.save(schema);
+
+            if (!commit) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    @Test
+    public void concurrentlyAfterCommit() {
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+            schema.setKey(SCHEMA);
+            schema.setType(AttrSchemaType.Long);
+            schema.setIndexed(true);
+            plainSchemaDAO.save(schema);
+
+            // nothing is built until commit
+            assertEquals(0, validIndexes(JPAUser.TABLE));
+        });
+
+        try {
+            assertEquals(1, validIndexes(JPAUser.TABLE));
+            assertEquals(1, validIndexes(JPARealm.TABLE));
+
+            // rolled back: indexes are left untouched
+            setIndexed(false, false);
+            assertEquals(1, validIndexes(JPAUser.TABLE));
+
+            setIndexed(false, true);
+            assertEquals(0, validIndexes(JPAUser.TABLE));
+            assertEquals(0, validIndexes(JPARealm.TABLE));
+
+            setIndexed(true, true);
+            assertEquals(1, validIndexes(JPAUser.TABLE));
+        } finally {
+            domainTransactionTemplate.executeWithoutResult(status -> plainSchemaDAO.deleteById(SCHEMA));
+        }
+
+        assertEquals(0, validIndexes(JPAUser.TABLE));
+        assertEquals(0, validIndexes(JPARealm.TABLE));
+    }
+}
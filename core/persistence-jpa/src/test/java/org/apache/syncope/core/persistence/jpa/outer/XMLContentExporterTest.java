@@ -19,14 +19,22 @@
 package org.apache.syncope.core.persistence.jpa.outer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
+import org.apache.syncope.core.persistence.common.content.AbstractXMLContentExporter;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -79,4 +87,37 @@ public class XMLContentExporterTest extends AbstractTest {
 
         checkRealms(exported);
     }
+
+    @Test
+    public void exportArchive() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        // parallelism is capped according to the connection pool
+        exporter.exportArchive(
+                SyncopeConstants.MASTER_DOMAIN, 100, Integer.MAX_VALUE, false, baos, "AccountPolicy", "Realm");
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        List<String> manifest = entries.remove(AbstractXMLContentExporter.MANIFEST).lines().toList();
+        assertEquals(2, manifest.size());
+        assertEquals(manifest, List.copyOf(entries.keySet()));
+
+        checkRealms(entries.entrySet().stream().
+                filter(entry -> entry.getKey().endsWith("-Realm" + AbstractXMLContentExporter.XML_ENTRY_SUFFIX)).
+                findFirst().map(Map.Entry::getValue).orElseThrow());
+    }
+
+    @Test
+    public void exportArchiveFailure() {
+        // no archive is produced when any table cannot be exported
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        assertThrows(IOException.class, () -> exporter.exportArchive(
+                SyncopeConstants.MASTER_DOMAIN, 100, 2, false, baos, "Realm", "NotExisting"));
+        assertEquals(0, baos.size());
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.spring;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.utils.ReadYourWrites;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+
+    private final DataSource replica1 = mock(DataSource.class);
+
+    private final DataSource replica2 = mock(DataSource.class);
+
+    private static void begin(final boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void complete() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clear();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private ReplicaRoutingDataSource routing(final Duration maxLag) {
+        return new ReplicaRoutingDataSource(
+                SyncopeConstants.MASTER_DOMAIN, primary, List.of(replica1, replica2), maxLag);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    public void readOnlyToReplicas() {
+        ReplicaRoutingDataSource routing = routing(Duration.ZERO);
+
+        begin(true);
+        DataSource first = routing.route();
+        DataSource second = routing.route();
+        complete();
+
+        assertTrue(List.of(replica1, replica2).contains(first));
+        assertTrue(List.of(replica1, replica2).contains(second));
+        assertNotSame(first, second);
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+    }
+
+    @Test
+    public void readWriteToPrimary() {
+        ReplicaRoutingDataSource routing = routing(Duration.ZERO);
+
+        begin(false);
+        assertSame(primary, routing.route());
+        assertTrue(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+        complete();
+
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        // no transaction: nothing to track
+        assertSame(primary, routing.route());
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+    }
+
+    @Test
+    public void readYourWrites() {
+        ReplicaRoutingDataSource routing = routing(Duration.ZERO);
+
+        // write transaction in progress, then read-only transaction started meanwhile: still served by primary
+        begin(false);
+        assertSame(primary, routing.route());
+        List<TransactionSynchronization> outer = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clear();
+
+        begin(true);
+        assertSame(primary, routing.route());
+        complete();
+
+        // nested write transaction completing does not release the outer one
+        begin(false);
+        assertSame(primary, routing.route());
+        complete();
+        assertTrue(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        outer.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        begin(true);
+        assertNotSame(primary, routing.route());
+        complete();
+    }
+
+    @Test
+    public void otherDomain() {
+        ReadYourWrites.written("Two");
+
+        begin(true);
+        assertNotSame(primary, routing(Duration.ZERO).route());
+        complete();
+    }
+
+    @Test
+    public void maxLag() {
+        ReplicaRoutingDataSource routing = routing(Duration.ofHours(1));
+
+        begin(true);
+        assertNotSame(primary, routing.route());
+        complete();
+
+        begin(false);
+        assertSame(primary, routing.route());
+        complete();
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        // write completed within max lag: replicas might not be up to date yet
+        begin(true);
+        assertSame(primary, routing.route());
+        complete();
+    }
+
+    @Test
+    public void clear() {
+        ReadYourWrites.written(SyncopeConstants.MASTER_DOMAIN);
+        ReadYourWrites.written(SyncopeConstants.MASTER_DOMAIN);
+        assertTrue(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        ReadYourWrites.completed(SyncopeConstants.MASTER_DOMAIN);
+        assertTrue(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        ReadYourWrites.clear();
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+
+        // unbalanced completion is harmless
+        ReadYourWrites.completed(SyncopeConstants.MASTER_DOMAIN);
+        assertFalse(ReadYourWrites.hasWritten(SyncopeConstants.MASTER_DOMAIN));
+    }
+}
@@ -33,6 +33,7 @@ import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.DomainRegistry;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -48,6 +49,7 @@ import org.apache.syncope.core.persistence.api.dao.BatchDAO;
 import org.apache.syncope.core.persistence.api.dao.CASSPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
@@ -91,11 +93,13 @@ import org.apache.syncope.core.persistence.common.CommonPersistenceContext;
 import org.apache.syncope.core.persistence.common.RuntimeDomainLoader;
 import org.apache.syncope.core.persistence.neo4j.content.XMLContentExporter;
 import org.apache.syncope.core.persistence.neo4j.content.XMLContentLoader;
+import org.apache.syncope.core.persistence.neo4j.dao.NaturalIdCache;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnyChecker;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnyMatchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAuditEventDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jBatchDAO;
+import org.apache.syncope.core.persistence.neo4j.dao.Neo4jDerAttrValueDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jEntityCacheDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jJobStatusDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jOIDCJWKSDAO;
@@ -195,6 +199,7 @@ import org.apache.syncope.core.persistence.neo4j.dao.repo.UserRepoExt;
 import org.apache.syncope.core.persistence.neo4j.dao.repo.UserRepoExtImpl;
 import org.apache.syncope.core.persistence.neo4j.dao.repo.WAConfigRepo;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
+import org.apache.syncope.core.persistence.neo4j.entity.NaturalIdCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jConnInstance;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jDelegation;
@@ -211,6 +216,7 @@ import org.apache.syncope.core.persistence.neo4j.entity.task.Neo4jTaskUtilsFacto
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
 import org.apache.syncope.core.persistence.neo4j.spring.CacheCleaningTransactionExecutionListener;
 import org.apache.syncope.core.persistence.neo4j.spring.DomainRoutingDriver;
+import org.apache.syncope.core.persistence.neo4j.spring.NodeBatchWriter;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
 import org.apache.syncope.core.persistence.neo4j.spring.PlainAttrsConverter;
 import org.apache.syncope.core.spring.security.SecurityProperties;
@@ -366,6 +372,12 @@ public class PersistenceContext {
         return new NodeValidator(validator);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public NodeBatchWriter nodeBatchWriter(final Neo4jClient neo4jClient, final Neo4jMappingContext mappingContext) {
+        return new NodeBatchWriter(neo4jClient, mappingContext);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public XMLContentLoader xmlContentLoader(
@@ -453,9 +465,10 @@ public class PersistenceContext {
             final @Lazy AnyTypeDAO anyTypeDAO,
             final @Lazy AnyTypeClassDAO anyTypeClassDAO,
             final @Lazy PlainSchemaDAO plainSchemaDAO,
-            final @Lazy DerSchemaDAO derSchemaDAO) {
+            final @Lazy DerSchemaDAO derSchemaDAO,
+            final AllowedSchemasCache allowedSchemasCache) {
 
-        return new Neo4jAnyChecker(anyTypeDAO, anyTypeClassDAO, plainSchemaDAO, derSchemaDAO);
+        return new Neo4jAnyChecker(anyTypeDAO, anyTypeClassDAO, plainSchemaDAO, derSchemaDAO, allowedSchemasCache);
     }
 
     @ConditionalOnMissingBean
@@ -505,7 +518,9 @@ public class PersistenceContext {
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache) {
+            final NodeBatchWriter nodeBatchWriter,
+            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
+            final NaturalIdCache naturalIdCache) {
 
         return new AnyObjectRepoExtImpl(
                 anyUtilsFactory,
@@ -518,7 +533,9 @@ public class PersistenceContext {
                 neo4jTemplate,
                 neo4jClient,
                 nodeValidator,
-                anyObjectCache);
+                nodeBatchWriter,
+                anyObjectCache,
+                naturalIdCache);
     }
 
     @ConditionalOnMissingBean
@@ -538,6 +555,8 @@ public class PersistenceContext {
             final @Lazy GroupDAO groupDAO,
             final @Lazy AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO schemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
@@ -550,6 +569,8 @@ public class PersistenceContext {
                 groupDAO,
                 anyObjectDAO,
                 schemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
@@ -862,6 +883,12 @@ public class PersistenceContext {
         return neo4jRepositoryFactory.getRepository(DerSchemaRepo.class, derSchemaRepoExt);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrValueDAO derAttrValueDAO(final Neo4jClient neo4jClient) {
+        return new Neo4jDerAttrValueDAO(neo4jClient);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public EntityCacheDAO entityCacheDAO(
@@ -875,7 +902,8 @@ public class PersistenceContext {
             final Cache<EntityCacheKey, Neo4jPlainSchema> plainSchemaCache,
             final Cache<EntityCacheKey, Neo4jRealm> realmCache,
             final Cache<EntityCacheKey, Neo4jRole> roleCache,
-            final Cache<EntityCacheKey, Neo4jUser> userCache) {
+            final Cache<EntityCacheKey, Neo4jUser> userCache,
+            final NaturalIdCache naturalIdCache) {
 
         return new Neo4jEntityCacheDAO(
                 anyTypeCache,
@@ -888,7 +916,8 @@ public class PersistenceContext {
                 plainSchemaCache,
                 realmCache,
                 roleCache,
-                userCache);
+                userCache,
+                naturalIdCache);
     }
 
     @ConditionalOnMissingBean
@@ -935,9 +964,11 @@ public class PersistenceContext {
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
+            final NodeBatchWriter nodeBatchWriter,
             final Cache<EntityCacheKey, Neo4jUser> userCache,
             final Cache<EntityCacheKey, Neo4jGroup> groupCache,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache) {
+            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
+            final NaturalIdCache naturalIdCache) {
 
         return new GroupRepoExtImpl(
                 anyUtilsFactory,
@@ -952,9 +983,11 @@ public class PersistenceContext {
                 neo4jTemplate,
                 neo4jClient,
                 nodeValidator,
+                nodeBatchWriter,
                 userCache,
                 groupCache,
-                anyObjectCache);
+                anyObjectCache,
+                naturalIdCache);
     }
 
     @ConditionalOnMissingBean
@@ -1182,6 +1215,8 @@ public class PersistenceContext {
     public RealmSearchDAO realmSearchDAO(
             final @Lazy RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
@@ -1193,6 +1228,8 @@ public class PersistenceContext {
         return new Neo4jRealmSearchDAO(
                 realmDAO,
                 plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 userDAO,
                 groupDAO,
                 entityFactory,
@@ -1435,6 +1472,16 @@ public class PersistenceContext {
                         setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(Duration.ZERO)));
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public NaturalIdCache naturalIdCache(final CacheManager cacheManager) {
+        return new NaturalIdCache(cacheManager.createCache(NaturalIdCache.CACHE,
+                new MutableConfiguration<NaturalIdCacheKey, String>().
+                        setTypes(NaturalIdCacheKey.class, String.class).
+                        setStoreByValue(false).
+                        setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(NaturalIdCache.EXPIRY))));
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public UserRepoExt userRepoExt(
@@ -1452,9 +1499,11 @@ public class PersistenceContext {
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
+            final NodeBatchWriter nodeBatchWriter,
             final Cache<EntityCacheKey, Neo4jUser> userCache,
             final Cache<EntityCacheKey, Neo4jGroup> groupCache,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache) {
+            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
+            final NaturalIdCache naturalIdCache) {
 
         return new UserRepoExtImpl(
                 anyUtilsFactory,
@@ -1471,9 +1520,11 @@ public class PersistenceContext {
                 neo4jTemplate,
                 neo4jClient,
                 nodeValidator,
+                nodeBatchWriter,
                 userCache,
                 groupCache,
-                anyObjectCache);
+                anyObjectCache,
+                naturalIdCache);
     }
 
     @ConditionalOnMissingBean
@@ -21,11 +21,12 @@ package org.apache.syncope.core.persistence.neo4j.content;
 import jakarta.xml.bind.DatatypeConverter;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.common.content.AbstractContentLoaderHandler;
@@ -60,7 +61,8 @@ import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.xml.sax.Attributes;
 
 /**
- * SAX handler for generating CREATE statements out of given XML file.
+ * SAX handler for generating CREATE statements out of given XML file; consecutive elements of the same kind are
+ * grouped and sent as a single {@code UNWIND $rows} statement.
  */
 public class ContentLoaderHandler extends AbstractContentLoaderHandler {
 
@@ -72,9 +74,7 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
 
     }
 
-    protected record Query(String statement, Map<String, Object> props) {
-
-    }
+    protected static final int BATCH_SIZE = 500;
 
     protected static String nodelabels(final String primaryLabel) {
         switch (primaryLabel) {
@@ -134,14 +134,14 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
         }
     }
 
-    protected static String escape(final String k) {
-        return k.startsWith("plainAttrs.") ? k.replace('.', '_') : k;
-    }
-
     protected final Driver driver;
 
     protected final Neo4jMappingContext mappingContext;
 
+    protected final List<Map<String, Object>> batchRows = new ArrayList<>();
+
+    protected String batchStatement;
+
     public ContentLoaderHandler(
             final Driver driver,
             final Neo4jMappingContext mappingContext,
@@ -156,6 +156,9 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
 
     @Override
     protected void fetch(final Attributes atts) {
+        // make sure that anything buffered so far is visible to the query
+        flush();
+
         try (Session session = driver.session()) {
             String value = session.run(atts.getValue("query")).single().get(0).asString();
             String key = atts.getValue("key");
@@ -292,39 +295,80 @@ public class ContentLoaderHandler extends AbstractContentLoaderHandler {
 
     @Override
     protected void create(final String qName, final Attributes atts) {
-        Optional<Query> query;
         if (qName.contains("_")) {
             String[] split = qName.split("_");
-            query = parseRelationship(mappingContext.getNodeDescription(split[0]), split[1], atts).
-                    map(rel -> new Query(
-                    "MATCH (a:" + split[0] + " {id: '" + rel.leftId() + "'}), "
-                    + "(b:" + split[1] + " {id: '" + rel.rightId() + "'}) "
-                    + "CREATE (a)-"
-                    + "[:" + rel.type() + (rel.index() == null ? "" : " {index: " + rel.index() + "}") + "]->(b)",
-                    Map.of()));
-        } else {
-            query = parseNode(mappingContext.getNodeDescription(qName), atts).map(node -> {
-                StringBuilder q = new StringBuilder("CREATE (n:").append(nodelabels(qName)).append(" {");
-                q.append(node.props().keySet().stream().
-                        map(o -> "`" + o + "`" + ": $" + escape(o)).
-                        collect(Collectors.joining(", ")));
-                q.append("})");
-                return new Query(q.toString(), node.props().entrySet().stream().
-                        collect(Collectors.toMap(e -> escape(e.getKey()), Map.Entry::getValue)));
+            parseRelationship(mappingContext.getNodeDescription(split[0]), split[1], atts).ifPresent(rel -> {
+                Map<String, Object> row = new HashMap<>();
+                row.put("left", rel.leftId());
+                row.put("right", rel.rightId());
+                if (rel.index() != null) {
+                    row.put("index", Integer.valueOf(rel.index()));
+                }
+
+                enqueue("UNWIND $rows AS row "
+                        + "MATCH (a:" + split[0] + " {id: row.left}), (b:" + split[1] + " {id: row.right}) "
+                        + "CREATE (a)-"
+                        + "[:" + rel.type() + (rel.index() == null ? "" : " {index: row.index}") + "]->(b)",
+                        row);
             });
+        } else {
+            parseNode(mappingContext.getNodeDescription(qName), atts).ifPresent(node -> enqueue(
+                    "UNWIND $rows AS row CREATE (n:" + nodelabels(qName) + ") SET n = row",
+                    node.props()));
         }
+    }
 
-        query.ifPresent(q -> {
-            LOG.debug("About to run: {}", q);
+    /**
+     * Adds the given row to the current batch; the batch is flushed first if its statement differs from the given
+     * one, so that the document order is preserved, and afterwards if the configured size was reached.
+     *
+     * @param statement UNWIND statement to run
+     * @param row parameters for a single element
+     */
+    protected void enqueue(final String statement, final Map<String, Object> row) {
+        if (!statement.equals(batchStatement)) {
+            flush();
+            batchStatement = statement;
+        }
 
-            try (Session session = driver.session()) {
-                session.run(q.statement(), q.props());
-            } catch (Exception e) {
-                LOG.error("While processing {}", qName, e);
-                if (!continueOnError) {
-                    throw e;
-                }
+        batchRows.add(row);
+        if (batchRows.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    protected void flush() {
+        if (batchStatement == null || batchRows.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> rows = List.copyOf(batchRows);
+        batchRows.clear();
+
+        LOG.debug("About to run: {} with {} rows", batchStatement, rows.size());
+
+        try (Session session = driver.session()) {
+            session.executeWriteWithoutResult(tx -> tx.run(batchStatement, Map.of("rows", rows)).consume());
+        } catch (Exception e) {
+            if (!continueOnError) {
+                LOG.error("While running {}", batchStatement, e);
+                throw e;
             }
-        });
+
+            // isolate the failing element(s) by running each row on its own
+            LOG.warn("While running {}, retrying each of {} rows", batchStatement, rows.size(), e);
+            rows.forEach(row -> {
+                try (Session session = driver.session()) {
+                    session.run(batchStatement, Map.of("rows", List.of(row))).consume();
+                } catch (Exception re) {
+                    LOG.error("While processing {}", row, re);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void endDocument() {
+        flush();
     }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.neo4j.content;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +32,8 @@ import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.sax.TransformerHandler;
 import org.apache.commons.lang3.ArrayUtils;
@@ -57,6 +60,7 @@ import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.schema.Relationship;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
 
@@ -144,7 +148,7 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
             final Neo4jPersistentEntity<?> entity,
             final Record record,
             final Session session,
-            final TransformerHandler handler) throws SAXException {
+            final ContentHandler handler) throws SAXException {
 
         LOG.debug("Export entity {}", entity.getPrimaryLabel());
 
@@ -192,6 +196,47 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
         }
     }
 
+    protected void doExportEntity(
+            final String domain,
+            final Neo4jPersistentEntity<?> entity,
+            final int threshold,
+            final ContentHandler handler) throws SAXException {
+
+        try (Session session = domainHolder.getDomains().get(domain).session()) {
+            StringBuilder query = new StringBuilder("MATCH (n:" + entity.getPrimaryLabel() + ")-[r]-() ");
+            if (Neo4jSchedTask.NODE.equals(entity.getPrimaryLabel())) {
+                query.append("WHERE NOT n:").append(Neo4jMacroTask.NODE).
+                        append(" AND NOT n:").append(Neo4jInboundTask.NODE).
+                        append(" AND NOT n:").append(Neo4jProvisioningTask.NODE).append(' ');
+            }
+            query.append("RETURN n, collect(r) AS rels ORDER BY n.id");
+
+            Stream<Record> records = session.run(query.toString()).stream();
+            if (threshold > 0) {
+                records = records.limit(threshold);
+            }
+            if (Neo4jRealm.NODE.equals(entity.getPrimaryLabel())) {
+                records = records.sorted(REALM_COMPARATOR);
+            }
+            for (Record record : records.toList()) {
+                exportNode(entity, record, session, handler);
+            }
+        }
+    }
+
+    protected void exportEntity(
+            final String domain,
+            final Neo4jPersistentEntity<?> entity,
+            final int threshold,
+            final ContentHandler handler) {
+
+        try {
+            doExportEntity(domain, entity, threshold, handler);
+        } catch (Exception e) {
+            LOG.error("While exporting database content", e);
+        }
+    }
+
     @Override
     public void export(
             final String domain,
@@ -202,27 +247,47 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
         TransformerHandler handler = start(os);
 
         for (Neo4jPersistentEntity<?> entity : persistentEntities(elements)) {
-            try (Session session = domainHolder.getDomains().get(domain).session()) {
-                StringBuilder query = new StringBuilder("MATCH (n:" + entity.getPrimaryLabel() + ")-[r]-() ");
-                if (Neo4jSchedTask.NODE.equals(entity.getPrimaryLabel())) {
-                    query.append("WHERE NOT n:").append(Neo4jMacroTask.NODE).
-                            append(" AND NOT n:").append(Neo4jInboundTask.NODE).
-                            append(" AND NOT n:").append(Neo4jProvisioningTask.NODE).append(' ');
-                }
-                query.append("RETURN n, collect(r) AS rels ORDER BY n.id");
-
-                Stream<Record> records = session.run(query.toString()).stream().limit(threshold);
-                if (Neo4jRealm.NODE.equals(entity.getPrimaryLabel())) {
-                    records = records.sorted(REALM_COMPARATOR);
-                }
-                for (Record record : records.toList()) {
-                    exportNode(entity, record, session, handler);
-                }
-            } catch (Exception e) {
-                LOG.error("While exporting database content", e);
-            }
+            exportEntity(domain, entity, threshold, handler);
         }
 
         end(handler);
     }
+
+    @Override
+    public void exportArchive(
+            final String domain,
+            final int threshold,
+            final int parallelism,
+            final boolean binary,
+            final OutputStream os,
+            final String... elements)
+            throws SAXException, TransformerConfigurationException, IOException {
+
+        List<Neo4jPersistentEntity<?>> entities = persistentEntities(elements);
+
+        // entries are named after the relationship order, to allow for sequential loading
+        List<String> entries = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            entries.add(String.format("%04d-%s", i, entities.get(i).getPrimaryLabel())
+                    + (binary ? BINARY_ENTRY_SUFFIX : XML_ENTRY_SUFFIX));
+        }
+
+        ZipOutputStream zip = new ZipOutputStream(os);
+        writeManifest(zip, entries);
+        for (int i = 0; i < entities.size(); i++) {
+            zip.putNextEntry(new ZipEntry(entries.get(i)));
+
+            ContentHandler handler = start(zip, binary);
+            try {
+                doExportEntity(domain, entities.get(i), threshold, handler);
+            } catch (Exception e) {
+                // fail rather than producing an archive with missing content
+                throw new IOException("Failure exporting " + entities.get(i).getPrimaryLabel(), e);
+            }
+            end(handler);
+
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
 }
@@ -91,7 +91,7 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
     protected void loadDefaultContent(final String domain, final String contentXML) throws Exception {
         InputStream in = ctx.getBeanFactory().getBean(contentXML, InputStream.class);
         try (in) {
-            saxParser().parse(in, new ContentLoaderHandler(
+            parse(in, new ContentLoaderHandler(
                     domainHolder.getDomains().get(domain), mappingContext, ROOT_ELEMENT, true, ctx.getEnvironment()));
             LOG.debug("[{}] Default content successfully loaded", domain);
         }
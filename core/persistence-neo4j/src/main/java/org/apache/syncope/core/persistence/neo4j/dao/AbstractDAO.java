@@ -150,4 +150,23 @@ public abstract class AbstractDAO {
                     leftNode, leftNodeKey, rightNode, rightNodeKey, e);
         }
     }
+
+    /**
+     * Removes, in a single statement, all nodes with given label and keys, together with their relationships.
+     *
+     * @param node node label
+     * @param keys node keys
+     */
+    protected void deleteNodes(final String node, final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        neo4jClient.query(
+                "UNWIND $ids AS nid "
+                + "MATCH (n:" + node + " {id: nid}) "
+                + "DETACH DELETE n").
+                bindAll(Map.of("ids", List.copyOf(keys))).
+                run();
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+import javax.cache.expiry.Duration;
+import org.apache.syncope.core.persistence.neo4j.entity.NaturalIdCacheKey;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caches the keys of users, groups and any objects by natural id - username, group name and (type, name) - as such
+ * lookups are performed on every authentication and during correlation.
+ * Entries are only removed upon rename or delete, never updated, so that no rollback can leave stale entries behind;
+ * as changes made by other nodes are not notified, cached keys are always verified against the entity found.
+ */
+public class NaturalIdCache {
+
+    public static final String CACHE = "naturalIdCache";
+
+    /**
+     * Entries not accessed for this long are expired, so that the cache size is bound by the natural ids in use.
+     */
+    public static final Duration EXPIRY = new Duration(TimeUnit.MINUTES, 10);
+
+    protected record Counters(LongAdder hits, LongAdder misses, LongAdder evictions) {
+
+        Counters() {
+            this(new LongAdder(), new LongAdder(), new LongAdder());
+        }
+    }
+
+    protected final Cache<NaturalIdCacheKey, String> cache;
+
+    protected final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    protected volatile boolean statisticsEnabled = true;
+
+    public NaturalIdCache(final Cache<NaturalIdCacheKey, String> cache) {
+        this.cache = cache;
+    }
+
+    protected void count(final String type, final Function<Counters, LongAdder> counter) {
+        if (statisticsEnabled) {
+            counter.apply(counters.computeIfAbsent(type, k -> new Counters())).increment();
+        }
+    }
+
+    /**
+     * Finds the key for the given natural id, invoking the given loader if not cached; the key returned is not
+     * verified, see {@link #find(String, String, Supplier, Function, Predicate)}.
+     *
+     * @param type any type key
+     * @param name username, group or any object name
+     * @param loader queries for the key
+     * @return key, if found
+     */
+    protected Optional<String> findKey(final String type, final String name, final Supplier<Optional<String>> loader) {
+        if (name == null) {
+            return Optional.empty();
+        }
+
+        NaturalIdCacheKey cacheKey = NaturalIdCacheKey.of(type, name);
+        String key = cache.get(cacheKey);
+        if (key != null) {
+            count(type, Counters::hits);
+            return Optional.of(key);
+        }
+
+        count(type, Counters::misses);
+        Optional<String> loaded = loader.get();
+        loaded.ifPresent(k -> cache.put(cacheKey, k));
+        return loaded;
+    }
+
+    /**
+     * Finds the entity for the given natural id; if the cached key leads to no entity, or to an entity not matching
+     * the natural id anymore, the entry is evicted and the loader invoked again.
+     *
+     * @param <E> entity type
+     * @param type any type key
+     * @param name username, group or any object name
+     * @param loader queries for the key
+     * @param finder finds entity by key
+     * @param matches checks whether the entity found still matches the given natural id
+     * @return entity, if found
+     */
+    public <E> Optional<E> find(
+            final String type,
+            final String name,
+            final Supplier<Optional<String>> loader,
+            final Function<String, Optional<? extends E>> finder,
+            final Predicate<E> matches) {
+
+        Optional<E> entity = findKey(type, name, loader).flatMap(finder);
+        if (entity.isPresent() && matches.test(entity.get())) {
+            return entity;
+        }
+
+        if (name != null && cache.containsKey(NaturalIdCacheKey.of(type, name))) {
+            evict(type, name);
+            return findKey(type, name, loader).flatMap(finder).filter(matches);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Evicts the given natural id, both immediately and after current transaction completes - in order to cope with
+     * concurrent lookups reading the state before commit.
+     *
+     * @param type any type key
+     * @param name username, group or any object name
+     */
+    public void evict(final String type, final String name) {
+        if (name == null) {
+            return;
+        }
+
+        NaturalIdCacheKey cacheKey = NaturalIdCacheKey.of(type, name);
+        cache.remove(cacheKey);
+        count(type, Counters::evictions);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    cache.remove(cacheKey);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        cache.removeAll();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        counters.forEach((type, c) -> {
+            Map<String, Object> typeStatistics = new HashMap<>();
+            typeStatistics.put("cache hits", c.hits().sum());
+            typeStatistics.put("cache misses", c.misses().sum());
+            typeStatistics.put("cache evictions", c.evictions().sum());
+            statistics.put(type, typeStatistics);
+        });
+        return statistics;
+    }
+
+    public void setStatisticsEnabled(final boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public void resetStatistics() {
+        counters.clear();
+    }
+}
@@ -24,7 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
-import org.apache.syncope.core.persistence.api.dao.AnyChecker;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -38,9 +38,9 @@ import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
-import org.springframework.transaction.annotation.Transactional;
+import org.apache.syncope.core.persistence.common.dao.CachingAnyChecker;
 
-public class Neo4jAnyChecker extends AnyChecker {
+public class Neo4jAnyChecker extends CachingAnyChecker {
 
     protected final AnyTypeDAO anyTypeDAO;
 
@@ -52,18 +52,18 @@ public class Neo4jAnyChecker extends AnyChecker {
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final PlainSchemaDAO plainSchemaDAO,
-            final DerSchemaDAO derSchemaDAO) {
+            final DerSchemaDAO derSchemaDAO,
+            final AllowedSchemasCache allowedSchemasCache) {
 
-        super(plainSchemaDAO);
+        super(plainSchemaDAO, allowedSchemasCache);
         this.anyTypeDAO = anyTypeDAO;
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.derSchemaDAO = derSchemaDAO;
     }
 
-    @Transactional(readOnly = true)
     @SuppressWarnings("unchecked")
     @Override
-    public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final Any any, final Class<S> reference) {
+    protected <S extends Schema> AllowedSchemas<S> doFindAllowedSchemas(final Any any, final Class<S> reference) {
         AllowedSchemas<S> result = new AllowedSchemas<>();
 
         // schemas given by type and aux classes
@@ -19,13 +19,16 @@
 package org.apache.syncope.core.persistence.neo4j.dao;
 
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -40,6 +43,8 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
@@ -58,10 +63,12 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AbstractAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.repo.AnyRepoExt;
@@ -108,6 +115,13 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
     }
 
+    protected static final Set<String> INDEXED_FIELDS = Set.of("username", "name", "status", "lastChangeDate");
+
+    /**
+     * Terms which are guaranteed to be kept whole, at the beginning of a token, by the fulltext analyzer.
+     */
+    protected static final Pattern FULLTEXT_TERM = Pattern.compile("[a-zA-Z0-9]{1,255}");
+
     protected static String setParameter(final Map<String, Object> parameters, final Object parameter) {
         String name = "param" + parameters.size();
         parameters.put(name, parameter);
@@ -126,6 +140,12 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
+    protected static String materializedValue(final String node, final DerSchema schema) {
+        return "head(COLLECT { MATCH (v:" + Neo4jDerAttrValueDAO.NODE + " "
+                + "{owner: " + node + ".id, schema: '" + schema.getKey() + "'}) RETURN v.stringValue }) "
+                + "AS " + schema.getKey();
+    }
+
     protected static String escapeIfString(final String value, final boolean isStr) {
         return isStr
                 ? new StringBuilder().append('"').append(value).append('"').toString()
@@ -156,6 +176,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             final GroupDAO groupDAO,
             final AnyObjectDAO anyObjectDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
@@ -168,6 +190,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 groupDAO,
                 anyObjectDAO,
                 plainSchemaDAO,
+                derSchemaDAO,
+                derAttrValueDAO,
                 entityFactory,
                 anyUtilsFactory,
                 validator);
@@ -530,13 +554,14 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
             case ILIKE, LIKE -> {
                 if (schema.getType().isStringClass()) {
-                    query.append(property).append(" =~ ");
+                    Pair<String, String> like = AnyRepoExt.likeAsStringOperator(cond.getExpression()).
+                            orElseGet(() -> Pair.of("=~", cond.getExpression().replace("%", ".*")));
+
+                    query.append(property).append(' ').append(like.getLeft()).append(' ');
                     if (lower) {
-                        query.append("toLower($").
-                                append(setParameter(parameters, cond.getExpression().replace("%", ".*"))).
-                                append(')');
+                        query.append("toLower($").append(setParameter(parameters, like.getRight())).append(')');
                     } else {
-                        query.append('$').append(setParameter(parameters, cond.getExpression().replace("%", ".*")));
+                        query.append('$').append(setParameter(parameters, like.getRight()));
                     }
                 } else {
                     query.append(' ').append(ALWAYS_FALSE_CLAUSE);
@@ -678,6 +703,57 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         return new AttrCondQuery(query.toString(), checked.schema());
     }
 
+    protected String getQuery(
+            final AttrCond cond,
+            final DerSchema schema,
+            final boolean not,
+            final Map<String, Object> parameters) {
+
+        TextStringBuilder match = new TextStringBuilder("MATCH (v:").append(Neo4jDerAttrValueDAO.NODE).
+                append(" {owner: n.id, schema: $").append(setParameter(parameters, schema.getKey())).append("})");
+
+        boolean exists = true;
+        switch (cond.getType()) {
+            case ISNULL ->
+                exists = not;
+
+            case ISNOTNULL ->
+                exists = !not;
+
+            default -> {
+                // materialized values are always stored as strings
+                boolean lower = cond.getType() == AttrCond.Type.IEQ || cond.getType() == AttrCond.Type.ILIKE;
+                boolean like = cond.getType() == AttrCond.Type.LIKE || cond.getType() == AttrCond.Type.ILIKE;
+
+                String param = '$' + setParameter(
+                        parameters, like ? cond.getExpression().replace("%", ".*") : cond.getExpression());
+
+                String op = switch (cond.getType()) {
+                    case LIKE, ILIKE ->
+                        " =~ ";
+                    case GE ->
+                        ">=";
+                    case GT ->
+                        ">";
+                    case LE ->
+                        "<=";
+                    case LT ->
+                        "<";
+                    default ->
+                        "=";
+                };
+
+                match.append(" WHERE ").append(not ? "NOT (" : "(").
+                        append(lower ? "toLower(v.stringValue)" : "v.stringValue").
+                        append(op).
+                        append(lower ? "toLower(" + param + ')' : param).
+                        append(')');
+            }
+        }
+
+        return "MATCH (n) WHERE " + (exists ? "" : "NOT ") + "EXISTS { " + match + " } ";
+    }
+
     protected void getQueryForCustomConds(
             final AnyTypeKind kind,
             final SearchCond cond,
@@ -734,18 +810,21 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                             query.append(anyCondQuery.query());
                             Optional.ofNullable(anyCondQuery.field()).ifPresent(involvedFields::add);
                         },
-                        () -> cond.asLeaf(AttrCond.class).ifPresent(leaf -> {
-                            AttrCondQuery attrCondQuery = getQuery(leaf, not, parameters);
-                            query.append(attrCondQuery.query());
-                            involvedPlainSchemas.add(attrCondQuery.schema());
-                            if (kind != AnyTypeKind.GROUP
-                                    && !not
-                                    && leaf.getType() != AttrCond.Type.ISNULL
-                                    && leaf.getType() != AttrCond.Type.ISNOTNULL) {
-
-                                membershipAttrConds.add(attrCondQuery);
-                            }
-                        }));
+                        () -> cond.asLeaf(AttrCond.class).ifPresent(leaf -> findMaterialized(leaf.getSchema()).
+                        ifPresentOrElse(
+                                derSchema -> query.append(getQuery(leaf, derSchema, not, parameters)),
+                                () -> {
+                                    AttrCondQuery attrCondQuery = getQuery(leaf, not, parameters);
+                                    query.append(attrCondQuery.query());
+                                    involvedPlainSchemas.add(attrCondQuery.schema());
+                                    if (kind != AnyTypeKind.GROUP
+                                            && !not
+                                            && leaf.getType() != AttrCond.Type.ISNULL
+                                            && leaf.getType() != AttrCond.Type.ISNOTNULL) {
+
+                                        membershipAttrConds.add(attrCondQuery);
+                                    }
+                                })));
 
                 // allow for additional search conditions
                 getQueryForCustomConds(kind, cond, parameters, not, query);
@@ -785,13 +864,112 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         return new QueryInfo(query, involvedFields, involvedPlainSchemas, membershipAttrConds);
     }
 
+    /**
+     * Looks for a condition on an indexed field which must hold for every result: when found, the outer MATCH can
+     * start from an index lookup rather than from a label scan.
+     *
+     * @param kind any type kind
+     * @param cond search condition
+     * @param parameters query parameters
+     * @return MATCH or CALL clause binding {@code n}, if any
+     */
+    protected Optional<String> indexSeed(
+            final AnyTypeKind kind,
+            final SearchCond cond,
+            final Map<String, Object> parameters) {
+
+        return switch (cond.getType()) {
+            case AND ->
+                indexSeed(kind, cond.getLeft(), parameters).or(() -> indexSeed(kind, cond.getRight(), parameters));
+
+            case LEAF ->
+                cond.asLeaf(AnyCond.class).
+                        filter(leaf -> INDEXED_FIELDS.contains(leaf.getSchema()) && leaf.getExpression() != null
+                        && anyUtilsFactory.getInstance(kind).getField(leaf.getSchema()).isPresent()).
+                        flatMap(leaf -> indexSeed(kind, leaf, parameters));
+
+            default ->
+                Optional.empty();
+        };
+    }
+
+    protected Optional<String> indexSeed(
+            final AnyTypeKind kind,
+            final AnyCond cond,
+            final Map<String, Object> parameters) {
+
+        String match = "MATCH (n:" + AnyRepoExt.node(kind) + ") WHERE n." + cond.getSchema() + ' ';
+
+        if ("lastChangeDate".equals(cond.getSchema())) {
+            String operator = switch (cond.getType()) {
+                case EQ ->
+                    "=";
+                case GE ->
+                    ">=";
+                case GT ->
+                    ">";
+                case LE ->
+                    "<=";
+                case LT ->
+                    "<";
+                default ->
+                    null;
+            };
+            if (operator == null) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(match + operator + " $"
+                        + setParameter(parameters, FormatUtils.parseDate(cond.getExpression())) + ' ');
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+        }
+
+        switch (cond.getType()) {
+            case EQ -> {
+                return Optional.of(match + "= $" + setParameter(parameters, cond.getExpression()) + ' ');
+            }
+
+            case LIKE -> {
+                return AnyRepoExt.likeAsStringOperator(cond.getExpression()).map(like -> match
+                        + like.getLeft() + " $" + setParameter(parameters, like.getRight()) + ' ');
+            }
+
+            case IEQ, ILIKE -> {
+                // case-insensitive lookups go through the fulltext index, which is not defined for status
+                if ("status".equals(cond.getSchema())) {
+                    return Optional.empty();
+                }
+
+                boolean prefix = cond.getType() == AttrCond.Type.ILIKE && cond.getExpression().endsWith("%");
+                String term = prefix ? StringUtils.removeEnd(cond.getExpression(), "%") : cond.getExpression();
+                if (!FULLTEXT_TERM.matcher(term).matches()) {
+                    return Optional.empty();
+                }
+
+                String query = cond.getSchema() + ':' + term.toLowerCase(Locale.ROOT) + (prefix ? "*" : "");
+                return Optional.of("CALL db.index.fulltext.queryNodes('" + AnyRepoExt.FULLTEXT_INDEX + "', $"
+                        + setParameter(parameters, query)
+                        + ") YIELD node WITH node AS n WHERE n:" + AnyRepoExt.node(kind) + ' ');
+            }
+
+            default -> {
+                return Optional.empty();
+            }
+        }
+    }
+
     protected void wrapQuery(
             final QueryInfo queryInfo,
             final Streamable<Order> orderBy,
             final AnyTypeKind kind,
-            final String adminRealmsFilter) {
+            final String adminRealmsFilter,
+            final Optional<String> indexSeed) {
 
-        TextStringBuilder match = new TextStringBuilder("MATCH (n:").append(AnyRepoExt.node(kind)).append(") ").
+        TextStringBuilder match = new TextStringBuilder(
+                indexSeed.orElseGet(() -> "MATCH (n:" + AnyRepoExt.node(kind) + ") ")).
                 append("WITH n.id AS id");
 
         // take fields into account
@@ -818,6 +996,10 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             match.append(" AS ").append(schema.getKey());
         });
 
+        // take materialized derived schemas into account
+        orderBy.stream().map(clause -> findMaterialized(clause.getProperty())).flatMap(Optional::stream).
+                forEach(schema -> match.append(", ").append(materializedValue("n", schema)));
+
         TextStringBuilder query = queryInfo.query();
 
         // take realms into account
@@ -859,6 +1041,9 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 orderByItems.stream().map(plainSchemaDAO::findById).flatMap(Optional::stream)).
                 collect(Collectors.toSet());
 
+        List<? extends DerSchema> materialized = orderByItems.stream().
+                map(this::findMaterialized).flatMap(Optional::stream).toList();
+
         // call
         query.insert(0, "CALL () { ");
 
@@ -869,6 +1054,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
         plainSchemas.forEach(schema -> returnStmt.append(", ").append(schema.getKey()));
 
+        materialized.forEach(schema -> returnStmt.append(", ").append(schema.getKey()));
+
         query.append(returnStmt);
 
         // union
@@ -889,6 +1076,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             query.append(" AS ").append(schema.getKey());
         });
 
+        materialized.forEach(schema -> query.append(", ").append(materializedValue("m", schema)));
+
         query.append(" WHERE ");
 
         query.append(queryInfo.membershipAttrConds().stream().
@@ -913,11 +1102,14 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters);
 
         // 1. get the query string from the search condition
-        QueryInfo queryInfo = getQuery(
-                kind, buildEffectiveCond(cond, filter.managed(), kind), parameters);
-
-        // 2. wrap query
-        wrapQuery(queryInfo, Streamable.empty(), kind, filter.filter());
+        SearchCond effectiveCond = buildEffectiveCond(cond, filter.managed(), kind);
+        QueryInfo queryInfo = getQuery(kind, effectiveCond, parameters);
+
+        // 2. wrap query, starting from an index lookup when possible
+        Optional<String> indexSeed = queryInfo.membershipAttrConds().isEmpty()
+                ? indexSeed(kind, effectiveCond, parameters)
+                : Optional.empty();
+        wrapQuery(queryInfo, Streamable.empty(), kind, filter.filter(), indexSeed);
         TextStringBuilder query = queryInfo.query();
 
         // 3. include membership plain attr queries
@@ -944,6 +1136,8 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         orderBy.forEach(clause -> {
             if (anyUtils.getField(clause.getProperty()).isPresent()) {
                 clauses.add(clause.getProperty() + " " + clause.getDirection().name());
+            } else if (findMaterialized(clause.getProperty()).isPresent()) {
+                clauses.add(clause.getProperty() + " " + clause.getDirection().name());
             } else {
                 plainSchemaDAO.findById(clause.getProperty()).ifPresent(schema -> {
                     if (schema.isUniqueConstraint()) {
@@ -982,11 +1176,14 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters);
 
         // 1. get the query string from the search condition
-        QueryInfo queryInfo = getQuery(
-                kind, buildEffectiveCond(cond, filter.managed(), kind), parameters);
-
-        // 2. wrap query
-        wrapQuery(queryInfo, pageable.getSort(), kind, filter.filter());
+        SearchCond effectiveCond = buildEffectiveCond(cond, filter.managed(), kind);
+        QueryInfo queryInfo = getQuery(kind, effectiveCond, parameters);
+
+        // 2. wrap query, starting from an index lookup when possible
+        Optional<String> indexSeed = queryInfo.membershipAttrConds().isEmpty()
+                ? indexSeed(kind, effectiveCond, parameters)
+                : Optional.empty();
+        wrapQuery(queryInfo, pageable.getSort(), kind, filter.filter(), indexSeed);
         TextStringBuilder query = queryInfo.query();
 
         List<String> orderBy = parseOrderBy(kind, pageable.getSort());
@@ -1000,7 +1197,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                 append("ORDER BY ").append(orderByStmt);
 
         if (pageable.isPaged()) {
-            query.append(" SKIP ").append(pageable.getPageSize() * pageable.getPageNumber()).
+            query.append(" SKIP ").append(pageable.getOffset()).
                     append(" LIMIT ").append(pageable.getPageSize());
         }
 
@@ -185,4 +185,14 @@ public class Neo4jAuditEventDAO implements AuditEventDAO {
                 map(found -> neo4jTemplate.findById(found.get("n.id"), Neo4jAuditEvent.class)).
                 flatMap(Optional::stream).map(this::toAuditEventTO).toList();
     }
+
+    @Transactional
+    @Override
+    public void maintain(final OffsetDateTime before) {
+        if (before != null) {
+            neo4jClient.query(
+                    "MATCH (n:" + Neo4jAuditEvent.NODE + ") WHERE n.when < $before DETACH DELETE n").
+                    bindAll(Map.of("before", before)).run();
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class Neo4jDerAttrValueDAO implements DerAttrValueDAO {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DerAttrValueDAO.class);
+
+    public static final String NODE = "DerAttrValue";
+
+    protected final Neo4jClient neo4jClient;
+
+    public Neo4jDerAttrValueDAO(final Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public void replace(final String owner, final Set<String> schemas, final Map<String, String> values) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        schemas.forEach(schema -> {
+            String value = values.get(schema);
+            if (value == null) {
+                removed.add(schema);
+            } else if (value.length() > MAX_VALUE_LENGTH) {
+                LOG.warn("Value for {} on {} exceeds {} characters, not materialized", schema, owner, MAX_VALUE_LENGTH);
+                removed.add(schema);
+            } else {
+                rows.add(Map.of(
+                        "id", SecureRandomUtils.generateRandomUUID().toString(),
+                        "schema", schema,
+                        "stringValue", value));
+            }
+        });
+
+        if (!removed.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (n:" + NODE + " {owner: $owner}) WHERE n.schema IN $removed DELETE n").
+                    bindAll(Map.of("owner", owner, "removed", removed)).run();
+        }
+        if (!rows.isEmpty()) {
+            // MERGE rather than CREATE, as the rebuild job and regular saves might replace values concurrently
+            neo4jClient.query(
+                    "UNWIND $rows AS row "
+                    + "MERGE (n:" + NODE + " {owner: $owner, schema: row.schema}) "
+                    + "ON CREATE SET n.id = row.id "
+                    + "SET n.stringValue = row.stringValue").
+                    bindAll(Map.of("rows", rows, "owner", owner)).run();
+        }
+    }
+
+    @Override
+    public void deleteByOwner(final String owner) {
+        neo4jClient.query("MATCH (n:" + NODE + " {owner: $owner}) DELETE n").
+                bindAll(Map.of("owner", owner)).run();
+    }
+
+    @Override
+    public void deleteBySchema(final String schema) {
+        neo4jClient.query("MATCH (n:" + NODE + " {schema: $schema}) DELETE n").
+                bindAll(Map.of("schema", schema)).run();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findOwners(final String schema, final String value, final boolean ignoreCaseMatch) {
+        return neo4jClient.query(
+                "MATCH (n:" + NODE + " {schema: $schema}) WHERE "
+                + (ignoreCaseMatch ? "toLower(n.stringValue) = toLower($value)" : "n.stringValue = $value")
+                + " RETURN n.owner").
+                bindAll(Map.of("schema", schema, "value", value)).fetch().all().stream().
+                map(found -> found.get("n.owner").toString()).toList();
+    }
+}
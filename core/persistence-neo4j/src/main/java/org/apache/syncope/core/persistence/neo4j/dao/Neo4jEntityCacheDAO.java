@@ -42,6 +42,8 @@ public class Neo4jEntityCacheDAO implements EntityCacheDAO {
 
     protected final Map<Class<? extends Entity>, Cache<EntityCacheKey, ? extends Entity>> caches;
 
+    protected final NaturalIdCache naturalIdCache;
+
     public Neo4jEntityCacheDAO(
             final Cache<EntityCacheKey, Neo4jAnyType> anyTypeCache,
             final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
@@ -53,7 +55,8 @@ public class Neo4jEntityCacheDAO implements EntityCacheDAO {
             final Cache<EntityCacheKey, Neo4jPlainSchema> plainSchemaCache,
             final Cache<EntityCacheKey, Neo4jRealm> realmCache,
             final Cache<EntityCacheKey, Neo4jRole> roleCache,
-            final Cache<EntityCacheKey, Neo4jUser> userCache) {
+            final Cache<EntityCacheKey, Neo4jUser> userCache,
+            final NaturalIdCache naturalIdCache) {
 
         caches = new HashMap<>();
         caches.put(Neo4jAnyTypeClass.class, anyTypeCache);
@@ -67,26 +70,28 @@ public class Neo4jEntityCacheDAO implements EntityCacheDAO {
         caches.put(Neo4jRealm.class, realmCache);
         caches.put(Neo4jRole.class, roleCache);
         caches.put(Neo4jUser.class, userCache);
+
+        this.naturalIdCache = naturalIdCache;
     }
 
     @Override
     public Map<String, Object> getStatistics() {
-        return Map.of();
+        return Map.of("naturalIds", naturalIdCache.getStatistics());
     }
 
     @Override
     public void enableStatistics() {
-        // not supported
+        naturalIdCache.setStatisticsEnabled(true);
     }
 
     @Override
     public void disableStatistics() {
-        // not supported
+        naturalIdCache.setStatisticsEnabled(false);
     }
 
     @Override
     public void resetStatistics() {
-        // not supported
+        naturalIdCache.resetStatistics();
     }
 
     @Override
@@ -97,5 +102,6 @@ public class Neo4jEntityCacheDAO implements EntityCacheDAO {
     @Override
     public void clearCache() {
         caches.values().forEach(Cache::removeAll);
+        naturalIdCache.clear();
     }
 }
@@ -32,12 +32,15 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.TextStringBuilder;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -103,6 +106,10 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
                 : value;
     }
 
+    protected static String descendantsPrefix(final String fullPath) {
+        return SyncopeConstants.ROOT_REALM.equals(fullPath) ? SyncopeConstants.ROOT_REALM : fullPath + "/";
+    }
+
     protected static void queryOp(
             final TextStringBuilder query,
             final String op,
@@ -128,6 +135,8 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
     public Neo4jRealmSearchDAO(
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
@@ -136,7 +145,7 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient) {
 
-        super(plainSchemaDAO, userDAO, groupDAO, entityFactory, validator);
+        super(plainSchemaDAO, derSchemaDAO, derAttrValueDAO, userDAO, groupDAO, entityFactory, validator);
         this.realmDAO = realmDAO;
         this.realmUtils = realmUtils;
         this.neo4jTemplate = neo4jTemplate;
@@ -187,14 +196,14 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
         Map<String, Object> parameters = new HashMap<>();
 
         StringBuilder query = new StringBuilder("MATCH (n:").append(Neo4jRealm.NODE).append(") ").
-                append("WHERE (").append("n.fullPath = $base OR n.fullPath =~ $like").append(')');
+                append("WHERE (").append("n.fullPath = $base OR n.fullPath STARTS WITH $like").append(')');
         parameters.put("base", base);
-        parameters.put("like", SyncopeConstants.ROOT_REALM.equals(base) ? "/.*" : base + "/.*");
+        parameters.put("like", descendantsPrefix(base));
 
         if (prefix != null) {
-            query.append(" AND (n.fullPath = $prefix OR n.fullPath =~ $likePrefix)");
+            query.append(" AND (n.fullPath = $prefix OR n.fullPath STARTS WITH $likePrefix)");
             parameters.put("prefix", prefix);
-            parameters.put("likePrefix", SyncopeConstants.ROOT_REALM.equals(prefix) ? "/.*" : prefix + "/.*");
+            parameters.put("likePrefix", descendantsPrefix(prefix));
         }
 
         query.append(" RETURN n.id ORDER BY n.fullPath");
@@ -264,7 +273,17 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
             final Streamable<Order> orderBy,
             final Map<String, Object> parameters) {
 
+        // take bases into account: the condition is set on the outer MATCH, so that the Realm_fullPath index is used
+        AtomicInteger index = new AtomicInteger(0);
+        String basesClause = bases.stream().map(base -> {
+            int idx = index.incrementAndGet();
+            parameters.put("base" + idx, base);
+            parameters.put("like" + idx, descendantsPrefix(base));
+            return "n.fullPath = $base" + idx + " OR n.fullPath STARTS WITH $like" + idx;
+        }).collect(Collectors.joining(" OR "));
+
         TextStringBuilder match = new TextStringBuilder("MATCH (n:").append(Neo4jRealm.NODE).append(") ").
+                append("WHERE (").append(basesClause).append(") ").
                 append("WITH n.id AS id");
 
         // take fields into account
@@ -292,14 +311,6 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
 
         TextStringBuilder query = queryInfo.query();
 
-        // take bases into account
-        AtomicInteger index = new AtomicInteger(0);
-        String basesClause = bases.stream().map(base -> {
-            int idx = index.incrementAndGet();
-            parameters.put("base" + idx, base);
-            parameters.put("like" + idx, SyncopeConstants.ROOT_REALM.equals(base) ? "/.*" : base + "/.*");
-            return "n.fullPath = $base" + idx + " OR n.fullPath =~ $like" + idx;
-        }).collect(Collectors.joining(" OR "));
         if (query.startsWith("MATCH (n)")) {
             query.replaceFirst("MATCH (n)", match + " WHERE (EXISTS { MATCH (n)");
             query.append("} ");
@@ -307,7 +318,7 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
             query.replaceFirst("WHERE EXISTS", "WHERE (EXISTS");
             query.insert(0, match.append(' '));
         }
-        query.append(") AND EXISTS { ").append("(n) WHERE (").append(basesClause).append(")").append(" } ");
+        query.append(") ");
     }
 
     protected AttrCondQuery getQuery(
@@ -510,13 +521,14 @@ public class Neo4jRealmSearchDAO extends AbstractRealmSearchDAO {
 
             case ILIKE, LIKE -> {
                 if (schema.getType().isStringClass()) {
-                    query.append(property).append(" =~ ");
+                    Pair<String, String> like = AnyRepoExt.likeAsStringOperator(cond.getExpression()).
+                            orElseGet(() -> Pair.of("=~", cond.getExpression().replace("%", ".*")));
+
+                    query.append(property).append(' ').append(like.getLeft()).append(' ');
                     if (lower) {
-                        query.append("toLower($").
-                                append(setParameter(parameters, cond.getExpression().replace("%", ".*"))).
-                                append(')');
+                        query.append("toLower($").append(setParameter(parameters, like.getRight())).append(')');
                     } else {
-                        query.append('$').append(setParameter(parameters, cond.getExpression().replace("%", ".*")));
+                        query.append('$').append(setParameter(parameters, like.getRight()));
                     }
                 } else {
                     query.append(' ').append(ALWAYS_FALSE_CLAUSE);
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
@@ -74,6 +75,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
@@ -577,55 +579,50 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
                 stream().map(Task<?>::getKey).forEach(key -> delete(type, key));
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public List<PropagationTaskTO> purgePropagations(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
-            final List<String> resources) {
+            final List<String> resources,
+            final int max,
+            final Consumer<List<PropagationTaskTO>> beforeDelete) {
 
         Map<String, Object> parameters = new HashMap<>();
 
         StringBuilder query = new StringBuilder(
-                "MATCH (n:" + Neo4jPropagationTask.NODE + ")-[]-(p:" + Neo4jPropagationTaskExec.NODE + ")");
+                "MATCH (n:" + Neo4jPropagationTask.NODE + ")-[]-(e:" + Neo4jPropagationTaskExec.NODE + ")");
         if (!CollectionUtils.isEmpty(resources)) {
-            query.append(" MATCH (n)-[]-(r:" + Neo4jExternalResource.NODE + ")");
+            parameters.put("resources", resources);
+            query.append(" MATCH (n)-[]-(r:" + Neo4jExternalResource.NODE + ") WHERE r.id IN $resources");
         }
-        query.append(" WHERE 1=1");
+
+        // only consider the latest execution of each task
+        query.append(" WITH n, max(e.endDate) AS latest").
+                append(" MATCH (n)-[]-(p:" + Neo4jPropagationTaskExec.NODE + ") WHERE p.endDate = latest");
 
         if (since != null) {
             parameters.put("since", since);
             query.append(" AND p.endDate <= $since");
         }
         if (!CollectionUtils.isEmpty(statuses)) {
-            AtomicInteger index = new AtomicInteger(0);
-            query.append(" AND (").
-                    append(statuses.stream().map(status -> {
-                        int idx = index.incrementAndGet();
-                        parameters.put("status" + idx, status.name());
-                        return "p.status = $status" + idx;
-                    }).collect(Collectors.joining(" OR "))).
-                    append(")");
-        }
-        if (!CollectionUtils.isEmpty(resources)) {
-            query.append(" AND (").
-                    append(resources.stream().map(r -> {
-                        AtomicInteger index = new AtomicInteger(0);
-                        int idx = index.incrementAndGet();
-                        parameters.put("rid" + idx, r);
-                        return "r.id = $rid" + idx;
-                    }).collect(Collectors.joining(" OR "))).
-                    append(")");
+            parameters.put("statuses", statuses.stream().map(ExecStatus::name).toList());
+            query.append(" AND p.status IN $statuses");
         }
 
-        query.append(" RETURN n.id");
+        parameters.put("max", max);
+        query.append(" RETURN DISTINCT n.id ORDER BY n.id LIMIT $max");
 
-        Stream<String> keys = neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
-                map(found -> (String) found.get("n.id")).distinct();
+        List<PropagationTask> tasks = neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
+                map(found -> (String) found.get("n.id")).
+                map(key -> findById(TaskType.PROPAGATION, key).map(PropagationTask.class::cast)).
+                flatMap(Optional::stream).
+                toList();
 
-        List<PropagationTaskTO> purged = new ArrayList<>();
-        keys.forEach(key -> findById(TaskType.PROPAGATION, key).map(PropagationTask.class::cast).ifPresent(task -> {
+        List<PropagationTaskTO> purged = tasks.stream().map(task -> {
             PropagationTaskTO taskTO = new PropagationTaskTO();
 
+            taskTO.setKey(task.getKey());
             taskTO.setOperation(task.getOperation());
             taskTO.setConnObjectKey(task.getConnObjectKey());
             taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
@@ -636,10 +633,14 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
             taskTO.setAnyType(task.getAnyType());
             taskTO.setEntityKey(task.getEntityKey());
 
-            purged.add(taskTO);
+            return taskTO;
+        }).toList();
+
+        if (!purged.isEmpty()) {
+            beforeDelete.accept(purged);
 
-            delete(task);
-        }));
+            tasks.forEach(this::delete);
+        }
 
         return purged;
     }
@@ -18,20 +18,10 @@
  */
 package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
-import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
-import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
-import org.springframework.data.repository.query.Param;
 
 public interface AnyObjectRepo
         extends PagingAndSortingRepository<Neo4jAnyObject, String>, AnyObjectRepoExt, AnyObjectDAO {
-
-    @Query("MATCH (n:" + Neo4jAnyObject.NODE + ")-[]-(a:" + Neo4jAnyType.NODE + " {id: $type}) "
-            + "WHERE n.name = $name "
-            + "RETURN n.id")
-    @Override
-    Optional<String> findKey(@Param("type") String type, @Param("name") String name);
 }
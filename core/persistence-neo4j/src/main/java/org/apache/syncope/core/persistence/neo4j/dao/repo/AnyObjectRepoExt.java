@@ -34,6 +34,8 @@ public interface AnyObjectRepoExt extends AnyRepoExt<AnyObject> {
 
     String CACHE = "anyObjectCache";
 
+    Optional<String> findKey(String type, String name);
+
     Optional<? extends AnyObject> findByName(String type, String name);
 
     List<AnyObject> findByName(String name);
@@ -47,17 +47,15 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.neo4j.dao.NaturalIdCache;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jExternalResource;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAMembership;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jARelationship;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
-import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jURelationship;
-import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+import org.apache.syncope.core.persistence.neo4j.spring.NodeBatchWriter;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
@@ -74,8 +72,12 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
 
     protected final NodeValidator nodeValidator;
 
+    protected final NodeBatchWriter nodeBatchWriter;
+
     protected final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache;
 
+    protected final NaturalIdCache naturalIdCache;
+
     public AnyObjectRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final AnyTypeDAO anyTypeDAO,
@@ -87,7 +89,9 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache) {
+            final NodeBatchWriter nodeBatchWriter,
+            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
+            final NaturalIdCache naturalIdCache) {
 
         super(
                 anyTypeDAO,
@@ -101,7 +105,9 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
         this.userDAO = userDAO;
         this.groupDAO = groupDAO;
         this.nodeValidator = nodeValidator;
+        this.nodeBatchWriter = nodeBatchWriter;
         this.anyObjectCache = anyObjectCache;
+        this.naturalIdCache = naturalIdCache;
     }
 
     @Override
@@ -109,14 +115,28 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
         return anyObjectCache;
     }
 
-    @Override
-    public Optional<? extends AnyObject> findByName(final String type, final String name) {
+    protected Optional<String> queryKey(final String type, final String name) {
         return neo4jClient.query(
                 "MATCH (n:" + Neo4jAnyObject.NODE + ")-[]-(a:" + Neo4jAnyType.NODE + " {id: $type}) "
                 + "WHERE n.name = $name "
                 + "RETURN n.id").
                 bindAll(Map.of("type", type, "name", name)).fetch().one().
-                flatMap(toOptional("n.id", Neo4jAnyObject.class, cache()));
+                map(found -> found.get("n.id").toString());
+    }
+
+    @Override
+    public Optional<String> findKey(final String type, final String name) {
+        return findByName(type, name).map(AnyObject::getKey);
+    }
+
+    @Override
+    public Optional<? extends AnyObject> findByName(final String type, final String name) {
+        return naturalIdCache.<AnyObject>find(
+                type,
+                name,
+                () -> queryKey(type, name),
+                this::findById,
+                anyObject -> name.equals(anyObject.getName()) && type.equals(anyObject.getType().getKey()));
     }
 
     @Override
@@ -229,52 +249,25 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
     public <S extends AnyObject> S save(final S anyObject) {
         anyChecker.checkBeforeSave(anyObject, anyUtils);
 
-        // unlink any resource or aux class that was unlinked from anyObject
-        // delete any membership or relationship that was removed from anyObject
+        // delete any membership or relationship that was removed from anyObject:
+        // stale relationships are instead removed by the batch writer
         neo4jTemplate.findById(anyObject.getKey(), Neo4jAnyObject.class).ifPresent(before -> {
-            before.getResources().stream().filter(resource -> !anyObject.getResources().contains(resource)).
-                    forEach(resource -> deleteRelationship(
-                    Neo4jAnyObject.NODE,
-                    Neo4jExternalResource.NODE,
-                    anyObject.getKey(),
-                    resource.getKey(),
-                    Neo4jAnyObject.ANY_OBJECT_RESOURCE_REL));
-            before.getAuxClasses().stream().filter(auxClass -> !anyObject.getAuxClasses().contains(auxClass)).
-                    forEach(auxClass -> deleteRelationship(
-                    Neo4jAnyObject.NODE,
-                    Neo4jAnyTypeClass.NODE,
-                    anyObject.getKey(),
-                    auxClass.getKey(),
-                    Neo4jAnyObject.ANY_OBJECT_AUX_CLASSES_REL));
-            if (before.getUManager() != null && anyObject.getUManager() == null) {
-                deleteRelationship(
-                        Neo4jAnyObject.NODE,
-                        Neo4jUser.NODE,
-                        anyObject.getKey(),
-                        before.getUManager().getKey(),
-                        Neo4jGroup.USER_MANAGER_REL);
-            }
-            if (before.getGManager() != null && anyObject.getGManager() == null) {
-                deleteRelationship(
-                        Neo4jAnyObject.NODE,
-                        Neo4jGroup.NODE,
-                        anyObject.getKey(),
-                        before.getGManager().getKey(),
-                        Neo4jGroup.GROUP_MANAGER_REL);
+            if (!before.getName().equals(anyObject.getName())) {
+                naturalIdCache.evict(before.getType().getKey(), before.getName());
             }
 
             Set<String> beforeMembs = before.getMemberships().stream().map(AMembership::getKey).
                     collect(Collectors.toSet());
             beforeMembs.removeAll(anyObject.getMemberships().stream().map(AMembership::getKey).toList());
-            beforeMembs.forEach(m -> neo4jTemplate.deleteById(m, Neo4jAMembership.class));
+            deleteNodes(Neo4jAMembership.NODE, beforeMembs);
 
             Set<String> beforeRels = before.getRelationships().stream().map(ARelationship::getKey).
                     collect(Collectors.toSet());
             beforeRels.removeAll(anyObject.getRelationships().stream().map(ARelationship::getKey).toList());
-            beforeRels.forEach(r -> neo4jTemplate.deleteById(r, Neo4jARelationship.class));
+            deleteNodes(Neo4jARelationship.NODE, beforeRels);
         });
 
-        S merged = neo4jTemplate.save(nodeValidator.validate(anyObject));
+        S merged = nodeBatchWriter.write(nodeValidator.validate(anyObject));
 
         anyObjectCache.put(EntityCacheKey.of(merged.getKey()), (Neo4jAnyObject) merged);
 
@@ -353,6 +346,7 @@ public class AnyObjectRepoExtImpl extends AbstractAnyRepoExt<AnyObject, Neo4jAny
         });
 
         anyObjectCache.remove(EntityCacheKey.of(anyObject.getKey()));
+        naturalIdCache.evict(anyObject.getType().getKey(), anyObject.getName());
 
         cascadeDelete(
                 Neo4jAMembership.NODE,
@@ -22,6 +22,8 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
@@ -45,6 +47,40 @@ public interface AnyRepoExt<A extends Any> {
         return output;
     }
 
+    /**
+     * Fulltext index on username and name, see {@code META-INF/indexes.xml}.
+     */
+    String FULLTEXT_INDEX = "Any_fulltext";
+
+    /**
+     * Translates the given LIKE expression into the equivalent Cypher string operator, when possible: unlike regular
+     * expressions, {@code STARTS WITH}, {@code ENDS WITH} and {@code CONTAINS} can be served by range and text indexes.
+     *
+     * @param expression LIKE expression, with {@code %} as wildcard
+     * @return operator and operand, or empty if the expression cannot be translated
+     */
+    static Optional<Pair<String, String>> likeAsStringOperator(final String expression) {
+        boolean leading = expression.startsWith("%");
+        boolean trailing = expression.length() > 1 && expression.endsWith("%");
+
+        String operand = expression.substring(leading ? 1 : 0, expression.length() - (trailing ? 1 : 0));
+        if (operand.isEmpty() || StringUtils.containsAny(operand, REGEX_CHARS + "%\\^$|")) {
+            return Optional.empty();
+        }
+
+        String operator;
+        if (leading && trailing) {
+            operator = "CONTAINS";
+        } else if (leading) {
+            operator = "ENDS WITH";
+        } else if (trailing) {
+            operator = "STARTS WITH";
+        } else {
+            operator = "=";
+        }
+        return Optional.of(Pair.of(operator, operand));
+    }
+
     static String node(final AnyTypeKind anyTypeKind) {
         return switch (anyTypeKind) {
             case USER ->
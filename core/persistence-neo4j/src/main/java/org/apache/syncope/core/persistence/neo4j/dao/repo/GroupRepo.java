@@ -19,7 +19,6 @@
 package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
 import java.util.List;
-import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAMembership;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
@@ -33,10 +32,6 @@ import org.springframework.data.repository.query.Param;
 public interface GroupRepo
         extends PagingAndSortingRepository<Neo4jGroup, String>, GroupRepoExt, GroupDAO {
 
-    @Query("MATCH (n:" + Neo4jGroup.NODE + ") WHERE n.name = $name RETURN n.id")
-    @Override
-    Optional<String> findKey(@Param("name") String name);
-
     @Query("MATCH (n:" + Neo4jGroup.NODE + ") WHERE toLower(n.name) =~ $pattern RETURN n.id")
     @Override
     List<String> findKeysByNamePattern(@Param("pattern") String pattern);
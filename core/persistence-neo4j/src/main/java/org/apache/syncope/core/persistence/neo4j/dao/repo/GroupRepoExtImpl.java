@@ -47,10 +47,10 @@ import org.apache.syncope.core.persistence.api.entity.group.GroupTypeExtension;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.neo4j.dao.NaturalIdCache;
 import org.apache.syncope.core.persistence.neo4j.entity.AbstractAny;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jExternalResource;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAMembership;
 import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
@@ -58,6 +58,7 @@ import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
 import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroupTypeExtension;
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUMembership;
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+import org.apache.syncope.core.persistence.neo4j.spring.NodeBatchWriter;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -81,12 +82,16 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
 
     protected final NodeValidator nodeValidator;
 
+    protected final NodeBatchWriter nodeBatchWriter;
+
     protected final Cache<EntityCacheKey, Neo4jUser> userCache;
 
     protected final Cache<EntityCacheKey, Neo4jGroup> groupCache;
 
     protected final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache;
 
+    protected final NaturalIdCache naturalIdCache;
+
     public GroupRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ApplicationEventPublisher publisher,
@@ -100,9 +105,11 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
+            final NodeBatchWriter nodeBatchWriter,
             final Cache<EntityCacheKey, Neo4jUser> userCache,
             final Cache<EntityCacheKey, Neo4jGroup> groupCache,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache) {
+            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
+            final NaturalIdCache naturalIdCache) {
 
         super(
                 anyTypeDAO,
@@ -118,9 +125,11 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
         this.userDAO = userDAO;
         this.anyObjectDAO = anyObjectDAO;
         this.nodeValidator = nodeValidator;
+        this.nodeBatchWriter = nodeBatchWriter;
         this.userCache = userCache;
         this.groupCache = groupCache;
         this.anyObjectCache = anyObjectCache;
+        this.naturalIdCache = naturalIdCache;
     }
 
     @Override
@@ -128,6 +137,28 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
         return groupCache;
     }
 
+    protected Optional<String> queryKey(final String name) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jGroup.NODE + ") WHERE n.name = $name RETURN n.id").
+                bindAll(Map.of("name", name)).fetch().one().
+                map(found -> found.get("n.id").toString());
+    }
+
+    @Override
+    public Optional<String> findKey(final String name) {
+        return findByName(name).map(Group::getKey);
+    }
+
+    @Override
+    public Optional<? extends Group> findByName(final String name) {
+        return naturalIdCache.<Group>find(
+                AnyTypeKind.GROUP.name(),
+                name,
+                () -> queryKey(name),
+                this::findById,
+                group -> name.equals(group.getName()));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Optional<OffsetDateTime> findLastChange(final String key) {
@@ -258,47 +289,20 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
     public <S extends Group> S save(final S group) {
         anyChecker.checkBeforeSave(group, anyUtils);
 
-        // unlink any resource, aux class, user or group owner that was unlinked from group
-        // delete any dynamic membership or type extension that was removed from group
+        // delete any type extension that was removed from group:
+        // stale relationships are instead removed by the batch writer
         neo4jTemplate.findById(group.getKey(), Neo4jGroup.class).ifPresent(before -> {
-            before.getResources().stream().filter(resource -> !group.getResources().contains(resource)).
-                    forEach(resource -> deleteRelationship(
-                    Neo4jGroup.NODE,
-                    Neo4jExternalResource.NODE,
-                    group.getKey(),
-                    resource.getKey(),
-                    Neo4jGroup.GROUP_RESOURCE_REL));
-            before.getAuxClasses().stream().filter(auxClass -> !group.getAuxClasses().contains(auxClass)).
-                    forEach(auxClass -> deleteRelationship(
-                    Neo4jGroup.NODE,
-                    Neo4jAnyTypeClass.NODE,
-                    group.getKey(),
-                    auxClass.getKey(),
-                    Neo4jGroup.GROUP_AUX_CLASSES_REL));
-            if (before.getUManager() != null && group.getUManager() == null) {
-                deleteRelationship(
-                        Neo4jGroup.NODE,
-                        Neo4jUser.NODE,
-                        group.getKey(),
-                        before.getUManager().getKey(),
-                        AbstractAny.USER_MANAGER_REL);
-            }
-            if (before.getGManager() != null && group.getGManager() == null) {
-                deleteRelationship(
-                        Neo4jGroup.NODE,
-                        Neo4jGroup.NODE,
-                        group.getKey(),
-                        before.getGManager().getKey(),
-                        AbstractAny.GROUP_MANAGER_REL);
+            if (!before.getName().equals(group.getName())) {
+                naturalIdCache.evict(AnyTypeKind.GROUP.name(), before.getName());
             }
 
             Set<String> beforeTypeExts = before.getTypeExtensions().stream().map(GroupTypeExtension::getKey).
                     collect(Collectors.toSet());
             beforeTypeExts.removeAll(group.getTypeExtensions().stream().map(GroupTypeExtension::getKey).toList());
-            beforeTypeExts.forEach(r -> neo4jTemplate.deleteById(r, Neo4jGroupTypeExtension.class));
+            deleteNodes(Neo4jGroupTypeExtension.NODE, beforeTypeExts);
         });
 
-        S merged = neo4jTemplate.save(nodeValidator.validate(group));
+        S merged = nodeBatchWriter.write(nodeValidator.validate(group));
 
         groupCache.put(EntityCacheKey.of(merged.getKey()), (Neo4jGroup) merged);
 
@@ -332,6 +336,7 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
         });
 
         groupCache.remove(EntityCacheKey.of(group.getKey()));
+        naturalIdCache.evict(AnyTypeKind.GROUP.name(), group.getName());
 
         cascadeDelete(
                 Neo4jGroupTypeExtension.NODE,
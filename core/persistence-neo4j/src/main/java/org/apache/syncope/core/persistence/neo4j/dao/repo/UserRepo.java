@@ -28,10 +28,6 @@ import org.springframework.data.repository.query.Param;
 public interface UserRepo
         extends PagingAndSortingRepository<Neo4jUser, String>, UserRepoExt, UserDAO {
 
-    @Query("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.username = $username RETURN n.id")
-    @Override
-    Optional<String> findKey(@Param("username") String username);
-
     @Query("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.id = $key RETURN n.username")
     @Override
     Optional<String> findUsername(@Param("key") String key);
@@ -36,6 +36,10 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     String CACHE = "userCache";
 
+    Optional<String> findKey(String username);
+
+    Optional<? extends User> findByUsername(String username);
+
     Optional<String> findByToken(String token);
 
     List<User> findBySecurityQuestion(SecurityQuestion securityQuestion);
@@ -66,6 +70,12 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     Collection<ExternalResource> findAllResources(User user);
 
+    Map<String, Set<String>> findRoleEntitlements(String key);
+
+    Map<String, Set<String>> findGroupKeysByUserKeys(Collection<String> keys);
+
+    Map<String, Set<String>> findResourceKeysByUserKeys(Collection<String> keys);
+
     @Override
     <S extends User> S save(S user);
 
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,9 +52,9 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.neo4j.dao.NaturalIdCache;
 import org.apache.syncope.core.persistence.neo4j.entity.AbstractAny;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
-import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jExternalResource;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRole;
@@ -64,7 +65,9 @@ import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jSecurityQuesti
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUMembership;
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jURelationship;
 import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+import org.apache.syncope.core.persistence.neo4j.spring.NodeBatchWriter;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.spring.security.SecurityProperties;
@@ -89,12 +92,16 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
 
     protected final NodeValidator nodeValidator;
 
+    protected final NodeBatchWriter nodeBatchWriter;
+
     protected final Cache<EntityCacheKey, Neo4jUser> userCache;
 
     protected final Cache<EntityCacheKey, Neo4jGroup> groupCache;
 
     protected final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache;
 
+    protected final NaturalIdCache naturalIdCache;
+
     public UserRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final AnyTypeDAO anyTypeDAO,
@@ -110,9 +117,11 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
             final Neo4jTemplate neo4jTemplate,
             final Neo4jClient neo4jClient,
             final NodeValidator nodeValidator,
+            final NodeBatchWriter nodeBatchWriter,
             final Cache<EntityCacheKey, Neo4jUser> userCache,
             final Cache<EntityCacheKey, Neo4jGroup> groupCache,
-            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache) {
+            final Cache<EntityCacheKey, Neo4jAnyObject> anyObjectCache,
+            final NaturalIdCache naturalIdCache) {
 
         super(
                 anyTypeDAO,
@@ -130,9 +139,11 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
         this.fiqlQueryDAO = fiqlQueryDAO;
         this.securityProperties = securityProperties;
         this.nodeValidator = nodeValidator;
+        this.nodeBatchWriter = nodeBatchWriter;
         this.userCache = userCache;
         this.groupCache = groupCache;
         this.anyObjectCache = anyObjectCache;
+        this.naturalIdCache = naturalIdCache;
     }
 
     @Override
@@ -140,6 +151,28 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
         return userCache;
     }
 
+    protected Optional<String> queryKey(final String username) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jUser.NODE + ") WHERE n.username = $username RETURN n.id").
+                bindAll(Map.of("username", username)).fetch().one().
+                map(found -> found.get("n.id").toString());
+    }
+
+    @Override
+    public Optional<String> findKey(final String username) {
+        return findByUsername(username).map(User::getKey);
+    }
+
+    @Override
+    public Optional<? extends User> findByUsername(final String username) {
+        return naturalIdCache.<User>find(
+                AnyTypeKind.USER.name(),
+                username,
+                () -> queryKey(username),
+                this::findById,
+                user -> username.equals(user.getUsername()));
+    }
+
     @Override
     public Optional<String> findByToken(final String token) {
         return neo4jClient.query(
@@ -166,9 +199,17 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
 
     @Override
     public boolean isManager(final String key) {
-        return !findManagedUsers(key).isEmpty()
-                || !findManagedGroups(key).isEmpty()
-                || !findManagedAnyObjects(key).isEmpty();
+        // same outcome as checking findManagedUsers, findManagedGroups and findManagedAnyObjects, in a single query
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jUser.NODE + " {id: $id}) "
+                + "RETURN EXISTS { (n)-[:" + AbstractAny.USER_MANAGER_REL + "]-"
+                + "(:" + Neo4jUser.NODE + "|" + Neo4jGroup.NODE + "|" + Neo4jAnyObject.NODE + ") } "
+                + "OR EXISTS { (n)-[]-(:" + Neo4jUMembership.NODE + ")-[]-(:" + Neo4jGroup.NODE + ")-"
+                + "[:" + AbstractAny.GROUP_MANAGER_REL + "]-(:" + Neo4jUser.NODE + "|" + Neo4jAnyObject.NODE + ") } "
+                + "AS manager").
+                bindAll(Map.of("id", key)).fetch().one().
+                map(found -> Boolean.TRUE.equals(found.get("manager"))).
+                orElse(false);
     }
 
     @Override
@@ -311,71 +352,30 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
         anyChecker.checkBeforeSave(user, anyUtils);
         user.getLinkedAccounts().forEach(account -> anyChecker.checkBeforeSave(account, anyUtils));
 
-        // unlink any role, resource, aux class or security question that was unlinked from user
-        // delete any membership, relationship or linked account that was removed from user
+        // delete any membership, relationship or linked account that was removed from user:
+        // stale relationships are instead removed by the batch writer
         neo4jTemplate.findById(user.getKey(), Neo4jUser.class).ifPresent(before -> {
-            before.getRoles().stream().filter(role -> !user.getRoles().contains(role)).
-                    forEach(role -> deleteRelationship(
-                    Neo4jUser.NODE,
-                    Neo4jRole.NODE,
-                    user.getKey(),
-                    role.getKey(),
-                    Neo4jUser.ROLE_MEMBERSHIP_REL));
-            before.getResources().stream().filter(resource -> !user.getResources().contains(resource)).
-                    forEach(resource -> deleteRelationship(
-                    Neo4jUser.NODE,
-                    Neo4jExternalResource.NODE,
-                    user.getKey(),
-                    resource.getKey(),
-                    Neo4jUser.USER_RESOURCE_REL));
-            before.getAuxClasses().stream().filter(auxClass -> !user.getAuxClasses().contains(auxClass)).
-                    forEach(auxClass -> deleteRelationship(
-                    Neo4jUser.NODE,
-                    Neo4jAnyTypeClass.NODE,
-                    user.getKey(),
-                    auxClass.getKey(),
-                    Neo4jUser.USER_AUX_CLASSES_REL));
-            if (before.getUManager() != null && user.getUManager() == null) {
-                deleteRelationship(
-                        Neo4jUser.NODE,
-                        Neo4jUser.NODE,
-                        user.getKey(),
-                        before.getUManager().getKey(),
-                        AbstractAny.USER_MANAGER_REL);
-            }
-            if (before.getGManager() != null && user.getGManager() == null) {
-                deleteRelationship(
-                        Neo4jUser.NODE,
-                        Neo4jGroup.NODE,
-                        user.getKey(),
-                        before.getGManager().getKey(),
-                        AbstractAny.GROUP_MANAGER_REL);
-            }
-            if (before.getSecurityQuestion() != null && user.getSecurityQuestion() == null) {
-                deleteRelationship(Neo4jUser.NODE,
-                        Neo4jSecurityQuestion.NODE,
-                        user.getKey(),
-                        before.getSecurityQuestion().getKey(),
-                        Neo4jUser.USER_SECURITYQUESTION_REL);
+            if (!before.getUsername().equals(user.getUsername())) {
+                naturalIdCache.evict(AnyTypeKind.USER.name(), before.getUsername());
             }
 
             Set<String> beforeMembs = before.getMemberships().stream().map(UMembership::getKey).
                     collect(Collectors.toSet());
             beforeMembs.removeAll(user.getMemberships().stream().map(UMembership::getKey).toList());
-            beforeMembs.forEach(m -> neo4jTemplate.deleteById(m, Neo4jUMembership.class));
+            deleteNodes(Neo4jUMembership.NODE, beforeMembs);
 
             Set<String> beforeRels = before.getRelationships().stream().map(URelationship::getKey).
                     collect(Collectors.toSet());
             beforeRels.removeAll(user.getRelationships().stream().map(URelationship::getKey).toList());
-            beforeRels.forEach(r -> neo4jTemplate.deleteById(r, Neo4jURelationship.class));
+            deleteNodes(Neo4jURelationship.NODE, beforeRels);
 
             Set<String> beforeLAs = before.getLinkedAccounts().stream().map(LinkedAccount::getKey).
                     collect(Collectors.toSet());
             beforeLAs.removeAll(user.getLinkedAccounts().stream().map(LinkedAccount::getKey).toList());
-            beforeLAs.forEach(la -> neo4jTemplate.deleteById(la, Neo4jLinkedAccount.class));
+            deleteNodes(Neo4jLinkedAccount.NODE, beforeLAs);
         });
 
-        User merged = neo4jTemplate.save(nodeValidator.validate(user));
+        User merged = nodeBatchWriter.write(nodeValidator.validate(user));
 
         userCache.put(EntityCacheKey.of(merged.getKey()), (Neo4jUser) merged);
 
@@ -392,6 +392,7 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
         accessTokenDAO.findByOwner(user.getUsername()).ifPresent(accessTokenDAO::delete);
 
         userCache.remove(EntityCacheKey.of(user.getKey()));
+        naturalIdCache.evict(AnyTypeKind.USER.name(), user.getUsername());
 
         cascadeDelete(
                 Neo4jURelationship.NODE,
@@ -455,7 +456,76 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
     @Transactional(readOnly = true)
     @Override
     public Collection<String> findAllResourceKeys(final String key) {
-        return findAllResources(authFind(key)).stream().map(ExternalResource::getKey).toList();
+        User user = authFind(key);
+        return findResourceKeysByUserKeys(List.of(user.getKey())).get(user.getKey());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Set<String>> findRoleEntitlements(final String key) {
+        Map<String, Set<String>> result = new HashMap<>();
+
+        neo4jClient.query(
+                "MATCH (n:" + Neo4jUser.NODE + " {id: $id})-[:" + Neo4jUser.ROLE_MEMBERSHIP_REL + "]-"
+                + "(r:" + Neo4jRole.NODE + ") "
+                + "RETURN r.entitlements AS entitlements, "
+                + "COLLECT { MATCH (r)-[:" + Neo4jRole.ROLE_REALM_REL + "]-(m:" + Neo4jRealm.NODE + ") "
+                + "RETURN m.fullPath } AS realms").
+                bindAll(Map.of("id", key)).fetch().all().stream().
+                filter(found -> found.get("entitlements") != null).
+                forEach(found -> {
+                    @SuppressWarnings("unchecked")
+                    Collection<String> realms = (Collection<String>) found.get("realms");
+
+                    POJOHelper.deserialize(found.get("entitlements").toString(), Neo4jRole.TYPEREF).
+                            forEach(entitlement -> result.computeIfAbsent(entitlement, e -> new HashSet<>()).
+                            addAll(realms));
+                });
+
+        return result;
+    }
+
+    protected Map<String, Set<String>> findKeysByUserKeys(final Collection<String> keys, final String query) {
+        Map<String, Set<String>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, new HashSet<>()));
+
+        if (!keys.isEmpty()) {
+            neo4jClient.query(query).bindAll(Map.of("keys", List.copyOf(keys))).fetch().all().
+                    forEach(found -> {
+                        @SuppressWarnings("unchecked")
+                        Collection<String> values = (Collection<String>) found.get("keys");
+                        result.get(found.get("id").toString()).addAll(values);
+                    });
+        }
+
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Set<String>> findGroupKeysByUserKeys(final Collection<String> keys) {
+        return findKeysByUserKeys(
+                keys,
+                "UNWIND $keys AS uid "
+                + "MATCH (n:" + Neo4jUser.NODE + " {id: uid}) "
+                + "RETURN n.id AS id, "
+                + "COLLECT { MATCH (n)-[]-(:" + Neo4jUMembership.NODE + ")-[]-(g:" + Neo4jGroup.NODE + ") "
+                + "RETURN DISTINCT g.id } AS keys");
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Set<String>> findResourceKeysByUserKeys(final Collection<String> keys) {
+        return findKeysByUserKeys(
+                keys,
+                "UNWIND $keys AS uid "
+                + "MATCH (n:" + Neo4jUser.NODE + " {id: uid}) "
+                + "RETURN n.id AS id, "
+                + "COLLECT { MATCH (n)-[:" + Neo4jUser.USER_RESOURCE_REL + "]-"
+                + "(e:" + Neo4jExternalResource.NODE + ") RETURN e.id } "
+                + "+ COLLECT { MATCH (n)-[]-(:" + Neo4jUMembership.NODE + ")-[]-(:" + Neo4jGroup.NODE + ")-"
+                + "[:" + Neo4jGroup.GROUP_RESOURCE_REL + "]-(e:" + Neo4jExternalResource.NODE + ") "
+                + "RETURN e.id } AS keys");
     }
 
     @Transactional(readOnly = true)
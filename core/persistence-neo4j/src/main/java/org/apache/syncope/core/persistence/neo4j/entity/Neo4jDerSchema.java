@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.neo4j.entity;
 
 import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -35,6 +36,10 @@ public class Neo4jDerSchema extends Neo4jSchema implements DerSchema {
     @NotNull
     private String expression;
 
+    private Boolean materialized = false;
+
+    private Boolean materializationPending = false;
+
     @Relationship(type = Neo4jAnyTypeClass.ANY_TYPE_CLASS_DER_REL,
             direction = Relationship.Direction.OUTGOING, cascadeUpdates = false)
     private Neo4jAnyTypeClass anyTypeClass;
@@ -49,6 +54,26 @@ public class Neo4jDerSchema extends Neo4jSchema implements DerSchema {
         this.expression = expression;
     }
 
+    @Override
+    public boolean isMaterialized() {
+        return BooleanUtils.isTrue(materialized);
+    }
+
+    @Override
+    public void setMaterialized(final boolean materialized) {
+        this.materialized = materialized;
+    }
+
+    @Override
+    public boolean isMaterializationPending() {
+        return BooleanUtils.isTrue(materializationPending);
+    }
+
+    @Override
+    public void setMaterializationPending(final boolean materializationPending) {
+        this.materializationPending = materializationPending;
+    }
+
     @Override
     public AttrSchemaType getType() {
         return AttrSchemaType.String;
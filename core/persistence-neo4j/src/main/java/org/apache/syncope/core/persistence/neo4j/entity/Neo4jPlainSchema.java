@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.entity;
 import jakarta.validation.constraints.NotNull;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.IdRepoImplementationType;
@@ -63,6 +64,8 @@ public class Neo4jPlainSchema extends Neo4jSchema implements PlainSchema {
 
     private Boolean readonly = false;
 
+    private Boolean indexed = false;
+
     private String conversionPattern;
 
     private String enumValues;
@@ -138,6 +141,16 @@ public class Neo4jPlainSchema extends Neo4jSchema implements PlainSchema {
         this.readonly = readonly;
     }
 
+    @Override
+    public boolean isIndexed() {
+        return BooleanUtils.isTrue(indexed);
+    }
+
+    @Override
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+    }
+
     @Override
     public String getConversionPattern() {
         return conversionPattern;
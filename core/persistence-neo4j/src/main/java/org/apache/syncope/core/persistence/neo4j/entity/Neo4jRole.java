@@ -42,7 +42,7 @@ public class Neo4jRole extends AbstractProvidedKeyNode implements Role {
 
     public static final String ROLE_REALM_REL = "ROLE_REALM";
 
-    protected static final TypeReference<Set<String>> TYPEREF = new TypeReference<Set<String>>() {
+    public static final TypeReference<Set<String>> TYPEREF = new TypeReference<Set<String>>() {
     };
 
     private String entitlements;
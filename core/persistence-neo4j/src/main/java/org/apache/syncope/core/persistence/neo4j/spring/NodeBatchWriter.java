@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.spring;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+/**
+ * Writes a node, together with the nodes reachable via cascading relationships, by means of parameterized
+ * {@code UNWIND $rows} statements: one upsert per node type, then one removal of stale relationships and one creation
+ * of current relationships per relationship kind; {@link org.springframework.data.neo4j.core.Neo4jTemplate#save}
+ * issues instead separate statements for each node and relationship.
+ * Relationships with properties and dynamic relationships are not supported.
+ */
+public class NodeBatchWriter {
+
+    protected record Outgoing(String startLabel, String type, String endLabel) {
+
+    }
+
+    protected record Owned(String label, String type, boolean outgoing, String targetLabel) {
+
+    }
+
+    protected static class Batch {
+
+        protected final Set<String> visited = new HashSet<>();
+
+        protected final Map<Class<?>, List<Object>> nodes = new LinkedHashMap<>();
+
+        protected final Map<Owned, List<Map<String, Object>>> owned = new LinkedHashMap<>();
+
+        protected final Map<Outgoing, Set<Map<String, Object>>> relationships = new LinkedHashMap<>();
+    }
+
+    protected final Neo4jClient neo4jClient;
+
+    protected final Neo4jMappingContext mappingContext;
+
+    public NodeBatchWriter(final Neo4jClient neo4jClient, final Neo4jMappingContext mappingContext) {
+        this.neo4jClient = neo4jClient;
+        this.mappingContext = mappingContext;
+    }
+
+    protected String id(final Object node) {
+        return mappingContext.getRequiredPersistentEntity(node.getClass()).
+                getIdentifierAccessor(node).getRequiredIdentifier().toString();
+    }
+
+    protected static List<?> related(final Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        if (value instanceof Collection<?> collection) {
+            return List.copyOf(collection);
+        }
+        return List.of(value);
+    }
+
+    protected void collect(final Object node, final Batch batch) {
+        Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(node.getClass());
+        String id = id(node);
+        if (!batch.visited.add(entity.getPrimaryLabel() + ':' + id)) {
+            return;
+        }
+
+        batch.nodes.computeIfAbsent(node.getClass(), k -> new ArrayList<>()).add(node);
+
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(node);
+        for (RelationshipDescription relDesc : entity.getRelationships()) {
+            if (relDesc.isDynamic() || relDesc.hasRelationshipProperties()) {
+                throw new IllegalArgumentException("Unsupported relationship "
+                        + entity.getPrimaryLabel() + '.' + relDesc.getFieldName());
+            }
+
+            Neo4jPersistentProperty property = entity.getRequiredPersistentProperty(relDesc.getFieldName());
+            boolean cascade = Optional.ofNullable(property.findAnnotation(Relationship.class)).
+                    map(Relationship::cascadeUpdates).orElse(true);
+            String targetLabel = relDesc.getTarget().getPrimaryLabel();
+
+            List<String> relatedIds = new ArrayList<>();
+            for (Object target : related(accessor.getProperty(property))) {
+                String targetId = id(target);
+                relatedIds.add(targetId);
+
+                if (relDesc.isOutgoing()) {
+                    batch.relationships.computeIfAbsent(
+                            new Outgoing(entity.getPrimaryLabel(), relDesc.getType(), targetLabel),
+                            k -> new LinkedHashSet<>()).
+                            add(Map.of("start", id, "end", targetId));
+                } else {
+                    batch.relationships.computeIfAbsent(
+                            new Outgoing(targetLabel, relDesc.getType(), entity.getPrimaryLabel()),
+                            k -> new LinkedHashSet<>()).
+                            add(Map.of("start", targetId, "end", id));
+                }
+
+                if (cascade) {
+                    collect(target, batch);
+                }
+            }
+
+            batch.owned.computeIfAbsent(
+                    new Owned(entity.getPrimaryLabel(), relDesc.getType(), relDesc.isOutgoing(), targetLabel),
+                    k -> new ArrayList<>()).
+                    add(Map.of("id", id, "ids", relatedIds));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void upsert(final Class<?> domainType, final List<Object> nodes) {
+        Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainType);
+        Function<Object, Map<String, Object>> binder =
+                mappingContext.getRequiredBinderFunctionFor((Class<Object>) domainType);
+
+        List<Map<String, Object>> rows = nodes.stream().map(node -> Map.of(
+                "id", id(node),
+                "props", binder.apply(node).get(Constants.NAME_OF_PROPERTIES_PARAM))).
+                toList();
+
+        neo4jClient.query(
+                "UNWIND $rows AS row "
+                + "MERGE (n:" + entity.getPrimaryLabel() + " {id: row.id}) "
+                + "SET n = row.props, n.id = row.id, n:" + String.join(":", entity.getStaticLabels())).
+                bindAll(Map.of("rows", rows)).
+                run();
+    }
+
+    /**
+     * Writes the given node and the nodes reachable via cascading relationships, replacing their properties and
+     * relationships.
+     *
+     * @param <T> node type
+     * @param root node to write
+     * @return the given node
+     */
+    public <T> T write(final T root) {
+        Batch batch = new Batch();
+        collect(root, batch);
+
+        batch.nodes.forEach(this::upsert);
+
+        batch.owned.forEach((owned, rows) -> neo4jClient.query(
+                "UNWIND $rows AS row "
+                + "MATCH (n:" + owned.label() + " {id: row.id})"
+                + (owned.outgoing() ? "-[r:" + owned.type() + "]->" : "<-[r:" + owned.type() + "]-")
+                + "(m:" + owned.targetLabel() + ") "
+                + "WHERE NOT m.id IN row.ids "
+                + "DELETE r").
+                bindAll(Map.of("rows", rows)).
+                run());
+
+        batch.relationships.forEach((outgoing, rows) -> {
+            long created = neo4jClient.query(
+                    "UNWIND $rows AS row "
+                    + "MATCH (s:" + outgoing.startLabel() + " {id: row.start}) "
+                    + "MATCH (e:" + outgoing.endLabel() + " {id: row.end}) "
+                    + "MERGE (s)-[:" + outgoing.type() + "]->(e) "
+                    + "RETURN COUNT(*)").
+                    bindAll(Map.of("rows", List.copyOf(rows))).
+                    fetchAs(Long.class).one().orElse(0L);
+            if (created < rows.size()) {
+                throw new IllegalStateException("Could not create all " + outgoing + ": " + rows);
+            }
+        });
+
+        return root;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.neo4j.dao.repo.AnyRepoExt;
+import org.apache.syncope.core.persistence.neo4j.entity.anyobject.Neo4jAnyObject;
+import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
+import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+import org.junit.jupiter.api.Test;
+
+public class Neo4jAnySearchDAOTest {
+
+    private static final Neo4jAnySearchDAO SEARCH_DAO = new Neo4jAnySearchDAO(
+            null, null, null, null, null, null, null, null,
+            new AnyUtilsFactory(
+                    anyUtils(Neo4jUser.class), anyUtils(Neo4jGroup.class), anyUtils(Neo4jAnyObject.class)),
+            null, null, null);
+
+    private static AnyUtils anyUtils(final Class<?> entity) {
+        AnyUtils anyUtils = mock(AnyUtils.class);
+        when(anyUtils.getField(anyString())).thenAnswer(ic -> Optional.ofNullable(
+                FieldUtils.getField(entity, ic.getArgument(0), true)));
+        return anyUtils;
+    }
+
+    private static SearchCond cond(final String schema, final AttrCond.Type type, final String expression) {
+        AnyCond cond = new AnyCond(type);
+        cond.setSchema(schema);
+        cond.setExpression(expression);
+        return SearchCond.of(cond);
+    }
+
+    private static SearchCond plainAttr() {
+        AttrCond cond = new AttrCond(AttrCond.Type.EQ);
+        cond.setSchema("fullname");
+        cond.setExpression("Gioacchino Rossini");
+        return SearchCond.of(cond);
+    }
+
+    private static Optional<String> indexSeed(
+            final AnyTypeKind kind,
+            final SearchCond cond,
+            final Map<String, Object> parameters) {
+
+        return SEARCH_DAO.indexSeed(kind, cond, parameters);
+    }
+
+    private static Optional<String> indexSeed(final SearchCond cond) {
+        return indexSeed(AnyTypeKind.USER, cond, new HashMap<>());
+    }
+
+    @Test
+    public void seed() {
+        Map<String, Object> parameters = new HashMap<>();
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.username = $param0 "),
+                indexSeed(AnyTypeKind.USER, cond("username", AttrCond.Type.EQ, "rossini"), parameters));
+        assertEquals(Map.of("param0", "rossini"), parameters);
+
+        parameters.clear();
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jGroup.NODE + ") WHERE n.name STARTS WITH $param0 "),
+                indexSeed(AnyTypeKind.GROUP, cond("name", AttrCond.Type.LIKE, "root%"), parameters));
+        assertEquals(Map.of("param0", "root"), parameters);
+
+        parameters.clear();
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.lastChangeDate >= $param0 "),
+                indexSeed(AnyTypeKind.USER,
+                        cond("lastChangeDate", AttrCond.Type.GE, "2010-10-20T11:00:00+0000"), parameters));
+        assertTrue(parameters.get("param0") instanceof OffsetDateTime);
+    }
+
+    @Test
+    public void noSeed() {
+        // not an indexed field
+        assertTrue(indexSeed(cond("key", AttrCond.Type.EQ, "1417acbe-cbf6-4277-9372-e75e04f97000")).isEmpty());
+        // not a field of users
+        assertTrue(indexSeed(cond("name", AttrCond.Type.EQ, "root")).isEmpty());
+        // no index-backed operator
+        assertTrue(indexSeed(cond("username", AttrCond.Type.ISNULL, null)).isEmpty());
+        assertTrue(indexSeed(cond("username", AttrCond.Type.LIKE, "ro.s%")).isEmpty());
+        assertTrue(indexSeed(cond("lastChangeDate", AttrCond.Type.LIKE, "2010%")).isEmpty());
+        assertTrue(indexSeed(cond("lastChangeDate", AttrCond.Type.GE, "not a date")).isEmpty());
+        // plain attributes are never seeded
+        assertTrue(indexSeed(plainAttr()).isEmpty());
+    }
+
+    @Test
+    public void and() {
+        Map<String, Object> parameters = new HashMap<>();
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.status = $param0 "),
+                indexSeed(
+                        AnyTypeKind.USER,
+                        SearchCond.and(plainAttr(), cond("status", AttrCond.Type.EQ, "active")),
+                        parameters));
+        assertEquals(Map.of("param0", "active"), parameters);
+
+        // first seedable condition wins
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.username ENDS WITH $param0 "),
+                indexSeed(SearchCond.and(
+                        cond("username", AttrCond.Type.LIKE, "%ini"),
+                        cond("status", AttrCond.Type.EQ, "active"))));
+    }
+
+    @Test
+    public void or() {
+        // results may come from either branch, which cannot then restrict the outer MATCH
+        assertTrue(indexSeed(SearchCond.or(
+                cond("username", AttrCond.Type.EQ, "rossini"),
+                cond("username", AttrCond.Type.EQ, "verdi"))).isEmpty());
+        assertTrue(indexSeed(SearchCond.or(
+                cond("username", AttrCond.Type.EQ, "rossini"),
+                plainAttr())).isEmpty());
+
+        // OR nested within AND: the other AND branch is still seeded
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.status = $param0 "),
+                indexSeed(SearchCond.and(
+                        SearchCond.or(cond("username", AttrCond.Type.EQ, "rossini"), plainAttr()),
+                        cond("status", AttrCond.Type.EQ, "active"))));
+    }
+
+    @Test
+    public void negation() {
+        SearchCond notRossini = SearchCond.negate(cond("username", AttrCond.Type.EQ, "rossini").
+                asLeaf(AnyCond.class).orElseThrow());
+        assertTrue(indexSeed(notRossini).isEmpty());
+
+        assertEquals(
+                Optional.of("MATCH (n:" + Neo4jUser.NODE + ") WHERE n.status = $param0 "),
+                indexSeed(SearchCond.and(notRossini, cond("status", AttrCond.Type.EQ, "active"))));
+    }
+
+    @Test
+    public void fulltext() {
+        Map<String, Object> parameters = new HashMap<>();
+        assertEquals(
+                Optional.of("CALL db.index.fulltext.queryNodes('" + AnyRepoExt.FULLTEXT_INDEX + "', $param0) "
+                        + "YIELD node WITH node AS n WHERE n:" + Neo4jUser.NODE + ' '),
+                indexSeed(AnyTypeKind.USER, cond("username", AttrCond.Type.ILIKE, "ROSS%"), parameters));
+        assertEquals(Map.of("param0", "username:ross*"), parameters);
+
+        // lower-casing does not depend on the default locale
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+
+            parameters.clear();
+            assertTrue(indexSeed(AnyTypeKind.USER, cond("username", AttrCond.Type.IEQ, "IVI"), parameters).
+                    isPresent());
+            assertEquals(Map.of("param0", "username:ivi"), parameters);
+        } finally {
+            Locale.setDefault(locale);
+        }
+
+        // not defined on status
+        assertTrue(indexSeed(cond("status", AttrCond.Type.IEQ, "active")).isEmpty());
+        // terms possibly split by the analyzer
+        assertTrue(indexSeed(cond("username", AttrCond.Type.ILIKE, "ros.sini%")).isEmpty());
+        assertTrue(indexSeed(cond("username", AttrCond.Type.ILIKE, "%ini")).isEmpty());
+    }
+}
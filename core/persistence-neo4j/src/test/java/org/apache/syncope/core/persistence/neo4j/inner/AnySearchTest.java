@@ -64,6 +64,7 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.KeysetSlice;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.neo4j.AbstractTest;
@@ -75,6 +76,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -405,6 +407,52 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchBySlice() {
+        long count = searchDAO.count(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                AnyTypeKind.USER);
+        assertTrue(count > 2);
+        assertEquals(count, searchDAO.estimateCount(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                AnyTypeKind.USER));
+
+        Slice<User> slice = searchDAO.slice(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                PageRequest.of(0, 2), AnyTypeKind.USER);
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+
+        int lastPage = (int) ((count - 1) / 2);
+        slice = searchDAO.slice(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                PageRequest.of(lastPage, 2), AnyTypeKind.USER);
+        assertEquals(count - lastPage * 2L, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    public void searchByKeyset() {
+        // cursor handling is covered by KeysetSearchTest: only check here the seek conditions translated to Cypher,
+        // with descending ordering
+        List<String> expected = searchDAO.<Group>search(
+                searchDAO.getAllMatchingCond(), List.of(Sort.Order.desc("name")), AnyTypeKind.GROUP).stream().
+                map(Group::getName).toList();
+        assertTrue(expected.size() > 5);
+
+        List<String> actual = new ArrayList<>();
+        String after = null;
+        do {
+            KeysetSlice<Group> slice = searchDAO.search(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                    List.of(Sort.Order.desc("name")), after, 5, AnyTypeKind.GROUP);
+            slice.forEach(group -> actual.add(group.getName()));
+
+            after = slice.getAfter().orElse(null);
+        } while (after != null);
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
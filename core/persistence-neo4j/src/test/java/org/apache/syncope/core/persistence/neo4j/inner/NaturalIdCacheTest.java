@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Optional;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CompleteConfiguration;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.neo4j.AbstractTest;
+import org.apache.syncope.core.persistence.neo4j.dao.NaturalIdCache;
+import org.apache.syncope.core.persistence.neo4j.dao.repo.GroupRepoExt;
+import org.apache.syncope.core.persistence.neo4j.dao.repo.UserRepoExt;
+import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
+import org.apache.syncope.core.persistence.neo4j.entity.NaturalIdCacheKey;
+import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
+import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class NaturalIdCacheTest extends AbstractTest {
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Simulates changes performed by another node: the natural id cache on this node is not evicted.
+     */
+    private void rename(
+            final String node,
+            final String property,
+            final String cache,
+            final String key,
+            final String value) {
+
+        neo4jClient.query("MATCH (n:" + node + " {id: $id}) SET n." + property + " = $value").
+                bindAll(Map.of("id", key, "value", value)).run();
+        cacheManager.getCache(cache).remove(EntityCacheKey.of(key));
+    }
+
+    @Test
+    public void findKeyVerified() {
+        String rossini = userDAO.findKey("rossini").orElseThrow();
+        assertEquals(Optional.of(rossini), userDAO.findKey("rossini"));
+
+        rename(Neo4jUser.NODE, "username", UserRepoExt.CACHE, rossini, "rossini2");
+
+        assertTrue(userDAO.findKey("rossini").isEmpty());
+        assertEquals(Optional.of(rossini), userDAO.findKey("rossini2"));
+
+        String root = groupDAO.findKey("root").orElseThrow();
+        assertEquals(Optional.of(root), groupDAO.findKey("root"));
+
+        rename(Neo4jGroup.NODE, "name", GroupRepoExt.CACHE, root, "root2");
+
+        assertTrue(groupDAO.findKey("root").isEmpty());
+        assertEquals(Optional.of(root), groupDAO.findKey("root2"));
+    }
+
+    @Test
+    public void expiry() {
+        Cache<NaturalIdCacheKey, String> cache =
+                cacheManager.getCache(NaturalIdCache.CACHE, NaturalIdCacheKey.class, String.class);
+
+        @SuppressWarnings("unchecked")
+        CompleteConfiguration<NaturalIdCacheKey, String> conf = cache.getConfiguration(CompleteConfiguration.class);
+        assertEquals(NaturalIdCache.EXPIRY, conf.getExpiryPolicyFactory().create().getExpiryForAccess());
+    }
+}
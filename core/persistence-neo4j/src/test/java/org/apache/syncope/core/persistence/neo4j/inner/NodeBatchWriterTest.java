@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.user.UMembership;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.neo4j.AbstractTest;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRole;
+import org.apache.syncope.core.persistence.neo4j.entity.group.Neo4jGroup;
+import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUMembership;
+import org.apache.syncope.core.persistence.neo4j.entity.user.Neo4jUser;
+import org.apache.syncope.core.persistence.neo4j.spring.NodeBatchWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class NodeBatchWriterTest extends AbstractTest {
+
+    private static final String ROSSINI = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    @Autowired
+    private NodeBatchWriter nodeBatchWriter;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private RoleDAO roleDAO;
+
+    @Autowired
+    private RealmSearchDAO realmSearchDAO;
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    private Set<String> related(final String pattern) {
+        return neo4jClient.query("MATCH " + pattern + " RETURN r.id").
+                bindAll(Map.of("id", ROSSINI)).fetch().all().stream().
+                map(found -> found.get("r.id").toString()).
+                collect(Collectors.toSet());
+    }
+
+    @Test
+    public void write() {
+        User user = userDAO.findById(ROSSINI).orElseThrow();
+        assertEquals(Set.of("Other"), related("(n:" + Neo4jUser.NODE + " {id: $id})-[]->(r:" + Neo4jRole.NODE + ")"));
+
+        // replace role, move to another realm, add membership
+        user.getRoles().clear();
+        user.add(roleDAO.findById("User manager").orElseThrow());
+        user.setRealm(realmSearchDAO.findByFullPath("/odd").orElseThrow());
+
+        UMembership membership = entityFactory.newEntity(UMembership.class);
+        membership.setLeftEnd(user);
+        membership.setRightEnd(groupDAO.findByName("additional").orElseThrow());
+        user.add(membership);
+
+        user.setUsername("rossini2");
+
+        nodeBatchWriter.write(user);
+
+        assertEquals(
+                Set.of("User manager"),
+                related("(n:" + Neo4jUser.NODE + " {id: $id})-[]->(r:" + Neo4jRole.NODE + ")"));
+        assertEquals(
+                Set.of("722f3d84-9c2b-4525-8f6e-e4b82c55a36c"),
+                related("(n:" + Neo4jUser.NODE + " {id: $id})-[]->(r:" + Neo4jRealm.NODE + ")"));
+        assertEquals(
+                user.getMemberships().stream().map(UMembership::getKey).collect(Collectors.toSet()),
+                related("(n:" + Neo4jUser.NODE + " {id: $id})<-[]-(r:" + Neo4jUMembership.NODE + ")"));
+        assertEquals(
+                Set.of(groupDAO.findByName("additional").orElseThrow().getKey()),
+                related("(n:" + Neo4jUser.NODE + " {id: $id})<-[]-(m:" + Neo4jUMembership.NODE + " {id: '"
+                        + membership.getKey() + "'})-[]->(r:" + Neo4jGroup.NODE + ")"));
+        assertEquals(
+                Set.of(ROSSINI),
+                neo4jClient.query("MATCH (r:" + Neo4jUser.NODE + " {username: 'rossini2'}) RETURN r.id").
+                        fetch().all().stream().map(found -> found.get("r.id").toString()).
+                        collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void missingRelated() {
+        Role role = entityFactory.newEntity(Role.class);
+        role.setKey("missing");
+
+        User user = userDAO.findById(ROSSINI).orElseThrow();
+        user.add(role);
+
+        assertThrows(IllegalStateException.class, () -> nodeBatchWriter.write(user));
+    }
+}
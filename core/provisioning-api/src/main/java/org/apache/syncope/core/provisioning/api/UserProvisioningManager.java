@@ -67,6 +67,24 @@ public interface UserProvisioningManager extends ProvisioningManager<UserCR, Use
 
     void confirmPasswordReset(String key, String token, String password, String updater, String context);
 
+    /**
+     * Same as {@link #deprovision(String, Collection, boolean, String)}, for callers which already resolved the
+     * resources assigned to the user, e.g. in batch for many users.
+     *
+     * @param key user key
+     * @param resources resources to deprovision from
+     * @param allResources resources assigned to the user, either directly or via group membership
+     * @param nullPriorityAsync asynchronous propagation for resources with null priority
+     * @param executor executor
+     * @return propagation statuses
+     */
+    List<PropagationStatus> deprovision(
+            String key,
+            Collection<String> resources,
+            Collection<String> allResources,
+            boolean nullPriorityAsync,
+            String executor);
+
     List<PropagationStatus> provision(
             String key,
             boolean changePwd,
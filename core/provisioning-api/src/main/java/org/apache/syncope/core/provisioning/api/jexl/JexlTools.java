@@ -70,6 +70,26 @@ public class JexlTools {
         return result;
     }
 
+    public JexlExpression createExpression(final String expression) {
+        return jexlEngine.createExpression(expression);
+    }
+
+    public Object evaluateExpression(final JexlExpression jexlExpression, final JexlContext jexlContext) {
+        Object result = null;
+
+        if (jexlExpression != null && jexlContext != null) {
+            try {
+                result = jexlExpression.evaluate(jexlContext);
+            } catch (Exception e) {
+                LOG.error("Error while evaluating JEXL expression: {}", jexlExpression.getSourceText(), e);
+            }
+        } else {
+            LOG.debug("Expression not provided or invalid context");
+        }
+
+        return Optional.ofNullable(result).orElse(StringUtils.EMPTY);
+    }
+
     public Object evaluateExpression(final String expression, final JexlContext jexlContext) {
         Object result = null;
 
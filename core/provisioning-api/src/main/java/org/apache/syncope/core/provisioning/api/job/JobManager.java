@@ -37,6 +37,8 @@ public interface JobManager {
 
     String NOTIFICATION_JOB = "notificationJob";
 
+    String AUDIT_EVENT_MAINTENANCE_JOB = "auditEventMaintenanceJob";
+
     boolean isRunning(String jobName);
 
     void execute(
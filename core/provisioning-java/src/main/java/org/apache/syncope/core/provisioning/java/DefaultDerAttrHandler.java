@@ -22,14 +22,19 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Attributable;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.Groupable;
 import org.apache.syncope.core.persistence.api.entity.Membership;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Relatable;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
@@ -39,12 +44,43 @@ import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.function.SingletonSupplier;
 
 @Transactional(readOnly = true)
 public class DefaultDerAttrHandler implements DerAttrHandler {
 
     protected static final Logger LOG = LoggerFactory.getLogger(DerAttrHandler.class);
 
+    /**
+     * Context for evaluating a single derived schema: variables are read from the context shared among all derived
+     * schemas of the same owner, while variables set by the expression are kept local.
+     */
+    protected static class DerSchemaJexlContext implements JexlContext {
+
+        protected final Supplier<JexlContext> shared;
+
+        protected final Map<String, Object> local = new HashMap<>();
+
+        public DerSchemaJexlContext(final Supplier<JexlContext> shared) {
+            this.shared = shared;
+        }
+
+        @Override
+        public Object get(final String name) {
+            return local.containsKey(name) ? local.get(name) : shared.get().get(name);
+        }
+
+        @Override
+        public void set(final String name, final Object value) {
+            local.put(name, value);
+        }
+
+        @Override
+        public boolean has(final String name) {
+            return local.containsKey(name) || shared.get().has(name);
+        }
+    }
+
     protected final AnyChecker anyChecker;
 
     protected final JexlTools jexlTools;
@@ -54,22 +90,52 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
         this.jexlTools = jexlTools;
     }
 
+    protected String evaluate(final DerSchema schema, final Supplier<JexlContext> jexlContext) {
+        if (StringUtils.isBlank(schema.getExpression())) {
+            LOG.debug("Expression not provided for {}", schema);
+            return StringUtils.EMPTY;
+        }
+
+        JexlExpression expression;
+        try {
+            // compiled expressions are kept by the engine's own bounded cache
+            expression = jexlTools.createExpression(schema.getExpression());
+        } catch (JexlException e) {
+            LOG.error("Invalid JEXL expression for {}: {}", schema, schema.getExpression(), e);
+            return StringUtils.EMPTY;
+        }
+
+        return jexlTools.evaluateExpression(expression, new DerSchemaJexlContext(jexlContext)).toString();
+    }
+
+    /**
+     * Evaluates the given derived schemas against a single context, built upon first access and then shared.
+     *
+     * @param plainAttrs plain attributes to populate the context with
+     * @param owner object whose fields will populate the context
+     * @param schemas derived schemas to evaluate
+     * @return derived attribute values, by schema key
+     */
     protected Map<String, String> getValues(
-            final Attributable attributable,
+            final Supplier<Collection<PlainAttr>> plainAttrs,
+            final Object owner,
             final Collection<? extends DerSchema> schemas) {
 
-        Map<String, String> result = new HashMap<>(schemas.size());
+        Supplier<JexlContext> jexlContext = SingletonSupplier.of(() -> new JexlContextBuilder().
+                plainAttrs(plainAttrs.get()).
+                fields(owner).
+                build());
 
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new JexlContextBuilder().
-                    plainAttrs(attributable.getPlainAttrs()).
-                    fields(attributable).
-                    build();
+        Map<String, String> result = new HashMap<>(schemas.size());
+        schemas.forEach(schema -> result.put(schema.getKey(), evaluate(schema, jexlContext)));
+        return result;
+    }
 
-            result.put(schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString());
-        });
+    protected Map<String, String> getValues(
+            final Attributable attributable,
+            final Collection<? extends DerSchema> schemas) {
 
-        return result;
+        return getValues(attributable::getPlainAttrs, attributable, schemas);
     }
 
     @Override
@@ -112,18 +178,7 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
             final Membership<?> membership,
             final Set<DerSchema> schemas) {
 
-        Map<String, String> result = new HashMap<>(schemas.size());
-
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new JexlContextBuilder().
-                    plainAttrs(groupable.getPlainAttrs(membership)).
-                    fields(groupable).
-                    build();
-
-            result.put(schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString());
-        });
-
-        return result;
+        return getValues(() -> groupable.getPlainAttrs(membership), groupable, schemas);
     }
 
     @Override
@@ -151,18 +206,7 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
             final Relationship<?, ?> relationship,
             final Set<DerSchema> schemas) {
 
-        Map<String, String> result = new HashMap<>(schemas.size());
-
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new JexlContextBuilder().
-                    plainAttrs(relatable.getPlainAttrs(relationship)).
-                    fields(relatable).
-                    build();
-
-            result.put(schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString());
-        });
-
-        return result;
+        return getValues(() -> relatable.getPlainAttrs(relationship), relatable, schemas);
     }
 
     @Override
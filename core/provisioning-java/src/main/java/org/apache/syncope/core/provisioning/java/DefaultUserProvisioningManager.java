@@ -372,6 +372,17 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
             final boolean nullPriorityAsync,
             final String executor) {
 
+        return deprovision(key, resources, userDAO.findAllResourceKeys(key), nullPriorityAsync, executor);
+    }
+
+    @Override
+    public List<PropagationStatus> deprovision(
+            final String key,
+            final Collection<String> resources,
+            final Collection<String> allResources,
+            final boolean nullPriorityAsync,
+            final String executor) {
+
         PropagationByResource<String> propByRes = new PropagationByResource<>();
         propByRes.set(ResourceOperation.DELETE, resources);
 
@@ -387,7 +398,7 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
                 key,
                 propByRes,
                 propByLinkedAccount,
-                userDAO.findAllResourceKeys(key).stream().
+                allResources.stream().
                         filter(resource -> !resources.contains(resource)).
                         toList());
         PropagationReporter propagationReporter = taskExecutor.execute(taskInfos, nullPriorityAsync, executor);
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listen to any create / update and delete in order to keep the values of materialized derived schemas consistent.
+ */
+public class DerAttrMaterializer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DerAttrMaterializer.class);
+
+    /**
+     * How long the materialized derived schemas are cached for, per domain: changes performed on other nodes are
+     * only seen after expiration, hence rebuilds should not start earlier than that.
+     */
+    public static final Duration MATERIALIZED_TTL = Duration.ofSeconds(10);
+
+    protected record Materialized(Set<String> schemas, long expiration) {
+    }
+
+    protected final DerSchemaDAO derSchemaDAO;
+
+    protected final DerAttrValueDAO derAttrValueDAO;
+
+    protected final DerAttrHandler derAttrHandler;
+
+    protected final Map<String, Materialized> materialized = new ConcurrentHashMap<>();
+
+    public DerAttrMaterializer(
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
+            final DerAttrHandler derAttrHandler) {
+
+        this.derSchemaDAO = derSchemaDAO;
+        this.derAttrValueDAO = derAttrValueDAO;
+        this.derAttrHandler = derAttrHandler;
+    }
+
+    protected Set<String> materialized() {
+        String domain = AuthContextUtils.getDomain();
+        long now = System.currentTimeMillis();
+
+        Materialized cached = materialized.get(domain);
+        if (cached == null || cached.expiration() < now) {
+            cached = new Materialized(
+                    derSchemaDAO.findByMaterializedTrue().stream().map(DerSchema::getKey).collect(Collectors.toSet()),
+                    now + MATERIALIZED_TTL.toMillis());
+            materialized.put(domain, cached);
+        }
+        return cached.schemas();
+    }
+
+    /**
+     * Forgets the materialized derived schemas cached for the given domain.
+     *
+     * @param domain domain
+     */
+    public void invalidate(final String domain) {
+        materialized.remove(domain);
+    }
+
+    protected void replace(final String owner, final Map<String, String> values, final Set<String> materialized) {
+        derAttrValueDAO.replace(owner, materialized, values);
+    }
+
+    public void materialize(final Any any, final Set<String> materialized) {
+        replace(any.getKey(), derAttrHandler.getValues(any), materialized);
+    }
+
+    public void materialize(final Realm realm, final Set<String> materialized) {
+        replace(realm.getKey(), derAttrHandler.getValues(realm), materialized);
+    }
+
+    /**
+     * Materializes values for the given realms, users, groups and any objects in a dedicated transaction, so that
+     * rebuilding values for many entities does not hold locks until the whole rebuild is completed.
+     *
+     * @param entities realms, users, groups and any objects
+     * @param materialized materialized derived schema keys
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void materialize(final List<? extends Entity> entities, final Set<String> materialized) {
+        entities.forEach(entity -> {
+            if (entity instanceof final Any any) {
+                materialize(any, materialized);
+            } else if (entity instanceof final Realm realm) {
+                materialize(realm, materialized);
+            }
+        });
+    }
+
+    /**
+     * Returns the expression of each materialized derived schema whose values are being rebuilt; a dedicated
+     * transaction ensures that rebuilds requested meanwhile are seen.
+     *
+     * @return expressions, by derived schema key
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Map<String, String> pending() {
+        return derSchemaDAO.findByMaterializedTrue().stream().
+                filter(DerSchema::isMaterializationPending).
+                collect(Collectors.toMap(DerSchema::getKey, DerSchema::getExpression));
+    }
+
+    /**
+     * Marks the given derived schemas as rebuilt, unless their expression was changed meanwhile.
+     *
+     * @param pending expressions at rebuild start, by derived schema key
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(final Map<String, String> pending) {
+        pending.forEach((key, expression) -> derSchemaDAO.findById(key).
+                filter(schema -> schema.isMaterialized() && Objects.equals(expression, schema.getExpression())).
+                ifPresent(schema -> {
+                    schema.setMaterializationPending(false);
+                    derSchemaDAO.save(schema);
+                }));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (!(event.getEntity() instanceof Any) && !(event.getEntity() instanceof Realm)) {
+            return;
+        }
+
+        LOG.debug("About to {} materialized derived attributes for {}", event.getType().name(), event.getEntity());
+
+        if (event.getType() == SyncDeltaType.DELETE) {
+            derAttrValueDAO.deleteByOwner(event.getEntity().getKey());
+            return;
+        }
+
+        Set<String> materialized = materialized();
+        if (materialized.isEmpty()) {
+            return;
+        }
+
+        if (event.getEntity() instanceof final Any any) {
+            materialize(any, materialized);
+        } else if (event.getEntity() instanceof final Realm realm) {
+            materialize(realm, materialized);
+        }
+    }
+}
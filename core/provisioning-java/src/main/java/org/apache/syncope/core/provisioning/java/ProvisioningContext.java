@@ -30,6 +30,7 @@ import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -41,6 +42,7 @@ import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
 import org.apache.syncope.core.persistence.api.dao.AuthModuleDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -65,6 +67,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.AuditEventProcessor;
@@ -396,6 +399,16 @@ public class ProvisioningContext {
         return new DefaultDerAttrHandler(anyChecker, jexlTools);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public DerAttrMaterializer derAttrMaterializer(
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
+            final DerAttrHandler derAttrHandler) {
+
+        return new DerAttrMaterializer(derSchemaDAO, derAttrValueDAO, derAttrHandler);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public MappingManager mappingManager(
@@ -580,6 +593,7 @@ public class ProvisioningContext {
     public NotificationManager notificationManager(
             final EntityFactory entityFactory,
             final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final DerSchemaDAO derSchemaDAO,
             final NotificationDAO notificationDAO,
             final AnyObjectDAO anyObjectDAO,
@@ -615,6 +629,7 @@ public class ProvisioningContext {
                 entityFactory,
                 intAttrNameParser,
                 searchCondVisitor,
+                searchCondCache,
                 jexlTools);
     }
 
@@ -877,7 +892,8 @@ public class ProvisioningContext {
             final IntAttrNameParser intAttrNameParser,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final JexlTools jexlTools) {
+            final JexlTools jexlTools,
+            final AllowedSchemasCache allowedSchemasCache) {
 
         return new GroupDataBinderImpl(
                 anyTypeDAO,
@@ -898,7 +914,8 @@ public class ProvisioningContext {
                 outboundMatcher,
                 searchCondVisitor,
                 validator,
-                jexlTools);
+                jexlTools,
+                allowedSchemasCache);
     }
 
     @ConditionalOnMissingBean
@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.java.data;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.AnyOperations;
 import org.apache.syncope.common.lib.EntityTOUtils;
@@ -36,6 +37,7 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
@@ -62,6 +64,7 @@ import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -70,6 +73,8 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
 
     protected final AnySearchCondVisitor searchCondVisitor;
 
+    protected final AllowedSchemasCache allowedSchemasCache;
+
     public GroupDataBinderImpl(
             final AnyTypeDAO anyTypeDAO,
             final RealmSearchDAO realmSearchDAO,
@@ -89,7 +94,8 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
             final OutboundMatcher outboundMatcher,
             final AnySearchCondVisitor searchCondVisitor,
             final PlainAttrValidationManager validator,
-            final JexlTools jexlTools) {
+            final JexlTools jexlTools,
+            final AllowedSchemasCache allowedSchemasCache) {
 
         super(anyTypeDAO,
                 realmSearchDAO,
@@ -111,6 +117,13 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
                 jexlTools);
 
         this.searchCondVisitor = searchCondVisitor;
+        this.allowedSchemasCache = allowedSchemasCache;
+    }
+
+    protected static Map<String, Set<String>> typeExtensions(final Group group) {
+        return group.getTypeExtensions().stream().collect(Collectors.toMap(
+                typeExt -> typeExt.getAnyType().getKey(),
+                typeExt -> typeExt.getAuxClasses().stream().map(AnyTypeClass::getKey).collect(Collectors.toSet())));
     }
 
     @Override
@@ -196,6 +209,7 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
         group = groupDAO.save(group);
 
         // type extensions
+        Map<String, Set<String>> beforeTypeExtensions = typeExtensions(group);
         for (TypeExtensionTO typeExtTO : groupUR.getTypeExtensions()) {
             AnyType anyType = anyTypeDAO.findById(typeExtTO.getAnyType()).orElse(null);
             if (anyType == null) {
@@ -232,6 +246,11 @@ public class GroupDataBinderImpl extends AnyDataBinder implements GroupDataBinde
         // remove all type extensions not contained in the TO
         group.getTypeExtensions().
                 removeIf(typeExt -> groupUR.getTypeExtension(typeExt.getAnyType().getKey()).isEmpty());
+        if (!beforeTypeExtensions.equals(typeExtensions(group))) {
+            // schemas allowed for members of this group have changed
+            String groupKey = group.getKey();
+            allowedSchemasCache.invalidate(AuthContextUtils.getDomain(), key -> key.groups().contains(groupKey));
+        }
 
         // Throw composite exception if there is at least one element set in the composing exceptions
         if (scce.hasExceptions()) {
@@ -113,6 +113,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
                             Implementation.class.getSimpleName(), schemaTO.getDropdownValueProvider()));
         }
 
+        schema.setIndexed(schemaTO.isIndexed());
         schema.setMandatoryCondition(schemaTO.getMandatoryCondition());
         schema.setMimeType(schemaTO.getMimeType());
         schema.setMultivalue(schemaTO.isMultivalue());
@@ -204,6 +205,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schemaTO.getEnumValues().putAll(schema.getEnumValues());
         Optional.ofNullable(schema.getDropdownValueProvider()).
                 ifPresent(v -> schemaTO.setDropdownValueProvider(v.getKey()));
+        schemaTO.setIndexed(schema.isIndexed());
         schemaTO.setMandatoryCondition(schema.getMandatoryCondition());
         schemaTO.setMimeType(schema.getMimeType());
         schemaTO.setMultivalue(schema.isMultivalue());
@@ -242,6 +244,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
 
         schema.setKey(schemaTO.getKey());
         schema.setExpression(schemaTO.getExpression());
+        schema.setMaterialized(schemaTO.isMaterialized());
 
         schema.getLabels().clear();
         schema.getLabels().putAll(schemaTO.getLabels());
@@ -292,6 +295,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         DerSchemaTO schemaTO = new DerSchemaTO();
         schemaTO.setKey(schema.getKey());
         schemaTO.setExpression(schema.getExpression());
+        schemaTO.setMaterialized(schema.isMaterialized());
         schemaTO.getLabels().putAll(schema.getLabels());
         schemaTO.setAnyTypeClass(schema.getAnyTypeClass() == null ? null : schema.getAnyTypeClass().getKey());
         return schemaTO;
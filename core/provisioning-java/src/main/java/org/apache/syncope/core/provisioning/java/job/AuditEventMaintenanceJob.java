@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.provisioning.api.job.JobDelegate;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Performs maintenance on audit events storage, and removes audit events older than the number of days set by the
+ * {@value #RETENTION_DAYS} configuration parameter, if positive.
+ */
+public class AuditEventMaintenanceJob extends Job {
+
+    public static final String RETENTION_DAYS = "auditevent.retention.days";
+
+    @Autowired
+    protected ConfParamOps confParamOps;
+
+    @Autowired
+    protected AuditEventDAO auditEventDAO;
+
+    @Override
+    protected JobDelegate getDelegate() {
+        return null;
+    }
+
+    @Override
+    protected void execute(final JobExecutionContext context) {
+        AuthContextUtils.runAsAdmin(context.getDomain(), () -> auditEventDAO.maintain(
+                Optional.ofNullable(confParamOps.get(context.getDomain(), RETENTION_DAYS, null, Long.class)).
+                        filter(days -> days > 0).
+                        map(days -> OffsetDateTime.now().minusDays(days)).
+                        orElse(null)));
+    }
+}
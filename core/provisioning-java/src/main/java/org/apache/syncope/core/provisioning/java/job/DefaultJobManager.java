@@ -348,6 +348,24 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
                     loadException = true;
                 }
             }
+
+            // 3. AuditEventMaintenanceJob (fixed schedule, every hour)
+            LOG.debug("Registering {}", AuditEventMaintenanceJob.class);
+
+            JobExecutionContext context = new JobExecutionContext(
+                    domain,
+                    AUDIT_EVENT_MAINTENANCE_JOB,
+                    securityProperties.getAdminUser(),
+                    false);
+            try {
+                registerJob(
+                        context,
+                        AuditEventMaintenanceJob.class,
+                        "0 0 * * * ?",
+                        null);
+            } catch (Exception e) {
+                LOG.error("While loading {} instance", AuditEventMaintenanceJob.class.getSimpleName(), e);
+            }
         });
 
         if (SyncopeConstants.MASTER_DOMAIN.equals(domain)) {
@@ -364,7 +382,7 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
                 return result;
             });
 
-            // 3. NotificationJob
+            // 4. NotificationJob
             if (StringUtils.isBlank(notificationJobCronExp)) {
                 LOG.debug("Empty value provided for {}'s cron, not scheduling", NotificationJob.class.getSimpleName());
             } else {
@@ -387,7 +405,7 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
                 }
             }
 
-            // 4. SystemLoadReporterJob (fixed schedule, every minute)
+            // 5. SystemLoadReporterJob (fixed schedule, every minute)
             LOG.debug("Registering {}", SystemLoadReporterJob.class);
 
             JobExecutionContext context = new JobExecutionContext(
@@ -438,6 +456,13 @@ public class DefaultJobManager implements JobManager, SyncopeCoreLoader {
                     LOG.error("While unloading job for report {}", report.getName(), e);
                 }
             });
+
+            // 3. AuditEventMaintenanceJob
+            try {
+                unregisterJob(AUDIT_EVENT_MAINTENANCE_JOB);
+            } catch (Exception e) {
+                LOG.error("While unloading {}", AuditEventMaintenanceJob.class.getSimpleName(), e);
+            }
         });
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.java.DerAttrMaterializer;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Rebuild the values of all materialized derived schemas for existing realms, users, groups and any objects.
+ */
+public class DerAttrMaterialize extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    @Autowired
+    protected DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    protected DerAttrMaterializer derAttrMaterializer;
+
+    @Autowired
+    protected UserDAO userDAO;
+
+    @Autowired
+    protected GroupDAO groupDAO;
+
+    @Autowired
+    protected AnyObjectDAO anyObjectDAO;
+
+    @Autowired
+    protected RealmDAO realmDAO;
+
+    protected long materializeRealms(final Set<String> materialized) {
+        long count = realmDAO.count();
+        setStatus("Materializing " + materialized + " for " + count + " realms...");
+
+        for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+            Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
+            derAttrMaterializer.materialize(realmDAO.findAll(pageable).getContent(), materialized);
+        }
+
+        return count;
+    }
+
+    protected long materializeUsers(final Set<String> materialized) {
+        long count = userDAO.count();
+        setStatus("Materializing " + materialized + " for " + count + " users...");
+
+        for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+            Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
+            derAttrMaterializer.materialize(userDAO.findAll(pageable).getContent(), materialized);
+        }
+
+        return count;
+    }
+
+    protected long materializeGroups(final Set<String> materialized) {
+        long count = groupDAO.count();
+        setStatus("Materializing " + materialized + " for " + count + " groups...");
+
+        for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+            Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
+            derAttrMaterializer.materialize(groupDAO.findAll(pageable).getContent(), materialized);
+        }
+
+        return count;
+    }
+
+    protected long materializeAnyObjects(final Set<String> materialized) {
+        long count = anyObjectDAO.count();
+        setStatus("Materializing " + materialized + " for " + count + " any objects...");
+
+        for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+            Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
+            derAttrMaterializer.materialize(anyObjectDAO.findAll(pageable).getContent(), materialized);
+        }
+
+        return count;
+    }
+
+    @Override
+    protected String doExecute(final JobExecutionContext context) throws JobExecutionException {
+        Map<String, String> pending = derAttrMaterializer.pending();
+        if (pending.isEmpty()) {
+            return "No materialized derived schemas pending";
+        }
+
+        if (context.isDryRun()) {
+            return "Materialized derived schemas pending: " + pending.keySet();
+        }
+
+        long realms = 0;
+        long users = 0;
+        long groups = 0;
+        long anyObjects = 0;
+        Set<String> completed = new HashSet<>();
+        try {
+            // rebuilds requested while running are taken care of here, as this job cannot be scheduled again
+            // until completed
+            while (!pending.isEmpty()) {
+                Set<String> materialized = derSchemaDAO.findByMaterializedTrue().stream().
+                        map(DerSchema::getKey).collect(Collectors.toSet());
+                setStatus("Start materializing " + materialized);
+
+                realms = materializeRealms(materialized);
+
+                users = materializeUsers(materialized);
+
+                groups = materializeGroups(materialized);
+
+                anyObjects = materializeAnyObjects(materialized);
+
+                derAttrMaterializer.complete(pending);
+                completed.addAll(pending.keySet());
+
+                pending = derAttrMaterializer.pending();
+            }
+
+            setStatus("Materialization for domain " + AuthContextUtils.getDomain() + " successfully completed");
+
+            return "Materialized " + completed + " for:\n"
+                    + " realms [" + realms + "]\n"
+                    + " users [" + users + "]\n"
+                    + " groups [" + groups + "]\n"
+                    + " any objects [" + anyObjects + "]";
+        } catch (Exception e) {
+            throw new JobExecutionException(
+                    "While materializing derived attributes for domain " + AuthContextUtils.getDomain(), e);
+        }
+    }
+
+    @Override
+    protected boolean hasToBeRegistered(final TaskExec<?> execution) {
+        return true;
+    }
+}
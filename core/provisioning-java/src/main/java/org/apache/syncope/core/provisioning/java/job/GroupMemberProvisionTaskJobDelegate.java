@@ -18,8 +18,13 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.PropagationStatus;
@@ -30,6 +35,7 @@ import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
@@ -43,7 +49,6 @@ import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.provisioning.api.job.StoppableJobDelegate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -61,6 +66,9 @@ public class GroupMemberProvisionTaskJobDelegate
     @Autowired
     private GroupDAO groupDAO;
 
+    @Autowired
+    private UserDAO userDAO;
+
     @Autowired
     private AnySearchDAO anySearchDAO;
 
@@ -95,6 +103,37 @@ public class GroupMemberProvisionTaskJobDelegate
         super.execute(taskType, taskKey, context);
     }
 
+    protected void provisionUsers(
+            final List<String> keys,
+            final Collection<String> gResources,
+            final StringBuilder result) {
+
+        // when deprovisioning, resources assigned to the users are resolved at once for the whole chunk
+        Map<String, Set<String>> allResources = action == ProvisionAction.DEPROVISION
+                ? userDAO.findResourceKeysByUserKeys(keys)
+                : Map.of();
+
+        for (Iterator<String> itor = keys.iterator(); itor.hasNext() && !stopRequested;) {
+            String key = itor.next();
+
+            List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
+                    ? userProvisioningManager.deprovision(
+                            key, gResources, allResources.get(key), false, executor)
+                    : userProvisioningManager.provision(
+                            key, true, null, gResources, false, executor);
+            for (PropagationStatus propagationStatus : statuses) {
+                result.append("User ").append(key).append('\t').
+                        append("Resource ").append(propagationStatus.getResource()).append('\t').
+                        append(propagationStatus.getStatus());
+                if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
+                    result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+                }
+                result.append('\n');
+            }
+            result.append('\n');
+        }
+    }
+
     @Override
     protected String doExecute(final JobExecutionContext context) {
         Group group = groupDAO.authFind(groupKey);
@@ -124,38 +163,26 @@ public class GroupMemberProvisionTaskJobDelegate
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
                 + userCount + " users " + (action == ProvisionAction.DEPROVISION ? "from " : "to ") + gResources);
 
-        long pages = (userCount / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-        Sort sort = Sort.by(Sort.Direction.ASC, "creationDate");
-
-        for (int page = 0; page < pages && !stopRequested; page++) {
-            setStatus("Processing " + userCount + " users: page " + page + " of " + pages);
+        List<Sort.Order> orderBy = List.of(new Sort.Order(Sort.Direction.ASC, "creationDate"));
 
-            List<User> users = anySearchDAO.search(
-                    realmDAO.getRoot(),
-                    true,
-                    SyncopeConstants.FULL_ADMIN_REALMS,
-                    cond,
-                    PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, sort),
-                    AnyTypeKind.USER);
+        setStatus("Processing " + userCount + " users");
 
-            for (int i = 0; i < users.size() && !stopRequested; i++) {
-                User user = users.get(i);
-
-                List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
-                        ? userProvisioningManager.deprovision(
-                                user.getKey(), gResources, false, executor)
-                        : userProvisioningManager.provision(
-                                user.getKey(), true, null, gResources, false, executor);
-                for (PropagationStatus propagationStatus : statuses) {
-                    result.append("User ").append(user.getKey()).append('\t').
-                            append("Resource ").append(propagationStatus.getResource()).append('\t').
-                            append(propagationStatus.getStatus());
-                    if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
-                        result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
-                    }
-                    result.append('\n');
+        try (Stream<User> users = anySearchDAO.stream(
+                realmDAO.getRoot(),
+                true,
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                cond,
+                orderBy,
+                AnyTypeKind.USER)) {
+
+            // only keys are retained, as streamed users are released while moving forward
+            List<String> chunk = new ArrayList<>(AnyDAO.DEFAULT_PAGE_SIZE);
+            for (Iterator<User> itor = users.iterator(); itor.hasNext() && !stopRequested;) {
+                chunk.add(itor.next().getKey());
+                if (chunk.size() == AnyDAO.DEFAULT_PAGE_SIZE || !itor.hasNext()) {
+                    provisionUsers(chunk, gResources, result);
+                    chunk.clear();
                 }
-                result.append('\n');
             }
         }
 
@@ -174,21 +201,18 @@ public class GroupMemberProvisionTaskJobDelegate
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
                 + anyObjectCount + " any objects from " + gResources);
 
-        pages = (anyObjectCount / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+        setStatus("Processing " + anyObjectCount + " anyObjects");
 
-        for (int page = 0; page < pages && !stopRequested; page++) {
-            setStatus("Processing " + anyObjectCount + " anyObjects: page " + page + " of " + pages);
-
-            List<AnyObject> anyObjects = anySearchDAO.search(
-                    realmDAO.getRoot(),
-                    true,
-                    SyncopeConstants.FULL_ADMIN_REALMS,
-                    cond,
-                    PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, sort),
-                    AnyTypeKind.ANY_OBJECT);
+        try (Stream<AnyObject> anyObjects = anySearchDAO.stream(
+                realmDAO.getRoot(),
+                true,
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                cond,
+                orderBy,
+                AnyTypeKind.ANY_OBJECT)) {
 
-            for (int i = 0; i < anyObjects.size() && !stopRequested; i++) {
-                AnyObject anyObject = anyObjects.get(i);
+            for (Iterator<AnyObject> itor = anyObjects.iterator(); itor.hasNext() && !stopRequested;) {
+                AnyObject anyObject = itor.next();
 
                 List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
                         ? anyObjectProvisioningManager.deprovision(
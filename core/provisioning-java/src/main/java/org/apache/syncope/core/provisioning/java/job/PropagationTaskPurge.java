@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.to.PropagationTaskTO;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Purges propagation tasks whose latest execution ended more than the configured number of days ago.
+ *
+ * Retention is set, for each execution status, via {@value #RETENTION_PREFIX}{@code <STATUS>} configuration parameters
+ * for all external resources, and {@value #RETENTION_PREFIX}{@code <STATUS>.<resource>} for a given resource, taking
+ * precedence over the former.
+ * When the {@value #ARCHIVE_DIRECTORY} configuration parameter is set, purged tasks are archived there as gzipped
+ * JSON lines before being deleted.
+ */
+public class PropagationTaskPurge extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    public static final String RETENTION_PREFIX = "propagationtask.retention.";
+
+    public static final String ARCHIVE_DIRECTORY = "propagationtask.archive.directory";
+
+    protected static final int CHUNK_SIZE = 1000;
+
+    protected static final DateTimeFormatter ARCHIVE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    protected record Retention(ExecStatus status, String resource, long days) {
+
+    }
+
+    /**
+     * Lazily creates the archive file upon first write, so that no empty archives are left around.
+     *
+     * Each chunk is appended as a complete gzip member and forced to disk before returning, so that the archive is
+     * readable up to the last chunk whenever that chunk's tasks get deleted.
+     */
+    protected static class Archive implements Closeable {
+
+        protected final Path file;
+
+        protected FileChannel channel;
+
+        public Archive(final Path file) {
+            this.file = file;
+        }
+
+        public void write(final List<PropagationTaskTO> tasks) {
+            try {
+                if (channel == null) {
+                    Files.createDirectories(file.getParent());
+                    channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                }
+
+                ByteArrayOutputStream member = new ByteArrayOutputStream();
+                try (Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(new GZIPOutputStream(member), StandardCharsets.UTF_8))) {
+
+                    for (PropagationTaskTO task : tasks) {
+                        writer.write(POJOHelper.serialize(task));
+                        writer.write('\n');
+                    }
+                }
+
+                ByteBuffer buffer = ByteBuffer.wrap(member.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // make sure that tasks are on disk before being deleted
+                channel.force(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException("While archiving to " + file, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    @Autowired
+    protected ConfParamOps confParamOps;
+
+    @Autowired
+    protected ExternalResourceDAO resourceDAO;
+
+    protected List<Retention> retentions(final String domain) {
+        List<Retention> retentions = new ArrayList<>();
+
+        confParamOps.list(domain).entrySet().stream().
+                filter(param -> param.getKey().startsWith(RETENTION_PREFIX)).
+                forEach(param -> {
+                    String rule = StringUtils.substringAfter(param.getKey(), RETENTION_PREFIX);
+
+                    ExecStatus status;
+                    try {
+                        status = ExecStatus.valueOf(StringUtils.substringBefore(rule, '.'));
+                    } catch (IllegalArgumentException e) {
+                        LOG.warn("Invalid execution status in {}, ignoring", param.getKey());
+                        return;
+                    }
+
+                    long days = param.getValue() instanceof final Number number
+                            ? number.longValue()
+                            : NumberUtils.toLong(String.valueOf(param.getValue()), -1);
+                    if (days < 0) {
+                        LOG.warn("Invalid number of days for {}: {}, ignoring", param.getKey(), param.getValue());
+                        return;
+                    }
+
+                    retentions.add(new Retention(
+                            status, StringUtils.trimToNull(StringUtils.substringAfter(rule, '.')), days));
+                });
+
+        return retentions;
+    }
+
+    protected long purge(
+            final Retention retention,
+            final List<String> resources,
+            final Optional<Archive> archive) {
+
+        OffsetDateTime since = OffsetDateTime.now().minusDays(retention.days());
+
+        long purged = 0;
+        List<PropagationTaskTO> chunk;
+        do {
+            chunk = taskDAO.purgePropagations(
+                    since,
+                    List.of(retention.status()),
+                    resources,
+                    CHUNK_SIZE,
+                    tasks -> archive.ifPresent(a -> a.write(tasks)));
+            purged += chunk.size();
+
+            setStatus("Purged " + purged + " propagation tasks for " + retention);
+        } while (chunk.size() == CHUNK_SIZE);
+
+        return purged;
+    }
+
+    @Override
+    protected String doExecute(final JobExecutionContext context) throws JobExecutionException {
+        List<Retention> retentions = retentions(context.getDomain());
+        if (retentions.isEmpty()) {
+            return "No propagation task retention configured";
+        }
+
+        if (context.isDryRun()) {
+            return "Would purge propagation tasks according to " + retentions;
+        }
+
+        String archiveFile = context.getDomain() + "-propagationTasks-"
+                + ARCHIVE_TIMESTAMP.format(OffsetDateTime.now()) + ".json.gz";
+        Optional<Archive> archive = Optional.ofNullable(
+                confParamOps.get(context.getDomain(), ARCHIVE_DIRECTORY, null, String.class)).
+                filter(StringUtils::isNotBlank).
+                map(directory -> new Archive(Path.of(directory, archiveFile)));
+
+        StringBuilder report = new StringBuilder();
+        try {
+            for (Retention retention : retentions) {
+                List<String> resources;
+                if (retention.resource() == null) {
+                    // resource-specific retentions for the same status take precedence
+                    Set<String> overridden = retentions.stream().
+                            filter(r -> r.status() == retention.status() && r.resource() != null).
+                            map(Retention::resource).
+                            collect(Collectors.toSet());
+                    if (overridden.isEmpty()) {
+                        resources = List.of();
+                    } else {
+                        resources = resourceDAO.findAll().stream().
+                                map(ExternalResource::getKey).
+                                filter(resource -> !overridden.contains(resource)).
+                                toList();
+                        if (resources.isEmpty()) {
+                            continue;
+                        }
+                    }
+                } else {
+                    resources = List.of(retention.resource());
+                }
+
+                report.append("Purged ").append(purge(retention, resources, archive)).
+                        append(" propagation tasks for ").append(retention).append('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw new JobExecutionException("While purging propagation tasks", e);
+        } finally {
+            archive.ifPresent(a -> {
+                try {
+                    a.close();
+                } catch (IOException e) {
+                    LOG.error("While closing {}", a.file, e);
+                }
+            });
+        }
+
+        archive.filter(a -> a.channel != null).
+                ifPresent(a -> report.append("Purged propagation tasks archived to ").append(a.file).append('\n'));
+
+        return report.toString();
+    }
+}
@@ -65,7 +65,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
-import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
@@ -121,6 +121,8 @@ public class DefaultNotificationManager implements NotificationManager {
 
     protected final AnySearchCondVisitor searchCondVisitor;
 
+    protected final SearchCondCache searchCondCache;
+
     protected final JexlTools jexlTools;
 
     protected Optional<RecipientsProvider> perContextRecipientsProvider = Optional.empty();
@@ -143,6 +145,7 @@ public class DefaultNotificationManager implements NotificationManager {
             final EntityFactory entityFactory,
             final IntAttrNameParser intAttrNameParser,
             final AnySearchCondVisitor searchCondVisitor,
+            final SearchCondCache searchCondCache,
             final JexlTools jexlTools) {
 
         this.derSchemaDAO = derSchemaDAO;
@@ -162,6 +165,7 @@ public class DefaultNotificationManager implements NotificationManager {
         this.entityFactory = entityFactory;
         this.intAttrNameParser = intAttrNameParser;
         this.searchCondVisitor = searchCondVisitor;
+        this.searchCondCache = searchCondCache;
         this.jexlTools = jexlTools;
     }
 
@@ -185,7 +189,9 @@ public class DefaultNotificationManager implements NotificationManager {
 
         Optional.ofNullable(notification.getRecipientsFIQL()).
                 ifPresent(fiql -> recipients.addAll(anySearchDAO.search(
-                SearchCondConverter.convert(searchCondVisitor, fiql), List.of(), AnyTypeKind.USER)));
+                searchCondCache.convert(AuthContextUtils.getDomain(), searchCondVisitor, fiql),
+                List.of(),
+                AnyTypeKind.USER)));
 
         if (notification.isSelfAsRecipient() && any instanceof final User user) {
             recipients.add(user);
@@ -325,8 +331,10 @@ public class DefaultNotificationManager implements NotificationManager {
                     LOG.debug("No events found about {}", any);
                 } else if (anyType == null || any.isEmpty()
                         || notification.getAbout(anyType).isEmpty()
-                        || anyMatchDAO.matches(any.get(), SearchCondConverter.convert(
-                                searchCondVisitor, notification.getAbout(anyType).get().get()))) {
+                        || anyMatchDAO.matches(any.get(), searchCondCache.convert(
+                                AuthContextUtils.getDomain(),
+                                searchCondVisitor,
+                                notification.getAbout(anyType).get().get()))) {
 
                     LOG.debug("Creating notification task for event {} about {}", currentEvent, any);
 
@@ -19,11 +19,13 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -43,7 +45,7 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.policy.PushPolicy;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
-import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.persistence.api.search.SearchCondCache;
 import org.apache.syncope.core.provisioning.api.ProvisionSorter;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
@@ -56,6 +58,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.domain.PageRequest;
@@ -73,6 +76,9 @@ public class PushJobDelegate
     @Autowired
     protected AnySearchCondVisitor searchCondVisitor;
 
+    @Autowired
+    protected SearchCondCache searchCondCache;
+
     @Autowired
     protected ConfigurableApplicationContext ctx;
 
@@ -259,23 +265,40 @@ public class PushJobDelegate
             String filter = task.getFilter(anyType.getKey()).orElse(null);
             SearchCond cond = StringUtils.isBlank(filter)
                     ? searchDAO.getAllMatchingCond()
-                    : SearchCondConverter.convert(searchCondVisitor, filter);
-            long count = searchDAO.count(
-                    profile.getTask().getSourceRealm(),
-                    true,
-                    Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                    cond,
-                    anyType.getKind());
-            boolean result = true;
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) && result; page++) {
-                List<? extends Any> anys = searchDAO.search(
+                    : searchCondCache.convert(AuthContextUtils.getDomain(), searchCondVisitor, filter);
+            if (task.getConcurrentSettings() == null) {
+                // streamed entities are released while moving forward, hence not suitable for concurrent handlers
+                try (Stream<? extends Any> anys = searchDAO.stream(
+                        profile.getTask().getSourceRealm(),
+                        true,
+                        Set.of(profile.getTask().getSourceRealm().getFullPath()),
+                        cond,
+                        List.of(),
+                        anyType.getKind())) {
+
+                    boolean result = true;
+                    for (Iterator<? extends Any> itor = anys.iterator(); itor.hasNext() && result;) {
+                        result = doHandle(List.of(itor.next()), dispatcher, task.getResource());
+                    }
+                }
+            } else {
+                long count = searchDAO.count(
                         profile.getTask().getSourceRealm(),
                         true,
                         Set.of(profile.getTask().getSourceRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
                         anyType.getKind());
-                result = doHandle(anys, dispatcher, task.getResource());
+                boolean result = true;
+                for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) && result; page++) {
+                    List<? extends Any> anys = searchDAO.search(
+                            profile.getTask().getSourceRealm(),
+                            true,
+                            Set.of(profile.getTask().getSourceRealm().getFullPath()),
+                            cond,
+                            PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                            anyType.getKind());
+                    result = doHandle(anys, dispatcher, task.getResource());
+                }
             }
         }
 
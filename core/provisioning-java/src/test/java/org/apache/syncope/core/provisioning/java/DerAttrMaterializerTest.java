@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class DerAttrMaterializerTest extends AbstractTest {
+
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    private DerAttrValueDAO derAttrValueDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private DerAttrMaterializer derAttrMaterializer;
+
+    private EntityLifecycleEvent<Entity> event(final SyncDeltaType type, final Entity entity) {
+        return new EntityLifecycleEvent<>(this, type, entity, SyncopeConstants.MASTER_DOMAIN);
+    }
+
+    @Test
+    public void materialize() {
+        User user = userDAO.findByUsername("vivaldi").orElseThrow();
+
+        derAttrMaterializer.materialize(user, Set.of("cn"));
+        assertEquals(List.of(user.getKey()), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+
+        // materializing again, as the rebuild job and regular saves might do concurrently, updates in place
+        derAttrMaterializer.materialize(user, Set.of("cn"));
+        assertEquals(List.of(user.getKey()), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+
+        // values for other schemas are left untouched
+        derAttrMaterializer.materialize(user, Set.of("info"));
+        assertEquals(List.of(user.getKey()), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+
+        derAttrMaterializer.entity(event(SyncDeltaType.DELETE, user));
+        assertTrue(derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false).isEmpty());
+    }
+
+    @Test
+    public void materialized() {
+        User user = userDAO.findByUsername("vivaldi").orElseThrow();
+
+        DerSchema cn = derSchemaDAO.findById("cn").orElseThrow();
+        cn.setMaterialized(true);
+        derSchemaDAO.save(cn);
+        derAttrMaterializer.invalidate(SyncopeConstants.MASTER_DOMAIN);
+
+        derAttrMaterializer.entity(event(SyncDeltaType.UPDATE, user));
+        assertEquals(List.of(user.getKey()), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+
+        // materialized schemas are cached until invalidated
+        cn.setMaterialized(false);
+        derSchemaDAO.save(cn);
+        derAttrValueDAO.deleteBySchema("cn");
+
+        derAttrMaterializer.entity(event(SyncDeltaType.UPDATE, user));
+        assertEquals(List.of(user.getKey()), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+
+        derAttrValueDAO.deleteBySchema("cn");
+        derAttrMaterializer.invalidate(SyncopeConstants.MASTER_DOMAIN);
+
+        derAttrMaterializer.entity(event(SyncDeltaType.UPDATE, user));
+        assertTrue(derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false).isEmpty());
+    }
+}
@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Map;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -58,4 +60,22 @@ public class DerAttrTest extends AbstractTest {
         assertTrue(value.startsWith("vivaldi - 2010-10-20"));
         assertTrue(value.endsWith("[0]"));
     }
+
+    @Test
+    public void getValues() {
+        User user = userDAO.findByUsername("vivaldi").orElseThrow();
+
+        Map<String, String> values = derAttrHandler.getValues(user);
+        assertEquals(Set.of("cn", "info", "noschema"), values.keySet());
+
+        assertEquals("Vivaldi, Antonio", values.get("cn"));
+        assertTrue(values.get("info").startsWith("vivaldi - 2010-10-20"));
+        assertTrue(values.get("info").endsWith("[0]"));
+        // unknown variables do not break evaluation, nor affect the other derived schemas
+        assertTrue(values.get("noschema").startsWith("Vivaldi, "));
+
+        // values evaluated against the shared context match the ones evaluated one by one
+        values.forEach((schema, value) -> assertEquals(
+                value, derAttrHandler.getValue(user, derSchemaDAO.findById(schema).orElseThrow())));
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.request.GroupUR;
+import org.apache.syncope.common.lib.to.TypeExtensionTO;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemasCache;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
+import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class GroupDataBinderTest extends AbstractTest {
+
+    private static final String ART_DIRECTOR = "ece66293-8f31-4a84-8e8d-23da36e70846";
+
+    @BeforeAll
+    public static void setAuthContext() {
+        List<GrantedAuthority> authorities = IdRepoEntitlement.values().stream().
+                map(entitlement -> new SyncopeGrantedAuthority(entitlement, SyncopeConstants.ROOT_REALM)).
+                collect(Collectors.toList());
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                new org.springframework.security.core.userdetails.User(
+                        "admin", "FAKE_PASSWORD", authorities), "FAKE_PASSWORD", authorities);
+        auth.setDetails(new SyncopeAuthenticationDetails(SyncopeConstants.MASTER_DOMAIN, null));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterAll
+    public static void unsetAuthContext() {
+        SecurityContextHolder.getContext().setAuthentication(null);
+    }
+
+    @Autowired
+    private GroupDataBinder binder;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private AllowedSchemasCache allowedSchemasCache;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Test
+    public void typeExtensionChangesInvalidateAllowedSchemas() {
+        AllowedSchemasCache.Key key = new AllowedSchemasCache.Key(
+                PlainSchema.class, AnyTypeKind.USER.name(), Set.of(), Set.of(ART_DIRECTOR), Set.of());
+
+        AtomicInteger loaded = new AtomicInteger();
+        Supplier<AllowedSchemas<PlainSchema>> loader = () -> {
+            loaded.incrementAndGet();
+            return new AllowedSchemas<>();
+        };
+
+        allowedSchemasCache.get(SyncopeConstants.MASTER_DOMAIN, key, loader);
+        assertEquals(1, loaded.get());
+
+        // group events, as published by workflow adapters upon member changes, do not invalidate
+        Group group = groupDAO.findById(ART_DIRECTOR).orElseThrow();
+        publisher.publishEvent(new EntityLifecycleEvent<>(
+                this, SyncDeltaType.UPDATE, group, SyncopeConstants.MASTER_DOMAIN));
+        allowedSchemasCache.get(SyncopeConstants.MASTER_DOMAIN, key, loader);
+        assertEquals(1, loaded.get());
+
+        // neither do group updates not affecting type extensions
+        binder.update(group, new GroupUR.Builder(ART_DIRECTOR).build());
+        allowedSchemasCache.get(SyncopeConstants.MASTER_DOMAIN, key, loader);
+        assertEquals(1, loaded.get());
+
+        // type extension changes do
+        TypeExtensionTO typeExt = new TypeExtensionTO();
+        typeExt.setAnyType(AnyTypeKind.USER.name());
+        typeExt.getAuxClasses().add("other");
+        binder.update(
+                groupDAO.findById(ART_DIRECTOR).orElseThrow(),
+                new GroupUR.Builder(ART_DIRECTOR).typeExtension(typeExt).build());
+        allowedSchemasCache.get(SyncopeConstants.MASTER_DOMAIN, key, loader);
+        assertEquals(2, loaded.get());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class DerAttrMaterializeTest extends AbstractTest {
+
+    @Autowired
+    private ConfigurableApplicationContext ctx;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    private DerAttrValueDAO derAttrValueDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    private String execute(final boolean dryRun) {
+        DerAttrMaterialize job = ctx.getBeanFactory().createBean(DerAttrMaterialize.class);
+        job.task = entityFactory.newEntity(SchedTask.class);
+
+        // as when running within AbstractSchedTaskJobDelegate#execute
+        return domainTransactionTemplate.execute(status -> {
+            try {
+                return job.doExecute(new JobExecutionContext(
+                        SyncopeConstants.MASTER_DOMAIN, "derAttrMaterializeTest", "admin", dryRun));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    public void rebuild() {
+        String vivaldi = userDAO.findByUsername("vivaldi").orElseThrow().getKey();
+
+        DerSchema cn = derSchemaDAO.findById("cn").orElseThrow();
+        cn.setMaterialized(true);
+        cn.setMaterializationPending(true);
+        derSchemaDAO.save(cn);
+        try {
+            assertEquals("Materialized derived schemas pending: [cn]", execute(true));
+            assertTrue(derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false).isEmpty());
+
+            assertTrue(execute(false).startsWith("Materialized [cn] for:"));
+            assertEquals(List.of(vivaldi), derAttrValueDAO.findOwners("cn", "Vivaldi, Antonio", false));
+            assertFalse(derSchemaDAO.findById("cn").orElseThrow().isMaterializationPending());
+
+            assertEquals("No materialized derived schemas pending", execute(false));
+        } finally {
+            cn = derSchemaDAO.findById("cn").orElseThrow();
+            cn.setMaterialized(false);
+            cn.setMaterializationPending(false);
+            derSchemaDAO.save(cn);
+            derAttrValueDAO.deleteBySchema("cn");
+        }
+    }
+}
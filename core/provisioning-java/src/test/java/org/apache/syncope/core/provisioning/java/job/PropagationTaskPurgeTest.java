@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.to.PropagationTaskTO;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
+import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+public class PropagationTaskPurgeTest extends AbstractTest {
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private ConfParamOps confParamOps;
+
+    @Mock
+    private ExternalResourceDAO resourceDAO;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private SchedTask task;
+
+    @InjectMocks
+    private PropagationTaskPurge job;
+
+    @BeforeEach
+    public void retention() {
+        when(confParamOps.list(SyncopeConstants.MASTER_DOMAIN)).
+                thenReturn(Map.of(PropagationTaskPurge.RETENTION_PREFIX + ExecStatus.SUCCESS.name(), 30));
+    }
+
+    /**
+     * Makes the DAO return chunks of the given sizes upon subsequent invocations, passing each to the consumer
+     * before "deleting" it, as actual implementations do.
+     *
+     * @param beforeDelete invoked after the consumer, at the time when the chunk would be deleted
+     * @param sizes chunk sizes
+     */
+    private void returnChunks(final Consumer<List<PropagationTaskTO>> beforeDelete, final int... sizes) {
+        Iterator<Integer> next = Arrays.stream(sizes).iterator();
+        when(taskDAO.purgePropagations(any(), anyList(), anyList(), anyInt(), any())).thenAnswer(ic -> {
+            List<PropagationTaskTO> chunk = IntStream.range(0, next.next()).mapToObj(i -> {
+                PropagationTaskTO taskTO = new PropagationTaskTO();
+                taskTO.setKey(String.valueOf(i));
+                return taskTO;
+            }).toList();
+
+            ic.<Consumer<List<PropagationTaskTO>>>getArgument(4).accept(chunk);
+            beforeDelete.accept(chunk);
+            return chunk;
+        });
+    }
+
+    private void returnChunks(final int... sizes) {
+        returnChunks(chunk -> {
+            // nothing to check
+        }, sizes);
+    }
+
+    private static List<String> readArchive(final Path archiveDir) throws IOException {
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            Path archive = files.findFirst().orElseThrow();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(archive)), StandardCharsets.UTF_8))) {
+
+                return reader.lines().
+                        map(line -> POJOHelper.deserialize(line, PropagationTaskTO.class).getKey()).toList();
+            }
+        }
+    }
+
+    private String execute(final boolean dryRun) throws JobExecutionException {
+        return job.doExecute(new JobExecutionContext(
+                SyncopeConstants.MASTER_DOMAIN, "propagationTaskPurgeTest", "admin", dryRun));
+    }
+
+    private void verifyPurges(final int times) {
+        verify(taskDAO, times(times)).purgePropagations(
+                any(), eq(List.of(ExecStatus.SUCCESS)), eq(List.of()), eq(PropagationTaskPurge.CHUNK_SIZE), any());
+    }
+
+    @Test
+    public void chunks() throws JobExecutionException {
+        returnChunks(PropagationTaskPurge.CHUNK_SIZE, PropagationTaskPurge.CHUNK_SIZE, 3);
+
+        assertTrue(execute(false).startsWith("Purged " + (2 * PropagationTaskPurge.CHUNK_SIZE + 3) + " "));
+
+        // a short chunk means that nothing else is left to purge
+        verifyPurges(3);
+    }
+
+    @Test
+    public void stopOnEmptyChunk() throws JobExecutionException {
+        returnChunks(PropagationTaskPurge.CHUNK_SIZE, 0);
+
+        assertTrue(execute(false).startsWith("Purged " + PropagationTaskPurge.CHUNK_SIZE + " "));
+
+        // a full chunk always requires one more invocation, returning nothing here
+        verifyPurges(2);
+    }
+
+    @Test
+    public void dryRun() throws JobExecutionException {
+        assertTrue(execute(true).startsWith("Would purge propagation tasks according to "));
+
+        verify(taskDAO, never()).purgePropagations(any(), anyList(), anyList(), anyInt(), any());
+    }
+
+    @Test
+    public void archive(@TempDir final Path archiveDir) throws JobExecutionException, IOException {
+        when(confParamOps.get(
+                SyncopeConstants.MASTER_DOMAIN, PropagationTaskPurge.ARCHIVE_DIRECTORY, null, String.class)).
+                thenReturn(archiveDir.toString());
+
+        // each chunk must be fully readable from the archive, while the job is still running, before being deleted
+        AtomicInteger archived = new AtomicInteger();
+        returnChunks(chunk -> {
+            try {
+                List<String> keys = readArchive(archiveDir);
+                assertEquals(archived.addAndGet(chunk.size()), keys.size());
+                assertEquals(chunk.getLast().getKey(), keys.getLast());
+            } catch (IOException e) {
+                fail(e);
+            }
+        }, PropagationTaskPurge.CHUNK_SIZE, PropagationTaskPurge.CHUNK_SIZE, 3);
+
+        assertTrue(execute(false).contains("Purged propagation tasks archived to "));
+
+        // all chunks are archived, in order
+        List<String> keys = readArchive(archiveDir);
+        assertEquals(2 * PropagationTaskPurge.CHUNK_SIZE + 3, keys.size());
+        assertEquals("0", keys.getFirst());
+        assertEquals("2", keys.getLast());
+    }
+}
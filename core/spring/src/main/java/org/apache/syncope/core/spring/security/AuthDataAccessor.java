@@ -398,8 +398,7 @@ public class AuthDataAccessor {
         Map<String, Set<String>> entForRealms = new HashMap<>();
 
         // Give role entitlements
-        userDAO.findAllRoles(user).forEach(role -> role.getEntitlements().
-                forEach(e -> populate(entForRealms, e, role.getRealms().stream().map(Realm::getFullPath).toList())));
+        userDAO.findRoleEntitlements(user.getKey()).forEach((e, realms) -> populate(entForRealms, e, realms));
 
         // Give manager entitlements
         if (userDAO.isManager(user.getKey())) {
@@ -39,10 +39,12 @@ import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.starter.actuate.DefaultSyncopeCoreInfoContributor;
 import org.apache.syncope.core.starter.actuate.DomainsHealthIndicator;
@@ -202,6 +204,10 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
     public interface SyncopeStarterEventListener {
 
         void addLoadInstant(PayloadApplicationEvent<SystemInfo.LoadInstant> event);
+
+        default void entityChanged(EntityLifecycleEvent<Entity> event) {
+            // nothing to do
+        }
     }
 
     public static class DefaultSyncopeStarterEventListener implements SyncopeStarterEventListener {
@@ -217,5 +223,11 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
         public void addLoadInstant(final PayloadApplicationEvent<SystemInfo.LoadInstant> event) {
             contributor.addLoadInstant(event);
         }
+
+        @EventListener
+        @Override
+        public void entityChanged(final EntityLifecycleEvent<Entity> event) {
+            contributor.entityChanged(event);
+        }
     }
 }
@@ -25,10 +25,15 @@ import java.lang.management.RuntimeMXBean;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -36,6 +41,7 @@ import org.apache.syncope.common.lib.info.JavaImplInfo;
 import org.apache.syncope.common.lib.info.NumbersInfo;
 import org.apache.syncope.common.lib.info.PlatformInfo;
 import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.EntitlementsHolder;
 import org.apache.syncope.common.lib.types.ImplementationTypesHolder;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -54,11 +60,17 @@ import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
+import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +79,8 @@ import org.springframework.boot.actuate.info.Info;
 import org.springframework.boot.actuate.info.InfoContributor;
 import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContributor, InfoContributor {
 
@@ -84,6 +98,57 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
             + "queued tasks = ([0-9]+), "
             + "completed tasks = ([0-9]+).*");
 
+    /**
+     * Users, groups and any objects numbers are maintained incrementally from entity lifecycle events, and fully
+     * recounted once older than this interval, to catch up with changes not delivered as CREATE / DELETE events,
+     * such as status changes, or performed by other nodes.
+     */
+    protected static final Duration ANY_NUMBERS_RECONCILIATION_INTERVAL = Duration.ofMinutes(5);
+
+    protected record AnyNumbers(NumbersInfo numbers, OffsetDateTime counted) {
+
+        boolean isExpired() {
+            return counted.plus(ANY_NUMBERS_RECONCILIATION_INTERVAL).isBefore(OffsetDateTime.now());
+        }
+    }
+
+    protected record AnyDelta(AnyTypeKind kind, String type, String realm, String status, long delta) {
+    }
+
+    /**
+     * Full count in progress, recording the deltas committed meanwhile so that they can be applied to the result.
+     */
+    protected static class Recount {
+
+        protected final List<AnyDelta> deltas = new ArrayList<>();
+
+        protected boolean invalidated = false;
+    }
+
+    protected static void increment(final Map<String, Long> counts, final String key, final long delta) {
+        counts.compute(key, (k, v) -> {
+            long count = (v == null ? 0 : v) + delta;
+            return count > 0 ? count : null;
+        });
+    }
+
+    protected static void copy(final NumbersInfo from, final NumbersInfo to) {
+        to.setTotalUsers(from.getTotalUsers());
+        to.getUsersByRealm().putAll(from.getUsersByRealm());
+        to.getUsersByStatus().putAll(from.getUsersByStatus());
+
+        to.setTotalGroups(from.getTotalGroups());
+        to.getGroupsByRealm().putAll(from.getGroupsByRealm());
+
+        to.setAnyType1(from.getAnyType1());
+        to.setTotalAny1(from.getTotalAny1());
+        to.getAny1ByRealm().putAll(from.getAny1ByRealm());
+
+        to.setAnyType2(from.getAnyType2());
+        to.setTotalAny2(from.getTotalAny2());
+        to.getAny2ByRealm().putAll(from.getAny2ByRealm());
+    }
+
     protected static void initSystemInfo() {
         if (SYSTEM_INFO == null) {
             OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
@@ -141,6 +206,19 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
 
     protected final ImplementationLookup implLookup;
 
+    protected final Map<String, AnyNumbers> anyNumbers = new ConcurrentHashMap<>();
+
+    /**
+     * Per-domain full counts in progress.
+     */
+    protected final Map<String, Set<Recount>> recounts = new ConcurrentHashMap<>();
+
+    /**
+     * Per-domain locks, briefly held while reading or publishing numbers and while applying deltas; full counts run
+     * outside, so that committing transactions are never kept waiting.
+     */
+    protected final Map<String, Object> anyNumbersLocks = new ConcurrentHashMap<>();
+
     public DefaultSyncopeCoreInfoContributor(
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
@@ -237,33 +315,80 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
         }
     }
 
+    protected NumbersInfo countAnys() {
+        NumbersInfo numbersInfo = new NumbersInfo();
+
+        numbersInfo.setTotalUsers(userDAO.count());
+        numbersInfo.getUsersByRealm().putAll(userDAO.countByRealm());
+        numbersInfo.getUsersByStatus().putAll(userDAO.countByStatus());
+
+        numbersInfo.setTotalGroups(groupDAO.count());
+        numbersInfo.getGroupsByRealm().putAll(groupDAO.countByRealm());
+
+        Map<String, Long> anyObjectNumbers = anyObjectDAO.countByType();
+        int i = 0;
+        for (Iterator<Map.Entry<String, Long>> itor = anyObjectNumbers.entrySet().iterator();
+                i < 2 && itor.hasNext(); i++) {
+
+            Map.Entry<String, Long> entry = itor.next();
+            if (i == 0) {
+                numbersInfo.setAnyType1(entry.getKey());
+                numbersInfo.setTotalAny1(entry.getValue());
+                numbersInfo.getAny1ByRealm().putAll(anyObjectDAO.countByRealm(entry.getKey()));
+            } else {
+                numbersInfo.setAnyType2(entry.getKey());
+                numbersInfo.setTotalAny2(entry.getValue());
+                numbersInfo.getAny2ByRealm().putAll(anyObjectDAO.countByRealm(entry.getKey()));
+            }
+        }
+
+        return numbersInfo;
+    }
+
+    protected Object anyNumbersLock(final String domain) {
+        return anyNumbersLocks.computeIfAbsent(domain, k -> new Object());
+    }
+
+    protected void anyNumbers(final String domain, final NumbersInfo numbersInfo) {
+        Recount recount = new Recount();
+        synchronized (anyNumbersLock(domain)) {
+            AnyNumbers current = anyNumbers.get(domain);
+            if (current != null && !current.isExpired()) {
+                copy(current.numbers(), numbersInfo);
+                return;
+            }
+
+            recounts.computeIfAbsent(domain, k -> ConcurrentHashMap.newKeySet()).add(recount);
+        }
+
+        LOG.debug("Counting users, groups and any objects for domain {}", domain);
+        NumbersInfo counted;
+        try {
+            counted = countAnys();
+        } catch (RuntimeException e) {
+            recounts.get(domain).remove(recount);
+            throw e;
+        }
+
+        synchronized (anyNumbersLock(domain)) {
+            recounts.get(domain).remove(recount);
+
+            // apply the deltas committed while counting, possibly missed by the count; should any have been
+            // counted already, periodic reconciliation will fix it
+            boolean applied = recount.deltas.stream().allMatch(delta -> apply(counted, delta));
+            if (applied && !recount.invalidated) {
+                anyNumbers.put(domain, new AnyNumbers(counted, OffsetDateTime.now()));
+            }
+
+            copy(counted, numbersInfo);
+        }
+    }
+
     protected NumbersInfo buildNumbers(final String domain) {
         return AuthContextUtils.callAsAdmin(domain, () -> {
             NumbersInfo numbersInfo = new NumbersInfo();
 
-            numbersInfo.setTotalUsers(userDAO.count());
-            numbersInfo.getUsersByRealm().putAll(userDAO.countByRealm());
-            numbersInfo.getUsersByStatus().putAll(userDAO.countByStatus());
-
-            numbersInfo.setTotalGroups(groupDAO.count());
-            numbersInfo.getGroupsByRealm().putAll(groupDAO.countByRealm());
-
-            Map<String, Long> anyObjectNumbers = anyObjectDAO.countByType();
-            int i = 0;
-            for (Iterator<Map.Entry<String, Long>> itor = anyObjectNumbers.entrySet().iterator();
-                    i < 2 && itor.hasNext(); i++) {
-
-                Map.Entry<String, Long> entry = itor.next();
-                if (i == 0) {
-                    numbersInfo.setAnyType1(entry.getKey());
-                    numbersInfo.setTotalAny1(entry.getValue());
-                    numbersInfo.getAny1ByRealm().putAll(anyObjectDAO.countByRealm(entry.getKey()));
-                } else {
-                    numbersInfo.setAnyType2(entry.getKey());
-                    numbersInfo.setTotalAny2(entry.getValue());
-                    numbersInfo.getAny2ByRealm().putAll(anyObjectDAO.countByRealm(entry.getKey()));
-                }
-            }
+            anyNumbers(domain, numbersInfo);
 
             numbersInfo.setTotalResources(resourceDAO.count());
 
@@ -280,7 +405,7 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
             numbersInfo.getConfCompleteness().put(
                     NumbersInfo.ConfItem.PULL_TASK.name(), !taskDAO.findAll(TaskType.PULL).isEmpty());
             numbersInfo.getConfCompleteness().put(
-                    NumbersInfo.ConfItem.ANY_TYPE.name(), !anyObjectNumbers.isEmpty());
+                    NumbersInfo.ConfItem.ANY_TYPE.name(), numbersInfo.getAnyType1() != null);
             numbersInfo.getConfCompleteness().put(
                     NumbersInfo.ConfItem.SECURITY_QUESTION.name(), !securityQuestionDAO.findAll().isEmpty());
             numbersInfo.getConfCompleteness().put(
@@ -320,4 +445,123 @@ public class DefaultSyncopeCoreInfoContributor implements SyncopeCoreInfoContrib
             SYSTEM_INFO.getLoad().add(event.getPayload());
         }
     }
+
+    /**
+     * Applies the given delta to the provided numbers.
+     *
+     * @param numbers numbers to update
+     * @param delta delta to apply
+     * @return whether the delta could be applied, or a full count is required instead
+     */
+    protected boolean apply(final NumbersInfo numbers, final AnyDelta delta) {
+        switch (delta.kind()) {
+            case USER -> {
+                numbers.setTotalUsers(numbers.getTotalUsers() + delta.delta());
+                increment(numbers.getUsersByRealm(), delta.realm(), delta.delta());
+                increment(numbers.getUsersByStatus(), delta.status(), delta.delta());
+            }
+
+            case GROUP -> {
+                numbers.setTotalGroups(numbers.getTotalGroups() + delta.delta());
+                increment(numbers.getGroupsByRealm(), delta.realm(), delta.delta());
+            }
+
+            case ANY_OBJECT -> {
+                if (delta.type().equals(numbers.getAnyType1())) {
+                    numbers.setTotalAny1(numbers.getTotalAny1() + delta.delta());
+                    increment(numbers.getAny1ByRealm(), delta.realm(), delta.delta());
+                    return numbers.getTotalAny1() > 0;
+                }
+                if (delta.type().equals(numbers.getAnyType2())) {
+                    numbers.setTotalAny2(numbers.getTotalAny2() + delta.delta());
+                    increment(numbers.getAny2ByRealm(), delta.realm(), delta.delta());
+                    return numbers.getTotalAny2() > 0;
+                }
+                // a new type might show up among the reported ones
+                return numbers.getAnyType2() != null;
+            }
+
+            default -> {
+            }
+        }
+
+        return true;
+    }
+
+    protected void apply(final String domain, final AnyDelta delta) {
+        synchronized (anyNumbersLock(domain)) {
+            recounts.getOrDefault(domain, Set.of()).forEach(recount -> recount.deltas.add(delta));
+
+            AnyNumbers current = anyNumbers.get(domain);
+            if (current != null && !apply(current.numbers(), delta)) {
+                anyNumbers.remove(domain);
+            }
+        }
+    }
+
+    protected void recount(final String domain) {
+        synchronized (anyNumbersLock(domain)) {
+            anyNumbers.remove(domain);
+            recounts.getOrDefault(domain, Set.of()).forEach(recount -> recount.invalidated = true);
+        }
+    }
+
+    protected void afterCommit(final Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    @Override
+    public void entityChanged(final EntityLifecycleEvent<Entity> event) {
+        if (!anyNumbers.containsKey(event.getDomain())
+                && recounts.getOrDefault(event.getDomain(), Set.of()).isEmpty()) {
+
+            return;
+        }
+
+        if (event.getEntity() instanceof Realm || event.getEntity() instanceof AnyType) {
+            afterCommit(() -> recount(event.getDomain()));
+            return;
+        }
+
+        long delta = switch (event.getType()) {
+            case CREATE -> 1;
+            case DELETE -> -1;
+            default -> 0;
+        };
+        if (delta == 0) {
+            return;
+        }
+
+        // values are read now, as the entity might not be fully accessible anymore once committed
+        AnyDelta anyDelta = null;
+        if (event.getEntity() instanceof final User user) {
+            anyDelta = new AnyDelta(
+                    AnyTypeKind.USER, null, user.getRealm().getFullPath(), user.getStatus(), delta);
+        } else if (event.getEntity() instanceof final Group group) {
+            anyDelta = new AnyDelta(
+                    AnyTypeKind.GROUP, null, group.getRealm().getFullPath(), null, delta);
+        } else if (event.getEntity() instanceof final AnyObject anyObject) {
+            anyDelta = new AnyDelta(
+                    AnyTypeKind.ANY_OBJECT,
+                    anyObject.getType().getKey(),
+                    anyObject.getRealm().getFullPath(),
+                    null,
+                    delta);
+        }
+
+        if (anyDelta != null) {
+            AnyDelta toApply = anyDelta;
+            afterCommit(() -> apply(event.getDomain(), toApply));
+        }
+    }
 }
@@ -19,10 +19,16 @@
 package org.apache.syncope.core.starter.actuate;
 
 import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.springframework.context.PayloadApplicationEvent;
 
 @FunctionalInterface
 public interface SyncopeCoreInfoContributor {
 
     void addLoadInstant(PayloadApplicationEvent<SystemInfo.LoadInstant> event);
+
+    default void entityChanged(EntityLifecycleEvent<Entity> event) {
+        // nothing to do
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.info.NumbersInfo;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DefaultSyncopeCoreInfoContributorTest {
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private GroupDAO groupDAO;
+
+    @Mock
+    private AnyObjectDAO anyObjectDAO;
+
+    private DefaultSyncopeCoreInfoContributor contributor;
+
+    @BeforeEach
+    public void init() {
+        contributor = new DefaultSyncopeCoreInfoContributor(
+                null, null, null, userDAO, groupDAO, anyObjectDAO, null, null, null, null, null, null, null, null,
+                null);
+    }
+
+    private static EntityLifecycleEvent<Entity> userCreated() {
+        Realm realm = mock(Realm.class);
+        when(realm.getFullPath()).thenReturn(SyncopeConstants.ROOT_REALM);
+
+        User user = mock(User.class);
+        when(user.getRealm()).thenReturn(realm);
+        when(user.getStatus()).thenReturn("active");
+
+        return created(user);
+    }
+
+    private static EntityLifecycleEvent<Entity> created(final Entity entity) {
+        return new EntityLifecycleEvent<>(
+                DefaultSyncopeCoreInfoContributorTest.class,
+                SyncDeltaType.CREATE,
+                entity,
+                SyncopeConstants.MASTER_DOMAIN);
+    }
+
+    private NumbersInfo numbers() {
+        NumbersInfo numbers = new NumbersInfo();
+        contributor.anyNumbers(SyncopeConstants.MASTER_DOMAIN, numbers);
+        return numbers;
+    }
+
+    @Test
+    public void incremental() {
+        when(userDAO.count()).thenReturn(10L);
+
+        // nothing counted yet: nothing to update
+        contributor.entityChanged(created(mock(User.class)));
+        assertTrue(contributor.anyNumbers.isEmpty());
+
+        assertEquals(10, numbers().getTotalUsers());
+
+        contributor.entityChanged(userCreated());
+        NumbersInfo numbers = numbers();
+        assertEquals(11, numbers.getTotalUsers());
+        assertEquals(1, numbers.getUsersByRealm().get(SyncopeConstants.ROOT_REALM));
+        assertEquals(1, numbers.getUsersByStatus().get("active"));
+    }
+
+    @Test
+    public void deltaWhileRecounting() throws Exception {
+        // expired numbers, to be recounted on next request
+        contributor.anyNumbers.put(
+                SyncopeConstants.MASTER_DOMAIN,
+                new DefaultSyncopeCoreInfoContributor.AnyNumbers(
+                        new NumbersInfo(), OffsetDateTime.now().minusDays(1)));
+
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch counted = new CountDownLatch(1);
+        when(userDAO.count()).thenAnswer(ic -> {
+            counting.countDown();
+            counted.await();
+            return 10L;
+        });
+
+        CompletableFuture<NumbersInfo> recount = CompletableFuture.supplyAsync(this::numbers);
+        assertTrue(counting.await(5, TimeUnit.SECONDS));
+
+        // the delta is applied while the count is still running, without waiting for it
+        EntityLifecycleEvent<Entity> event = userCreated();
+        CompletableFuture.runAsync(() -> contributor.entityChanged(event)).get(5, TimeUnit.SECONDS);
+        assertFalse(recount.isDone());
+
+        // ...and not lost once the count is published
+        counted.countDown();
+        assertEquals(11, recount.get(5, TimeUnit.SECONDS).getTotalUsers());
+        assertEquals(11, numbers().getTotalUsers());
+    }
+
+    @Test
+    public void invalidatedWhileRecounting() throws Exception {
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch counted = new CountDownLatch(1);
+        when(userDAO.count()).thenAnswer(ic -> {
+            counting.countDown();
+            counted.await();
+            return 10L;
+        });
+
+        CompletableFuture<NumbersInfo> recount = CompletableFuture.supplyAsync(this::numbers);
+        assertTrue(counting.await(5, TimeUnit.SECONDS));
+
+        // realms changed while counting: the result is returned, but not kept
+        contributor.entityChanged(created(mock(Realm.class)));
+
+        counted.countDown();
+        assertEquals(10, recount.get(5, TimeUnit.SECONDS).getTotalUsers());
+        assertTrue(contributor.anyNumbers.isEmpty());
+    }
+}
@@ -28,6 +28,7 @@ import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch._types.query_dsl.RangeQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
@@ -191,4 +192,26 @@ public class ElasticsearchAuditEventDAO implements AuditEventDAO {
                 ? List.of()
                 : esResult.stream().map(Hit::source).toList();
     }
+
+    @Override
+    public void maintain(final OffsetDateTime before) {
+        if (before == null) {
+            return;
+        }
+
+        DeleteByQueryRequest request = new DeleteByQueryRequest.Builder().
+                index(ElasticsearchUtils.getAuditIndex(AuthContextUtils.getDomain())).
+                query(new Query.Builder().range(RangeQuery.of(r -> r.untyped(n -> n.
+                        field("when").
+                        lt(JsonData.of(before.toInstant().toEpochMilli()))))).
+                        build()).
+                build();
+        LOG.debug("Delete by query request: {}", request);
+
+        try {
+            client.deleteByQuery(request);
+        } catch (IOException e) {
+            LOG.error("While deleting from Elasticsearch with request {}", request, e);
+        }
+    }
 }
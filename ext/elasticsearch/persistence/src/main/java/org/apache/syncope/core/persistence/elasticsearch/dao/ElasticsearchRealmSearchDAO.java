@@ -46,6 +46,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -97,6 +99,8 @@ public class ElasticsearchRealmSearchDAO extends AbstractRealmSearchDAO implemen
     public ElasticsearchRealmSearchDAO(
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
@@ -104,7 +108,7 @@ public class ElasticsearchRealmSearchDAO extends AbstractRealmSearchDAO implemen
             final ElasticsearchClient client,
             final int indexMaxResultWindow) {
 
-        super(plainSchemaDAO, userDAO, groupDAO, entityFactory, validator);
+        super(plainSchemaDAO, derSchemaDAO, derAttrValueDAO, userDAO, groupDAO, entityFactory, validator);
         this.realmDAO = realmDAO;
         this.realmUtils = new RealmUtils(entityFactory);
         this.client = client;
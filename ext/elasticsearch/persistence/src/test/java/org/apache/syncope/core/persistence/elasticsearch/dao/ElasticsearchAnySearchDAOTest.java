@@ -99,6 +99,8 @@ public class ElasticsearchAnySearchDAOTest {
                 groupDAO,
                 null,
                 null,
+                null,
+                null,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
@@ -88,6 +88,8 @@ public class ElasticsearchRealmSearchDAOTest {
         searchDAO = new ElasticsearchRealmSearchDAO(
                 realmDAO,
                 plainSchemaDAO,
+                null,
+                null,
                 userDAO,
                 groupDAO,
                 entityFactory,
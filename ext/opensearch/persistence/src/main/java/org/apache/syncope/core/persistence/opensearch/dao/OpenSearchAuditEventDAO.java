@@ -40,6 +40,7 @@ import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.QueryBuilders;
 import org.opensearch.client.opensearch._types.query_dsl.TextQueryType;
 import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.slf4j.Logger;
@@ -190,4 +191,26 @@ public class OpenSearchAuditEventDAO implements AuditEventDAO {
                 ? List.of()
                 : osResult.stream().map(Hit::source).toList();
     }
+
+    @Override
+    public void maintain(final OffsetDateTime before) {
+        if (before == null) {
+            return;
+        }
+
+        DeleteByQueryRequest request = new DeleteByQueryRequest.Builder().
+                index(OpenSearchUtils.getAuditIndex(AuthContextUtils.getDomain())).
+                query(new Query.Builder().
+                        range(QueryBuilders.range().
+                                field("when").lt(JsonData.of(before.toInstant().toEpochMilli())).build()).
+                        build()).
+                build();
+        LOG.debug("Delete by query request: {}", request);
+
+        try {
+            client.deleteByQuery(request);
+        } catch (IOException e) {
+            LOG.error("While deleting from OpenSearch with request {}", request, e);
+        }
+    }
 }
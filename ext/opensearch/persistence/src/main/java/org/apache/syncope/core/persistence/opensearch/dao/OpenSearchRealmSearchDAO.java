@@ -28,6 +28,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.DerAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -95,6 +97,8 @@ public class OpenSearchRealmSearchDAO extends AbstractRealmSearchDAO implements
     public OpenSearchRealmSearchDAO(
             final RealmDAO realmDAO,
             final PlainSchemaDAO plainSchemaDAO,
+            final DerSchemaDAO derSchemaDAO,
+            final DerAttrValueDAO derAttrValueDAO,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final EntityFactory entityFactory,
@@ -102,7 +106,7 @@ public class OpenSearchRealmSearchDAO extends AbstractRealmSearchDAO implements
             final OpenSearchClient client,
             final int indexMaxResultWindow) {
 
-        super(plainSchemaDAO, userDAO, groupDAO, entityFactory, validator);
+        super(plainSchemaDAO, derSchemaDAO, derAttrValueDAO, userDAO, groupDAO, entityFactory, validator);
         this.realmDAO = realmDAO;
         this.realmUtils = new RealmUtils(entityFactory);
         this.client = client;
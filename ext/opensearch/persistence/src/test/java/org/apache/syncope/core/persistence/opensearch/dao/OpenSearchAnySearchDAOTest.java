@@ -100,6 +100,8 @@ public class OpenSearchAnySearchDAOTest {
                 groupDAO,
                 null,
                 null,
+                null,
+                null,
                 entityFactory,
                 anyUtilsFactory,
                 validator,
@@ -88,6 +88,8 @@ public class OpenSearchRealmSearchDAOTest {
         searchDAO = new OpenSearchRealmSearchDAO(
                 realmDAO,
                 plainSchemaDAO,
+                null,
+                null,
                 userDAO,
                 groupDAO,
                 entityFactory,
@@ -46,9 +46,11 @@ import org.apache.syncope.core.provisioning.api.rules.AccountRule;
 import org.apache.syncope.core.provisioning.api.rules.InboundCorrelationRule;
 import org.apache.syncope.core.provisioning.api.rules.PasswordRule;
 import org.apache.syncope.core.provisioning.api.rules.PushCorrelationRule;
+import org.apache.syncope.core.provisioning.java.job.DerAttrMaterialize;
 import org.apache.syncope.core.provisioning.java.job.ExpiredAccessTokenCleanup;
 import org.apache.syncope.core.provisioning.java.job.ExpiredBatchCleanup;
 import org.apache.syncope.core.provisioning.java.job.MacroJobDelegate;
+import org.apache.syncope.core.provisioning.java.job.PropagationTaskPurge;
 import org.apache.syncope.core.provisioning.java.propagation.AzurePropagationActions;
 import org.apache.syncope.core.provisioning.java.propagation.DBPasswordPropagationActions;
 import org.apache.syncope.core.provisioning.java.propagation.GoogleAppsPropagationActions;
@@ -138,6 +140,8 @@ public class ITImplementationLookup implements ImplementationLookup {
             classNames = new HashSet<>();
             classNames.add(ExpiredAccessTokenCleanup.class.getName());
             classNames.add(ExpiredBatchCleanup.class.getName());
+            classNames.add(PropagationTaskPurge.class.getName());
+            classNames.add(DerAttrMaterialize.class.getName());
             classNames.add(TestSampleJobDelegate.class.getName());
             classNames.add(MacroJobDelegate.class.getName());
             classNames.add(LiveSyncJobDelegate.class.getName());
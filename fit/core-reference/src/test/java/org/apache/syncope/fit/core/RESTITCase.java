@@ -32,7 +32,12 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.client.lib.SyncopeClient;
@@ -172,4 +177,39 @@ public class RESTITCase extends AbstractITCase {
         assertTrue(export.contains("<Realm "));
         assertFalse(export.contains("<AccessPolicy "));
     }
+
+    @Test
+    public void exportInternalStorageArchive() throws IOException {
+        Response response = SYNCOPE_SERVICE.exportInternalStorageArchive(
+                0, 2, false, List.of("AccountPolicy", "Realm"));
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatusInfo().getStatusCode());
+        assertTrue(response.getMediaType().toString().startsWith(RESTHeaders.APPLICATION_ZIP));
+        assertNotNull(response.getHeaderString(HttpHeaders.CONTENT_DISPOSITION));
+
+        StringBuilder export = new StringBuilder();
+        int entries = 0;
+        try (ZipInputStream zip = new ZipInputStream(response.readEntity(InputStream.class))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries++;
+                export.append(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertTrue(entries > 0);
+        assertTrue(export.toString().contains("<AccountPolicy "));
+        assertTrue(export.toString().contains("<Realm "));
+        assertFalse(export.toString().contains("<AccessPolicy "));
+
+        response = SYNCOPE_SERVICE.exportInternalStorageArchive(0, 2, true, List.of("AccountPolicy", "Realm"));
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatusInfo().getStatusCode());
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(response.readEntity(InputStream.class))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        assertEquals("MANIFEST", names.getFirst());
+        assertTrue(names.stream().skip(1).allMatch(name -> name.endsWith(".bin")));
+        assertTrue(names.stream().anyMatch(name -> name.contains("AccountPolicy")));
+    }
 }